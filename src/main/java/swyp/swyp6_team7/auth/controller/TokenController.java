@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 import swyp.swyp6_team7.auth.dto.LoginResponse;
 import swyp.swyp6_team7.auth.dto.LoginTokenResponse;
 import swyp.swyp6_team7.auth.jwt.JwtProvider;
+import swyp.swyp6_team7.auth.jwt.TokenHashUtil;
 import swyp.swyp6_team7.auth.service.JwtBlacklistService;
 import swyp.swyp6_team7.auth.service.TokenService;
 import swyp.swyp6_team7.global.exception.MoingApplicationException;
@@ -42,14 +43,14 @@ public class TokenController {
 
         // Redis에서 Refresh Token이 블랙리스트에 있는지 확인
         if (jwtBlacklistService.isTokenBlacklisted(refreshToken)) {
-            log.warn("블랙리스트에 등록된 Refresh Token 사용 시도: {}", refreshToken);
+            log.warn("블랙리스트에 등록된 Refresh Token 사용 시도: tokenHash={}", TokenHashUtil.hashForLog(refreshToken));
             // TODO: 403 Http Status 반환하도록 수정
             throw new MoingAuthenticationException("Refresh Token이 블랙리스트에 있습니다. 다시 로그인 해주세요.");
         }
 
         try {
             // Refresh Token으로 새로운 Access Token과 Refresh Token(회전) 발급
-            LoginTokenResponse newTokens = tokenService.refreshWithLock(refreshToken);
+            LoginTokenResponse newTokens = tokenService.rotateRefreshToken(refreshToken);
             String newAccessToken = newTokens.getAccessToken();
             String newRefreshToken = newTokens.getRefreshToken();
 
@@ -70,7 +71,7 @@ public class TokenController {
             );
             return ApiResponse.success(loginResponse);
         } catch (JwtException e) {
-            log.warn("유효하지 않은 Refresh Token 사용 시도: {}", refreshToken, e);
+            log.warn("유효하지 않은 Refresh Token 사용 시도: tokenHash={}", TokenHashUtil.hashForLog(refreshToken), e);
             throw new MoingApplicationException("Refresh Token이 유효하지 않습니다.");
         } catch (Exception e) {
             log.error("Access Token 재발급 중 알 수 없는 오류 발생 : {}", e.getMessage(), e);
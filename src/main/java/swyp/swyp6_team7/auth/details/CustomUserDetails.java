@@ -2,16 +2,41 @@ package swyp.swyp6_team7.auth.details;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import swyp.swyp6_team7.member.entity.UserRole;
 import swyp.swyp6_team7.member.entity.UserStatus;
 import swyp.swyp6_team7.member.entity.Users;
 
 import java.util.Collection;
+import java.util.List;
 
+/**
+ * 인증된 사용자 정보<br>
+ * DB에서 조회한 회원 엔티티로 만들거나, stateless 인증 모드에서는 access token 클레임으로 만든다.
+ * 클레임으로 만든 경우 회원 엔티티(getUser)와 비밀번호는 null이다.
+ */
 public class CustomUserDetails implements UserDetails {
     private final Users user;
+    private final Integer userNumber;
+    private final UserStatus userStatus;
+    private final Collection<? extends GrantedAuthority> authorities;
 
     public CustomUserDetails(Users user) {
         this.user = user;
+        this.userNumber = user.getUserNumber();
+        this.userStatus = user.getUserStatus();
+        this.authorities = user.getAuthorities();
+    }
+
+    private CustomUserDetails(Integer userNumber, UserRole role, UserStatus userStatus) {
+        this.user = null;
+        this.userNumber = userNumber;
+        this.userStatus = userStatus;
+        this.authorities = List.of((GrantedAuthority) role::name);
+    }
+
+    // access token 클레임으로 인증 정보 생성 (DB 조회 없음)
+    public static CustomUserDetails fromClaims(Integer userNumber, UserRole role, UserStatus userStatus) {
+        return new CustomUserDetails(userNumber, role, userStatus);
     }
 
     public Users getUser() {
@@ -20,21 +45,21 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getAuthorities();
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getUserPw();
+        return user != null ? user.getUserPw() : null;
     }
 
     @Override
     public String getUsername() {
-        return String.valueOf(user.getUserNumber());
+        return String.valueOf(userNumber);
     }
 
     public Integer getUserNumber() {
-        return user.getUserNumber();
+        return userNumber;
     }
 
     @Override
@@ -58,6 +83,6 @@ public class CustomUserDetails implements UserDetails {
     }
 
     public UserStatus getUserStatus() {
-        return user.getUserStatus();
+        return userStatus;
     }
 }
@@ -8,8 +8,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -17,7 +19,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import swyp.swyp6_team7.auth.details.CustomUserDetails;
 import swyp.swyp6_team7.auth.service.JwtBlacklistService;
-import swyp.swyp6_team7.member.entity.Users;
+import swyp.swyp6_team7.auth.service.UserStatusCacheService;
+import swyp.swyp6_team7.member.entity.UserStatus;
 import swyp.swyp6_team7.member.service.UserLoginHistoryService;
 
 import java.io.IOException;
@@ -30,6 +33,11 @@ public class JwtFilter extends OncePerRequestFilter {
     private final UserDetailsService userDetailsService;
     private final UserLoginHistoryService userLoginHistoryService;
     private final JwtBlacklistService jwtBlacklistService;
+    private final UserStatusCacheService userStatusCacheService;
+
+    // true면 사용자 정보를 DB에서 조회하지 않고 토큰 클레임으로 인증 정보를 만든다
+    @Value("${custom.jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
 
     /**
      * 로그인, 회원가입, 리프레시 토큰 요청은 필터 적용 제외
@@ -55,51 +63,43 @@ public class JwtFilter extends OncePerRequestFilter {
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             String token = authorizationHeader.substring(7); // 'Bearer ' 제거
-            Integer userNumber;
+            VerifiedToken verifiedToken;
             try {
-                userNumber = jwtProvider.getUserNumber(token);
+                // 서명 검증 결과는 토큰 만료 시까지 캐시되므로 같은 토큰은 한 번만 파싱한다
+                verifiedToken = jwtProvider.verify(token);
             } catch (ExpiredJwtException e) {
-                // 토큰 만료 예외 처리
-                log.warn("JWT 토큰 만료됨", e);
+                // 토큰 만료 예외 처리 (클라이언트가 토큰을 재발급하도록 401 응답)
+                log.warn("JWT 토큰 만료됨: {}", e.getMessage());
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.getWriter().write("JWT token has expired");
                 return;
             } catch (JwtException e) {
-                // 토큰 만료 예외 처리
                 log.warn("JWT 토큰 유효하지 않음.", e);
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.getWriter().write("Invalid JWT token");
                 return;
             }
-            if (userNumber != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtProvider.validateToken(token)) {
-                    if (jwtBlacklistService.isTokenBlacklisted(token)) {
-                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token is blacklisted");
-                        return;
-                    }
-                    try {
-                        var userDetails = userDetailsService.loadUserByUsername(String.valueOf(userNumber));
-                        UsernamePasswordAuthenticationToken authToken =
-                                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-
-                        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                        // SecurityContext에 인증 정보 설정
-                        SecurityContextHolder.getContext().setAuthentication(authToken);
+            Integer userNumber = verifiedToken.getUserNumber();
+            if (userNumber != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // 블랙리스트(Redis)는 요청마다 한 번만 확인한다
+                if (jwtBlacklistService.isTokenBlacklisted(token)) {
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token is blacklisted");
+                    return;
+                }
+                try {
+                    UserDetails userDetails = loadUserDetails(verifiedToken);
+                    UsernamePasswordAuthenticationToken authToken =
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
-                        // SecurityContext에서 인증된 정보 가져오기
-                        var authentication = SecurityContextHolder.getContext().getAuthentication();
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails) {
-                            CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getPrincipal();
-                            Users user = customUserDetails.getUser();
-                        }
-                    } catch (UsernameNotFoundException e) {
-                        // 인증 실패 시 처리
-                        // 로그를 남기거나 예외를 처리
-                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid JWT Token or User not found");
-                        return;
-                    }
+                    // SecurityContext에 인증 정보 설정
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                } catch (UsernameNotFoundException e) {
+                    // 인증 실패 시 처리
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid JWT Token or User not found");
+                    return;
                 }
             }
         }
@@ -107,4 +107,22 @@ public class JwtFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * stateless 모드이고 토큰에 권한, 회원 상태 클레임이 있다면 클레임으로 인증 정보를 만든다.<br>
+     * 정지, 탈퇴 여부는 짧은 TTL의 회원 상태 캐시로 확인한다. (클레임이 없는 이전 토큰은 DB에서 조회)
+     */
+    private UserDetails loadUserDetails(VerifiedToken verifiedToken) {
+        Integer userNumber = verifiedToken.getUserNumber();
+        if (!statelessPrincipal || !verifiedToken.hasPrincipalClaims()) {
+            return userDetailsService.loadUserByUsername(String.valueOf(userNumber));
+        }
+
+        UserStatus userStatus = userStatusCacheService.getUserStatus(userNumber);
+        if (userStatus == null || userStatus == UserStatus.DELETED || userStatus == UserStatus.BLOCK) {
+            log.warn("인증 불가 회원 상태: userNumber={}, userStatus={}", userNumber, userStatus);
+            throw new UsernameNotFoundException("인증할 수 없는 사용자입니다 - userNumber: " + userNumber);
+        }
+        return CustomUserDetails.fromClaims(userNumber, verifiedToken.getRole(), userStatus);
+    }
+
 }
@@ -1,10 +1,16 @@
 package swyp.swyp6_team7.auth.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import swyp.swyp6_team7.auth.service.JwtBlacklistService;
+import swyp.swyp6_team7.member.entity.UserRole;
+import swyp.swyp6_team7.member.entity.UserStatus;
+import swyp.swyp6_team7.member.entity.Users;
 
 import java.util.Base64;
 import java.util.List;
@@ -17,11 +23,35 @@ public class JwtProvider {
     private final byte[] secretKey;
     private final long accessTokenValidity = 15 * 60 * 1000; // 15분
     private final long refreshTokenValidity = 7 * 24 * 60 * 60 * 1000; // 1주일
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
     private final JwtBlacklistService jwtBlacklistService;
+    // key = 토큰 SHA-256 해시, 토큰 만료 시각에 맞춰 캐시에서도 제거된다
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
 
     public JwtProvider(@Value("${custom.jwt.secretKey}") String secretKey, JwtBlacklistService jwtBlacklistService) {
         this.secretKey = Base64.getDecoder().decode(secretKey);
         this.jwtBlacklistService = jwtBlacklistService;
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long remainingMillis = value.getExpiration() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     // Access Token 생성
@@ -29,6 +59,11 @@ public class JwtProvider {
         return createToken(userNumber, roles, accessTokenValidity);
     }
 
+    // Access Token 생성 (권한, 회원 상태를 클레임으로 포함)
+    public String createAccessToken(Users user) {
+        return createToken(user.getUserNumber(), List.of(user.getRole().name()), user.getUserStatus(), accessTokenValidity);
+    }
+
     // Refresh Token 생성
     public String createRefreshToken(Integer userNumber) {
         return createToken(userNumber, null, refreshTokenValidity);
@@ -36,11 +71,18 @@ public class JwtProvider {
 
     // 공통적으로 토큰 생성하는 로직
     public String createToken(Integer userNumber, List<String> roles, long validityInMilliseconds) {
+        return createToken(userNumber, roles, null, validityInMilliseconds);
+    }
+
+    public String createToken(Integer userNumber, List<String> roles, UserStatus userStatus, long validityInMilliseconds) {
         Claims claims = Jwts.claims();
         claims.put("userNumber", userNumber);
         if (roles != null && !roles.isEmpty()) {
             claims.put("roles", roles);
         }
+        if (userStatus != null) {
+            claims.put("status", userStatus.name());
+        }
 
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
@@ -66,28 +108,98 @@ public class JwtProvider {
             return false;
         }
         if (jwtBlacklistService.isTokenBlacklisted(token)) {
-            log.warn("블랙리스트에 등록된 토큰 검증 시도: {}", token);
+            log.warn("블랙리스트에 등록된 토큰 검증 시도: tokenHash={}", TokenHashUtil.hashForLog(token));
             throw new JwtException("블랙리스트에 등록된 토큰입니다.");
         }
         // JWT 가 유효한지 검증
         try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            log.info("JWT 토큰 유효성 검증 성공: {}", token);
+            verify(token);
+            log.debug("JWT 토큰 유효성 검증 성공");
             return true;
         } catch (ExpiredJwtException e) {
             log.warn("만료된 JWT 토큰: {}", e.getMessage());
             return false;
         } catch (JwtException | IllegalArgumentException e) {
-            log.warn("유효하지 않은 JWT 토큰: {}", token, e);
+            log.warn("유효하지 않은 JWT 토큰: tokenHash={}", TokenHashUtil.hashForLog(token), e);
             return false;
         }
     }
 
+    /**
+     * 토큰 서명과 만료 시간을 검증하고 사용자 번호, 만료 시각을 반환한다. (블랙리스트는 확인하지 않는다)<br>
+     * 검증에 성공한 토큰은 만료될 때까지 캐시해 같은 토큰의 서명 검증은 서버마다 한 번만 수행한다.
+     *
+     * @throws ExpiredJwtException 만료된 토큰
+     * @throws JwtException        서명이 올바르지 않거나 형식이 잘못된 토큰
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new JwtException("토큰이 null이거나 비어 있습니다.");
+        }
+
+        String tokenHash = hash(token);
+        VerifiedToken cached = verifiedTokenCache.getIfPresent(tokenHash);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return cached;
+        }
+
+        try {
+            Claims claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                throw new JwtException("JWT 토큰에서 만료 시간을 찾을 수 없습니다.");
+            }
+
+            VerifiedToken verifiedToken = new VerifiedToken(
+                    claims.get("userNumber", Integer.class),
+                    expiration.getTime(),
+                    getRole(claims),
+                    getUserStatus(claims)
+            );
+            verifiedTokenCache.put(tokenHash, verifiedToken);
+            return verifiedToken;
+        } catch (IllegalArgumentException e) {
+            throw new JwtException("유효하지 않은 JWT 토큰입니다.", e);
+        }
+    }
+
+    // roles 클레임의 첫 번째 권한 (이전 형식의 "ROLE_" 접두사 허용), 알 수 없는 값이라면 null
+    private UserRole getRole(Claims claims) {
+        Object roles = claims.get("roles");
+        if (!(roles instanceof List<?> roleList) || roleList.isEmpty()) {
+            return null;
+        }
+        String role = String.valueOf(roleList.get(0));
+        if (role.startsWith("ROLE_")) {
+            role = role.substring("ROLE_".length());
+        }
+        try {
+            return UserRole.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private UserStatus getUserStatus(Claims claims) {
+        String status = claims.get("status", String.class);
+        if (status == null) {
+            return null;
+        }
+        try {
+            return UserStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String hash(String token) {
+        return TokenHashUtil.encode(TokenHashUtil.sha256(token));
+    }
+
     // JWT에서 사용자 ID 추출
     public Integer getUserNumber(String token) {
         try {
-            Claims claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
-            Integer userNumber = claims.get("userNumber", Integer.class);
+            Integer userNumber = verify(token).getUserNumber();
             log.info("JWT 토큰에서 사용자 ID 추출 성공: userNumber={}", userNumber);
             return userNumber;
         } catch (ExpiredJwtException e) {
@@ -118,7 +230,7 @@ public class JwtProvider {
             log.info("새로운 Access Token 발급 성공: userNumber={}", userNumber);
             return newAccessToken;
         } catch (Exception e) {
-            log.error("Access Token 발급 중 오류 발생: refreshToken={}", refreshToken, e);
+            log.error("Access Token 발급 중 오류 발생: tokenHash={}", TokenHashUtil.hashForLog(refreshToken), e);
             throw new JwtException("새로운 Access Token 발급에 실패했습니다.", e);
         }
     }
@@ -134,14 +246,14 @@ public class JwtProvider {
 
             Date expiration = claims.getExpiration();
             if (expiration == null) {
-                log.error("JWT 토큰에서 만료 시간을 찾을 수 없음: token={}", token);
+                log.error("JWT 토큰에서 만료 시간을 찾을 수 없음: tokenHash={}", TokenHashUtil.hashForLog(token));
                 throw new JwtException("JWT 토큰에서 만료 시간을 찾을 수 없습니다.");
             }
 
             log.info("JWT 토큰의 만료 시간 추출 성공: expiration={}", expiration);
             return TimeUnit.MILLISECONDS.toSeconds(expiration.getTime()); // 초 단위로 반환
         } catch (JwtException e) {
-            log.error("JWT 토큰의 만료 시간 추출 실패: {}", token, e);
+            log.error("JWT 토큰의 만료 시간 추출 실패: tokenHash={}", TokenHashUtil.hashForLog(token), e);
             throw new JwtException("JWT 토큰에서 만료 시간을 추출하는데 실패했습니다.", e);
         }
     }
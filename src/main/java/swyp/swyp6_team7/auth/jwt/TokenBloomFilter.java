@@ -0,0 +1,79 @@
+package swyp.swyp6_team7.auth.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 SHA-256 해시의 인메모리 Bloom filter<br>
+ * mightContain이 false이면 추가된 적 없는 토큰이 확실하고, true이면 오탐일 수 있으므로 원본 저장소에서 다시 확인해야 한다.<br>
+ * 입력이 이미 균일한 해시이므로 해시 앞 16byte를 두 개의 long으로 나눠 double hashing(h1 + i * h2)으로 비트 위치를 구한다.<br>
+ * 비트 설정은 AtomicLongArray의 CAS로 처리하므로 조회, 추가를 잠금 없이 동시에 호출할 수 있다. (삭제는 지원하지 않는다)
+ */
+public class TokenBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 토큰 수 (초과해도 동작하지만 오탐률이 높아진다)
+     * @param falsePositiveRate  목표 오탐률
+     */
+    public TokenBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Bloom filter 설정이 올바르지 않습니다.");
+        }
+        // m = -n * ln(p) / (ln2)^2, k = m / n * ln2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * LN2));
+    }
+
+    public void put(byte[] tokenHash) {
+        long h1 = readLong(tokenHash, 0);
+        long h2 = readLong(tokenHash, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = Math.floorMod(h1 + i * h2, bitSize);
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+            long word = bits.get(wordIndex);
+            while ((word & mask) == 0 && !bits.compareAndSet(wordIndex, word, word | mask)) {
+                word = bits.get(wordIndex);
+            }
+        }
+    }
+
+    public boolean mightContain(byte[] tokenHash) {
+        long h1 = readLong(tokenHash, 0);
+        long h2 = readLong(tokenHash, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        if (bytes.length < offset + 8) {
+            throw new IllegalArgumentException("토큰 해시 길이가 너무 짧습니다.");
+        }
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+}
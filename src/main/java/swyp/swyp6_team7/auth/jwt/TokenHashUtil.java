@@ -0,0 +1,41 @@
+package swyp.swyp6_team7.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 저장, 비교에 사용하는 SHA-256 해시<br>
+ * 토큰 원문(수백 byte)을 key로 쓰지 않기 위해 사용한다.
+ */
+public class TokenHashUtil {
+
+    private static final Base64.Encoder URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder URL_DECODER = Base64.getUrlDecoder();
+
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // Redis key 등에 사용하는 43자 URL-safe 문자열
+    public static String encode(byte[] hash) {
+        return URL_ENCODER.encodeToString(hash);
+    }
+
+    public static byte[] decode(String encodedHash) {
+        return URL_DECODER.decode(encodedHash);
+    }
+
+    // 로그에 토큰 원문 대신 남기는 값 (블랙리스트, Refresh Token key와 같은 해시라 대조할 수 있다)
+    public static String hashForLog(String token) {
+        if (token == null || token.isEmpty()) {
+            return "empty";
+        }
+        return encode(sha256(token));
+    }
+}
@@ -0,0 +1,49 @@
+package swyp.swyp6_team7.auth.jwt;
+
+import lombok.Getter;
+import swyp.swyp6_team7.member.entity.UserRole;
+import swyp.swyp6_team7.member.entity.UserStatus;
+
+/**
+ * 서명과 만료 시간 검증을 마친 JWT 정보<br>
+ * expiration = 만료 시각 (epoch millis)<br>
+ * role, userStatus = access token 클레임 (클레임이 없는 토큰이라면 null)
+ */
+@Getter
+public class VerifiedToken {
+
+    private final Integer userNumber;
+    private final long expiration;
+    private final UserRole role;
+    private final UserStatus userStatus;
+
+    public VerifiedToken(Integer userNumber, long expiration) {
+        this(userNumber, expiration, null, null);
+    }
+
+    public VerifiedToken(Integer userNumber, long expiration, UserRole role, UserStatus userStatus) {
+        this.userNumber = userNumber;
+        this.expiration = expiration;
+        this.role = role;
+        this.userStatus = userStatus;
+    }
+
+    public boolean isExpired(long now) {
+        return expiration <= now;
+    }
+
+    // 클레임만으로 인증 정보를 만들 수 있는 토큰인지 여부
+    public boolean hasPrincipalClaims() {
+        return userNumber != null && role != null && userStatus != null;
+    }
+
+    @Override
+    public String toString() {
+        return "VerifiedToken{" +
+                "userNumber=" + userNumber +
+                ", expiration=" + expiration +
+                ", role=" + role +
+                ", userStatus=" + userStatus +
+                '}';
+    }
+}
@@ -1,42 +1,223 @@
 package swyp.swyp6_team7.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import swyp.swyp6_team7.auth.jwt.TokenBloomFilter;
+import swyp.swyp6_team7.auth.jwt.TokenHashUtil;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
 
-@Service
+/**
+ * 블랙리스트 key = blacklist:{토큰 SHA-256 해시} (토큰 원문 대신 43자 해시 사용)<br>
+ * 서버마다 블랙리스트 토큰 해시의 Bloom filter를 메모리에 두고, filter에 없는 토큰은 Redis 조회 없이 통과시킨다.
+ * filter에 있다고 나온 토큰만 Redis에서 다시 확인한다. (오탐 제거)<br>
+ * 블랙리스트 추가 시 Redis pub/sub(jwt-blacklist 채널)으로 해시를 전파해 모든 서버의 filter에 반영한다.
+ * 구독이 끊긴 동안 놓친 메시지와 만료된 항목은 주기적인 filter 재구축(Redis SCAN)으로 정리한다.<br>
+ * filter 구축 전에는 모든 조회를 Redis로 확인한다.<br>
+ * 토큰 원문을 key로 저장하던 이전 항목({토큰}, blacklist:{토큰})은 남은 유효 시간을 유지한 채 해시 key로 옮긴다.
+ */
 @Slf4j
-@RequiredArgsConstructor
-public class JwtBlacklistService {
+@Service
+public class JwtBlacklistService implements MessageListener {
+
+    private static final String BLACKLIST_KEY_PREFIX = "blacklist:";
+    private static final String BLACKLIST_VALUE = "blacklisted";
+    private static final ChannelTopic BLACKLIST_TOPIC = new ChannelTopic("jwt-blacklist");
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+    private static final int SCAN_COUNT = 1000;
+    // SHA-256 해시(32byte)의 URL-safe Base64 길이
+    private static final int ENCODED_HASH_LENGTH = 43;
+    private static final String LEGACY_KEY_PATTERN = "eyJ*";
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final int expectedInsertions;
+
+    // 구축 전에는 null (Redis 조회로 대체)
+    private volatile TokenBloomFilter bloomFilter;
+    // 재구축 중에 추가된 해시도 새 filter에 포함되도록 구축 중인 filter를 함께 갱신한다
+    private volatile TokenBloomFilter rebuildingFilter;
+
+    public JwtBlacklistService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${custom.jwt.blacklist.expected-insertions:100000}") int expectedInsertions
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, BLACKLIST_TOPIC);
+    }
+
+    // 토큰을 남은 유효 시간(millis) 동안 블랙리스트에 추가
+    public void addToBlacklist(String token, long expirationTime) {
+        if (expirationTime <= 0) {
+            log.info("이미 만료된 토큰은 블랙리스트에 추가하지 않음");
+            return;
+        }
 
-    // Access Token을 블랙리스트에 추가
-    public void addToBlacklist(String refreshToken, long expirationTime) {
+        byte[] tokenHash = TokenHashUtil.sha256(token);
+        String encodedHash = TokenHashUtil.encode(tokenHash);
         try {
-            ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-            valueOperations.set(refreshToken, "blacklisted", expirationTime, TimeUnit.MILLISECONDS);
-            log.info("Refresh Token 블랙리스트에 추가: token={}, expirationTime={}", refreshToken, expirationTime);
+            redisTemplate.opsForValue().set(getBlacklistKey(encodedHash), BLACKLIST_VALUE, expirationTime, TimeUnit.MILLISECONDS);
+            putToFilter(tokenHash);
+            redisTemplate.convertAndSend(BLACKLIST_TOPIC.getTopic(), encodedHash);
+            log.info("토큰 블랙리스트에 추가: tokenHash={}, expirationTime={}", encodedHash, expirationTime);
         } catch (Exception e) {
-            log.error("Access Token을 블랙리스트에 추가하는 중 오류 발생: token={}, expirationTime={}", refreshToken, expirationTime, e);
+            log.error("토큰을 블랙리스트에 추가하는 중 오류 발생: tokenHash={}, expirationTime={}", encodedHash, expirationTime, e);
             throw new RuntimeException("Failed to add token to blacklist", e);
         }
     }
 
-    // Access Token이 블랙리스트에 있는지 확인
-    public boolean isTokenBlacklisted(String refreshToken) {
+    // 토큰이 블랙리스트에 있는지 확인
+    public boolean isTokenBlacklisted(String token) {
+        byte[] tokenHash = TokenHashUtil.sha256(token);
+        TokenBloomFilter filter = bloomFilter;
+        if (filter != null && !filter.mightContain(tokenHash)) {
+            return false;
+        }
+
+        String encodedHash = TokenHashUtil.encode(tokenHash);
         try {
-            ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-            boolean isBlacklisted = "blacklisted".equals(valueOperations.get(refreshToken));
-            log.info("Refresh Token 블랙리스트 확인: token={}, isBlacklisted={}", refreshToken, isBlacklisted);
+            boolean isBlacklisted = BLACKLIST_VALUE.equals(redisTemplate.opsForValue().get(getBlacklistKey(encodedHash)));
+            log.info("토큰 블랙리스트 확인: tokenHash={}, isBlacklisted={}", encodedHash, isBlacklisted);
             return isBlacklisted;
         } catch (Exception e) {
-            log.error("블랙리스트에서 Refresh Token 확인 중 오류 발생: token={}", refreshToken, e);
+            log.error("블랙리스트에서 토큰 확인 중 오류 발생: tokenHash={}", encodedHash, e);
             throw new RuntimeException("Failed to check if token is blacklisted", e);
         }
     }
+
+    // 다른 서버(또는 자신)가 추가한 블랙리스트 토큰 해시 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String encodedHash = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            putToFilter(TokenHashUtil.decode(encodedHash));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 블랙리스트 메시지 수신: message={}", encodedHash);
+        }
+    }
+
+    // 서버 시작 시 이전 형식의 블랙리스트 key를 옮긴 뒤 filter를 구축한다
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        migrateLegacyKeys();
+        rebuild();
+    }
+
+    // Redis의 블랙리스트 key로 filter 전체 재구축 (1분 주기 실행)
+    @Scheduled(fixedDelay = 1, initialDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public synchronized void rebuild() {
+        TokenBloomFilter newFilter = new TokenBloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+        // SCAN 시작 전에 지정해야 SCAN이 놓친 추가분이 onMessage, addToBlacklist를 통해 새 filter에 들어간다
+        rebuildingFilter = newFilter;
+        try {
+            int count = 0;
+            ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_KEY_PREFIX + "*").count(SCAN_COUNT).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = cursor.next();
+                    // key 하나를 처리하지 못해도 나머지 key로 filter 구축을 계속한다
+                    try {
+                        newFilter.put(readTokenHash(key));
+                        count++;
+                    } catch (Exception e) {
+                        log.warn("블랙리스트 key 처리 중 오류 발생, 건너뜀: {}", e.getMessage());
+                    }
+                }
+            }
+            bloomFilter = newFilter;
+            log.debug("블랙리스트 filter 재구축 완료: size={}", count);
+        } catch (Exception e) {
+            // 기존 filter를 유지하고 다음 주기에 다시 시도한다
+            log.warn("블랙리스트 filter 재구축 중 오류 발생: {}", e.getMessage());
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    // key의 해시 부분이 해시 형식이 아니면(blacklist:{토큰 원문}) 해시 key로 옮긴다
+    private byte[] readTokenHash(String key) {
+        String suffix = key.substring(BLACKLIST_KEY_PREFIX.length());
+        if (suffix.length() == ENCODED_HASH_LENGTH) {
+            try {
+                return TokenHashUtil.decode(suffix);
+            } catch (IllegalArgumentException e) {
+                // 해시가 아닌 43자 값은 토큰 원문으로 처리
+            }
+        }
+        return migrateLegacyKey(key, suffix);
+    }
+
+    // 토큰 원문을 key로 저장하던 이전 블랙리스트 항목을 해시 key로 옮긴다 (JWT는 항상 eyJ로 시작)
+    private void migrateLegacyKeys() {
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(LEGACY_KEY_PATTERN).count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                try {
+                    if (BLACKLIST_VALUE.equals(redisTemplate.opsForValue().get(key))) {
+                        migrateLegacyKey(key, key);
+                        count++;
+                    }
+                } catch (Exception e) {
+                    log.warn("이전 형식 블랙리스트 key 처리 중 오류 발생, 건너뜀: {}", e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("이전 형식 블랙리스트 key 조회 중 오류 발생: {}", e.getMessage());
+        }
+        if (count > 0) {
+            log.info("이전 형식 블랙리스트 key 변환 완료: size={}", count);
+        }
+    }
+
+    // 남은 유효 시간을 유지한 채 해시 key로 저장하고 이전 key는 삭제한다
+    private byte[] migrateLegacyKey(String legacyKey, String token) {
+        byte[] tokenHash = TokenHashUtil.sha256(token);
+        Long expireMillis = redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+        if (expireMillis != null && expireMillis > 0) {
+            redisTemplate.opsForValue().set(getBlacklistKey(TokenHashUtil.encode(tokenHash)), BLACKLIST_VALUE, expireMillis, TimeUnit.MILLISECONDS);
+        } else if (expireMillis != null && expireMillis == -1) {
+            redisTemplate.opsForValue().set(getBlacklistKey(TokenHashUtil.encode(tokenHash)), BLACKLIST_VALUE);
+        }
+        redisTemplate.unlink(legacyKey);
+        log.info("이전 형식 블랙리스트 key 변환: tokenHash={}", TokenHashUtil.encode(tokenHash));
+        return tokenHash;
+    }
+
+    // 재구축 완료 직후 교체된 filter를 읽도록 구축 중인 filter를 먼저 확인한다
+    private void putToFilter(byte[] tokenHash) {
+        TokenBloomFilter rebuilding = rebuildingFilter;
+        if (rebuilding != null) {
+            rebuilding.put(tokenHash);
+        }
+        TokenBloomFilter filter = bloomFilter;
+        if (filter != null) {
+            filter.put(tokenHash);
+        }
+    }
+
+    private String getBlacklistKey(String encodedHash) {
+        return BLACKLIST_KEY_PREFIX + encodedHash;
+    }
 }
@@ -20,10 +20,8 @@ import swyp.swyp6_team7.member.entity.UserStatus;
 import swyp.swyp6_team7.member.entity.Users;
 import swyp.swyp6_team7.member.repository.UserRepository;
 import swyp.swyp6_team7.member.service.MemberBlockService;
-import swyp.swyp6_team7.member.service.MemberService;
-import swyp.swyp6_team7.member.service.UserLoginHistoryService;
+import swyp.swyp6_team7.member.service.UserLoginHistoryWriter;
 
-import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -34,8 +32,7 @@ public class LoginFacade {
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
     private final TokenService tokenService;
-    private final UserLoginHistoryService userLoginHistoryService;
-    private final MemberService memberService;
+    private final UserLoginHistoryWriter userLoginHistoryWriter;
     private final SocialLoginService socialLoginService;
     private final MemberBlockService memberBlockService;
 
@@ -73,12 +70,9 @@ public class LoginFacade {
         Users user = getUserBySocialInfo(socialLoginId);
 
         // JWT 토큰 생성
-        String accessToken = jwtProvider.createAccessToken(
-                user.getUserNumber(),
-                List.of(user.getRole().name())
-        );
+        String accessToken = jwtProvider.createAccessToken(user);
         String refreshToken = jwtProvider.createRefreshToken(user.getUserNumber());
-        log.info("JWT 토큰 생성 완료: accessToken={}, refreshToken=****", accessToken);
+        log.info("JWT 토큰 생성 완료: userNumber={}", user.getUserNumber());
         tokenService.storeRefreshToken(user.getUserNumber(), refreshToken);
 
         processUserLoginEvent(user);
@@ -103,7 +97,7 @@ public class LoginFacade {
 
         checkUserCanLogin(user, loginRequestDto.getPassword());
 
-        String accessToken = jwtProvider.createAccessToken(user.getUserNumber(), List.of(user.getRole().name()));
+        String accessToken = jwtProvider.createAccessToken(user);
         String refreshToken = jwtProvider.createRefreshToken(user.getUserNumber());
 
         // 로그인 성공 후 Redis에 RefreshToken 저장
@@ -116,9 +110,8 @@ public class LoginFacade {
     }
 
     private void processUserLoginEvent(Users user) {
-        // 로그인 이력 저장
-        userLoginHistoryService.saveLoginHistory(user);
-        memberService.updateLoginDate(user);  // 로그인 시간 업데이트
+        // 로그인 이력 저장, 로그인 시간 업데이트 (로그인 응답을 기다리게 하지 않도록 비동기로 모아서 저장)
+        userLoginHistoryWriter.record(user);
     }
 
     private void checkUserIsBlocked(Users user) {
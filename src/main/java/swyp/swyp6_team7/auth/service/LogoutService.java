@@ -14,6 +14,8 @@ import swyp.swyp6_team7.member.entity.Users;
 import swyp.swyp6_team7.member.service.MemberService;
 import swyp.swyp6_team7.member.service.UserLoginHistoryService;
 
+import java.util.concurrent.TimeUnit;
+
 @Service
 @RequiredArgsConstructor
 public class LogoutService {
@@ -33,7 +35,7 @@ public class LogoutService {
             // Access Token 블랙리스트 처리
             String token = extractAccessToken(request);
             if (token != null && jwtProvider.validateToken(token)) {
-                long expirationTime = jwtProvider.getExpiration(token);
+                long expirationTime = TimeUnit.SECONDS.toMillis(jwtProvider.getRemainingValidity(token));
                 jwtBlacklistService.addToBlacklist(token, expirationTime);
             }
 
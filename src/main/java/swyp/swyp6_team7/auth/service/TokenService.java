@@ -4,27 +4,60 @@ import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import swyp.swyp6_team7.auth.dto.LoginTokenResponse;
 import swyp.swyp6_team7.auth.jwt.JwtProvider;
+import swyp.swyp6_team7.auth.jwt.TokenHashUtil;
 import swyp.swyp6_team7.member.entity.Users;
 import swyp.swyp6_team7.member.repository.UserRepository;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TokenService {
-    private static final String REFRESH_TOKEN_LOCK_PREFIX = "refreshTokenLock:";
     private static final String REFRESH_TOKEN_CACHE_PREFIX = "refreshTokenCache:";
     private static final String REFRESH_TOKEN_STORE_PREFIX = "refreshToken:";
+    // 회전 직후 이전 Refresh Token으로 들어온 요청(동시 요청, 응답 유실 후 재시도)에 같은 결과를 돌려주는 시간
+    private static final long ROTATION_GRACE_SECONDS = 30;
+    private static final String ROTATED = "ROTATED";
+    private static final String CACHED = "CACHED";
+
+    /**
+     * KEYS[1] = 저장된 Refresh Token key, KEYS[2] = 회전 결과 캐시 key (이전 Refresh Token 해시 기준)<br>
+     * ARGV[1] = 요청한 Refresh Token, ARGV[2] = 새 Refresh Token, ARGV[3] = 새 Access Token,
+     * ARGV[4] = Refresh Token TTL(초), ARGV[5] = 회전 결과 캐시 TTL(초)<br>
+     * return = {ROTATED} | {CACHED, Access Token, Refresh Token} | {MISMATCH}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[4])
+                redis.call('HSET', KEYS[2], 'accessToken', ARGV[3], 'refreshToken', ARGV[2])
+                redis.call('EXPIRE', KEYS[2], ARGV[5])
+                return {'ROTATED'}
+            end
+            local cached = redis.call('HMGET', KEYS[2], 'accessToken', 'refreshToken')
+            if cached[1] and cached[2] then
+                return {'CACHED', cached[1], cached[2]}
+            end
+            return {'MISMATCH'}
+            """, List.class);
 
     private final JwtProvider jwtProvider;
     private final RedisTemplate<String, String> redisTemplate;
     private final UserRepository userRepository;
 
+    // key = 요청한 Refresh Token 해시, 같은 토큰의 동시 재발급 요청이 결과를 공유한다
+    private final ConcurrentHashMap<String, CompletableFuture<LoginTokenResponse>> inFlightRotations = new ConcurrentHashMap<>();
+
     public final long getRefreshTokenValidity() {
         return 7 * 24 * 60 * 60; //초단위, 7일
     }
@@ -41,13 +74,37 @@ public class TokenService {
         redisTemplate.delete(key);
     }
 
-    // 분산 락을 사용해 Refresh Token으로 새로운 토큰 발급 (Token Rotation)
-    public LoginTokenResponse refreshWithLock(String providedRefreshToken) {
-        log.info("refreshWithLock 메서드 호출: refreshToken={}", providedRefreshToken);
+    /**
+     * Refresh Token으로 새로운 Access Token, Refresh Token 발급 (Token Rotation)<br>
+     * 같은 Refresh Token으로 동시에 들어온 요청은 서버 안에서 하나로 묶어 같은 결과를 공유하고,
+     * 다른 서버와의 경쟁은 ROTATE_SCRIPT의 비교-교체로 한 번만 회전되도록 한다.
+     */
+    public LoginTokenResponse rotateRefreshToken(String providedRefreshToken) {
+        String tokenHash = TokenHashUtil.encode(TokenHashUtil.sha256(providedRefreshToken));
+
+        CompletableFuture<LoginTokenResponse> rotation = new CompletableFuture<>();
+        CompletableFuture<LoginTokenResponse> inFlight = inFlightRotations.putIfAbsent(tokenHash, rotation);
+        if (inFlight != null) {
+            log.info("진행 중인 토큰 재발급 결과 공유: tokenHash={}", tokenHash);
+            return await(inFlight);
+        }
+
+        try {
+            LoginTokenResponse tokenResponse = rotate(providedRefreshToken, tokenHash);
+            rotation.complete(tokenResponse);
+            return tokenResponse;
+        } catch (RuntimeException e) {
+            rotation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRotations.remove(tokenHash, rotation);
+        }
+    }
 
+    private LoginTokenResponse rotate(String providedRefreshToken, String tokenHash) {
         // JWT 검증 및 Refresh Token 디코딩
         if (!jwtProvider.validateToken(providedRefreshToken)) {
-            log.error("유효하지 않는 RefreshToken: {}", providedRefreshToken);
+            log.error("유효하지 않는 RefreshToken: tokenHash={}", tokenHash);
             throw new JwtException("유효하지 않은 RefreshToken입니다.");
         }
         Integer userNumber = jwtProvider.getUserNumber(providedRefreshToken);
@@ -57,70 +114,45 @@ public class TokenService {
                     return new JwtException("사용자를 찾을 수 없습니다. userNumber: " + userNumber);
                 });
 
-        // Redis에 저장된 Refresh Token과 일치하는지 확인
-        String storedRefreshToken = redisTemplate.opsForValue().get(REFRESH_TOKEN_STORE_PREFIX + userNumber);
-        log.info("Stored RefreshToken: {}", storedRefreshToken);
-        if (storedRefreshToken == null || !storedRefreshToken.equals(providedRefreshToken)) {
-            throw new JwtException("저장된 Refresh Token과 일치하지 않습니다.");
-        }
-
-        String lockKey = REFRESH_TOKEN_LOCK_PREFIX + providedRefreshToken;
-        String cacheKey = REFRESH_TOKEN_CACHE_PREFIX + providedRefreshToken;
-
-        // 캐시된 Access Token이 있으면 재사용
-        String cachedAccessToken = redisTemplate.opsForValue().get(cacheKey);
-        if (cachedAccessToken != null && jwtProvider.validateToken(cachedAccessToken)) {
-            log.info("Redis 캐시에서 AccessToken 반환: {}", cachedAccessToken);
-            return new LoginTokenResponse(user, cachedAccessToken, providedRefreshToken);
+        // 새로운 Access Token과 Refresh Token(회전) 발급, 저장된 토큰과 일치할 때만 교체된다
+        String newAccessToken = jwtProvider.createAccessToken(user);
+        String newRefreshToken = jwtProvider.createRefreshToken(userNumber);
+
+        List<String> result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(REFRESH_TOKEN_STORE_PREFIX + userNumber, REFRESH_TOKEN_CACHE_PREFIX + tokenHash),
+                providedRefreshToken,
+                newRefreshToken,
+                newAccessToken,
+                String.valueOf(getRefreshTokenValidity()),
+                String.valueOf(ROTATION_GRACE_SECONDS)
+        );
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("Refresh Token 회전 결과를 확인할 수 없습니다.");
         }
 
-        // 분산 락 획득 (동시 요청 방지)
-        boolean lockAcquired = acquireLock(lockKey);
-        if (!lockAcquired) {
-            log.error("Lock 획득 실패: refreshToken={}", providedRefreshToken);
-            throw new IllegalStateException("동시 요청으로 인해 처리 중단: " + providedRefreshToken);
-        }
-
-        try {
-
-            // 새로운 Access Token과 Refresh Token(회전) 발급
-            String newAccessToken = jwtProvider.createAccessToken(userNumber, List.of("ROLE_USER"));
-            String newRefreshToken = jwtProvider.createRefreshToken(userNumber);
-
-            // Redis에 새 Refresh Token 저장(이전 토큰은 폐기)
-            storeRefreshToken(userNumber, newRefreshToken);
-
-            // 새 Access Token을 캐시 처리
-            long remainingValidity = jwtProvider.getRemainingValidity(newAccessToken);
-            redisTemplate.opsForValue().set(cacheKey, newAccessToken, Duration.ofSeconds(remainingValidity));
-            log.info("Redis에 새 Access Token  캐싱 완료: cacheKey={}, TTL={}초", cacheKey, remainingValidity);
-
-            LoginTokenResponse tokenResponse = new LoginTokenResponse(
-                    user,
-                    newAccessToken,
-                    newRefreshToken
-            );
-            return tokenResponse;
-        } finally {
-            releaseLock(lockKey);
-            log.info("Lock 해제 완료: lockKey={}", lockKey);
+        switch (result.get(0)) {
+            case ROTATED -> {
+                log.info("Refresh Token 회전 완료: userNumber={}", userNumber);
+                return new LoginTokenResponse(user, newAccessToken, newRefreshToken);
+            }
+            case CACHED -> {
+                // 다른 요청(다른 서버 포함)이 방금 회전한 결과를 재사용
+                log.info("Redis 캐시에서 회전된 토큰 반환: userNumber={}", userNumber);
+                return new LoginTokenResponse(user, result.get(1), result.get(2));
+            }
+            default -> throw new JwtException("저장된 Refresh Token과 일치하지 않습니다.");
         }
     }
 
-    private boolean acquireLock(String lockKey) {
-        log.info("Lock 시도: lockKey={}", lockKey);
-        boolean result = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, "LOCKED", Duration.ofSeconds(5)));
-        if (result) {
-            log.info("Lock 성공: lockKey={}", lockKey);
-        } else {
-            log.warn("Lock 실패: lockKey={}", lockKey);
+    private LoginTokenResponse await(CompletableFuture<LoginTokenResponse> rotation) {
+        try {
+            return rotation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
-        return result;
-    }
-
-    private void releaseLock(String lockKey) {
-        log.info("Lock 해제 시도: lockKey={}", lockKey);
-        redisTemplate.delete(lockKey);
-        log.info("Lock 해제 완료: lockKey={}", lockKey);
     }
 }
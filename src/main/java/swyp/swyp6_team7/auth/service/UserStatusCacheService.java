@@ -0,0 +1,47 @@
+package swyp.swyp6_team7.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import swyp.swyp6_team7.member.entity.UserStatus;
+import swyp.swyp6_team7.member.repository.UserRepository;
+
+import java.time.Duration;
+
+/**
+ * 회원 상태 로컬 캐시 (stateless 인증 모드에서 사용)<br>
+ * 토큰 클레임만으로 인증하면 정지, 탈퇴가 토큰 만료 전까지 반영되지 않으므로
+ * 회원 상태를 짧은 TTL로 캐시해 최대 TTL 이내에 요청이 차단되도록 한다.
+ */
+@Slf4j
+@Service
+public class UserStatusCacheService {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final UserRepository userRepository;
+    private final Cache<Integer, UserStatus> userStatusCache;
+
+    public UserStatusCacheService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+        this.userStatusCache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(TTL)
+                .build();
+    }
+
+    // 존재하지 않는 회원이라면 null 반환 (null은 캐시하지 않는다)
+    public UserStatus getUserStatus(Integer userNumber) {
+        return userStatusCache.get(userNumber, key -> {
+            UserStatus userStatus = userRepository.findUserStatusByUserNumber(key).orElse(null);
+            log.debug("회원 상태 캐시 적재: userNumber={}, userStatus={}", key, userStatus);
+            return userStatus;
+        });
+    }
+
+    public void evict(Integer userNumber) {
+        userStatusCache.invalidate(userNumber);
+    }
+}
@@ -2,6 +2,7 @@ package swyp.swyp6_team7.bookmark.service;
 
 
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -17,6 +18,10 @@ import swyp.swyp6_team7.member.repository.UserRepository;
 import swyp.swyp6_team7.travel.domain.Travel;
 import swyp.swyp6_team7.travel.domain.TravelStatus;
 import swyp.swyp6_team7.travel.repository.TravelRepository;
+import swyp.swyp6_team7.travel.service.TravelStatsService;
+import swyp.swyp6_team7.trending.domain.TrendingActivity;
+import swyp.swyp6_team7.trending.event.TrendingActivityEvent;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -33,6 +38,8 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final TravelRepository travelRepository;
+    private final TravelStatsService travelStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void addBookmark(BookmarkRequest request) {
@@ -48,6 +55,7 @@ public class BookmarkService {
             // 가장 오래된 북마크 삭제
             List<Bookmark> oldestBookmarks = bookmarkRepository.findOldestByUserNumber(request.getUserNumber());
             bookmarkRepository.delete(oldestBookmarks.get(0));
+            travelStatsService.decreaseBookmarkCount(oldestBookmarks.get(0).getTravelNumber());
         }
 
         // 북마크 저장
@@ -57,6 +65,8 @@ public class BookmarkService {
                 LocalDateTime.now() // bookmarkDate 설정
         );
         bookmarkRepository.save(bookmark);
+        travelStatsService.increaseBookmarkCount(travel.getNumber());
+        eventPublisher.publishEvent(new TrendingActivityEvent(ViewContentType.TRAVEL, travel.getNumber(), TrendingActivity.BOOKMARK));
     }
 
     @Transactional
@@ -75,9 +85,11 @@ public class BookmarkService {
         if (travel.getStatus() == TravelStatus.DELETED) {
             // 삭제된 여행에 대한 북마크라면 그냥 삭제 진행
             bookmarkRepository.delete(bookmark);
+            travelStatsService.decreaseBookmarkCount(travelNumber);
             return;
         }
         bookmarkRepository.delete(bookmark);
+        travelStatsService.decreaseBookmarkCount(travelNumber);
     }
 
     @Transactional(readOnly = true)
@@ -1,17 +1,22 @@
 package swyp.swyp6_team7.comment.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import swyp.swyp6_team7.comment.domain.Comment;
 import swyp.swyp6_team7.comment.dto.request.CommentCreateRequestDto;
 import swyp.swyp6_team7.comment.dto.request.CommentUpdateRequestDto;
+import swyp.swyp6_team7.comment.dto.response.CommentCursorPageResponse;
 import swyp.swyp6_team7.comment.dto.response.CommentDetailResponseDto;
 import swyp.swyp6_team7.comment.dto.response.CommentListReponseDto;
 import swyp.swyp6_team7.comment.service.CommentService;
+import swyp.swyp6_team7.comment.service.CommentStreamService;
 import swyp.swyp6_team7.global.exception.MoingApplicationException;
 import swyp.swyp6_team7.global.utils.api.ApiResponse;
 import swyp.swyp6_team7.global.utils.auth.RequireUserNumber;
@@ -21,7 +26,11 @@ import swyp.swyp6_team7.global.utils.auth.RequireUserNumber;
 @RestController
 public class CommentController {
 
+    // 커서 페이징 최대 조회 개수
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
 
     //Create
     @Operation(summary = "댓글 생성 or 대댓글 생성. parentNumber 가 없으면 신규 댓글, 있으면 대댓글")
@@ -63,6 +72,30 @@ public class CommentController {
         return ApiResponse.success(comments);
     }
 
+    // List Read (커서 페이징)
+    @GetMapping("/api/{relatedType}/{relatedNumber}/comments/cursor")
+    public ApiResponse<CommentCursorPageResponse<CommentListReponseDto>> getCommentsWithCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Min(value = 1, message = "size는 1 이상이어야 합니다.") @RequestParam(name = "size", defaultValue = "5") int size,
+            @PathVariable(name = "relatedType") String relatedType,
+            @PathVariable(name = "relatedNumber") int relatedNumber,
+            @RequireUserNumber Integer userNumber
+    ) {
+        CommentCursorPageResponse<CommentListReponseDto> comments = commentService.getListWithCursor(cursor, Math.min(size, MAX_CURSOR_PAGE_SIZE), relatedType, relatedNumber, userNumber);
+        return ApiResponse.success(comments);
+    }
+
+    // 실시간 스트림 (SSE, 연결 이후 생성/수정/삭제된 댓글 전달)
+    @Operation(summary = "댓글 실시간 스트림. 최초 목록은 목록 조회 API로 불러온 뒤 연결")
+    @GetMapping(value = "/api/{relatedType}/{relatedNumber}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @PathVariable(name = "relatedType") String relatedType,
+            @PathVariable(name = "relatedNumber") int relatedNumber
+    ) {
+        commentService.validateRelatedPostExists(relatedType, relatedNumber);
+        return commentStreamService.subscribe(relatedType, relatedNumber);
+    }
+
     //Update
     @PutMapping("/api/comments/{commentNumber}")
     public ApiResponse<CommentDetailResponseDto> update(
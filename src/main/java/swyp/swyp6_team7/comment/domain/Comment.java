@@ -13,7 +13,9 @@ import swyp.swyp6_team7.travel.domain.Travel;
 import java.time.LocalDateTime;
 
 @Getter
-@Table(name = "Comments")
+@Table(name = "Comments", indexes = {
+        @Index(name = "idx_comment_related_parent", columnList = "comment_related_type, comment_related_number, comment_parent_number, comment_reg_date, comment_number"),
+        @Index(name = "idx_comment_parent_number", columnList = "comment_parent_number")})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 @Entity
@@ -53,6 +55,14 @@ public class Comment {
     @Column(name = "comment_related_number", nullable = false, updatable = false)
     private int relatedNumber;
 
+    //답글 수 (부모 댓글만 사용, CommentRepository.addReplyCount로만 갱신)
+    @Column(name = "comment_reply_count", nullable = false, updatable = false)
+    private int replyCount;
+
+    //좋아요 수 (CommentRepository.addLikeCount로만 갱신)
+    @Column(name = "comment_like_count", nullable = false, updatable = false)
+    private int likeCount;
+
     //C
     @Builder
     public Comment (int userNumber, String content, int parentNumber, LocalDateTime regDate, String relatedType, int relatedNumber) {
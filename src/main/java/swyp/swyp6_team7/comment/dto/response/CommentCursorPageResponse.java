@@ -0,0 +1,21 @@
+package swyp.swyp6_team7.comment.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentCursorPageResponse<T> {
+
+    private List<T> content;
+    private String nextCursor; // 다음 요청에 사용되는 커서 (마지막 페이지이면 null)
+
+    public CommentCursorPageResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> CommentCursorPageResponse<T> from(List<T> content, String nextCursor) {
+        return new CommentCursorPageResponse<>(content, nextCursor);
+    }
+}
@@ -0,0 +1,36 @@
+package swyp.swyp6_team7.comment.dto.response;
+
+import lombok.Getter;
+import swyp.swyp6_team7.comment.event.CommentChangeType;
+
+/**
+ * 댓글 스트림(SSE)으로 구독자에게 보내는 댓글 변경<br>
+ * 삭제 이벤트에는 댓글 응답(comment)이 없다.
+ */
+@Getter
+public class CommentStreamResponse {
+
+    private final String relatedType;
+    private final int relatedNumber;
+    private final int commentNumber;
+    private final CommentChangeType changeType;
+    private final CommentListReponseDto comment;
+
+    private CommentStreamResponse(String relatedType, int relatedNumber, int commentNumber,
+                                  CommentChangeType changeType, CommentListReponseDto comment) {
+        this.relatedType = relatedType;
+        this.relatedNumber = relatedNumber;
+        this.commentNumber = commentNumber;
+        this.changeType = changeType;
+        this.comment = comment;
+    }
+
+    public static CommentStreamResponse of(CommentChangeType changeType, CommentListReponseDto comment) {
+        return new CommentStreamResponse(comment.getRelatedType(), comment.getRelatedNumber(),
+                comment.getCommentNumber(), changeType, comment);
+    }
+
+    public static CommentStreamResponse deleted(String relatedType, int relatedNumber, int commentNumber) {
+        return new CommentStreamResponse(relatedType, relatedNumber, commentNumber, CommentChangeType.DELETED, null);
+    }
+}
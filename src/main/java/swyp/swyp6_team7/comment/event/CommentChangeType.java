@@ -0,0 +1,7 @@
+package swyp.swyp6_team7.comment.event;
+
+public enum CommentChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,70 @@
+package swyp.swyp6_team7.comment.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import swyp.swyp6_team7.comment.domain.Comment;
+
+/**
+ * 댓글 변경 이벤트<br>
+ * 트랜잭션 커밋 이후(AFTER_COMMIT) 해당 게시글의 댓글 스트림 구독자에게 전달하는 데 사용한다.<br>
+ * 댓글 번호만 담고, 구독자에게 보낼 댓글 응답은 구독자가 있는 서버에서 커밋된 값으로 만든다.
+ * (parentNumber = 답글이면 부모 댓글 번호, 아니면 0)
+ */
+@Getter
+public class CommentChangedEvent {
+
+    private final String relatedType;
+    private final int relatedNumber;
+    private final int commentNumber;
+    private final int parentNumber;
+    private final CommentChangeType changeType;
+
+    @JsonCreator
+    private CommentChangedEvent(
+            @JsonProperty("relatedType") String relatedType,
+            @JsonProperty("relatedNumber") int relatedNumber,
+            @JsonProperty("commentNumber") int commentNumber,
+            @JsonProperty("parentNumber") int parentNumber,
+            @JsonProperty("changeType") CommentChangeType changeType
+    ) {
+        this.relatedType = relatedType;
+        this.relatedNumber = relatedNumber;
+        this.commentNumber = commentNumber;
+        this.parentNumber = parentNumber;
+        this.changeType = changeType;
+    }
+
+    public static CommentChangedEvent created(Comment comment) {
+        return of(comment, CommentChangeType.CREATED);
+    }
+
+    public static CommentChangedEvent updated(Comment comment) {
+        return of(comment, CommentChangeType.UPDATED);
+    }
+
+    public static CommentChangedEvent deleted(Comment comment) {
+        return of(comment, CommentChangeType.DELETED);
+    }
+
+    private static CommentChangedEvent of(Comment comment, CommentChangeType changeType) {
+        return new CommentChangedEvent(comment.getRelatedType(), comment.getRelatedNumber(),
+                comment.getCommentNumber(), comment.getParentNumber(), changeType);
+    }
+
+    // 답글이 생성, 삭제되면 부모 댓글의 답글 수도 바뀐다
+    public boolean changesParentReplyCount() {
+        return parentNumber != 0 && changeType != CommentChangeType.UPDATED;
+    }
+
+    @Override
+    public String toString() {
+        return "CommentChangedEvent{" +
+                "relatedType='" + relatedType + '\'' +
+                ", relatedNumber=" + relatedNumber +
+                ", commentNumber=" + commentNumber +
+                ", parentNumber=" + parentNumber +
+                ", changeType=" + changeType +
+                '}';
+    }
+}
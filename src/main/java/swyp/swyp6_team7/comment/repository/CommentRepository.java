@@ -1,5 +1,6 @@
 package swyp.swyp6_team7.comment.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -7,6 +8,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import swyp.swyp6_team7.comment.domain.Comment;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,14 +24,90 @@ public interface CommentRepository extends JpaRepository<Comment, Integer> {
     @Query("SELECT c.commentNumber FROM Comment c WHERE c.relatedType = :relatedType AND c.relatedNumber = :relatedNumber")
     List<Integer> findCommentNumbersByRelatedTypeAndRelatedNumber(@Param("relatedType") String relatedType, @Param("relatedNumber") Integer relatedNumber);
 
+    // 부모 댓글 페이지 조회 (작성 일시, 댓글 번호 오름차순)
+    @Query("SELECT c FROM Comment c WHERE c.relatedType = :relatedType AND c.relatedNumber = :relatedNumber AND c.parentNumber = 0 " +
+            "ORDER BY c.regDate ASC, c.commentNumber ASC")
+    List<Comment> findRootComments(@Param("relatedType") String relatedType, @Param("relatedNumber") int relatedNumber, Pageable pageable);
+
+    // 커서(마지막으로 조회한 부모 댓글) 이후의 부모 댓글 조회
+    @Query("SELECT c FROM Comment c WHERE c.relatedType = :relatedType AND c.relatedNumber = :relatedNumber AND c.parentNumber = 0 " +
+            "AND (c.regDate > :regDate OR (c.regDate = :regDate AND c.commentNumber > :commentNumber)) " +
+            "ORDER BY c.regDate ASC, c.commentNumber ASC")
+    List<Comment> findRootCommentsAfter(
+            @Param("relatedType") String relatedType,
+            @Param("relatedNumber") int relatedNumber,
+            @Param("regDate") LocalDateTime regDate,
+            @Param("commentNumber") int commentNumber,
+            Pageable pageable
+    );
+
+    // 부모 댓글들의 답글 조회
+    @Query("SELECT c FROM Comment c WHERE c.parentNumber IN :parentNumbers ORDER BY c.regDate ASC, c.commentNumber ASC")
+    List<Comment> findRepliesByParentNumberIn(@Param("parentNumbers") Collection<Integer> parentNumbers);
+
+    // 보정 작업용 댓글 번호 순 조회
+    @Query("SELECT c FROM Comment c WHERE c.commentNumber > :commentNumber ORDER BY c.commentNumber ASC")
+    List<Comment> findCommentsAfter(@Param("commentNumber") int commentNumber, Pageable pageable);
+
+    // 부모 댓글 번호별 답글 수 조회 (row = [부모 댓글 번호, 답글 수], 답글이 없는 번호는 포함되지 않는다)
+    @Query("SELECT c.parentNumber, count(c) FROM Comment c WHERE c.parentNumber IN :parentNumbers GROUP BY c.parentNumber")
+    List<Object[]> countRepliesGroupByParentNumberIn(@Param("parentNumbers") Collection<Integer> parentNumbers);
+
+    /*
+     * 답글 수, 좋아요 수는 조회 후 수정하지 않고 단일 UPDATE 문으로 원자적으로 변경한다. (반환값은 갱신된 row 수)
+     * 영속성 컨텍스트에 남은 댓글이 이전 값을 반환하지 않도록 실행 후 비운다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.replyCount = CASE WHEN c.replyCount + :delta < 0 THEN 0 ELSE c.replyCount + :delta END " +
+            "WHERE c.commentNumber = :commentNumber")
+    int addReplyCount(@Param("commentNumber") int commentNumber, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.likeCount = CASE WHEN c.likeCount + :delta < 0 THEN 0 ELSE c.likeCount + :delta END " +
+            "WHERE c.commentNumber = :commentNumber")
+    int addLikeCount(@Param("commentNumber") int commentNumber, @Param("delta") int delta);
+
+    // 보정 작업용 (집계 이후 다른 요청이 값을 바꿨다면 갱신하지 않는다, 내용 등 다른 컬럼은 건드리지 않는다)
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = :replyCount, c.likeCount = :likeCount " +
+            "WHERE c.commentNumber = :commentNumber AND c.replyCount = :expectedReplyCount AND c.likeCount = :expectedLikeCount")
+    int overwriteCounts(
+            @Param("commentNumber") int commentNumber,
+            @Param("replyCount") int replyCount,
+            @Param("likeCount") int likeCount,
+            @Param("expectedReplyCount") int expectedReplyCount,
+            @Param("expectedLikeCount") int expectedLikeCount
+    );
+
+    // 댓글과 그 답글의 번호 조회
+    @Query("SELECT c.commentNumber FROM Comment c WHERE c.commentNumber = :commentNumber OR c.parentNumber = :commentNumber")
+    List<Integer> findThreadCommentNumbers(@Param("commentNumber") int commentNumber);
+
+    // 회원이 작성한 댓글과 회원이 작성한 부모 댓글에 달린 답글의 번호 조회
+    @Query("SELECT c.commentNumber FROM Comment c WHERE c.userNumber = :userNumber OR c.parentNumber IN " +
+            "(SELECT r.commentNumber FROM Comment r WHERE r.userNumber = :userNumber AND r.parentNumber = 0)")
+    List<Integer> findCommentNumbersByWriter(@Param("userNumber") int userNumber);
+
+    // 회원이 작성한 답글의 부모 댓글 번호별 개수 조회 (row = [부모 댓글 번호, 답글 수])
+    @Query("SELECT c.parentNumber, count(c) FROM Comment c WHERE c.userNumber = :userNumber AND c.parentNumber <> 0 GROUP BY c.parentNumber")
+    List<Object[]> countRepliesByWriterGroupByParentNumber(@Param("userNumber") int userNumber);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.commentNumber IN :commentNumbers")
+    int deleteAllByCommentNumberIn(@Param("commentNumbers") Collection<Integer> commentNumbers);
+
     boolean existsByCommentNumber(Integer commentNumber);
 
     //특정 게시글의 댓글 개수 전부 조회
     long countByRelatedTypeAndRelatedNumber(String relatedType, int relatedNumber);
 
-    @Modifying(clearAutomatically = true)
+    // 게시글 번호별 댓글 수 조회 (row = [게시글 번호, 댓글 수], 댓글이 없는 번호는 포함되지 않는다)
+    @Query("SELECT c.relatedNumber, count(c) FROM Comment c WHERE c.relatedType = :relatedType AND c.relatedNumber IN :relatedNumbers GROUP BY c.relatedNumber")
+    List<Object[]> countGroupByRelatedNumberIn(@Param("relatedType") String relatedType, @Param("relatedNumbers") Collection<Integer> relatedNumbers);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("delete from Comment c where c.relatedType = :relatedType and c.relatedNumber = :relatedNumber")
-    void deleteCommentsByRelatedTypeAndRelatedNumber(@Param("relatedType") String relatedType, @Param("relatedNumber") Integer relatedNumber);
+    int deleteCommentsByRelatedTypeAndRelatedNumber(@Param("relatedType") String relatedType, @Param("relatedNumber") Integer relatedNumber);
 
     // 답글 개수 조회
     long countByRelatedTypeAndRelatedNumberAndParentNumber(String relatedType, int relatedNumber, int parentNumber);
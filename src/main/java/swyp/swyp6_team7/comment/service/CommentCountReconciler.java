@@ -0,0 +1,121 @@
+package swyp.swyp6_team7.comment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import swyp.swyp6_team7.comment.domain.Comment;
+import swyp.swyp6_team7.comment.repository.CommentRepository;
+import swyp.swyp6_team7.likes.repository.LikeRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 댓글에 저장된 답글 수, 좋아요 수 정합성 보정<br>
+ * 두 값은 댓글 생성/삭제, 좋아요 토글 시 UPDATE 문으로 증감하며, 보정 작업은 원본 테이블에서 다시 집계해
+ * 값이 다른 댓글만 덮어쓴다. (기존 데이터의 초기값 채우기 포함)<br>
+ * 청크마다 별도 트랜잭션으로 집계해 오래된 스냅샷으로 덮어쓰지 않으며,
+ * 덮어쓰기는 조회한 값이 그대로일 때만 반영해 그 사이 커밋된 증감을 지우지 않는다. (건너뛴 댓글은 다음 실행에서 다시 확인)
+ */
+@Slf4j
+@Service
+public class CommentCountReconciler {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+    private static final String COMMENT_LIKE_TYPE = "comment";
+
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public CommentCountReconciler(
+            CommentRepository commentRepository,
+            LikeRepository likeRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 애플리케이션 시작 시 실행 (기동을 막지 않도록 별도 스레드에서 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        Thread.ofVirtual()
+                .name("comment-count-reconciler")
+                .start(this::reconcile);
+    }
+
+    // 매일 새벽 4시 40분 실행
+    @Scheduled(cron = "0 40 4 * * *", zone = "Asia/Seoul")
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("SCHEDULER::DAILY: 댓글 답글 수, 좋아요 수 보정 작업이 이미 실행 중입니다.");
+            return;
+        }
+
+        try {
+            log.info("SCHEDULER::DAILY: 댓글 답글 수, 좋아요 수 보정 작업 시작");
+
+            int lastCommentNumber = 0;
+            int checkedCount = 0;
+            int repairedCount = 0;
+            while (true) {
+                List<Comment> comments = commentRepository.findCommentsAfter(lastCommentNumber, PageRequest.of(0, RECONCILE_CHUNK_SIZE));
+                if (comments.isEmpty()) {
+                    break;
+                }
+                repairedCount += transactionTemplate.execute(status -> reconcile(comments));
+                checkedCount += comments.size();
+                lastCommentNumber = comments.get(comments.size() - 1).getCommentNumber();
+            }
+
+            log.info("SCHEDULER::DAILY: 댓글 답글 수, 좋아요 수 보정 작업 종료: checked={}, repaired={}", checkedCount, repairedCount);
+        } catch (Exception e) {
+            log.warn("SCHEDULER::DAILY: 댓글 답글 수, 좋아요 수 보정 작업 실패: error={}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 한 청크의 집계와 보정 (조회 이후 값이 바뀐 댓글은 덮어쓰지 않는다)
+    private int reconcile(List<Comment> comments) {
+        List<Integer> commentNumbers = comments.stream()
+                .map(Comment::getCommentNumber)
+                .toList();
+        Map<Integer, Integer> replyCounts = toCountMap(commentRepository.countRepliesGroupByParentNumberIn(commentNumbers));
+        Map<Integer, Integer> likeCounts = toCountMap(likeRepository.countGroupByRelatedNumberIn(COMMENT_LIKE_TYPE, commentNumbers));
+
+        int repairedCount = 0;
+        for (Comment comment : comments) {
+            int commentNumber = comment.getCommentNumber();
+            int replyCount = replyCounts.getOrDefault(commentNumber, 0);
+            int likeCount = likeCounts.getOrDefault(commentNumber, 0);
+            if (comment.getReplyCount() != replyCount || comment.getLikeCount() != likeCount) {
+                log.info("댓글 집계 값 보정: commentNumber={}, replyCount={}->{}, likeCount={}->{}",
+                        commentNumber, comment.getReplyCount(), replyCount, comment.getLikeCount(), likeCount);
+                repairedCount += commentRepository.overwriteCounts(
+                        commentNumber, replyCount, likeCount, comment.getReplyCount(), comment.getLikeCount()
+                );
+            }
+        }
+        return repairedCount;
+    }
+
+    // row = [번호, 개수]
+    private Map<Integer, Integer> toCountMap(List<Object[]> rows) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Integer) row[0], ((Long) row[1]).intValue());
+        }
+        return counts;
+    }
+}
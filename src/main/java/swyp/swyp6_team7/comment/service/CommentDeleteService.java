@@ -0,0 +1,142 @@
+package swyp.swyp6_team7.comment.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import swyp.swyp6_team7.comment.domain.Comment;
+import swyp.swyp6_team7.comment.repository.CommentRepository;
+import swyp.swyp6_team7.likes.repository.LikeRepository;
+import swyp.swyp6_team7.notification.repository.NotificationRepository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 댓글 일괄 삭제<br>
+ * 삭제 대상 댓글 번호를 한 번에 조회한 뒤 댓글 좋아요, 댓글(답글 포함)을 IN 조건 DELETE 문으로 지우므로
+ * 댓글 수와 관계없이 실행되는 쿼리 수가 일정하다. (회원 삭제 시 다른 회원 댓글의 답글 수 갱신은 부모 댓글 수만큼 실행)<br>
+ * 삭제 범위별로 삭제 row 수(comment.delete.rows)와 소요 시간(comment.delete)을 기록한다.
+ */
+@Slf4j
+@Transactional
+@Service
+public class CommentDeleteService {
+
+    private static final String METRIC_NAME = "comment.delete";
+
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final NotificationRepository notificationRepository;
+    private final MeterRegistry meterRegistry;
+
+    public CommentDeleteService(
+            CommentRepository commentRepository,
+            LikeRepository likeRepository,
+            NotificationRepository notificationRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+        this.notificationRepository = notificationRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 댓글 하나와 그 답글, 좋아요 삭제 (답글 삭제 시 부모 댓글의 답글 수 감소)
+    public DeletedRows deleteThread(Comment comment) {
+        return record("thread", () -> {
+            List<Integer> commentNumbers = commentRepository.findThreadCommentNumbers(comment.getCommentNumber());
+            DeletedRows deletedRows = deleteComments(commentNumbers, 0);
+            if (comment.getParentNumber() != 0 && deletedRows.getComments() > 0) {
+                commentRepository.addReplyCount(comment.getParentNumber(), -1);
+            }
+            return deletedRows;
+        });
+    }
+
+    // 게시글의 모든 댓글과 좋아요, 댓글 알림 삭제
+    public DeletedRows deleteAllByPost(String relatedType, int relatedNumber) {
+        return record("post", () -> {
+            List<Integer> commentNumbers = commentRepository.findCommentNumbersByRelatedTypeAndRelatedNumber(relatedType, relatedNumber);
+            int deletedNotifications = switch (relatedType) {
+                case "travel" -> notificationRepository.deleteTravelCommentNotifications(relatedNumber);
+                case "community" -> notificationRepository.deleteCommunityCommentNotifications(relatedNumber);
+                default -> throw new IllegalArgumentException("유효하지 않은 게시물 종류입니다. 관련 타입: " + relatedType);
+            };
+            return deleteComments(commentNumbers, deletedNotifications);
+        });
+    }
+
+    // 회원이 작성한 댓글(작성한 부모 댓글의 답글 포함)과 좋아요, 회원이 받은 알림 삭제
+    public DeletedRows deleteAllByUser(int userNumber) {
+        return record("user", () -> {
+            List<Integer> commentNumbers = commentRepository.findCommentNumbersByWriter(userNumber);
+            List<Object[]> repliesByParent = commentRepository.countRepliesByWriterGroupByParentNumber(userNumber);
+            int deletedNotifications = notificationRepository.deleteAllByReceiverNumber(userNumber);
+            DeletedRows deletedRows = deleteComments(commentNumbers, deletedNotifications);
+
+            // 함께 삭제된 부모 댓글은 갱신하지 않는다
+            Set<Integer> deletedNumbers = new HashSet<>(commentNumbers);
+            for (Object[] row : repliesByParent) {
+                int parentNumber = (Integer) row[0];
+                if (!deletedNumbers.contains(parentNumber)) {
+                    commentRepository.addReplyCount(parentNumber, -((Long) row[1]).intValue());
+                }
+            }
+            return deletedRows;
+        });
+    }
+
+    private DeletedRows deleteComments(List<Integer> commentNumbers, int deletedNotifications) {
+        if (commentNumbers.isEmpty()) {
+            return new DeletedRows(0, 0, deletedNotifications);
+        }
+        int deletedLikes = likeRepository.deleteAllCommentLikesByRelatedNumberIn(commentNumbers);
+        int deletedComments = commentRepository.deleteAllByCommentNumberIn(commentNumbers);
+        return new DeletedRows(deletedComments, deletedLikes, deletedNotifications);
+    }
+
+    private DeletedRows record(String scope, Supplier<DeletedRows> deletion) {
+        DeletedRows deletedRows = Timer.builder(METRIC_NAME)
+                .tag("scope", scope)
+                .register(meterRegistry)
+                .record(deletion);
+
+        countRows(scope, "comment", deletedRows.getComments());
+        countRows(scope, "like", deletedRows.getLikes());
+        countRows(scope, "notification", deletedRows.getNotifications());
+        log.info("댓글 일괄 삭제: scope={}, {}", scope, deletedRows);
+        return deletedRows;
+    }
+
+    private void countRows(String scope, String table, int rows) {
+        meterRegistry.counter(METRIC_NAME + ".rows", "scope", scope, "table", table).increment(rows);
+    }
+
+    @Getter
+    public static class DeletedRows {
+
+        private final int comments;
+        private final int likes;
+        private final int notifications;
+
+        public DeletedRows(int comments, int likes, int notifications) {
+            this.comments = comments;
+            this.likes = likes;
+            this.notifications = notifications;
+        }
+
+        @Override
+        public String toString() {
+            return "DeletedRows{" +
+                    "comments=" + comments +
+                    ", likes=" + likes +
+                    ", notifications=" + notifications +
+                    '}';
+        }
+    }
+}
@@ -2,6 +2,7 @@ package swyp.swyp6_team7.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -11,21 +12,21 @@ import org.springframework.transaction.annotation.Transactional;
 import swyp.swyp6_team7.comment.domain.Comment;
 import swyp.swyp6_team7.comment.dto.request.CommentCreateRequestDto;
 import swyp.swyp6_team7.comment.dto.request.CommentUpdateRequestDto;
+import swyp.swyp6_team7.comment.dto.response.CommentCursorPageResponse;
 import swyp.swyp6_team7.comment.dto.response.CommentDetailResponseDto;
 import swyp.swyp6_team7.comment.dto.response.CommentListReponseDto;
+import swyp.swyp6_team7.comment.event.CommentChangedEvent;
 import swyp.swyp6_team7.comment.repository.CommentRepository;
+import swyp.swyp6_team7.comment.util.CommentCursor;
 import swyp.swyp6_team7.community.domain.Community;
 import swyp.swyp6_team7.community.repository.CommunityRepository;
 import swyp.swyp6_team7.global.exception.MoingApplicationException;
-import swyp.swyp6_team7.image.repository.ImageRepository;
-import swyp.swyp6_team7.likes.dto.response.LikeReadResponseDto;
-import swyp.swyp6_team7.likes.repository.LikeRepository;
-import swyp.swyp6_team7.likes.util.LikeStatus;
-import swyp.swyp6_team7.member.entity.Users;
-import swyp.swyp6_team7.member.repository.UserRepository;
 import swyp.swyp6_team7.notification.service.CommentNotificationService;
 import swyp.swyp6_team7.travel.domain.Travel;
 import swyp.swyp6_team7.travel.repository.TravelRepository;
+import swyp.swyp6_team7.trending.domain.TrendingActivity;
+import swyp.swyp6_team7.trending.event.TrendingActivityEvent;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -37,12 +38,12 @@ import java.util.*;
 public class CommentService {
 
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
-    private final LikeRepository likeRepository;
     private final TravelRepository travelRepository;
     private final CommunityRepository communityRepository;
-    private final ImageRepository imageRepository;
+    private final CommentThreadAssembler commentThreadAssembler;
+    private final CommentDeleteService commentDeleteService;
     private final CommentNotificationService commentNotificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Create
     @Transactional
@@ -63,8 +64,13 @@ public class CommentService {
                 relatedType,
                 relatedNumber
         ));
+        if (request.getParentNumber() != 0) {
+            commentRepository.addReplyCount(request.getParentNumber(), 1);
+        }
         log.info("댓글 생성 성공 - 댓글 번호: {}, 사용자 번호: {}, 관련 타입: {}, 관련 번호: {}",
                 savedComment.getCommentNumber(), userNumber, relatedType, relatedNumber);
+        eventPublisher.publishEvent(new TrendingActivityEvent(ViewContentType.of(relatedType), relatedNumber, TrendingActivity.COMMENT));
+        eventPublisher.publishEvent(CommentChangedEvent.created(savedComment));
 
         // 댓글 알림 전송
         try {
@@ -85,13 +91,13 @@ public class CommentService {
         Comment comment = commentRepository.findByCommentNumber(commentNumber)
                 .orElseThrow(() -> new IllegalArgumentException("해당 댓글을 찾을 수 없습니다. 댓글 번호: " + commentNumber));
 
-        long likes = likeRepository.countByRelatedTypeAndRelatedNumber("comment", commentNumber);
+        long likes = comment.getLikeCount();
 
         log.info("댓글 상세 조회 성공 - 댓글 번호: {}, 좋아요 수: {}", commentNumber, likes);
         return new CommentDetailResponseDto(comment, likes);
     }
 
-    private void validateRelatedPostExists(String relatedType, int relatedNumber) {
+    public void validateRelatedPostExists(String relatedType, int relatedNumber) {
         boolean exists;
         if ("travel".equals(relatedType)) {
             exists = travelRepository.existsTravelByNumber(relatedNumber);
@@ -133,21 +139,61 @@ public class CommentService {
         return convertToResponseDtos(sortedComments, userNumber);
     }
 
-    //댓글 목록 조회 (페이징)
+    /**
+     * 댓글 목록 조회 (페이징)<br>
+     * 부모 댓글 단위로 DB에서 페이징하고, 해당 페이지 부모 댓글의 답글은 IN 쿼리 한 번으로 가져온다.<br>
+     * 한 페이지에는 부모 댓글 최대 size개와 그 답글이 모두 포함되며, totalElements는 부모 댓글 수이다.
+     */
     public Page<CommentListReponseDto> getListPage(PageRequest pageRequest, String relatedType, int relatedNumber, Integer userNumber) {
 
         validateRelatedPostExists(relatedType, relatedNumber);
 
-        List<Comment> comments = commentRepository.findByRelatedTypeAndRelatedNumber(relatedType, relatedNumber);
-        if (comments.isEmpty()) {
+        long rootCount = commentRepository.countByRelatedTypeAndRelatedNumberAndParentNumber(relatedType, relatedNumber, 0);
+        if (rootCount == 0) {
             log.info("댓글이 없습니다: relatedType={}, relatedNumber={}", relatedType, relatedNumber);
             return Page.empty();
         }
-        log.info("댓글 목록 조회: 댓글 개수={}", comments.size());
-        List<Comment> sortedComments = sortComments(comments);
 
-        List<CommentListReponseDto> responseDtos = convertToResponseDtos(sortedComments, userNumber);
-        return toPage(responseDtos, pageRequest);
+        List<Comment> rootComments = commentRepository.findRootComments(relatedType, relatedNumber, pageRequest);
+        log.info("댓글 목록 조회: 부모 댓글 개수={}, 페이지 부모 댓글 개수={}", rootCount, rootComments.size());
+
+        return new CommentThreadPage<>(getThreads(rootComments, userNumber), pageRequest, rootCount);
+    }
+
+    // 댓글 목록 조회 (커서 페이징, 부모 댓글의 작성 일시, 댓글 번호 기준)
+    public CommentCursorPageResponse<CommentListReponseDto> getListWithCursor(String cursor, int size, String relatedType, int relatedNumber, Integer userNumber) {
+
+        validateRelatedPostExists(relatedType, relatedNumber);
+
+        CommentCursor commentCursor = CommentCursor.decode(cursor);
+        PageRequest pageRequest = PageRequest.of(0, size);
+        List<Comment> rootComments = commentCursor == null
+                ? commentRepository.findRootComments(relatedType, relatedNumber, pageRequest)
+                : commentRepository.findRootCommentsAfter(relatedType, relatedNumber,
+                commentCursor.getRegDate(), commentCursor.getCommentNumber(), pageRequest);
+
+        // 가져온 개수가 size보다 작으면 마지막 페이지
+        String nextCursor = null;
+        if (!rootComments.isEmpty() && rootComments.size() == size) {
+            nextCursor = CommentCursor.of(rootComments.get(rootComments.size() - 1)).encode();
+        }
+
+        return CommentCursorPageResponse.from(getThreads(rootComments, userNumber), nextCursor);
+    }
+
+    // 부모 댓글 목록에 답글을 붙여 정렬한 뒤 응답 목록으로 변환
+    private List<CommentListReponseDto> getThreads(List<Comment> rootComments, Integer userNumber) {
+        if (rootComments.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> rootNumbers = rootComments.stream()
+                .map(Comment::getCommentNumber)
+                .toList();
+        List<Comment> comments = new ArrayList<>(rootComments);
+        comments.addAll(commentRepository.findRepliesByParentNumberIn(rootNumbers));
+
+        return convertToResponseDtos(sortComments(comments), userNumber);
     }
 
     // update
@@ -164,8 +210,10 @@ public class CommentService {
         comment.update(request.getContent());
         commentRepository.save(comment);
 
+        eventPublisher.publishEvent(CommentChangedEvent.updated(comment));
+
         // 업데이트된 댓글의 detail 리턴
-        long likes = likeRepository.countByRelatedTypeAndRelatedNumber("comment", commentNumber);
+        long likes = comment.getLikeCount();
         log.info("댓글 수정 성공 - 댓글 번호: {}, 사용자 번호: {}", commentNumber, userNumber);
 
         return new CommentDetailResponseDto(comment, likes);
@@ -180,10 +228,9 @@ public class CommentService {
         validateCommentWriterOrPostWriter(commentNumber, userNumber);
 
         try {
-            //댓글 삭제
-            deleteReplies(comment);
-            likeRepository.deleteByRelatedTypeAndRelatedNumber("comment", commentNumber);
-            commentRepository.deleteByCommentNumber(commentNumber);
+            //댓글 삭제 (답글, 좋아요 포함)
+            commentDeleteService.deleteThread(comment);
+            eventPublisher.publishEvent(CommentChangedEvent.deleted(comment));
 
             log.info("댓글 삭제 성공 - 댓글 번호: {}, 사용자 번호: {}", commentNumber, userNumber);
         } catch (Exception e) {
@@ -192,30 +239,12 @@ public class CommentService {
         }
     }
 
-    private void deleteReplies(Comment comment) {
-        List<Comment> replies = commentRepository.findByRelatedTypeAndRelatedNumberAndParentNumber(
-                comment.getRelatedType(), comment.getRelatedNumber(), comment.getCommentNumber());
-
-        for (Comment reply : replies) {
-            try {
-                commentRepository.deleteByCommentNumber(reply.getCommentNumber());
-                likeRepository.deleteByRelatedTypeAndRelatedNumber("comment", reply.getCommentNumber());
-            } catch (Exception e) {
-                log.error("답글 삭제 중 오류 발생 - 댓글 번호: {}, 오류: {}", reply.getCommentNumber(), e.getMessage());
-            }
-        }
-    }
-
-    // 특정 게시물의 모든 댓글 및 관련 데이터 삭제(댓글, 댓글에 대한 좋아요)
+    // 특정 게시물의 모든 댓글 및 관련 데이터 삭제(댓글, 댓글에 대한 좋아요, 댓글 알림)
     @Transactional
     public void deleteAllComments(String relatedType, Integer relatedNumber) {
         try {
-            // 댓글에 대한 좋아요 삭제
-            List<Integer> commentNumbers = commentRepository.findCommentNumbersByRelatedTypeAndRelatedNumber(relatedType, relatedNumber);
-            likeRepository.deleteAllCommentLikesByRelatedNumberIn(commentNumbers);
-
-            // 모든 댓글 삭제(답글 포함)
-            commentRepository.deleteCommentsByRelatedTypeAndRelatedNumber("community", relatedNumber);
+            // 댓글, 댓글에 대한 좋아요, 댓글 알림 삭제
+            commentDeleteService.deleteAllByPost(relatedType, relatedNumber);
 
         } catch (Exception e) {
             log.error("게시물의 모든 댓글 데이터 삭제 중 오류 발생: relatedType={}, relatedNumber={}", relatedType, relatedNumber);
@@ -223,29 +252,16 @@ public class CommentService {
         }
     }
 
+    // 게시글 작성자는 모든 댓글이 같으므로 한 번만 조회한다
     private List<CommentListReponseDto> convertToResponseDtos(List<Comment> comments, Integer userNumber) {
-        List<CommentListReponseDto> responseDtos = new ArrayList<>();
-        for (Comment comment : comments) { // TODO: N번 순회 안하게 수정
-            Optional<Users> user = userRepository.findByUserNumber(comment.getUserNumber());
-            String commentWriter = user.map(Users::getUserName).orElse("unknown");
-
-            String imageUrl = imageRepository.findByRelatedTypeAndRelatedNumber("profile", comment.getUserNumber())
-                    .map(img -> img.getUrl()).orElse(null);
-
-            long repliesCount = comment.getParentNumber() == 0 ?
-                    commentRepository.countByRelatedTypeAndRelatedNumberAndParentNumber(
-                            comment.getRelatedType(), comment.getRelatedNumber(), comment.getCommentNumber()) : 0;
-
-            LikeReadResponseDto likeStatus = LikeStatus.getLikeStatus(likeRepository, "comment", comment.getCommentNumber(), userNumber);
-
-            Boolean commented = getCommented(comment, userNumber);
-
-            int postWriterNumber = getPostWriterNumber(comment);
+        int postWriterNumber = getPostWriterNumber(comments.get(0));
+        return commentThreadAssembler.assemble(comments, postWriterNumber, userNumber);
+    }
 
-            responseDtos.add(CommentListReponseDto.fromEntity(comment, commentWriter, repliesCount,
-                    likeStatus.getTotalLikes(), likeStatus.isLiked(), postWriterNumber, imageUrl, commented));
-        }
-        return responseDtos;
+    // 댓글 스트림 구독자 공통 응답 (좋아요 여부, 답글 작성 여부 등 조회자별 값은 포함하지 않는다, 이미 삭제된 댓글이면 empty)
+    public Optional<CommentListReponseDto> getStreamComment(int commentNumber) {
+        return commentRepository.findByCommentNumber(commentNumber)
+                .map(comment -> convertToResponseDtos(List.of(comment), null).get(0));
     }
 
     //댓글 작성자인지 확인
@@ -332,36 +348,28 @@ public class CommentService {
         return finalSortedComments;
     }
 
-    //Page 객체 생성
-    private Page<CommentListReponseDto> toPage(List<CommentListReponseDto> responses, Pageable pageable) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), responses.size());
-
-        if (start > end) {
-            start = end;
-        }
-        return new PageImpl<>(responses.subList(start, end), pageable, responses.size());
-    }
+    /**
+     * 부모 댓글 단위로 페이징한 Page<br>
+     * 답글이 함께 담기므로 content 개수가 페이지 크기보다 클 수 있어,
+     * 전체 개수를 content 개수로 보정하는 PageImpl 동작 대신 부모 댓글 수를 그대로 사용한다.
+     */
+    private static class CommentThreadPage<T> extends PageImpl<T> {
 
-    //답글 작성 여부 가져오기
-    private Boolean getCommented(Comment comment, Integer userNumber) {
+        private final long rootCount;
 
-        if (userNumber == null) {
-            return false;
+        CommentThreadPage(List<T> content, Pageable pageable, long rootCount) {
+            super(content, pageable, rootCount);
+            this.rootCount = rootCount;
         }
 
-        //나의 자식 댓글들 조회
-        List<Comment> childComments = commentRepository.findByRelatedTypeAndRelatedNumberAndParentNumber(
-                comment.getRelatedType(), comment.getRelatedNumber(), comment.getCommentNumber());
-
-        //자식 답글들을 순회하며 조회 중인 유저 번호와 일치하는지 확인
-        for (Comment childComment : childComments) {
-            if (childComment.getUserNumber() == userNumber) {
-                //하나라도 일치할 경우 commented를 true하고 for문 빠져나오기
-                return true;
-            }
+        @Override
+        public long getTotalElements() {
+            return rootCount;
         }
 
-        return false;
+        @Override
+        public int getTotalPages() {
+            return getSize() == 0 ? 1 : (int) Math.ceil((double) rootCount / getSize());
+        }
     }
-}
\ No newline at end of file
+}
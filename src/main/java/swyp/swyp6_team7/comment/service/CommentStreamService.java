@@ -0,0 +1,313 @@
+package swyp.swyp6_team7.comment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import swyp.swyp6_team7.comment.dto.response.CommentStreamResponse;
+import swyp.swyp6_team7.comment.event.CommentChangeType;
+import swyp.swyp6_team7.comment.event.CommentChangedEvent;
+import swyp.swyp6_team7.global.exception.MoingApplicationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글별 댓글 실시간 스트림 (SSE)<br>
+ * 댓글 생성/수정/삭제 이벤트(댓글 번호)를 커밋 이후 Redis pub/sub(comment-stream 채널)으로 전파하고,
+ * 각 서버는 자신에게 해당 게시글 구독자가 있을 때만 커밋된 댓글을 조회해 응답을 만들어 전달한다.
+ * 답글이 생성, 삭제되면 바뀐 답글 수를 부모 댓글 수정(UPDATED)으로 함께 전달한다.<br>
+ * 연결마다 크기가 제한된 전송 큐와 virtual thread 전송 작업자를 두어 느린 클라이언트가 다른 연결의 전달을 막지 않는다.
+ * 큐가 가득 찬 연결은 종료하며, 클라이언트는 재연결 후 목록 조회 API로 다시 불러온다.<br>
+ * 프록시의 유휴 연결 종료를 막고 끊어진 연결을 정리하기 위해 HEARTBEAT_INTERVAL_SECONDS마다 SSE 주석을 보낸다.
+ */
+@Slf4j
+@Service
+public class CommentStreamService implements MessageListener {
+
+    private static final ChannelTopic COMMENT_STREAM_TOPIC = new ChannelTopic("comment-stream");
+    private static final String METRIC_NAME = "comment.stream";
+    private static final String EVENT_NAME = "comment";
+    private static final long EMITTER_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final int MAX_CONNECTIONS = 10_000;
+    private static final int CONNECTION_QUEUE_CAPACITY = 100;
+    private static final long HEARTBEAT_INTERVAL_SECONDS = 15;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final CommentService commentService;
+
+    // key = {relatedType}:{relatedNumber}
+    private final ConcurrentHashMap<String, Set<CommentStreamConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Counter publishedCounter;
+    private final Counter deliveredCounter;
+    private final Counter overflowCounter;
+
+    public CommentStreamService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            ObjectMapper objectMapper,
+            CommentService commentService,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.commentService = commentService;
+        this.publishedCounter = Counter.builder(METRIC_NAME + ".events")
+                .tag("result", "published")
+                .register(meterRegistry);
+        this.deliveredCounter = Counter.builder(METRIC_NAME + ".events")
+                .tag("result", "delivered")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder(METRIC_NAME + ".events")
+                .tag("result", "overflow")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".connections", connectionCount, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribeChannel() {
+        redisMessageListenerContainer.addMessageListener(this, COMMENT_STREAM_TOPIC);
+    }
+
+    // 게시글 댓글 스트림 연결 (게시글 존재 여부는 호출하는 쪽에서 검증)
+    public SseEmitter subscribe(String relatedType, int relatedNumber) {
+        if (connectionCount.incrementAndGet() > MAX_CONNECTIONS) {
+            connectionCount.decrementAndGet();
+            log.warn("댓글 스트림 연결 수 초과: relatedType={}, relatedNumber={}", relatedType, relatedNumber);
+            throw new MoingApplicationException("실시간 댓글 연결이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        String key = getStreamKey(relatedType, relatedNumber);
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        CommentStreamConnection connection = new CommentStreamConnection(key, emitter);
+
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
+
+        connections.compute(key, (k, subscribers) -> {
+            Set<CommentStreamConnection> result = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            result.add(connection);
+            return result;
+        });
+        connection.start();
+        // 연결 직후 응답 헤더가 바로 전달되도록 첫 이벤트를 보낸다
+        connection.offer(SseEmitter.event().name("connected").data(key));
+        log.debug("댓글 스트림 연결: key={}, connections={}", key, connectionCount.get());
+        return emitter;
+    }
+
+    // 커밋된 댓글 변경을 모든 서버에 전파 (Redis 장애 시 이 서버의 구독자에게만 전달)
+    @TransactionalEventListener
+    public void handleCommentChanged(CommentChangedEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (Exception e) {
+            log.warn("댓글 스트림 메시지 직렬화 실패: event={}, error={}", event, e.getMessage());
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(COMMENT_STREAM_TOPIC.getTopic(), payload);
+            publishedCounter.increment();
+        } catch (Exception e) {
+            log.warn("Redis: 댓글 스트림 메시지 전파 실패: event={}, error={}", event, e.getMessage());
+            deliverSafely(event);
+        }
+    }
+
+    // 다른 서버(또는 자신)가 전파한 댓글 변경 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        CommentChangedEvent event;
+        try {
+            event = objectMapper.readValue(payload, CommentChangedEvent.class);
+        } catch (Exception e) {
+            log.warn("잘못된 댓글 스트림 메시지 수신: message={}", payload);
+            return;
+        }
+
+        deliverSafely(event);
+    }
+
+    // 연결 유지용 heartbeat (15초 주기 실행, 큐가 찬 연결은 건너뛴다)
+    @Scheduled(fixedDelay = HEARTBEAT_INTERVAL_SECONDS, initialDelay = HEARTBEAT_INTERVAL_SECONDS, timeUnit = TimeUnit.SECONDS)
+    public void sendHeartbeats() {
+        for (Set<CommentStreamConnection> subscribers : connections.values()) {
+            for (CommentStreamConnection connection : subscribers) {
+                connection.offer(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    // 서버 종료 시 모든 연결 종료 (클라이언트는 다른 서버로 재연결한다)
+    @PreDestroy
+    public void closeAll() {
+        log.info("댓글 스트림 종료: connections={}", connectionCount.get());
+        for (Set<CommentStreamConnection> subscribers : connections.values()) {
+            for (CommentStreamConnection connection : subscribers) {
+                connection.complete();
+            }
+        }
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    // 응답 생성 중 DB 오류가 댓글 요청이나 메시지 수신 스레드로 전파되지 않도록 로그만 남긴다
+    private void deliverSafely(CommentChangedEvent event) {
+        try {
+            deliver(event);
+        } catch (Exception e) {
+            log.warn("댓글 스트림 메시지 전달 실패: event={}, error={}", event, e.getMessage());
+        }
+    }
+
+    // 이 서버에 게시글 구독자가 있을 때만 커밋된 댓글로 응답을 만든다 (연결 수와 관계없이 한 번만 조회)
+    private void deliver(CommentChangedEvent event) {
+        String key = getStreamKey(event.getRelatedType(), event.getRelatedNumber());
+        if (!connections.containsKey(key)) {
+            return;
+        }
+
+        if (event.getChangeType() == CommentChangeType.DELETED) {
+            deliver(key, CommentStreamResponse.deleted(event.getRelatedType(), event.getRelatedNumber(), event.getCommentNumber()));
+        } else {
+            // 그 사이 삭제된 댓글은 삭제 이벤트로 전달되므로 건너뛴다
+            commentService.getStreamComment(event.getCommentNumber())
+                    .ifPresent(comment -> deliver(key, CommentStreamResponse.of(event.getChangeType(), comment)));
+        }
+
+        if (event.changesParentReplyCount()) {
+            commentService.getStreamComment(event.getParentNumber())
+                    .ifPresent(parent -> deliver(key, CommentStreamResponse.of(CommentChangeType.UPDATED, parent)));
+        }
+    }
+
+    private void deliver(String key, CommentStreamResponse response) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(response);
+        } catch (Exception e) {
+            log.warn("댓글 스트림 응답 직렬화 실패: key={}, commentNumber={}, error={}", key, response.getCommentNumber(), e.getMessage());
+            return;
+        }
+
+        Set<CommentStreamConnection> subscribers = connections.get(key);
+        if (subscribers == null) {
+            return;
+        }
+        for (CommentStreamConnection connection : subscribers) {
+            if (connection.offer(SseEmitter.event().name(EVENT_NAME).data(payload, MediaType.APPLICATION_JSON))) {
+                deliveredCounter.increment();
+            } else {
+                // 전송이 밀린 연결은 끊고 클라이언트가 다시 불러오게 한다
+                overflowCounter.increment();
+                log.info("댓글 스트림 전송 큐 초과로 연결 종료: key={}", key);
+                connection.complete();
+            }
+        }
+    }
+
+    private void removeConnection(String key, CommentStreamConnection connection) {
+        connections.computeIfPresent(key, (k, subscribers) -> {
+            subscribers.remove(connection);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        connectionCount.decrementAndGet();
+        log.debug("댓글 스트림 연결 해제: key={}, connections={}", key, connectionCount.get());
+    }
+
+    private String getStreamKey(String relatedType, int relatedNumber) {
+        return relatedType + ":" + relatedNumber;
+    }
+
+    /**
+     * SSE 연결 하나의 전송 큐와 전송 작업자<br>
+     * SseEmitter.send는 클라이언트가 느리면 블로킹되므로 전용 virtual thread에서만 호출한다.
+     */
+    private class CommentStreamConnection {
+
+        private final String key;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(CONNECTION_QUEUE_CAPACITY);
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private Thread sender;
+
+        CommentStreamConnection(String key, SseEmitter emitter) {
+            this.key = key;
+            this.emitter = emitter;
+        }
+
+        void start() {
+            sender = Thread.ofVirtual()
+                    .name("comment-stream-sender")
+                    .start(this::sendLoop);
+        }
+
+        boolean offer(SseEmitter.SseEventBuilder event) {
+            return !closed.get() && queue.offer(event);
+        }
+
+        private void sendLoop() {
+            try {
+                while (!closed.get()) {
+                    emitter.send(queue.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // 클라이언트 연결이 끊긴 경우
+                log.debug("댓글 스트림 전송 실패: error={}", e.getMessage());
+                complete();
+            }
+        }
+
+        // 응답을 끝내고 연결 정리
+        void complete() {
+            try {
+                emitter.complete();
+            } catch (Exception e) {
+                log.debug("댓글 스트림 종료 중 오류: error={}", e.getMessage());
+            }
+            close();
+        }
+
+        // 연결 정리 (SseEmitter 완료, 시간 초과, 오류 콜백에서도 호출되므로 한 번만 수행)
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                if (sender != null) {
+                    sender.interrupt();
+                }
+                removeConnection(key, this);
+            }
+        }
+    }
+}
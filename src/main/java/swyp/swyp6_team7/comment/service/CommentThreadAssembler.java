@@ -0,0 +1,92 @@
+package swyp.swyp6_team7.comment.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import swyp.swyp6_team7.comment.domain.Comment;
+import swyp.swyp6_team7.comment.dto.response.CommentListReponseDto;
+import swyp.swyp6_team7.image.domain.Image;
+import swyp.swyp6_team7.image.repository.ImageRepository;
+import swyp.swyp6_team7.likes.repository.LikeRepository;
+import swyp.swyp6_team7.member.entity.Users;
+import swyp.swyp6_team7.member.repository.UserRepository;
+
+import java.util.*;
+
+/**
+ * 정렬된 댓글 목록을 응답 목록으로 조립한다.<br>
+ * 댓글 수와 관계없이 작성자 이름, 프로필 이미지, 좋아요 여부를 IN 쿼리 한 번씩으로 조회하고,
+ * 답글 수와 좋아요 수는 댓글에 저장된 값을 사용한다. (집계 쿼리 없음)<br>
+ * 답글 작성 여부는 이미 조회한 댓글 목록에서 계산하므로, comments에는 포함된 부모 댓글의 답글이 모두 들어 있어야 한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class CommentThreadAssembler {
+
+    private static final String PROFILE_IMAGE_TYPE = "profile";
+    private static final String COMMENT_LIKE_TYPE = "comment";
+
+    private final UserRepository userRepository;
+    private final ImageRepository imageRepository;
+    private final LikeRepository likeRepository;
+
+    /**
+     * @param comments         sortComments로 정렬된 한 게시글의 댓글 목록
+     * @param postWriterNumber 게시글 작성자 회원 번호
+     * @param userNumber       조회 요청자 회원 번호 (비로그인 시 null)
+     */
+    public List<CommentListReponseDto> assemble(List<Comment> comments, int postWriterNumber, Integer userNumber) {
+        if (comments.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<Integer> writerNumbers = new HashSet<>();
+        List<Integer> commentNumbers = new ArrayList<>(comments.size());
+        Set<Integer> commentedParents = new HashSet<>();
+        for (Comment comment : comments) {
+            writerNumbers.add(comment.getUserNumber());
+            commentNumbers.add(comment.getCommentNumber());
+            if (comment.getParentNumber() != 0 && userNumber != null && comment.getUserNumber() == userNumber) {
+                commentedParents.add(comment.getParentNumber());
+            }
+        }
+
+        Map<Integer, String> writerNames = getWriterNames(writerNumbers);
+        Map<Integer, String> profileImageUrls = getProfileImageUrls(writerNumbers);
+        Set<Integer> likedComments = userNumber == null
+                ? Collections.emptySet()
+                : new HashSet<>(likeRepository.findLikedRelatedNumbers(COMMENT_LIKE_TYPE, userNumber, commentNumbers));
+
+        List<CommentListReponseDto> responseDtos = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            int commentNumber = comment.getCommentNumber();
+
+            responseDtos.add(CommentListReponseDto.fromEntity(
+                    comment,
+                    writerNames.getOrDefault(comment.getUserNumber(), "unknown"),
+                    comment.getReplyCount(),
+                    comment.getLikeCount(),
+                    likedComments.contains(commentNumber),
+                    postWriterNumber,
+                    profileImageUrls.get(comment.getUserNumber()),
+                    commentedParents.contains(commentNumber)
+            ));
+        }
+        return responseDtos;
+    }
+
+    private Map<Integer, String> getWriterNames(Set<Integer> writerNumbers) {
+        Map<Integer, String> writerNames = new HashMap<>();
+        for (Users user : userRepository.findAllById(writerNumbers)) {
+            writerNames.put(user.getUserNumber(), user.getUserName());
+        }
+        return writerNames;
+    }
+
+    private Map<Integer, String> getProfileImageUrls(Set<Integer> writerNumbers) {
+        Map<Integer, String> profileImageUrls = new HashMap<>();
+        for (Image image : imageRepository.findAllByRelatedTypeAndRelatedNumberIn(PROFILE_IMAGE_TYPE, writerNumbers)) {
+            profileImageUrls.putIfAbsent(image.getRelatedNumber(), image.getUrl());
+        }
+        return profileImageUrls;
+    }
+}
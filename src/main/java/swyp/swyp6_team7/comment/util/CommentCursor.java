@@ -0,0 +1,77 @@
+package swyp.swyp6_team7.comment.util;
+
+import lombok.Getter;
+import swyp.swyp6_team7.comment.domain.Comment;
+import swyp.swyp6_team7.global.exception.MoingApplicationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글 목록 No-Offset 페이징 커서<br>
+ * 마지막으로 조회한 부모 댓글의 정렬 키 (regDate, commentNumber)를 담으며, 클라이언트에는 불투명한 문자열로 전달한다.
+ */
+@Getter
+public class CommentCursor {
+
+    private static final String DELIMITER = ".";
+    private static final int PART_COUNT = 2;
+
+    private final int commentNumber;
+    private final LocalDateTime regDate;
+
+    private CommentCursor(int commentNumber, LocalDateTime regDate) {
+        this.commentNumber = commentNumber;
+        this.regDate = regDate;
+    }
+
+    public static CommentCursor of(Comment comment) {
+        return new CommentCursor(comment.getCommentNumber(), comment.getRegDate());
+    }
+
+    public String encode() {
+        return String.join(DELIMITER,
+                encodePart(String.valueOf(commentNumber)),
+                encodePart(regDate.toString())
+        );
+    }
+
+    // 커서가 주어지지 않으면 null (첫 페이지)
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = cursor.split("\\" + DELIMITER, -1);
+            if (parts.length != PART_COUNT) {
+                throw new IllegalArgumentException("cursor part count mismatch");
+            }
+            return new CommentCursor(
+                    Integer.parseInt(decodePart(parts[0])),
+                    LocalDateTime.parse(decodePart(parts[1]))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new MoingApplicationException("잘못된 커서입니다.");
+        }
+    }
+
+    private static String encodePart(String value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(String value) {
+        return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "CommentCursor{" +
+                "commentNumber=" + commentNumber +
+                ", regDate=" + regDate +
+                '}';
+    }
+}
@@ -23,6 +23,8 @@ import swyp.swyp6_team7.global.utils.ClientIpAddressUtil;
 import swyp.swyp6_team7.global.utils.api.ApiResponse;
 import swyp.swyp6_team7.global.utils.auth.RequireUserNumber;
 
+import java.util.List;
+
 @Slf4j
 @RequiredArgsConstructor
 @RestController
@@ -98,6 +100,15 @@ public class CommunityController {
         }
     }
 
+    //인기 게시물 목록 (최근 활동 기준)
+    @GetMapping("/trending")
+    public ApiResponse<List<CommunityListResponseDto>> getTrendingList(
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequireUserNumber Integer userNumber
+    ) {
+        return ApiResponse.success(communityListService.getTrendingCommunityList(Math.min(size, 50), userNumber));
+    }
+
     // 커뮤니티 게시글 단건 상세 조회
     @GetMapping("/posts/{postNumber}")
     public ApiResponse<CommunityDetailResponseDto> getDetail(
@@ -12,5 +12,6 @@ public interface CommunityCustomRepository {
 
     List<CommunitySearchDto> search(CommunitySearchCondition searchCondition);
     List<CommunitySearchDto> getMyList(CommunitySearchSortingType sortingType, int userNumber);
+    List<CommunitySearchDto> findAllByPostNumbers(List<Integer> postNumbers);
     
 }
@@ -167,4 +167,41 @@ public class CommunityCustomRepositoryImpl implements CommunityCustomRepository
                 ))
                 .toList();
     }
+
+    // 주어진 게시글 번호 순서 그대로 조회 (인기 게시글 목록용)
+    @Override
+    public List<CommunitySearchDto> findAllByPostNumbers(List<Integer> postNumbers) {
+        if (postNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, CommunitySearchDto> found = new HashMap<>();
+        queryFactory
+                .select(
+                        community,
+                        categories.categoryName,
+                        like.count().coalesce(0L)
+                )
+                .from(community)
+                .leftJoin(categories).on(community.categoryNumber.eq(categories.categoryNumber))
+                .leftJoin(like).on(community.postNumber.eq(like.relatedNumber)
+                        .and(like.relatedType.eq("community")))
+                .where(community.postNumber.in(postNumbers))
+                .groupBy(community.postNumber, categories.categoryName)
+                .fetch()
+                .forEach(tuple -> found.put(tuple.get(community).getPostNumber(), new CommunitySearchDto(
+                        tuple.get(community),
+                        tuple.get(categories.categoryName),
+                        tuple.get(like.count().coalesce(0L))
+                )));
+
+        List<CommunitySearchDto> content = new ArrayList<>(found.size());
+        for (Integer postNumber : postNumbers) {
+            CommunitySearchDto dto = found.get(postNumber);
+            if (dto != null) {
+                content.add(dto);
+            }
+        }
+        return content;
+    }
 }
@@ -18,20 +18,33 @@ import swyp.swyp6_team7.community.dto.response.CommunitySearchDto;
 import swyp.swyp6_team7.community.repository.CommunityCustomRepository;
 import swyp.swyp6_team7.community.repository.CommunityRepository;
 import swyp.swyp6_team7.community.util.CommunitySearchSortingType;
+import swyp.swyp6_team7.image.domain.Image;
 import swyp.swyp6_team7.image.repository.ImageRepository;
 import swyp.swyp6_team7.likes.dto.response.LikeReadResponseDto;
 import swyp.swyp6_team7.likes.repository.LikeRepository;
 import swyp.swyp6_team7.likes.util.LikeStatus;
+import swyp.swyp6_team7.member.entity.Users;
 import swyp.swyp6_team7.member.repository.UserRepository;
+import swyp.swyp6_team7.trending.service.TrendingService;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
 import swyp.swyp6_team7.category.domain.Category;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommunityListService {
 
+    private static final String COMMUNITY_TYPE = "community";
+    private static final int THUMBNAIL_ORDER = 1;
 
     private final CommunityCustomRepository communityCustomRepository;
     private final UserRepository userRepository;
@@ -39,6 +52,7 @@ public class CommunityListService {
     private final CommentRepository commentRepository;
     private final LikeRepository likeRepository;
     private final ImageRepository imageRepository;
+    private final TrendingService trendingService;
 
     @Transactional(readOnly = true)
     public Page<CommunityListResponseDto> getCommunityList(PageRequest pageRequest, CommunitySearchCondition searchCondition, Integer userNumber) {
@@ -49,47 +63,117 @@ public class CommunityListService {
             log.info("검색된 게시물 수: {}", searchedCommunities.size());
 
             List<CommunityListResponseDto> responseDtos = searchedCommunities.stream()
-                    .map(dto -> {
-                        try {
-                            Community community = dto.getCommunity();
+                    .map(dto -> toListResponse(dto, userNumber))
+                    .toList();
 
-                            String postWriter = userRepository.findByUserNumber(community.getUserNumber())
-                                    .map(user -> user.getUserName())
-                                    .orElse("알 수 없는 사용자");
+            return toPage(responseDtos, pageRequest);
+        } catch (Exception e) {
+            log.error("게시물 목록 조회 중 오류 발생: searchCondition={}, userNumber={}", searchCondition, userNumber, e);
+            throw new RuntimeException("게시물 목록 조회에 실패했습니다.", e);
+        }
+    }
 
-                            Integer categoryNumber = community.getCategoryNumber(); // null 가능
-                            String categoryName = Optional.ofNullable(categoryNumber)
-                                    .flatMap(categoryRepository::findByCategoryNumber)
-                                    .map(Category::getCategoryName)
-                                    .orElse(null);
+    // 인기 점수가 높은 순서로 게시글 목록 조회
+    // (삭제된 게시글은 삭제 시 인기 목록에서 제외되므로 조회되지 않은 게시글은 건너뛴다)
+    @Transactional(readOnly = true)
+    public List<CommunityListResponseDto> getTrendingCommunityList(int size, Integer userNumber) {
+        List<Integer> postNumbers = trendingService.getTrendingNumbers(ViewContentType.COMMUNITY, size);
+        List<CommunitySearchDto> communities = communityCustomRepository.findAllByPostNumbers(postNumbers);
+        if (communities.isEmpty()) {
+            return List.of();
+        }
 
-                            long commentCount = commentRepository.countByRelatedTypeAndRelatedNumber("community", community.getPostNumber());
+        // 카테고리명, 좋아요 수는 게시글 조회 시 함께 가져오고, 나머지는 게시글 번호 목록으로 한 번씩만 조회
+        List<Integer> foundNumbers = communities.stream()
+                .map(dto -> dto.getCommunity().getPostNumber())
+                .toList();
+        Set<Integer> writerNumbers = communities.stream()
+                .map(dto -> dto.getCommunity().getUserNumber())
+                .collect(Collectors.toSet());
 
-                            LikeReadResponseDto likeStatus = (userNumber != null)
-                                    ? LikeStatus.getLikeStatus(likeRepository, "community", community.getPostNumber(), userNumber)
-                                    : new LikeReadResponseDto("community",community.getPostNumber(),false, 0);
-                            long likeCount = likeStatus.getTotalLikes();
-                            boolean liked = likeStatus.isLiked();
+        Map<Integer, String> writerNames = getWriterNames(writerNumbers);
+        Map<Integer, Long> commentCounts = toCountMap(commentRepository.countGroupByRelatedNumberIn(COMMUNITY_TYPE, foundNumbers));
+        Map<Integer, String> thumbnailUrls = getThumbnailUrls(foundNumbers);
+        Set<Integer> likedPosts = userNumber == null
+                ? Collections.emptySet()
+                : new HashSet<>(likeRepository.findLikedRelatedNumbers(COMMUNITY_TYPE, userNumber, foundNumbers));
 
-                            String thumbnailUrl = imageRepository.findByRelatedTypeAndRelatedNumberAndOrder("community", community.getPostNumber(), 1)
-                                    .map(image -> image.getUrl())
-                                    .orElse(null);
+        List<CommunityListResponseDto> responseDtos = new ArrayList<>(communities.size());
+        for (CommunitySearchDto dto : communities) {
+            Community community = dto.getCommunity();
+            int postNumber = community.getPostNumber();
 
-                            return CommunityListResponseDto.fromEntity(
-                                    community, postWriter, categoryName,
-                                    commentCount, likeCount, liked, thumbnailUrl
-                            );
-                        } catch (Exception e) {
-                            log.error("게시물 응답 생성 중 오류 발생: dto={}", dto, e);
-                            throw new RuntimeException("게시물 응답 생성 중 오류가 발생했습니다.", e);
-                        }
-                    })
-                    .toList();
+            responseDtos.add(CommunityListResponseDto.fromEntity(
+                    community,
+                    writerNames.getOrDefault(community.getUserNumber(), "알 수 없는 사용자"),
+                    dto.getCategoryName(),
+                    commentCounts.getOrDefault(postNumber, 0L),
+                    dto.getLikeCount(),
+                    likedPosts.contains(postNumber),
+                    thumbnailUrls.get(postNumber)
+            ));
+        }
+        return responseDtos;
+    }
 
-            return toPage(responseDtos, pageRequest);
+    private Map<Integer, String> getWriterNames(Set<Integer> writerNumbers) {
+        Map<Integer, String> writerNames = new HashMap<>();
+        for (Users user : userRepository.findAllById(writerNumbers)) {
+            writerNames.put(user.getUserNumber(), user.getUserName());
+        }
+        return writerNames;
+    }
+
+    private Map<Integer, String> getThumbnailUrls(List<Integer> postNumbers) {
+        Map<Integer, String> thumbnailUrls = new HashMap<>();
+        for (Image image : imageRepository.findAllByRelatedTypeAndOrderAndRelatedNumberIn(COMMUNITY_TYPE, THUMBNAIL_ORDER, postNumbers)) {
+            thumbnailUrls.putIfAbsent(image.getRelatedNumber(), image.getUrl());
+        }
+        return thumbnailUrls;
+    }
+
+    // row = [게시글 번호, 개수]
+    private Map<Integer, Long> toCountMap(List<Object[]> rows) {
+        Map<Integer, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private CommunityListResponseDto toListResponse(CommunitySearchDto dto, Integer userNumber) {
+        try {
+            Community community = dto.getCommunity();
+
+            String postWriter = userRepository.findByUserNumber(community.getUserNumber())
+                    .map(user -> user.getUserName())
+                    .orElse("알 수 없는 사용자");
+
+            Integer categoryNumber = community.getCategoryNumber(); // null 가능
+            String categoryName = Optional.ofNullable(categoryNumber)
+                    .flatMap(categoryRepository::findByCategoryNumber)
+                    .map(Category::getCategoryName)
+                    .orElse(null);
+
+            long commentCount = commentRepository.countByRelatedTypeAndRelatedNumber("community", community.getPostNumber());
+
+            LikeReadResponseDto likeStatus = (userNumber != null)
+                    ? LikeStatus.getLikeStatus(likeRepository, "community", community.getPostNumber(), userNumber)
+                    : new LikeReadResponseDto("community",community.getPostNumber(),false, 0);
+            long likeCount = likeStatus.getTotalLikes();
+            boolean liked = likeStatus.isLiked();
+
+            String thumbnailUrl = imageRepository.findByRelatedTypeAndRelatedNumberAndOrder("community", community.getPostNumber(), 1)
+                    .map(image -> image.getUrl())
+                    .orElse(null);
+
+            return CommunityListResponseDto.fromEntity(
+                    community, postWriter, categoryName,
+                    commentCount, likeCount, liked, thumbnailUrl
+            );
         } catch (Exception e) {
-            log.error("게시물 목록 조회 중 오류 발생: searchCondition={}, userNumber={}", searchCondition, userNumber, e);
-            throw new RuntimeException("게시물 목록 조회에 실패했습니다.", e);
+            log.error("게시물 응답 생성 중 오류 발생: dto={}", dto, e);
+            throw new RuntimeException("게시물 응답 생성 중 오류가 발생했습니다.", e);
         }
     }
 
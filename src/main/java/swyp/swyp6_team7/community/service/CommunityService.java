@@ -2,6 +2,7 @@ package swyp.swyp6_team7.community.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import swyp.swyp6_team7.category.domain.Category;
@@ -20,6 +21,8 @@ import swyp.swyp6_team7.likes.repository.LikeRepository;
 import swyp.swyp6_team7.likes.util.LikeStatus;
 import swyp.swyp6_team7.member.entity.Users;
 import swyp.swyp6_team7.member.repository.UserRepository;
+import swyp.swyp6_team7.trending.event.TrendingContentDeletedEvent;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -37,6 +40,7 @@ public class CommunityService {
     private final LikeRepository likeRepository;
     private final ImageService imageService;
     private final CommentService commentService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     //게시글 작성
@@ -197,6 +201,7 @@ public class CommunityService {
 
             // 게시글 삭제
             communityRepository.delete(community);
+            eventPublisher.publishEvent(new TrendingContentDeletedEvent(ViewContentType.COMMUNITY, postNumber));
             log.info("커뮤니티 게시글 삭제 완료: postNumber={}", postNumber);
 
         } catch (Exception e) {
@@ -2,31 +2,27 @@ package swyp.swyp6_team7.community.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import swyp.swyp6_team7.community.repository.CommunityRepository;
+import swyp.swyp6_team7.viewcount.dao.ViewCountDao;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+import swyp.swyp6_team7.viewcount.service.UniqueViewService;
+import swyp.swyp6_team7.viewcount.service.ViewCountEngine;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * 조회수 key = view:community:{communityNumber}, value = String type 조회수<br>
+ * 조회여부 key = viewed:community:{communityNumber}(SET) 또는 viewed-hll:community:{communityNumber}(HyperLogLog), UniqueViewService 참고
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class CommunityViewCountService {
 
-    /**
-     * 조회수 key = view:community:{communityNumber}, value = String type 조회수<br>
-     * 조회여부 key = viewed:community:{communityNumber}, value = Set of userIdentifier
-     */
-    private static final String VIEW_COUNT_KEY_PREFIX = "view:community:";
-    private static final String VIEWED_INFO_KEY_PREFIX = "viewed:community:";
-
-    private final RedisTemplate<String, String> redisTemplate;
-    private final CommunityRepository communityRepository;
+    private final UniqueViewService uniqueViewService;
+    private final ViewCountEngine viewCountEngine;
+    private final ViewCountDao viewCountDao;
 
     // 조회수 update
     public void updateViewCount(Integer postNumber, String userIdentifier) {
@@ -35,35 +31,8 @@ public class CommunityViewCountService {
             throw new IllegalArgumentException("잘못된 user Identifier 입니다.");
         }
 
-        String viewedInfoKey = VIEWED_INFO_KEY_PREFIX + postNumber.toString();
-        if (!isViewed(viewedInfoKey, userIdentifier)) {
-            addUserIdentifierToViewedSet(viewedInfoKey, userIdentifier); // viewed set에 userIdentifier 추가
-            increaseViewCount(postNumber); // 조회수 증가
-        }
-    }
-
-    // 조회 여부 확인
-    private boolean isViewed(String viewedInfoKey, String userIdentifier) {
-        return redisTemplate.opsForSet().isMember(viewedInfoKey, userIdentifier);
-    }
-
-    // 사용자 조회 정보 추가
-    private void addUserIdentifierToViewedSet(String viewedInfoKey, String userIdentifier) {
-        redisTemplate.opsForSet().add(viewedInfoKey, userIdentifier);
-        redisTemplate.expire(viewedInfoKey, 24, TimeUnit.HOURS); // TTL 1일
-        log.debug("Redis: 사용자 조회 정보 추가: viewedInfoKey={}, userIdentifier={}", viewedInfoKey, userIdentifier);
-    }
-
-    // 특정 여행 조회수 1 증가
-    private void increaseViewCount(Integer postNumber) {
-        String key = VIEW_COUNT_KEY_PREFIX + postNumber.toString();
-
-        String viewCount = redisTemplate.opsForValue().get(key);
-        if (viewCount == null) {
-            redisTemplate.opsForValue().set(key, "0");
-            log.info("Redis: Set new viewCount data: key={}", key);
-        }
-        redisTemplate.opsForValue().increment(key);
+        // 조회 기록 추가와 조회수 증가를 한 번에 처리 (처음 조회한 경우에만 조회수 증가)
+        viewCountEngine.recordView(ViewContentType.COMMUNITY, postNumber, userIdentifier);
     }
 
     // 조회 사용자 기록 삭제 작업 (매일 새벽 4시 실행)
@@ -71,49 +40,28 @@ public class CommunityViewCountService {
     public void deleteViewInfo() {
         log.info("SCHEDULER::DAILY: Redis 사용자 조회 기록 삭제 작업 시작");
 
-        Set<String> keys = redisTemplate.keys(VIEWED_INFO_KEY_PREFIX + "*");
-        if (!keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.info("Redis: Delete viewInfo data");
-        }
+        uniqueViewService.deleteViewInfo(ViewContentType.COMMUNITY);
 
         log.info("SCHEDULER::DAILY: Redis 사용자 조회 기록 삭제 작업 종료");
     }
 
     // 조회수 DB 동기화 작업 (10분 주기 실행)
     @Scheduled(cron = "0 0/10 * * * *")
-    @Transactional
     public void combineViewCountToDatabase() {
         log.info("SCHEDULER::10MIN: Redis-DB 조회수 동기화 작업 시작");
 
-        Set<String> keys = redisTemplate.keys(VIEW_COUNT_KEY_PREFIX + "*");
-        if (!keys.isEmpty()) {
-            Map<Integer, Integer> viewCountMap = getViewCountData(keys);
-            log.info("viewCountMap: {}", viewCountMap);
-
-            redisTemplate.delete(keys);
-            log.info("Redis: Delete All viewCount data");
-
-            for (Integer postNumber : viewCountMap.keySet()) {
-                communityRepository.combineViewCountByPostNumber(postNumber, viewCountMap.get(postNumber));
-                log.info("Combine viewCount to database: travelNumber={}", postNumber);
+        Map<Integer, Integer> viewCountMap = viewCountEngine.drainViewCounts(ViewContentType.COMMUNITY);
+        if (!viewCountMap.isEmpty()) {
+            try {
+                viewCountDao.addCommunityViewCounts(viewCountMap);
+                log.info("Combine viewCount to database: size={}", viewCountMap.size());
+            } catch (Exception e) {
+                // DB 반영에 실패한 조회수는 Redis에 되돌려 다음 동기화에 포함한다
+                log.error("조회수 DB 동기화 실패: size={}, error={}", viewCountMap.size(), e.getMessage(), e);
+                viewCountEngine.restoreViewCounts(ViewContentType.COMMUNITY, viewCountMap);
             }
         }
 
         log.info("SCHEDULER::10MIN: Redis-DB 조회수 동기화 작업 종료");
     }
-
-    private Map<Integer, Integer> getViewCountData(Set<String> redisKeys) {
-        Map<Integer, Integer> viewCountMap = new HashMap<>(); // key: postNumber, value: viewCount
-        redisKeys.stream()
-                .forEach(redisKey -> {
-                    viewCountMap.put(
-                            Integer.parseInt(redisKey.split(":")[2]),
-                            Integer.valueOf(redisTemplate.opsForValue().get(redisKey))
-                    );
-                });
-
-        return viewCountMap;
-    }
-
 }
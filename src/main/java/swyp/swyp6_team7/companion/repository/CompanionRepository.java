@@ -1,12 +1,19 @@
 package swyp.swyp6_team7.companion.repository;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import swyp.swyp6_team7.companion.domain.Companion;
 import swyp.swyp6_team7.travel.domain.Travel;
+import swyp.swyp6_team7.travel.domain.TravelStatus;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 
 public interface CompanionRepository extends JpaRepository<Companion, Long>, CompanionCustomRepository {
@@ -18,5 +25,13 @@ public interface CompanionRepository extends JpaRepository<Companion, Long>, Com
 
     List<Companion> findByUserNumber(Integer userNumber);
 
+    @Query("select count(c) from Companion c where c.userNumber = :userNumber and c.travel.status <> :excludedStatus")
+    long countByUserNumberAndTravelStatusNot(@Param("userNumber") int userNumber, @Param("excludedStatus") TravelStatus excludedStatus);
+
+    // 트랜잭션 안에서 사용하고 반드시 close 해야 한다 (참가 확정 순서)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+    @Query("select c.travel.number from Companion c where c.userNumber = :userNumber and c.travel.status <> :excludedStatus order by c.number")
+    Stream<Integer> streamTravelNumbersByUserNumber(@Param("userNumber") int userNumber, @Param("excludedStatus") TravelStatus excludedStatus);
+
     void deleteByTravelAndUserNumber(Travel travel, int userNumber);
 }
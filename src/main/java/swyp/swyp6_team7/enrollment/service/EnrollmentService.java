@@ -2,6 +2,7 @@ package swyp.swyp6_team7.enrollment.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import swyp.swyp6_team7.companion.domain.Companion;
@@ -15,7 +16,9 @@ import swyp.swyp6_team7.global.exception.MoingApplicationException;
 import swyp.swyp6_team7.notification.service.NotificationService;
 import swyp.swyp6_team7.travel.domain.Travel;
 import swyp.swyp6_team7.travel.dto.response.TravelEnrollmentsResponse;
+import swyp.swyp6_team7.travel.event.TravelChangedEvent;
 import swyp.swyp6_team7.travel.repository.TravelRepository;
+import swyp.swyp6_team7.travel.service.TravelStatsService;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -30,6 +33,8 @@ public class EnrollmentService {
     private final TravelRepository travelRepository;
     private final CompanionRepository companionRepository;
     private final NotificationService notificationService;
+    private final TravelStatsService travelStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void create(EnrollmentCreateRequest request, int requestUserNumber, LocalDate nowDate) {
@@ -48,6 +53,7 @@ public class EnrollmentService {
 
         Enrollment created = Enrollment.create(requestUserNumber, request.getTravelNumber(), request.getMessage());
         enrollmentRepository.save(created);
+        travelStatsService.enrollmentCreated(created.getTravelNumber());
         log.info("여행 신청 생성 완료: enrollmentNumber={}", created.getNumber());
 
         //알림
@@ -72,6 +78,7 @@ public class EnrollmentService {
         }
 
         enrollmentRepository.delete(enrollment);
+        travelStatsService.enrollmentDeleted(enrollment.getTravelNumber(), enrollment.getStatus() == EnrollmentStatus.PENDING);
         log.info("여행 신청 삭제 완료: enrollmentNumber={}", enrollment.getNumber());
     }
 
@@ -125,17 +132,23 @@ public class EnrollmentService {
             log.warn("여행 참가 모집 인원이 마감되어 수락할 수 없습니다: enrollNumber={}", enrollmentNumber);
             throw new MoingApplicationException("여행 참가 모집 인원이 마감되어 수락할 수 없습니다.");
         }
+        boolean wasPending = enrollment.getStatus() == EnrollmentStatus.PENDING;
         enrollment.accepted();
 
         // 여행 참가자 생성
         Companion newCompanion = Companion.create(targetTravel, enrollment.getUserNumber());
         companionRepository.save(newCompanion);
+        if (wasPending) {
+            travelStatsService.enrollmentProcessed(targetTravel.getNumber());
+        }
+        travelStatsService.increaseCompanionCount(targetTravel.getNumber());
         log.info("여행 신청 수락 및 참가자 생성 완료: enrollmentNumber={}, companionNumber={}", enrollment.getNumber(), newCompanion.getNumber());
 
         try {
             notificationService.createAcceptNotification(targetTravel, enrollment.getUserNumber()); //참가 수락 알림
             if (targetTravel.isFullCompanion()) {
                 targetTravel.close();
+                eventPublisher.publishEvent(TravelChangedEvent.closed(targetTravel.getNumber()));
                 notificationService.createCompanionClosedNotification(targetTravel); //참가 인원에 의한 여행 마감 알림
             }
         } catch (Exception e) {
@@ -162,7 +175,11 @@ public class EnrollmentService {
             log.warn("여행 참가 신청 거절 권한이 없습니다: enrollNumber={}, requestUser={}", enrollmentNumber, requestUserNumber);
             throw new MoingApplicationException("여행 참가 신청 거절 권한이 없습니다.");
         }
+        boolean wasPending = enrollment.getStatus() == EnrollmentStatus.PENDING;
         enrollment.rejected();
+        if (wasPending) {
+            travelStatsService.enrollmentProcessed(targetTravel.getNumber());
+        }
         log.info("여행 신청 거부 완료: enrollmentNumber={}", enrollment.getNumber());
 
         //알림
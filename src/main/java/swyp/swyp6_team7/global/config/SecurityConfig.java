@@ -53,11 +53,18 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/api/travel/**",
                                 "/api/travels/recent",
+                                "/api/travels/recent/cursor",
                                 "/api/travels/recommend",
+                                "/api/travels/trending",
                                 "/api/travels/search",
+                                "/api/travels/search/cursor",
+                                "/api/travels/search/facets",
                                 "/api/community/posts",
+                                "/api/community/trending",
                                 "/api/community/posts/{postNumber}",
                                 "/api/{relatedType}/{relatedNumber}/comments",
+                                "/api/{relatedType}/{relatedNumber}/comments/cursor",
+                                "/api/{relatedType}/{relatedNumber}/comments/stream",
                                 "/api/autocomplete",
                                 "/api/users/*/profile"
                         ).permitAll()
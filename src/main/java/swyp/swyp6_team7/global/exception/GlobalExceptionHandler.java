@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import swyp.swyp6_team7.global.utils.api.ApiResponse;
 import swyp.swyp6_team7.global.utils.api.ErrorMessage;
 import swyp.swyp6_team7.global.utils.api.ResultType;
@@ -40,6 +41,19 @@ public class GlobalExceptionHandler {
         return ApiResponse.error(errorMessage);
     }
 
+    // 요청 파라미터 검증 실패 (예: @RequestParam @Min)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ApiResponse<String> handlerMethodValidationException(HandlerMethodValidationException e) {
+        ErrorMessage errorMessage = new ErrorMessage(
+                e.getAllValidationResults().get(0).getResolvableErrors().get(0).getDefaultMessage(),
+                "Bad Request"
+        ).setErrorType(HttpStatus.BAD_REQUEST.value());
+
+        log.warn("Request Parameter Valid Error - message: {}", errorMessage);
+        return ApiResponse.error(errorMessage);
+    }
+
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     @ExceptionHandler(MoingAuthenticationException.class)
     @ResponseBody
@@ -6,6 +6,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import swyp.swyp6_team7.image.domain.Image;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,8 +22,14 @@ public interface ImageRepository extends JpaRepository<Image, Long>, ImageCustom
     // 관련 타입이 community일 때 여러 이미지를 찾는 메소드
     List<Image> findAllByRelatedTypeAndRelatedNumber(String relatedType, int relatedNumber);
 
+    // 여러 회원의 프로필 이미지 등 관련 번호 목록으로 한 번에 조회
+    List<Image> findAllByRelatedTypeAndRelatedNumberIn(String relatedType, Collection<Integer> relatedNumbers);
+
     Optional<Image> findByRelatedTypeAndRelatedNumberAndOrder(String relatedType, int relatedNumber, int order);
 
+    // 여러 게시글의 썸네일 등 같은 순서의 이미지를 관련 번호 목록으로 한 번에 조회
+    List<Image> findAllByRelatedTypeAndOrderAndRelatedNumberIn(String relatedType, int order, Collection<Integer> relatedNumbers);
+
     Optional<Image> findByKey(String key);
 
     Optional<Image> findByUrl(String url);
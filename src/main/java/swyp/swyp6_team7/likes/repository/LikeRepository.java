@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import swyp.swyp6_team7.likes.domain.Like;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,14 @@ public interface LikeRepository extends JpaRepository<Like, Integer> {
     // 좋아요 수 조회
     long countByRelatedTypeAndRelatedNumber(String relatedType, int relatedNumber);
 
+    // 관련 번호별 좋아요 수 조회 (row = [관련 번호, 좋아요 수], 좋아요가 없는 번호는 포함되지 않는다)
+    @Query("select l.relatedNumber, count(l) from Like l where l.relatedType = :relatedType and l.relatedNumber in :relatedNumbers group by l.relatedNumber")
+    List<Object[]> countGroupByRelatedNumberIn(@Param("relatedType") String relatedType, @Param("relatedNumbers") Collection<Integer> relatedNumbers);
+
+    // 관련 번호 중 사용자가 좋아요를 누른 번호 조회
+    @Query("select l.relatedNumber from Like l where l.relatedType = :relatedType and l.userNumber = :userNumber and l.relatedNumber in :relatedNumbers")
+    List<Integer> findLikedRelatedNumbers(@Param("relatedType") String relatedType, @Param("userNumber") int userNumber, @Param("relatedNumbers") Collection<Integer> relatedNumbers);
+
     //삭제
     @Modifying(clearAutomatically = true)
     @Query("delete from Like l where l.relatedType = :relatedType and l.relatedNumber = :relatedNumber")
@@ -25,7 +34,7 @@ public interface LikeRepository extends JpaRepository<Like, Integer> {
 
     @Modifying(clearAutomatically = true)
     @Query("delete from Like l where l.relatedType = 'comment' and l.relatedNumber in :relatedCommentNumbers")
-    void deleteAllCommentLikesByRelatedNumberIn(@Param("relatedCommentNumbers") List<Integer> relatedCommentNumbers);
+    int deleteAllCommentLikesByRelatedNumberIn(@Param("relatedCommentNumbers") Collection<Integer> relatedCommentNumbers);
 
     //좋아요 행 조회
     Optional<Like> findByRelatedTypeAndRelatedNumberAndUserNumber(String relatedType, int relatedNumber, int userNumber);
@@ -2,6 +2,7 @@ package swyp.swyp6_team7.likes.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import swyp.swyp6_team7.comment.domain.Comment;
@@ -13,6 +14,9 @@ import swyp.swyp6_team7.community.service.CommunityService;
 import swyp.swyp6_team7.likes.domain.Like;
 import swyp.swyp6_team7.likes.repository.LikeRepository;
 import swyp.swyp6_team7.notification.service.LikeNotificationService;
+import swyp.swyp6_team7.trending.domain.TrendingActivity;
+import swyp.swyp6_team7.trending.event.TrendingActivityEvent;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
 
 import java.util.Optional;
 
@@ -27,6 +31,7 @@ public class LikeService {
     private final CommunityRepository communityRepository;
     private final CommunityService communityService;
     private final LikeNotificationService likeNotificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // TODO: Response Type 일치 및 상속구조 구현
     @Transactional
@@ -46,11 +51,13 @@ public class LikeService {
                 Optional<Like> commentLike = likeRepository.findByRelatedTypeAndRelatedNumberAndUserNumber(relatedType, relatedNumber, userNumber);
                 commentLike.ifPresent(cl -> {
                     likeRepository.delete(cl); // 좋아요 삭제
+                    commentRepository.addLikeCount(relatedNumber, -1);
                 });
             } else { // 좋아요를 누르지 않은 경우
                 // 좋아요 추가
                 Like like = new Like(relatedType, relatedNumber, userNumber);
                 likeRepository.save(like);
+                commentRepository.addLikeCount(relatedNumber, 1);
             }
             return commentService.getList(comment.getRelatedType(), comment.getRelatedNumber(), userNumber);
 
@@ -73,6 +80,7 @@ public class LikeService {
                 // 좋아요 추가
                 Like like = new Like(relatedType, relatedNumber, userNumber);
                 likeRepository.save(like);
+                eventPublisher.publishEvent(new TrendingActivityEvent(ViewContentType.COMMUNITY, relatedNumber, TrendingActivity.LIKE));
                 if (userNumber != community.getUserNumber()) {
                     likeNotificationService.createCommunityPostLikeNotification(community); // 좋아요 알림
                 }
@@ -9,6 +9,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import swyp.swyp6_team7.auth.jwt.JwtProvider;
+import swyp.swyp6_team7.auth.jwt.TokenHashUtil;
 import swyp.swyp6_team7.auth.service.JwtBlacklistService;
 import swyp.swyp6_team7.global.exception.MoingApplicationException;
 import swyp.swyp6_team7.global.utils.api.ApiResponse;
@@ -24,6 +25,7 @@ import swyp.swyp6_team7.verify.service.EmailVerifyService;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
@@ -123,9 +125,9 @@ public class MemberController {
             memberDeletedService.deleteUserData(user, socialUserOpt.orElse(null));
             log.info("회원 탈퇴 성공: 회원 번호 {}", userNumber);
 
-            long expirationTime = jwtProvider.getExpiration(jwtToken);
+            long expirationTime = TimeUnit.SECONDS.toMillis(jwtProvider.getRemainingValidity(jwtToken));
             jwtBlacklistService.addToBlacklist(jwtToken, expirationTime);
-            log.info("Access Token 블랙리스트 등록 완료: {}", jwtToken);
+            log.info("Access Token 블랙리스트 등록 완료: tokenHash={}", TokenHashUtil.hashForLog(jwtToken));
 
             return ApiResponse.success(null); // 204 No Content
         } catch (IllegalArgumentException e) {
@@ -0,0 +1,49 @@
+package swyp.swyp6_team7.member.dao;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import swyp.swyp6_team7.member.dto.UserLoginRecord;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그인 이력과 회원의 최근 로그인 시간을 모아서 저장한다.<br>
+ * 로그인마다 INSERT, UPDATE를 따로 실행하지 않고 JDBC batch update로 처리한다.
+ */
+@Repository
+public class UserLoginHistoryDao {
+
+    private static final String INSERT_LOGIN_HISTORY_SQL =
+            "INSERT INTO user_loginhistories (user_number, his_login_date) VALUES (?, ?)";
+    private static final String UPDATE_LOGIN_DATE_SQL =
+            "UPDATE users SET user_login_date = ? WHERE user_number = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserLoginHistoryDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 로그인 이력은 모두 추가하고, 최근 로그인 시간은 회원마다 가장 늦은 시간으로 한 번만 갱신한다
+    @Transactional
+    public void saveLoginHistories(List<UserLoginRecord> records) {
+        List<Object[]> historyParams = new ArrayList<>(records.size());
+        Map<Integer, LocalDateTime> lastLoginDates = new HashMap<>();
+        for (UserLoginRecord record : records) {
+            historyParams.add(new Object[]{record.getUserNumber(), Timestamp.valueOf(record.getLoginDate())});
+            lastLoginDates.merge(record.getUserNumber(), record.getLoginDate(),
+                    (prev, current) -> current.isAfter(prev) ? current : prev);
+        }
+        jdbcTemplate.batchUpdate(INSERT_LOGIN_HISTORY_SQL, historyParams);
+
+        List<Object[]> loginDateParams = new ArrayList<>(lastLoginDates.size());
+        lastLoginDates.forEach((userNumber, loginDate) -> loginDateParams.add(new Object[]{Timestamp.valueOf(loginDate), userNumber}));
+        jdbcTemplate.batchUpdate(UPDATE_LOGIN_DATE_SQL, loginDateParams);
+    }
+}
@@ -0,0 +1,26 @@
+package swyp.swyp6_team7.member.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 저장 대기 중인 로그인 이력 한 건
+@Getter
+public class UserLoginRecord {
+
+    private final int userNumber;
+    private final LocalDateTime loginDate;
+
+    public UserLoginRecord(int userNumber, LocalDateTime loginDate) {
+        this.userNumber = userNumber;
+        this.loginDate = loginDate;
+    }
+
+    @Override
+    public String toString() {
+        return "UserLoginRecord{" +
+                "userNumber=" + userNumber +
+                ", loginDate=" + loginDate +
+                '}';
+    }
+}
@@ -3,6 +3,7 @@ package swyp.swyp6_team7.member.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import swyp.swyp6_team7.member.entity.UserStatus;
 import swyp.swyp6_team7.member.entity.Users;
 
 import java.util.Optional;
@@ -13,6 +14,10 @@ public interface UserRepository extends JpaRepository<Users, Integer> {
     Optional<Users> findUserWithTags(@Param("userNumber") Integer userNumber);
     Optional<Users> findByUserNumber(int userNumber);
 
+    // 인증 시 회원 상태만 필요한 경우 사용 (선호 태그 등 연관 엔티티를 로딩하지 않는다)
+    @Query("SELECT u.userStatus FROM Users u WHERE u.userNumber = :userNumber")
+    Optional<UserStatus> findUserStatusByUserNumber(@Param("userNumber") Integer userNumber);
+
 
 
 }
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import swyp.swyp6_team7.comment.service.CommentDeleteService;
 import swyp.swyp6_team7.member.entity.*;
 import swyp.swyp6_team7.member.repository.DeletedUsersRepository;
 import swyp.swyp6_team7.member.repository.SocialUserRepository;
@@ -25,6 +26,7 @@ public class MemberDeletedService {
     private final TravelRepository travelRepository;
     private final UserRepository userRepository;
     private final SocialUserRepository socialUserRepository;
+    private final CommentDeleteService commentDeleteService;
 
     @Transactional
     public void deleteUserData(Users user, SocialUsers socialUser) {
@@ -121,6 +123,7 @@ public class MemberDeletedService {
 
         for (DeletedUsers deletedUser : expiredUsers) {
             try {
+                commentDeleteService.deleteAllByUser(deletedUser.getUserNumber()); // 작성 댓글, 받은 알림 삭제
                 userRepository.deleteById(deletedUser.getUserNumber());
                 // TODO: Social 유저도 삭제 되는지?
                 deletedUsersRepository.delete(deletedUser);
@@ -0,0 +1,137 @@
+package swyp.swyp6_team7.member.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import swyp.swyp6_team7.member.dao.UserLoginHistoryDao;
+import swyp.swyp6_team7.member.dto.UserLoginRecord;
+import swyp.swyp6_team7.member.entity.Users;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 이력 저장과 최근 로그인 시간 갱신을 로그인 요청에서 분리해 비동기로 모아서 저장한다.<br>
+ * 로그인 요청은 크기가 제한된 큐에 이력을 넣고 바로 반환하며, virtual thread 작업자 하나가 큐에 쌓인 이력을
+ * 최대 BATCH_SIZE개씩 꺼내 JDBC batch update로 저장한다.<br>
+ * 큐가 가득 차면 OFFER_TIMEOUT_MILLIS만큼 기다린 뒤 요청 스레드에서 직접 저장한다. (이력을 버리지 않고 로그인 요청을 늦춘다)<br>
+ * 서버가 비정상 종료되면 큐에 남은 이력이 유실될 수 있다. (정상 종료 시에는 저장 후 종료)
+ */
+@Slf4j
+@Service
+public class UserLoginHistoryWriter {
+
+    private static final String METRIC_NAME = "login.history";
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 500;
+    private static final long OFFER_TIMEOUT_MILLIS = 50;
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final UserLoginHistoryDao userLoginHistoryDao;
+    private final BlockingQueue<UserLoginRecord> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Counter enqueuedCounter;
+    private final Counter overflowCounter;
+    private final Counter savedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public UserLoginHistoryWriter(UserLoginHistoryDao userLoginHistoryDao, MeterRegistry meterRegistry) {
+        this.userLoginHistoryDao = userLoginHistoryDao;
+        this.enqueuedCounter = Counter.builder(METRIC_NAME + ".records")
+                .tag("result", "enqueued")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder(METRIC_NAME + ".records")
+                .tag("result", "overflow")
+                .register(meterRegistry);
+        this.savedCounter = Counter.builder(METRIC_NAME + ".records")
+                .tag("result", "saved")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_NAME + ".records")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder(METRIC_NAME + ".batch")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual()
+                .name("login-history-writer")
+                .start(this::drainLoop);
+    }
+
+    // 로그인 이력 저장 요청 (큐가 가득 찬 경우에만 요청 스레드에서 저장)
+    public void record(Users user) {
+        UserLoginRecord record = new UserLoginRecord(user.getUserNumber(), LocalDateTime.now());
+        try {
+            if (running && queue.offer(record, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                enqueuedCounter.increment();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        overflowCounter.increment();
+        log.warn("로그인 이력 큐가 가득 차 직접 저장: userNumber={}", user.getUserNumber());
+        save(List.of(record));
+    }
+
+    private void drainLoop() {
+        List<UserLoginRecord> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                UserLoginRecord first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                save(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 로그인 이력은 부가 정보이므로 저장에 실패한 묶음은 다시 시도하지 않고 로그, 지표로 남긴다
+    private void save(List<UserLoginRecord> records) {
+        try {
+            batchTimer.record(() -> userLoginHistoryDao.saveLoginHistories(records));
+            savedCounter.increment(records.size());
+            log.debug("로그인 이력 저장: count={}", records.size());
+        } catch (Exception e) {
+            failedCounter.increment(records.size());
+            log.error("로그인 이력 저장 실패: count={}, error={}", records.size(), e.getMessage());
+        }
+    }
+
+    // 서버 종료 시 큐에 남은 이력 저장
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        log.info("로그인 이력 큐 종료 전 저장: pendingCount={}", queue.size());
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+        }
+    }
+}
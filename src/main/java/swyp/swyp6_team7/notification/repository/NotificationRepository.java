@@ -28,6 +28,18 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("select n.number from Notification n where n.createdAt < :cutOffDateTime")
     List<Long> getNumbersByCreatedBefore(@Param("cutOffDateTime") LocalDateTime cutOffDateTime);
 
+    @Query("delete from TravelCommentNotification n where n.travelNumber = :travelNumber")
+    @Modifying(clearAutomatically = true)
+    int deleteTravelCommentNotifications(@Param("travelNumber") Integer travelNumber);
+
+    @Query("delete from CommunityCommentNotification n where n.communityNumber = :communityNumber")
+    @Modifying(clearAutomatically = true)
+    int deleteCommunityCommentNotifications(@Param("communityNumber") Integer communityNumber);
+
+    @Query("delete from Notification n where n.receiverNumber = :receiverNumber")
+    @Modifying(clearAutomatically = true)
+    int deleteAllByReceiverNumber(@Param("receiverNumber") Integer receiverNumber);
+
     @Query("delete from Notification n where n.number in :notificationNumbers")
     @Modifying(clearAutomatically = true)
     void deleteAllByNumbers(@Param("notificationNumbers") List<Long> notificationNumbers);
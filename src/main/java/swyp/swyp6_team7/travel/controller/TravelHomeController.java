@@ -1,5 +1,6 @@
 package swyp.swyp6_team7.travel.controller;
 
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -8,14 +9,22 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import swyp.swyp6_team7.global.utils.api.ApiResponse;
 import swyp.swyp6_team7.global.utils.auth.RequireUserNumber;
+import swyp.swyp6_team7.travel.dto.TravelRecommendForMemberDto;
+import swyp.swyp6_team7.travel.dto.response.TravelCursorPageResponse;
+import swyp.swyp6_team7.travel.dto.response.TravelListResponseDto;
 import swyp.swyp6_team7.travel.dto.response.TravelRecentDto;
 import swyp.swyp6_team7.travel.dto.response.TravelRecommendResponse;
 import swyp.swyp6_team7.travel.service.TravelHomeService;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 @RestController
 public class TravelHomeController {
 
+    // 커서 페이징, 인기 목록의 최대 조회 개수
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final TravelHomeService travelHomeService;
 
     // 메인 화면 - 최신 여행 목록
@@ -30,6 +39,28 @@ public class TravelHomeController {
         return ApiResponse.success(result);
     }
 
+    // 메인 화면 - 최신 여행 목록 (커서 페이징)
+    @GetMapping("/api/travels/recent/cursor")
+    public ApiResponse<TravelCursorPageResponse<TravelRecentDto>> getRecentlyCreatedTravelsWithCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Min(value = 1, message = "size는 1 이상이어야 합니다.") @RequestParam(name = "size", defaultValue = "5") int size,
+            @RequireUserNumber Integer userNumber
+    ) {
+        TravelCursorPageResponse<TravelRecentDto> result = travelHomeService
+                .getTravelsSortedByCreatedAtWithCursor(cursor, Math.min(size, MAX_PAGE_SIZE), userNumber);
+        return ApiResponse.success(result);
+    }
+
+    // 메인 화면 - 인기 여행 목록 (최근 활동 기준)
+    @GetMapping("/api/travels/trending")
+    public ApiResponse<List<TravelListResponseDto>> getTrendingTravels(
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequireUserNumber Integer userNumber
+    ) {
+        List<TravelListResponseDto> result = travelHomeService.getTrendingTravels(Math.min(size, MAX_PAGE_SIZE), userNumber);
+        return ApiResponse.success(result);
+    }
+
     // 메인 화면 - 사용자 추천 여행 목록
     @GetMapping("/api/travels/recommend")
     public ApiResponse<Page<TravelRecommendResponse>> getRecommendTravels(
@@ -51,4 +82,20 @@ public class TravelHomeController {
                 .map(TravelRecommendResponse::new);
         return ApiResponse.success(result);
     }
+
+    // 메인 화면 - 로그인 사용자 추천 여행 목록 (커서 페이징)
+    @GetMapping("/api/travels/recommend/cursor")
+    public ApiResponse<TravelCursorPageResponse<TravelRecommendResponse>> getRecommendTravelsWithCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Min(value = 1, message = "size는 1 이상이어야 합니다.") @RequestParam(name = "size", defaultValue = "5") int size,
+            @RequireUserNumber Integer userNumber
+    ) {
+        TravelCursorPageResponse<TravelRecommendForMemberDto> travels = travelHomeService
+                .getRecommendTravelsByMemberWithCursor(cursor, Math.min(size, MAX_PAGE_SIZE), userNumber);
+
+        List<TravelRecommendResponse> content = travels.getContent().stream()
+                .map(TravelRecommendResponse::new)
+                .toList();
+        return ApiResponse.success(TravelCursorPageResponse.from(content, travels.getNextCursor()));
+    }
 }
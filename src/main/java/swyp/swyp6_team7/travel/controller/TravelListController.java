@@ -4,11 +4,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import swyp.swyp6_team7.global.utils.api.ApiResponse;
 import swyp.swyp6_team7.global.utils.auth.RequireUserNumber;
 import swyp.swyp6_team7.travel.dto.response.TravelListResponseDto;
 import swyp.swyp6_team7.travel.service.TravelAppliedService;
+import swyp.swyp6_team7.travel.service.TravelHistoryExportService;
 import swyp.swyp6_team7.travel.service.TravelListService;
 import swyp.swyp6_team7.travel.service.TravelRequestedService;
 
@@ -19,6 +23,7 @@ public class TravelListController {
     private final TravelListService travelListService;
     private final TravelAppliedService travelAppliedService;
     private final TravelRequestedService travelRequestedService;
+    private final TravelHistoryExportService travelHistoryExportService;
 
     // 만든 여행 목록 조회
     @GetMapping("/my-travels")
@@ -33,6 +38,18 @@ public class TravelListController {
         return ApiResponse.success(createdTravelList);
     }
 
+    // 만든 여행, 참가한 여행 전체 이력 내보내기 (한 줄에 여행 하나씩 NDJSON으로 스트리밍)
+    @GetMapping("/my-travels/export")
+    public ResponseEntity<StreamingResponseBody> exportMyTravelHistory(
+            @RequireUserNumber Integer userNumber
+    ) {
+        StreamingResponseBody body = outputStream -> travelHistoryExportService.export(userNumber, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     // 동행이 맺어진 여행 리스트
     @GetMapping("/my-applied-travels")
     public ApiResponse<Page<TravelListResponseDto>> getAppliedTrips(
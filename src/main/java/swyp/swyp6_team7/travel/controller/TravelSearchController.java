@@ -1,5 +1,6 @@
 package swyp.swyp6_team7.travel.controller;
 
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -10,7 +11,9 @@ import org.springframework.web.bind.annotation.RestController;
 import swyp.swyp6_team7.global.utils.api.ApiResponse;
 import swyp.swyp6_team7.global.utils.auth.RequireUserNumber;
 import swyp.swyp6_team7.travel.dto.TravelSearchCondition;
+import swyp.swyp6_team7.travel.dto.response.TravelCursorPageResponse;
 import swyp.swyp6_team7.travel.dto.response.TravelSearchDto;
+import swyp.swyp6_team7.travel.dto.response.TravelSearchFacetResponse;
 import swyp.swyp6_team7.travel.service.TravelSearchService;
 
 import java.util.List;
@@ -20,6 +23,9 @@ import java.util.List;
 @RestController
 public class TravelSearchController {
 
+    // 커서 페이징 최대 조회 개수
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
     private final TravelSearchService travelSearchService;
 
     // 여행 검색
@@ -52,4 +58,57 @@ public class TravelSearchController {
         return ApiResponse.success(travels);
     }
 
+    // 여행 검색 (커서 페이징, 전체 개수 조회 없음)
+    @GetMapping("/api/travels/search/cursor")
+    public ApiResponse<TravelCursorPageResponse<TravelSearchDto>> searchWithCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Min(value = 1, message = "size는 1 이상이어야 합니다.") @RequestParam(name = "size", defaultValue = "5") int size,
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "location", required = false) List<String> selectedLocation,
+            @RequestParam(name = "gender", required = false) List<String> selectedGender,
+            @RequestParam(name = "person", required = false) List<String> selectedPerson,
+            @RequestParam(name = "period", required = false) List<String> selectedPeriod,
+            @RequestParam(name = "tags", required = false) List<String> selectedTags,
+            @RequestParam(name = "sorting", required = false) String selectedSortingType,
+            @RequireUserNumber Integer userNumber
+    ) {
+
+        TravelSearchCondition condition = TravelSearchCondition.builder()
+                .pageRequest(PageRequest.of(0, Math.min(size, MAX_CURSOR_PAGE_SIZE)))
+                .keyword(keyword)
+                .locationTypes(selectedLocation)
+                .genderTypes(selectedGender)
+                .personTypes(selectedPerson)
+                .periodTypes(selectedPeriod)
+                .tags(selectedTags)
+                .sortingType(selectedSortingType)
+                .build();
+
+        TravelCursorPageResponse<TravelSearchDto> travels = travelSearchService.searchWithCursor(condition, cursor, userNumber);
+        return ApiResponse.success(travels);
+    }
+
+    // 여행 검색 필터별 결과 개수
+    @GetMapping("/api/travels/search/facets")
+    public ApiResponse<TravelSearchFacetResponse> getSearchFacets(
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "location", required = false) List<String> selectedLocation,
+            @RequestParam(name = "gender", required = false) List<String> selectedGender,
+            @RequestParam(name = "person", required = false) List<String> selectedPerson,
+            @RequestParam(name = "period", required = false) List<String> selectedPeriod,
+            @RequestParam(name = "tags", required = false) List<String> selectedTags
+    ) {
+
+        TravelSearchCondition condition = TravelSearchCondition.builder()
+                .keyword(keyword)
+                .locationTypes(selectedLocation)
+                .genderTypes(selectedGender)
+                .personTypes(selectedPerson)
+                .periodTypes(selectedPeriod)
+                .tags(selectedTags)
+                .build();
+
+        TravelSearchFacetResponse facets = travelSearchService.getFacets(condition);
+        return ApiResponse.success(facets);
+    }
 }
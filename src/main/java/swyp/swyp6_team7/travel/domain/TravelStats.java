@@ -0,0 +1,83 @@
+package swyp.swyp6_team7.travel.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여행별 집계 정보 (북마크 수, 참가자 수, 신청 수, 조회수)<br>
+ * 목록 정렬 및 상세 조회 시 원본 테이블 집계 대신 사용하며, 각 도메인의 쓰기 작업에서 함께 갱신된다.
+ */
+@Getter
+@Table(name = "travel_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class TravelStats {
+
+    @Id
+    @Column(name = "travel_number", updatable = false)
+    private Integer travelNumber;
+
+    //북마크 수
+    @Column(name = "bookmark_count", nullable = false)
+    private int bookmarkCount;
+
+    //참가 확정 인원 수
+    @Column(name = "companion_count", nullable = false)
+    private int companionCount;
+
+    //전체 참가 신청 수
+    @Column(name = "enrollment_count", nullable = false)
+    private int enrollmentCount;
+
+    //대기 중인 참가 신청 수
+    @Column(name = "pending_enrollment_count", nullable = false)
+    private int pendingEnrollmentCount;
+
+    //조회수 (DB 동기화 완료분)
+    @Column(name = "view_count", nullable = false)
+    private int viewCount;
+
+
+    @Builder
+    public TravelStats(
+            Integer travelNumber, int bookmarkCount, int companionCount,
+            int enrollmentCount, int pendingEnrollmentCount, int viewCount
+    ) {
+        this.travelNumber = travelNumber;
+        this.bookmarkCount = bookmarkCount;
+        this.companionCount = companionCount;
+        this.enrollmentCount = enrollmentCount;
+        this.pendingEnrollmentCount = pendingEnrollmentCount;
+        this.viewCount = viewCount;
+    }
+
+    public static TravelStats empty(int travelNumber) {
+        return TravelStats.builder()
+                .travelNumber(travelNumber)
+                .build();
+    }
+
+    // 원본 테이블에서 다시 집계한 값과 같은지 확인한다
+    public boolean hasSameCounts(TravelStats aggregated) {
+        return bookmarkCount == aggregated.getBookmarkCount()
+                && companionCount == aggregated.getCompanionCount()
+                && enrollmentCount == aggregated.getEnrollmentCount()
+                && pendingEnrollmentCount == aggregated.getPendingEnrollmentCount()
+                && viewCount == aggregated.getViewCount();
+    }
+
+    @Override
+    public String toString() {
+        return "TravelStats{" +
+                "travelNumber=" + travelNumber +
+                ", bookmarkCount=" + bookmarkCount +
+                ", companionCount=" + companionCount +
+                ", enrollmentCount=" + enrollmentCount +
+                ", pendingEnrollmentCount=" + pendingEnrollmentCount +
+                ", viewCount=" + viewCount +
+                '}';
+    }
+}
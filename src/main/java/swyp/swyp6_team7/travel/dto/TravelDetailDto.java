@@ -16,18 +16,22 @@ public class TravelDetailDto {
     private String hostName;
     private String hostAgeGroup;
     private int companionCount;
+    private int enrollmentCount;
+    private int bookmarkCount;
     private List<String> tags;
 
     @QueryProjection
     public TravelDetailDto(
             Travel travel, int hostNumber, String hostName, AgeGroup hostAgeGroup,
-            int companionCount, List<String> tags
+            int companionCount, int enrollmentCount, int bookmarkCount, List<String> tags
     ) {
         this.travel = travel;
         this.hostNumber = hostNumber;
         this.hostName = hostName;
         this.hostAgeGroup = hostAgeGroup.getValue();
         this.companionCount = companionCount;
+        this.enrollmentCount = enrollmentCount;
+        this.bookmarkCount = bookmarkCount;
         this.tags = tags;
     }
 
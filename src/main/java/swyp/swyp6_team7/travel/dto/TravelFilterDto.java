@@ -0,0 +1,30 @@
+package swyp.swyp6_team7.travel.dto;
+
+import lombok.Getter;
+import swyp.swyp6_team7.location.domain.LocationType;
+import swyp.swyp6_team7.travel.domain.GenderType;
+import swyp.swyp6_team7.travel.domain.PeriodType;
+import swyp.swyp6_team7.travel.domain.TravelStatus;
+
+@Getter
+public class TravelFilterDto {
+
+    private int travelNumber;
+    private TravelStatus status;
+    private GenderType genderType;
+    private PeriodType periodType;
+    private int maxPerson;
+    private LocationType locationType;
+
+    public TravelFilterDto(
+            int travelNumber, TravelStatus status, GenderType genderType,
+            PeriodType periodType, int maxPerson, LocationType locationType
+    ) {
+        this.travelNumber = travelNumber;
+        this.status = status;
+        this.genderType = genderType;
+        this.periodType = periodType;
+        this.maxPerson = maxPerson;
+        this.locationType = locationType;
+    }
+}
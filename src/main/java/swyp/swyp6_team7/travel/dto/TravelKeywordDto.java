@@ -0,0 +1,21 @@
+package swyp.swyp6_team7.travel.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TravelKeywordDto {
+
+    private int travelNumber;
+    private String title;
+    private String locationName;
+    private List<String> tags;
+
+    public TravelKeywordDto(int travelNumber, String title, String locationName, List<String> tags) {
+        this.travelNumber = travelNumber;
+        this.title = title;
+        this.locationName = locationName;
+        this.tags = tags;
+    }
+}
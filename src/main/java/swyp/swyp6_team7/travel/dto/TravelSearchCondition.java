@@ -11,7 +11,9 @@ import swyp.swyp6_team7.travel.util.TravelSearchConstant;
 import swyp.swyp6_team7.travel.util.TravelSearchSortingType;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import swyp.swyp6_team7.location.domain.LocationType;
 
@@ -27,6 +29,9 @@ public class TravelSearchCondition {
     private List<PeriodType> periodFilter;
     private List<String> tags;
     private TravelSearchSortingType sortingType;
+    private List<Integer> candidateTravelNumbers; // 색인으로 찾은 후보 여행 번호 (null이면 후보 제한 없음)
+    private boolean keywordResolved; // 검색어 색인으로 후보가 결정된 경우 true (LIKE 검색 생략)
+    private boolean filterResolved; // 필터 색인으로 후보가 결정된 경우 true (성별, 기간, 인원, 국내/해외, 상태 조건 생략)
 
     @Builder
     public TravelSearchCondition(
@@ -102,6 +107,32 @@ public class TravelSearchCondition {
                 .toList();
     }
 
+    public void updateKeywordCandidates(List<Integer> travelNumbers) {
+        this.candidateTravelNumbers = intersectCandidates(travelNumbers);
+        this.keywordResolved = true;
+    }
+
+    public void updateFilterCandidates(List<Integer> travelNumbers) {
+        this.candidateTravelNumbers = intersectCandidates(travelNumbers);
+        this.filterResolved = true;
+    }
+
+    private List<Integer> intersectCandidates(List<Integer> travelNumbers) {
+        if (candidateTravelNumbers == null) {
+            return travelNumbers;
+        }
+        Set<Integer> current = new HashSet<>(candidateTravelNumbers);
+        return travelNumbers.stream()
+                .filter(current::contains)
+                .toList();
+    }
+
+    // 필터 조건이 하나라도 선택된 경우 true
+    public boolean hasFilter() {
+        return !locationFilter.isEmpty() || !genderFilter.isEmpty()
+                || !personRangeFilter.isEmpty() || !periodFilter.isEmpty();
+    }
+
     @Override
     public String toString() {
         return "TravelSearchCondition{" +
@@ -113,6 +144,9 @@ public class TravelSearchCondition {
                 ", periodFilter=" + periodFilter +
                 ", tags=" + tags +
                 ", sortingType=" + sortingType +
+                ", candidateTravelNumbers=" + candidateTravelNumbers +
+                ", keywordResolved=" + keywordResolved +
+                ", filterResolved=" + filterResolved +
                 '}';
     }
 }
@@ -0,0 +1,22 @@
+package swyp.swyp6_team7.travel.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class TravelTagAffinityDto {
+
+    private int travelNumber;
+    private String title;
+    private LocalDate startDate;
+    private List<String> tags;
+
+    public TravelTagAffinityDto(int travelNumber, String title, LocalDate startDate, List<String> tags) {
+        this.travelNumber = travelNumber;
+        this.title = title;
+        this.startDate = startDate;
+        this.tags = tags;
+    }
+}
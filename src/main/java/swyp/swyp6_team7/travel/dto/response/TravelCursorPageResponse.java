@@ -0,0 +1,21 @@
+package swyp.swyp6_team7.travel.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TravelCursorPageResponse<T> {
+
+    private List<T> content;
+    private String nextCursor; // 다음 요청에 사용되는 커서 (마지막 페이지이면 null)
+
+    public TravelCursorPageResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> TravelCursorPageResponse<T> from(List<T> content, String nextCursor) {
+        return new TravelCursorPageResponse<>(content, nextCursor);
+    }
+}
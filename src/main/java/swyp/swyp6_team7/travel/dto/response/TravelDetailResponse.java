@@ -96,6 +96,15 @@ public class TravelDetailResponse {
         this.loginMemberRelatedInfo = null;
     }
 
+    // 캐시된 응답은 공유되므로, 로그인 사용자 정보를 채우기 전에 복사본을 만든다
+    public TravelDetailResponse copyWithoutLoginMemberRelatedInfo() {
+        return new TravelDetailResponse(
+                travelNumber, userNumber, userName, userAgeGroup, profileUrl, createdAt,
+                startDate, endDate, location, title, details, viewCount, enrollCount,
+                bookmarkCount, nowPerson, maxPerson, genderType, periodType, tags, postStatus
+        );
+    }
+
     public void updateLoginMemberRelatedInfo(TravelDetailLoginMemberRelatedDto memberRelatedDto) {
         this.loginMemberRelatedInfo = memberRelatedDto;
     }
@@ -0,0 +1,34 @@
+package swyp.swyp6_team7.travel.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Getter;
+
+/**
+ * 여행 이력 내보내기(NDJSON) 한 줄<br>
+ * historyType = CREATED(만든 여행), APPLIED(동행으로 참가한 여행)<br>
+ * 나머지 필드는 여행 목록 응답(TravelListResponseDto)과 동일하다.
+ */
+@Getter
+public class TravelHistoryExportResponse {
+
+    private HistoryType historyType;
+    @JsonUnwrapped
+    private TravelListResponseDto travel;
+
+    public TravelHistoryExportResponse(HistoryType historyType, TravelListResponseDto travel) {
+        this.historyType = historyType;
+        this.travel = travel;
+    }
+
+    public enum HistoryType {
+        CREATED, APPLIED
+    }
+
+    @Override
+    public String toString() {
+        return "TravelHistoryExportResponse{" +
+                "historyType=" + historyType +
+                ", travelNumber=" + travel.getTravelNumber() +
+                '}';
+    }
+}
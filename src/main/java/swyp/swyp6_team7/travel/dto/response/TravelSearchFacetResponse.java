@@ -0,0 +1,49 @@
+package swyp.swyp6_team7.travel.dto.response;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 여행 검색 필터별 결과 개수<br>
+ * key = 검색 필터 값 (예: "모두", "2명", "국내"), value = 해당 필터 값을 가진 검색 결과 여행 수<br>
+ * tags는 개수가 많은 순서로 상위 태그만 포함한다.
+ */
+@Getter
+public class TravelSearchFacetResponse {
+
+    private long totalCount;
+    private Map<String, Long> gender;
+    private Map<String, Long> period;
+    private Map<String, Long> person;
+    private Map<String, Long> location;
+    private Map<String, Long> tags;
+
+    public TravelSearchFacetResponse(
+            long totalCount,
+            Map<String, Long> gender,
+            Map<String, Long> period,
+            Map<String, Long> person,
+            Map<String, Long> location,
+            Map<String, Long> tags
+    ) {
+        this.totalCount = totalCount;
+        this.gender = gender;
+        this.period = period;
+        this.person = person;
+        this.location = location;
+        this.tags = tags;
+    }
+
+    @Override
+    public String toString() {
+        return "TravelSearchFacetResponse{" +
+                "totalCount=" + totalCount +
+                ", gender=" + gender +
+                ", period=" + period +
+                ", person=" + person +
+                ", location=" + location +
+                ", tags=" + tags +
+                '}';
+    }
+}
@@ -0,0 +1,8 @@
+package swyp.swyp6_team7.travel.event;
+
+public enum TravelChangeType {
+    CREATED,
+    UPDATED,
+    CLOSED,
+    DELETED
+}
@@ -0,0 +1,44 @@
+package swyp.swyp6_team7.travel.event;
+
+import lombok.Getter;
+
+/**
+ * 여행 콘텐츠 변경 이벤트<br>
+ * 트랜잭션 커밋 이후(AFTER_COMMIT) 인메모리 색인 등 파생 데이터를 갱신하는 데 사용한다.
+ */
+@Getter
+public class TravelChangedEvent {
+
+    private final int travelNumber;
+    private final TravelChangeType changeType;
+
+    private TravelChangedEvent(int travelNumber, TravelChangeType changeType) {
+        this.travelNumber = travelNumber;
+        this.changeType = changeType;
+    }
+
+    public static TravelChangedEvent created(int travelNumber) {
+        return new TravelChangedEvent(travelNumber, TravelChangeType.CREATED);
+    }
+
+    public static TravelChangedEvent updated(int travelNumber) {
+        return new TravelChangedEvent(travelNumber, TravelChangeType.UPDATED);
+    }
+
+    // 참가 인원이 모두 차서 모집이 마감된 경우
+    public static TravelChangedEvent closed(int travelNumber) {
+        return new TravelChangedEvent(travelNumber, TravelChangeType.CLOSED);
+    }
+
+    public static TravelChangedEvent deleted(int travelNumber) {
+        return new TravelChangedEvent(travelNumber, TravelChangeType.DELETED);
+    }
+
+    @Override
+    public String toString() {
+        return "TravelChangedEvent{" +
+                "travelNumber=" + travelNumber +
+                ", changeType=" + changeType +
+                '}';
+    }
+}
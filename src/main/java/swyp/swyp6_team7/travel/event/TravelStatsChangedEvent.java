@@ -0,0 +1,24 @@
+package swyp.swyp6_team7.travel.event;
+
+import lombok.Getter;
+
+/**
+ * 여행 집계 값(북마크, 참가 신청, 참가자 수) 변경 이벤트<br>
+ * 조회수 동기화는 변경 빈도가 높아 이벤트를 발행하지 않는다.
+ */
+@Getter
+public class TravelStatsChangedEvent {
+
+    private final int travelNumber;
+
+    public TravelStatsChangedEvent(int travelNumber) {
+        this.travelNumber = travelNumber;
+    }
+
+    @Override
+    public String toString() {
+        return "TravelStatsChangedEvent{" +
+                "travelNumber=" + travelNumber +
+                '}';
+    }
+}
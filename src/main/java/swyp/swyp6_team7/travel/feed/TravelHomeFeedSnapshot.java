@@ -0,0 +1,73 @@
+package swyp.swyp6_team7.travel.feed;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 비로그인 사용자 홈 추천 여행 목록 스냅샷 (불변)<br>
+ * baseDate 기준으로 북마크 개수 많은 순서, 제목 사전순으로 정렬된 여행 번호 목록을 가진다.
+ */
+@Getter
+public class TravelHomeFeedSnapshot {
+
+    private final LocalDate baseDate;
+    private final LocalDateTime createdAt;
+    private final int[] travelNumbers;
+
+    @JsonCreator
+    public TravelHomeFeedSnapshot(
+            @JsonProperty("baseDate") LocalDate baseDate,
+            @JsonProperty("createdAt") LocalDateTime createdAt,
+            @JsonProperty("travelNumbers") int[] travelNumbers
+    ) {
+        this.baseDate = baseDate;
+        this.createdAt = createdAt;
+        this.travelNumbers = travelNumbers.clone();
+    }
+
+    public static TravelHomeFeedSnapshot of(LocalDate baseDate, LocalDateTime createdAt, List<Integer> travelNumbers) {
+        int[] numbers = travelNumbers.stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+        return new TravelHomeFeedSnapshot(baseDate, createdAt, numbers);
+    }
+
+    public int[] getTravelNumbers() {
+        return travelNumbers.clone();
+    }
+
+    public int size() {
+        return travelNumbers.length;
+    }
+
+    // offset부터 최대 size개의 여행 번호 (범위를 벗어나면 빈 목록)
+    public List<Integer> slice(long offset, int size) {
+        if (offset >= travelNumbers.length) {
+            return List.of();
+        }
+        int from = (int) offset;
+        int to = (int) Math.min((long) from + size, travelNumbers.length);
+        return Arrays.stream(travelNumbers, from, to)
+                .boxed()
+                .toList();
+    }
+
+    public boolean isBasedOn(LocalDate date) {
+        return baseDate.equals(date);
+    }
+
+    @Override
+    public String toString() {
+        return "TravelHomeFeedSnapshot{" +
+                "baseDate=" + baseDate +
+                ", createdAt=" + createdAt +
+                ", size=" + travelNumbers.length +
+                '}';
+    }
+}
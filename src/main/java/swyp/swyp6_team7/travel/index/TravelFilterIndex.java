@@ -0,0 +1,183 @@
+package swyp.swyp6_team7.travel.index;
+
+import swyp.swyp6_team7.location.domain.LocationType;
+import swyp.swyp6_team7.travel.domain.GenderType;
+import swyp.swyp6_team7.travel.domain.PeriodType;
+import swyp.swyp6_team7.travel.domain.TravelStatus;
+import swyp.swyp6_team7.travel.util.TravelSearchConstant;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 여행 검색 필터 비트맵 인메모리 색인<br>
+ * 검색 대상(모집 중, 모집 마감) 여행 번호를 비트 위치로 사용하며,
+ * 성별, 기간, 인원, 국내/해외 필터 값마다 비트맵을 하나씩 가진다.<br>
+ * 같은 필터 안에서는 OR, 서로 다른 필터끼리는 AND로 후보를 계산한다.
+ */
+public class TravelFilterIndex {
+
+    private static final List<String> PERSON_TYPES = List.of(
+            TravelSearchConstant.PERSON_TYPE_SMALL,
+            TravelSearchConstant.PERSON_TYPE_MIDDLE,
+            TravelSearchConstant.PERSON_TYPE_LARGE
+    );
+
+    private final BitSet activated = new BitSet();
+    private final BitSet[] genderBitmaps = createBitmaps(GenderType.values().length);
+    private final BitSet[] periodBitmaps = createBitmaps(PeriodType.values().length);
+    private final BitSet[] personBitmaps = createBitmaps(PERSON_TYPES.size());
+    private final BitSet[] locationBitmaps = createBitmaps(LocationType.values().length);
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private static BitSet[] createBitmaps(int size) {
+        BitSet[] bitmaps = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            bitmaps[i] = new BitSet();
+        }
+        return bitmaps;
+    }
+
+    /**
+     * 여행의 필터 값을 색인에 반영한다.<br>
+     * 검색 대상 상태(IN_PROGRESS, CLOSED)가 아니라면 색인에서 제거한다.
+     */
+    public void put(
+            int travelNumber, TravelStatus status, GenderType genderType, PeriodType periodType,
+            int maxPerson, LocationType locationType
+    ) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(travelNumber);
+            if (status != TravelStatus.IN_PROGRESS && status != TravelStatus.CLOSED) {
+                return;
+            }
+
+            Entry entry = new Entry(
+                    genderType == null ? -1 : genderType.ordinal(),
+                    periodType == null ? -1 : periodType.ordinal(),
+                    toPersonTypeIndex(maxPerson),
+                    locationType == null ? -1 : locationType.ordinal()
+            );
+            entries.put(travelNumber, entry);
+            activated.set(travelNumber);
+            setBit(genderBitmaps, entry.gender, travelNumber, true);
+            setBit(periodBitmaps, entry.period, travelNumber, true);
+            setBit(personBitmaps, entry.person, travelNumber, true);
+            setBit(locationBitmaps, entry.location, travelNumber, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int travelNumber) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(travelNumber);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(int travelNumber) {
+        Entry entry = entries.remove(travelNumber);
+        if (entry == null) {
+            return;
+        }
+        activated.clear(travelNumber);
+        setBit(genderBitmaps, entry.gender, travelNumber, false);
+        setBit(periodBitmaps, entry.period, travelNumber, false);
+        setBit(personBitmaps, entry.person, travelNumber, false);
+        setBit(locationBitmaps, entry.location, travelNumber, false);
+    }
+
+    private static void setBit(BitSet[] bitmaps, int index, int travelNumber, boolean value) {
+        if (index >= 0) {
+            bitmaps[index].set(travelNumber, value);
+        }
+    }
+
+    /**
+     * 필터 조건을 모두 만족하는 검색 대상 여행 번호를 오름차순으로 반환한다.<br>
+     * 필터가 비어 있거나 모든 값을 선택한 경우 해당 필터는 조건에서 제외한다. (DB 검색 조건과 동일)
+     */
+    public List<Integer> filter(
+            List<GenderType> genderFilter, List<PeriodType> periodFilter,
+            List<String> personFilter, List<LocationType> locationFilter
+    ) {
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) activated.clone();
+            if (!genderFilter.isEmpty() && genderFilter.size() != TravelSearchConstant.GENDER_TYPE_COUNT) {
+                result.and(union(genderBitmaps, genderFilter.stream().map(GenderType::ordinal).toList()));
+            }
+            if (!periodFilter.isEmpty() && periodFilter.size() != TravelSearchConstant.PERIOD_TYPE_COUNT) {
+                result.and(union(periodBitmaps, periodFilter.stream().map(PeriodType::ordinal).toList()));
+            }
+            if (!personFilter.isEmpty() && personFilter.size() != TravelSearchConstant.PERSON_TYPE_COUNT) {
+                result.and(union(personBitmaps, personFilter.stream().map(TravelFilterIndex::personTypeIndexOf).toList()));
+            }
+            if (locationFilter != null && !locationFilter.isEmpty()) {
+                result.and(union(locationBitmaps, locationFilter.stream().map(LocationType::ordinal).toList()));
+            }
+
+            List<Integer> travelNumbers = new ArrayList<>(result.cardinality());
+            result.stream().forEach(travelNumbers::add);
+            return travelNumbers;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static BitSet union(BitSet[] bitmaps, List<Integer> indexes) {
+        BitSet union = new BitSet();
+        for (int index : indexes) {
+            union.or(bitmaps[index]);
+        }
+        return union;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색 조건의 인원 필터와 같은 기준 (2명 이하, 3~4명, 5명 이상)
+    private static int toPersonTypeIndex(int maxPerson) {
+        if (maxPerson <= 2) {
+            return 0;
+        } else if (maxPerson <= 4) {
+            return 1;
+        }
+        return 2;
+    }
+
+    private static int personTypeIndexOf(String personType) {
+        int index = PERSON_TYPES.indexOf(personType);
+        if (index < 0) {
+            throw new IllegalArgumentException("잘못된 person filtering 조건입니다.");
+        }
+        return index;
+    }
+
+    private static class Entry {
+
+        private final int gender;
+        private final int period;
+        private final int person;
+        private final int location;
+
+        private Entry(int gender, int period, int person, int location) {
+            this.gender = gender;
+            this.period = period;
+            this.person = person;
+            this.location = location;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package swyp.swyp6_team7.travel.index;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 여행 제목, 여행지 이름, 태그 이름에 대한 인메모리 역색인<br>
+ * key = 자모 n-gram, value = 해당 n-gram을 포함하는 travelNumber 집합
+ */
+public class TravelKeywordIndex {
+
+    // 필드 경계를 넘는 일치를 막기 위한 구분자 (정규화된 검색어에는 포함될 수 없다)
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final Map<String, Set<Integer>> postings = new HashMap<>();
+    private final Map<Integer, String> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(int travelNumber, String title, String locationName, List<String> tags) {
+        String document = toDocument(title, locationName, tags);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(travelNumber);
+            documents.put(travelNumber, document);
+            for (String gram : TravelKeywordTokenizer.tokenize(document)) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(travelNumber);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int travelNumber) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(travelNumber);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(int travelNumber) {
+        String document = documents.remove(travelNumber);
+        if (document == null) {
+            return;
+        }
+        for (String gram : TravelKeywordTokenizer.tokenize(document)) {
+            Set<Integer> travelNumbers = postings.get(gram);
+            if (travelNumbers == null) {
+                continue;
+            }
+            travelNumbers.remove(travelNumber);
+            if (travelNumbers.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * keyword를 포함하는 여행 번호 집합을 반환한다.<br>
+     * n-gram posting 교집합으로 후보를 좁힌 뒤, 원문(정규화된 문자열) 포함 여부로 최종 확인한다.
+     */
+    public Set<Integer> search(String keyword) {
+        String query = TravelKeywordTokenizer.normalize(keyword);
+        if (query.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            Collection<Integer> candidates = getCandidates(query);
+
+            Set<Integer> result = new HashSet<>();
+            for (Integer travelNumber : candidates) {
+                if (documents.get(travelNumber).contains(query)) {
+                    result.add(travelNumber);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<Integer> getCandidates(String query) {
+        // 검색어가 n-gram보다 짧으면 전체 문서를 대상으로 확인
+        if (query.length() < TravelKeywordTokenizer.GRAM_SIZE) {
+            return documents.keySet();
+        }
+
+        // posting 크기가 작은 n-gram부터 교집합
+        List<Set<Integer>> postingLists = new ArrayList<>();
+        for (String gram : TravelKeywordTokenizer.tokenize(query)) {
+            Set<Integer> travelNumbers = postings.get(gram);
+            if (travelNumbers == null) {
+                return Collections.emptySet();
+            }
+            postingLists.add(travelNumbers);
+        }
+        postingLists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Integer> candidates = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingLists.get(i));
+        }
+        return candidates;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private String toDocument(String title, String locationName, List<String> tags) {
+        StringBuilder document = new StringBuilder();
+        document.append(TravelKeywordTokenizer.normalize(title));
+        document.append(FIELD_SEPARATOR).append(TravelKeywordTokenizer.normalize(locationName));
+        if (tags != null) {
+            for (String tag : tags) {
+                document.append(FIELD_SEPARATOR).append(TravelKeywordTokenizer.normalize(tag));
+            }
+        }
+        return document.toString();
+    }
+}
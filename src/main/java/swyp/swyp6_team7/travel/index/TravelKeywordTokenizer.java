@@ -0,0 +1,47 @@
+package swyp.swyp6_team7.travel.index;
+
+import swyp.swyp6_team7.location.util.KoreanCharDecomposer;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class TravelKeywordTokenizer {
+
+    // n-gram 크기 (자모 단위)
+    public static final int GRAM_SIZE = 2;
+
+    /**
+     * 공백 제거, 소문자 변환 후 한글 음절을 초성/중성/종성 자모로 분해한다.<br>
+     * 자모 단위로 비교하므로 마지막 글자는 받침이 없는 상태로 입력해도 일치한다. (ex. "서우" -> "서울")
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder result = new StringBuilder(text.length() * 3);
+        for (char character : text.toCharArray()) {
+            if (Character.isWhitespace(character)) {
+                continue;
+            }
+            result.append(KoreanCharDecomposer.decompose(Character.toLowerCase(character)));
+        }
+        return result.toString();
+    }
+
+    // 정규화된 문자열을 n-gram 토큰 집합으로 분리
+    public static Set<String> tokenize(String normalizedText) {
+        Set<String> grams = new HashSet<>();
+        if (normalizedText.length() < GRAM_SIZE) {
+            if (!normalizedText.isEmpty()) {
+                grams.add(normalizedText);
+            }
+            return grams;
+        }
+
+        for (int i = 0; i + GRAM_SIZE <= normalizedText.length(); i++) {
+            grams.add(normalizedText.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,202 @@
+package swyp.swyp6_team7.travel.index;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 모집 중인 여행의 태그 비트셋 인메모리 색인<br>
+ * 태그 이름마다 비트 위치를 부여하고, 여행의 태그 목록과 사용자 선호 태그를 각각 long[] 비트셋으로 표현한다.<br>
+ * 선호 태그 일치 개수 = popcount(여행 비트셋 AND 선호 태그 비트셋)
+ */
+public class TravelTagAffinityIndex {
+
+    // 선호 태그 일치 개수 많은 순서, 제목 사전순, 여행 번호 오름차순
+    private static final Comparator<Match> RANKING = Comparator
+            .comparingInt(Match::getScore).reversed()
+            .thenComparing(Match::getTitle)
+            .thenComparingInt(Match::getTravelNumber);
+
+    private final Map<String, Integer> tagBits = new HashMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(int travelNumber, String title, LocalDate startDate, List<String> tags) {
+        lock.writeLock().lock();
+        try {
+            long[] bits = new long[0];
+            if (tags != null) {
+                for (String tag : tags) {
+                    if (tag == null) {
+                        continue;
+                    }
+                    int bit = tagBits.computeIfAbsent(tag, key -> tagBits.size());
+                    bits = setBit(bits, bit);
+                }
+            }
+            entries.put(travelNumber, new Entry(travelNumber, title, startDate, bits));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int travelNumber) {
+        lock.writeLock().lock();
+        try {
+            entries.remove(travelNumber);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * requestDate 이후 시작하는 여행 중 선호 태그 일치 개수 기준 상위 limit개를 정렬해 반환한다.<br>
+     * after가 주어지면 해당 위치 다음부터 가져온다. (커서 페이징)
+     */
+    public List<Match> findTop(List<String> preferredTags, LocalDate requestDate, int limit, Match after) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            long[] preferredBits = toBits(preferredTags);
+
+            // 순위가 가장 낮은 Match가 head에 오도록 역순 정렬된 크기 limit의 heap
+            PriorityQueue<Match> heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            for (Entry entry : entries.values()) {
+                if (!entry.startsAfter(requestDate)) {
+                    continue;
+                }
+                Match match = new Match(entry.travelNumber, entry.title, countMatchingTags(entry.bits, preferredBits));
+                if (after != null && RANKING.compare(match, after) <= 0) {
+                    continue;
+                }
+                if (heap.size() < limit) {
+                    heap.offer(match);
+                } else if (RANKING.compare(match, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.offer(match);
+                }
+            }
+
+            List<Match> result = new ArrayList<>(heap);
+            result.sort(RANKING);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // requestDate 이후 시작하는 여행 개수
+    public int count(LocalDate requestDate) {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (Entry entry : entries.values()) {
+                if (entry.startsAfter(requestDate)) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인에 없는 태그는 어떤 여행과도 일치하지 않으므로 무시한다
+    private long[] toBits(List<String> tags) {
+        long[] bits = new long[0];
+        if (tags == null) {
+            return bits;
+        }
+        for (String tag : tags) {
+            Integer bit = tagBits.get(tag);
+            if (bit != null) {
+                bits = setBit(bits, bit);
+            }
+        }
+        return bits;
+    }
+
+    private static long[] setBit(long[] bits, int bit) {
+        int word = bit >>> 6;
+        if (word >= bits.length) {
+            bits = Arrays.copyOf(bits, word + 1);
+        }
+        bits[word] |= 1L << bit;
+        return bits;
+    }
+
+    private static int countMatchingTags(long[] travelBits, long[] preferredBits) {
+        int length = Math.min(travelBits.length, preferredBits.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(travelBits[i] & preferredBits[i]);
+        }
+        return count;
+    }
+
+    private static class Entry {
+
+        private final int travelNumber;
+        private final String title;
+        private final LocalDate startDate;
+        private final long[] bits;
+
+        private Entry(int travelNumber, String title, LocalDate startDate, long[] bits) {
+            this.travelNumber = travelNumber;
+            this.title = title;
+            this.startDate = startDate;
+            this.bits = bits;
+        }
+
+        private boolean startsAfter(LocalDate date) {
+            return startDate != null && startDate.isAfter(date);
+        }
+    }
+
+    public static class Match {
+
+        private final int travelNumber;
+        private final String title;
+        private final int score;
+
+        public Match(int travelNumber, String title, int score) {
+            this.travelNumber = travelNumber;
+            this.title = title;
+            this.score = score;
+        }
+
+        public int getTravelNumber() {
+            return travelNumber;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        @Override
+        public String toString() {
+            return "Match{" +
+                    "travelNumber=" + travelNumber +
+                    ", title='" + title + '\'' +
+                    ", score=" + score +
+                    '}';
+        }
+    }
+}
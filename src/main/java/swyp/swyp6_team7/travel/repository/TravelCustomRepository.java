@@ -2,12 +2,20 @@ package swyp.swyp6_team7.travel.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import swyp.swyp6_team7.travel.dto.TravelDetailDto;
+import swyp.swyp6_team7.travel.dto.TravelFilterDto;
+import swyp.swyp6_team7.travel.dto.TravelKeywordDto;
 import swyp.swyp6_team7.travel.dto.TravelRecommendForMemberDto;
 import swyp.swyp6_team7.travel.dto.TravelRecommendForNonMemberDto;
 import swyp.swyp6_team7.travel.dto.TravelSearchCondition;
+import swyp.swyp6_team7.travel.dto.TravelTagAffinityDto;
+import swyp.swyp6_team7.travel.dto.response.TravelCursorPageResponse;
+import swyp.swyp6_team7.travel.dto.response.TravelListResponseDto;
 import swyp.swyp6_team7.travel.dto.response.TravelRecentDto;
 import swyp.swyp6_team7.travel.dto.response.TravelSearchDto;
+import swyp.swyp6_team7.travel.util.TravelCursor;
+import swyp.swyp6_team7.travel.util.TravelSearchFacetCounter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -18,10 +26,39 @@ public interface TravelCustomRepository {
 
     Page<TravelRecentDto> findAllSortedByCreatedAt(PageRequest pageRequest);
 
+    TravelCursorPageResponse<TravelRecentDto> findAllSortedByCreatedAtWithCursor(TravelCursor cursor, int size);
+
     Page<TravelRecommendForMemberDto> findAllByPreferredTags(PageRequest pageRequest, Integer loginUserNumber, List<String> preferredTags, LocalDate requestDate);
 
+    TravelCursorPageResponse<TravelRecommendForMemberDto> findAllByPreferredTagsWithCursor(TravelCursor cursor, int size, Integer loginUserNumber, List<String> preferredTags, LocalDate requestDate);
+
     public Page<TravelRecommendForNonMemberDto> findAllSortedByBookmarkNumberAndTitle(PageRequest pageRequest, LocalDate requestDate);
 
+    List<Integer> findAllNumbersSortedByBookmarkNumberAndTitle(LocalDate requestDate);
+
+    List<TravelRecommendForNonMemberDto> findRecommendForNonMemberByNumbers(List<Integer> travelNumbers);
+
     Page<TravelSearchDto> search(TravelSearchCondition condition);
 
+    TravelCursorPageResponse<TravelSearchDto> searchWithCursor(TravelSearchCondition condition, TravelCursor cursor);
+
+    TravelSearchFacetCounter countSearchFacets(TravelSearchCondition condition, int tagCount);
+
+    List<TravelKeywordDto> findKeywordDocuments(List<Integer> travelNumbers);
+
+    List<TravelFilterDto> findFilterDocuments(List<Integer> travelNumbers);
+
+    List<TravelTagAffinityDto> findTagAffinityDocuments(List<Integer> travelNumbers);
+
+    List<TravelRecommendForMemberDto> findRecommendForMemberByNumbers(Integer loginUserNumber, List<Integer> travelNumbers);
+
+    Page<TravelListResponseDto> findAllCreatedByUser(Integer userNumber, Pageable pageable);
+
+    Page<TravelListResponseDto> findAllAppliedByUser(Integer userNumber, Pageable pageable);
+
+    List<TravelListResponseDto> findListByNumbers(Integer loginUserNumber, List<Integer> travelNumbers);
+
+    // 주어진 순서대로 조회하되 진행 중(IN_PROGRESS)인 여행만 포함한다
+    List<TravelListResponseDto> findInProgressListByNumbers(Integer loginUserNumber, List<Integer> travelNumbers);
+
 }
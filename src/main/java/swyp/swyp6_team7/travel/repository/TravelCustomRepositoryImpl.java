@@ -1,6 +1,7 @@
 package swyp.swyp6_team7.travel.repository;
 
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -14,9 +15,11 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import swyp.swyp6_team7.bookmark.entity.QBookmark;
+import swyp.swyp6_team7.companion.domain.QCompanion;
 import swyp.swyp6_team7.location.domain.LocationType;
 import swyp.swyp6_team7.location.domain.QLocation;
 import swyp.swyp6_team7.member.entity.QUsers;
@@ -25,17 +28,31 @@ import swyp.swyp6_team7.tag.domain.QTravelTag;
 import swyp.swyp6_team7.travel.domain.GenderType;
 import swyp.swyp6_team7.travel.domain.PeriodType;
 import swyp.swyp6_team7.travel.domain.QTravel;
+import swyp.swyp6_team7.travel.domain.QTravelStats;
+import swyp.swyp6_team7.travel.domain.Travel;
 import swyp.swyp6_team7.travel.domain.TravelStatus;
 import swyp.swyp6_team7.travel.dto.*;
+import swyp.swyp6_team7.travel.dto.response.TravelCursorPageResponse;
+import swyp.swyp6_team7.travel.dto.response.TravelListResponseDto;
 import swyp.swyp6_team7.travel.dto.response.TravelRecentDto;
 import swyp.swyp6_team7.travel.dto.response.TravelSearchDto;
+import swyp.swyp6_team7.travel.repository.TravelListHydrator.TravelListRow;
+import swyp.swyp6_team7.travel.util.TravelCursor;
 import swyp.swyp6_team7.travel.util.TravelSearchConstant;
+import swyp.swyp6_team7.travel.util.TravelSearchFacetCounter;
 import swyp.swyp6_team7.travel.util.TravelSearchSortingType;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 import static com.querydsl.core.group.GroupBy.groupBy;
 import static com.querydsl.core.group.GroupBy.list;
@@ -44,10 +61,16 @@ import static com.querydsl.core.group.GroupBy.list;
 @Repository
 public class TravelCustomRepositoryImpl implements TravelCustomRepository {
 
+    // 후보 여행 번호 IN 조건 하나에 넣는 최대 개수
+    private static final int CANDIDATE_WINDOW_SIZE = 5_000;
+
     private final JPAQueryFactory queryFactory;
 
+    private final TravelListHydrator hydrator;
+
     public TravelCustomRepositoryImpl(JPAQueryFactory queryFactory) {
         this.queryFactory = queryFactory;
+        this.hydrator = new TravelListHydrator(queryFactory);
     }
 
     QTravel travel = QTravel.travel;
@@ -56,6 +79,8 @@ public class TravelCustomRepositoryImpl implements TravelCustomRepository {
     QTravelTag travelTag = QTravelTag.travelTag;
     QBookmark bookmark = QBookmark.bookmark;
     QLocation location = QLocation.location;
+    QTravelStats travelStats = QTravelStats.travelStats;
+    QCompanion companion = QCompanion.companion;
 
     @Override
     public TravelDetailDto getDetailsByNumber(int travelNumber) {
@@ -63,6 +88,7 @@ public class TravelCustomRepositoryImpl implements TravelCustomRepository {
                 .select(travel)
                 .from(travel)
                 .leftJoin(users).on(travel.userNumber.eq(users.userNumber))
+                .leftJoin(travelStats).on(travelStats.travelNumber.eq(travel.number))
                 .leftJoin(travel.travelTags, travelTag)
                 .leftJoin(travelTag.tag, tag)
                 .where(travel.number.eq(travelNumber))
@@ -71,7 +97,9 @@ public class TravelCustomRepositoryImpl implements TravelCustomRepository {
                         users.userNumber,
                         users.userName,
                         users.userAgeGroup,
-                        travel.companions.size(),
+                        companionCount(),
+                        travelStats.enrollmentCount.coalesce(0),
+                        bookmarkCount(),
                         list(tag.name)
                 ))).get(travelNumber);
     }
@@ -91,25 +119,7 @@ public class TravelCustomRepositoryImpl implements TravelCustomRepository {
                 .limit(pageRequest.getPageSize())
                 .fetch();
 
-        List<TravelRecentDto> content = queryFactory
-                .select(travel)
-                .from(travel)
-                .leftJoin(users).on(travel.userNumber.eq(users.userNumber))
-                .leftJoin(travel.travelTags, travelTag)
-                .leftJoin(travelTag.tag, tag)
-                .where(
-                        travel.number.in(travels)
-                )
-                .orderBy(travel.createdAt.desc())
-                .transform(groupBy(travel.number).list(
-                        Projections.constructor(TravelRecentDto.class,
-                                travel,
-                                users.userNumber,
-                                users.userName,
-                                travel.companions.size(),
-                                list(tag.name)
-                        ))
-                );
+        List<TravelRecentDto> content = hydrator.hydrate(travels, this::toRecentDto);
 
         JPAQuery<Long> countQuery = queryFactory
                 .select(travel.number.countDistinct())
@@ -121,6 +131,36 @@ public class TravelCustomRepositoryImpl implements TravelCustomRepository {
         return PageableExecutionUtils.getPage(content, pageRequest, countQuery::fetchOne);
     }
 
+    @Override
+    public TravelCursorPageResponse<TravelRecentDto> findAllSortedByCreatedAtWithCursor(TravelCursor cursor, int size) {
+
+        List<Tuple> tuples = queryFactory
+                .select(travel.number, travel.createdAt)
+                .from(travel)
+                .where(
+                        statusInProgress(),
+                        createdAtBefore(cursor)
+                )
+                .orderBy(travel.createdAt.desc(), travel.number.desc())
+                .limit(size)
+                .fetch();
+
+        List<Integer> travels = tuples.stream()
+                .map(t -> t.get(travel.number))
+                .toList();
+
+        List<TravelRecentDto> content = hydrator.hydrate(travels, this::toRecentDto);
+
+        // 다음 커서 설정 (가져온 개수가 size보다 작으면 마지막 페이지)
+        String nextCursor = null;
+        if (!tuples.isEmpty() && tuples.size() == size) {
+            Tuple last = tuples.get(tuples.size() - 1);
+            nextCursor = TravelCursor.ofCreatedAt(last.get(travel.number), last.get(travel.createdAt)).encode();
+        }
+
+        return TravelCursorPageResponse.from(content, nextCursor);
+    }
+
     @Override
     public Page<TravelRecommendForMemberDto> findAllByPreferredTags(PageRequest pageRequest, Integer loginUserNumber, List<String> preferredTags, LocalDate requestDate) {
 
@@ -161,28 +201,9 @@ public class TravelCustomRepositoryImpl implements TravelCustomRepository {
             travelMap.put(tuple.get(travel.number), tuple.get(matchingTagCount).intValue());
         }
 
-        List<TravelRecommendForMemberDto> content = queryFactory
-                .select(travel)
-                .from(travel)
-                .leftJoin(users).on(travel.userNumber.eq(users.userNumber))
-                .leftJoin(travel.travelTags, travelTag)
-                .leftJoin(travelTag.tag, tag)
-                .leftJoin(bookmark).on(bookmark.userNumber.eq(loginUserNumber)
-                        .and(bookmark.travelNumber.eq(travel.number)))
-                .where(
-                        travel.number.in(travels),
-                        travel.startDate.after(requestDate)
-                )
-                .transform(groupBy(travel.number).list(
-                        Projections.constructor(TravelRecommendForMemberDto.class,
-                                travel,
-                                users.userNumber,
-                                users.userName,
-                                travel.companions.size(),
-                                list(tag.name),
-                                bookmark.bookmarkId.isNotNull()
-                        ))
-                );
+        Set<Integer> bookmarkedTravels = findBookmarkedTravelNumbers(loginUserNumber, travels);
+        List<TravelRecommendForMemberDto> content = hydrator.hydrate(travels,
+                row -> toRecommendForMemberDto(row, bookmarkedTravels.contains(row.getTravelNumber())));
         content.stream()
                 .forEach(dto -> dto.updatePreferredNumber(travelMap.get(dto.getTravelNumber())));
 
@@ -198,37 +219,70 @@ public class TravelCustomRepositoryImpl implements TravelCustomRepository {
     }
 
     @Override
-    public Page<TravelRecommendForNonMemberDto> findAllSortedByBookmarkNumberAndTitle(PageRequest pageRequest, LocalDate requestDate) {
+    public TravelCursorPageResponse<TravelRecommendForMemberDto> findAllByPreferredTagsWithCursor(
+            TravelCursor cursor, int size, Integer loginUserNumber, List<String> preferredTags, LocalDate requestDate
+    ) {
 
-        NumberExpression<Integer> bookmarkCount = bookmark.bookmarkId.count().intValue();
+        NumberExpression<Long> matchingTagCount = new CaseBuilder()
+                .when(travel.travelTags.isEmpty()).then(Expressions.nullExpression())
+                .when(tag.name.in(preferredTags)).then(Expressions.constant(1L))
+                .otherwise(Expressions.nullExpression()).count();
 
-        List<TravelRecommendForNonMemberDto> content = queryFactory
-                .select(travel)
+        List<Tuple> tuples = queryFactory
+                .select(
+                        travel.number,
+                        travel.title,
+                        matchingTagCount
+                )
                 .from(travel)
-                .leftJoin(users).on(travel.userNumber.eq(users.userNumber))
                 .leftJoin(travel.travelTags, travelTag)
                 .leftJoin(travelTag.tag, tag)
-                .leftJoin(bookmark).on(bookmark.travelNumber.eq(travel.number))
                 .where(
                         statusInProgress(),
                         travel.startDate.after(requestDate)
                 )
-                .groupBy(travel.number)
+                .groupBy(travel.number, travel.title)
+                .having(preferredTagsAfter(cursor, matchingTagCount))
                 .orderBy(
-                        bookmarkCount.desc(),
-                        travel.title.asc()
+                        matchingTagCount.desc(),
+                        travel.title.asc(),
+                        travel.number.asc()
                 )
+                .limit(size)
+                .fetch();
+
+        List<Integer> travels = tuples.stream()
+                .map(t -> t.get(travel.number))
+                .toList();
+
+        Map<Integer, Integer> travelMap = new HashMap<>();
+        for (Tuple tuple : tuples) {
+            travelMap.put(tuple.get(travel.number), tuple.get(matchingTagCount).intValue());
+        }
+
+        Set<Integer> bookmarkedTravels = findBookmarkedTravelNumbers(loginUserNumber, travels);
+        List<TravelRecommendForMemberDto> content = hydrator.hydrate(travels,
+                row -> toRecommendForMemberDto(row, bookmarkedTravels.contains(row.getTravelNumber())));
+        content.forEach(dto -> dto.updatePreferredNumber(travelMap.get(dto.getTravelNumber())));
+
+        String nextCursor = null;
+        if (!tuples.isEmpty() && tuples.size() == size) {
+            Tuple last = tuples.get(tuples.size() - 1);
+            nextCursor = TravelCursor.ofPreferredTags(last.get(travel.number), last.get(matchingTagCount), last.get(travel.title)).encode();
+        }
+
+        return TravelCursorPageResponse.from(content, nextCursor);
+    }
+
+    @Override
+    public Page<TravelRecommendForNonMemberDto> findAllSortedByBookmarkNumberAndTitle(PageRequest pageRequest, LocalDate requestDate) {
+
+        List<Integer> travels = selectSortedByBookmarkNumberAndTitle(requestDate)
                 .offset(pageRequest.getOffset())
                 .limit(pageRequest.getPageSize())
-                .transform(groupBy(travel.number).list(
-                                Projections.constructor(TravelRecommendForNonMemberDto.class,
-                                        travel,
-                                        users.userNumber,
-                                        users.userName,
-                                        travel.companions.size(),
-                                        list(tag.name),
-                                        bookmarkCount
-                                )));
+                .fetch();
+
+        List<TravelRecommendForNonMemberDto> content = hydrator.hydrate(travels, this::toRecommendForNonMemberDto);
 
         JPAQuery<Long> countQuery = queryFactory
                 .select(travel.number.countDistinct())
@@ -242,78 +296,455 @@ public class TravelCustomRepositoryImpl implements TravelCustomRepository {
     }
 
     @Override
-    public Page<TravelSearchDto> search(TravelSearchCondition condition) {
+    public List<Integer> findAllNumbersSortedByBookmarkNumberAndTitle(LocalDate requestDate) {
+        return selectSortedByBookmarkNumberAndTitle(requestDate).fetch();
+    }
 
-        // 조회 조건에 해당하는 Travel의 Number를 가져온다
-        List<Integer> travels = queryFactory
+    @Override
+    public List<TravelRecommendForNonMemberDto> findRecommendForNonMemberByNumbers(List<Integer> travelNumbers) {
+        return hydrator.hydrate(travelNumbers, this::toRecommendForNonMemberDto);
+    }
+
+    // travel_stats의 북마크 수로 정렬 (북마크 테이블 집계 없음)
+    private JPAQuery<Integer> selectSortedByBookmarkNumberAndTitle(LocalDate requestDate) {
+        return queryFactory
                 .select(travel.number)
                 .from(travel)
+                .leftJoin(travelStats).on(travelStats.travelNumber.eq(travel.number))
+                .where(
+                        statusInProgress(),
+                        travel.startDate.after(requestDate)
+                )
+                .orderBy(
+                        bookmarkCount().desc(),
+                        travel.title.asc(),
+                        travel.number.asc()
+                );
+    }
+
+    @Override
+    public Page<TravelSearchDto> search(TravelSearchCondition condition) {
+        PageRequest pageRequest = condition.getPageRequest();
+        NumberExpression<Integer> bookmarkCount = bookmarkCount();
+        List<List<Integer>> windows = candidateWindows(condition);
+
+        // 조회 조건에 해당하는 Travel의 정렬 키를 가져온다
+        // 후보 구간이 여러 개라면 구간마다 (offset + size)개씩 가져와 정렬 키로 병합한 뒤 페이지를 자른다
+        List<Tuple> sortKeys;
+        if (windows.size() == 1) {
+            sortKeys = searchSortKeysQuery(condition, windows.get(0), null, bookmarkCount)
+                    .offset(pageRequest.getOffset())
+                    .limit(pageRequest.getPageSize())
+                    .fetch();
+        } else {
+            sortKeys = mergeSortKeys(condition, windows, null, bookmarkCount, pageRequest.getOffset() + pageRequest.getPageSize()).stream()
+                    .skip(pageRequest.getOffset())
+                    .toList();
+        }
+        List<Integer> travels = sortKeys.stream()
+                .map(t -> t.get(travel.number))
+                .toList();
+
+        // 정렬된 여행 번호 순서대로 목록 DTO를 조립한다
+        List<TravelSearchDto> content = hydrator.hydrate(travels, this::toSearchDto);
+
+        // 페이징을 위한 count (구간끼리는 겹치지 않으므로 구간별 개수의 합)
+        return PageableExecutionUtils.getPage(content, pageRequest, () -> windows.stream()
+                .mapToLong(window -> countSearchResult(condition, window))
+                .sum());
+    }
+
+    @Override
+    public TravelCursorPageResponse<TravelSearchDto> searchWithCursor(TravelSearchCondition condition, TravelCursor cursor) {
+        int size = condition.getPageRequest().getPageSize();
+        TravelSearchSortingType sortingType = condition.getSortingType();
+        NumberExpression<Integer> bookmarkCount = bookmarkCount();
+        List<List<Integer>> windows = candidateWindows(condition);
+
+        // 조회 조건과 커서 이후에 해당하는 Travel의 정렬 키를 가져온다 (count 쿼리 없음)
+        List<Tuple> tuples = windows.size() == 1
+                ? searchSortKeysQuery(condition, windows.get(0), cursor, bookmarkCount).limit(size).fetch()
+                : mergeSortKeys(condition, windows, cursor, bookmarkCount, size);
+
+        List<Integer> travels = tuples.stream()
+                .map(t -> t.get(travel.number))
+                .toList();
+
+        List<TravelSearchDto> content = hydrator.hydrate(travels, this::toSearchDto);
+
+        String nextCursor = null;
+        if (!tuples.isEmpty() && tuples.size() == size) {
+            Tuple last = tuples.get(tuples.size() - 1);
+            TravelCursor next = sortingType == TravelSearchSortingType.RECOMMEND
+                    ? TravelCursor.ofRecommend(last.get(travel.number), last.get(bookmarkCount), last.get(travel.viewCount))
+                    : TravelCursor.ofCreatedAt(last.get(travel.number), last.get(travel.createdAt));
+            nextCursor = next.encode();
+        }
+
+        return TravelCursorPageResponse.from(content, nextCursor);
+    }
+
+    // 검색 조건(과 커서)에 해당하는 여행의 정렬 키 (여행 번호, 생성 일시, 조회수, 북마크 수) 조회 쿼리
+    private JPAQuery<Tuple> searchSortKeysQuery(
+            TravelSearchCondition condition, List<Integer> window, TravelCursor cursor, NumberExpression<Integer> bookmarkCount
+    ) {
+        TravelSearchSortingType sortingType = condition.getSortingType();
+
+        JPAQuery<Tuple> travelsQuery = queryFactory
+                .select(travel.number, travel.createdAt, travel.viewCount, bookmarkCount)
+                .from(travel)
                 .leftJoin(travel.travelTags, travelTag)
                 .leftJoin(travelTag.tag, tag)
-                .leftJoin(bookmark).on(bookmark.travelNumber.eq(travel.number))
-                .leftJoin(location).on(travel.location.id.eq(location.id))
+                .leftJoin(travelStats).on(travelStats.travelNumber.eq(travel.number));
+        joinLocationForKeyword(travelsQuery, condition);
+
+        return travelsQuery
                 .where(
-                        titleAndLocationLike(condition.getKeyword()),
-                        statusActivated(),
-                        eqGenderTypes(condition.getGenderFilter()),
-                        eqPersonRangeType(condition.getPersonRangeFilter()),
-                        eqPeriodType(condition.getPeriodFilter()),
+                        keywordMatched(condition),
+                        travelNumbersIn(window),
+                        searchFilterMatched(condition),
                         eqTags(condition.getTags()),
-                        eqLocationType(condition.getLocationFilter())
+                        searchCreatedAtCursor(sortingType, cursor),
+                        recommendAfter(sortingType, cursor, bookmarkCount)
                 )
-                .groupBy(travel.number)
+                .groupBy(travel.number, travel.createdAt, travel.viewCount, travelStats.bookmarkCount)
                 .having(tag.name.count().goe((long) condition.getTags().size()))
-                .orderBy(getOrderSpecifier(condition.getSortingType()).stream()
-                        .toArray(OrderSpecifier[]::new))
-                .offset(condition.getPageRequest().getOffset())
-                .limit(condition.getPageRequest().getPageSize())
-                .fetch();
+                .orderBy(getCursorOrderSpecifier(sortingType, bookmarkCount).stream()
+                        .toArray(OrderSpecifier[]::new));
+    }
+
+    // 후보 구간마다 앞에서 limit개의 정렬 키를 가져와 정렬 순서대로 병합한다 (전체 정렬 결과의 앞 limit개와 같다)
+    private List<Tuple> mergeSortKeys(
+            TravelSearchCondition condition, List<List<Integer>> windows, TravelCursor cursor,
+            NumberExpression<Integer> bookmarkCount, long limit
+    ) {
+        List<Tuple> merged = new ArrayList<>();
+        for (List<Integer> window : windows) {
+            merged.addAll(searchSortKeysQuery(condition, window, cursor, bookmarkCount).limit(limit).fetch());
+        }
+        return merged.stream()
+                .sorted(getSortKeyComparator(condition.getSortingType(), bookmarkCount))
+                .limit(limit)
+                .toList();
+    }
+
+    // 정렬용 travel_stats join 제외
+    private long countSearchResult(TravelSearchCondition condition, List<Integer> window) {
+        JPAQuery<Long> countQuery = queryFactory
+                .select(travel.number.countDistinct())
+                .from(travel)
+                .leftJoin(travel.travelTags, travelTag)
+                .leftJoin(travelTag.tag, tag);
+        joinLocationForKeyword(countQuery, condition);
+        Long count = countQuery
+                .where(
+                        keywordMatched(condition),
+                        travelNumbersIn(window),
+                        searchFilterMatched(condition),
+                        eqTags(condition.getTags())
+                )
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 색인으로 찾은 후보 여행 번호를 여행 번호 순으로 CANDIDATE_WINDOW_SIZE개씩 나눈 구간<br>
+     * 후보 제한이 없거나(null) 한 구간에 들어가면 구간은 하나다.
+     * 흔한 검색어라 후보가 많아도 LIKE 검색으로 바꾸지 않고 구간별 IN 조건으로 색인 결과를 그대로 사용한다.
+     */
+    private List<List<Integer>> candidateWindows(TravelSearchCondition condition) {
+        List<Integer> candidates = condition.getCandidateTravelNumbers();
+        if (candidates == null || candidates.size() <= CANDIDATE_WINDOW_SIZE) {
+            return Collections.singletonList(candidates);
+        }
+
+        List<Integer> sorted = candidates.stream().sorted().toList();
+        List<List<Integer>> windows = new ArrayList<>();
+        for (int from = 0; from < sorted.size(); from += CANDIDATE_WINDOW_SIZE) {
+            windows.add(sorted.subList(from, Math.min(from + CANDIDATE_WINDOW_SIZE, sorted.size())));
+        }
+        return windows;
+    }
+
+    /**
+     * 검색 결과의 필터별 여행 수를 GROUP BY로 집계한다.<br>
+     * 필터별 개수는 해당 필터에서 선택한 값을 제외한 나머지 조건으로 센다. (선택하지 않은 값을 골랐을 때의 개수도 보여준다)
+     * 상위 태그는 개수가 많은 순서로 tagCount개만 가져오며, 후보 구간이 여러 개라면 구간별 개수를 모두 더한 뒤 고른다.
+     */
+    @Override
+    public TravelSearchFacetCounter countSearchFacets(TravelSearchCondition condition, int tagCount) {
+        TravelSearchFacetCounter counter = new TravelSearchFacetCounter();
+        List<List<Integer>> windows = candidateWindows(condition);
+        for (List<Integer> window : windows) {
+            Long total = facetQuery(travel.count(), condition, window, null).fetchOne();
+            counter.addTotal(total == null ? 0 : total);
+
+            countFacet(condition, window, SearchFacet.GENDER, travel.genderType, counter::addGender);
+            countFacet(condition, window, SearchFacet.PERIOD, travel.periodType, counter::addPeriod);
+            countFacet(condition, window, SearchFacet.PERSON, travel.maxPerson, counter::addPerson);
+            countFacet(condition, window, SearchFacet.LOCATION, location.locationType, counter::addLocation);
+            countTagFacet(condition, window, windows.size() == 1 ? tagCount : null, counter::addTag);
+        }
+        return counter;
+    }
+
+    private <K> void countFacet(
+            TravelSearchCondition condition, List<Integer> window, SearchFacet facet,
+            Expression<K> key, BiConsumer<K, Long> consumer
+    ) {
+        NumberExpression<Long> travelCount = travel.count();
+        facetQuery(Projections.tuple(key, travelCount), condition, window, facet)
+                .groupBy(key)
+                .fetch()
+                .forEach(row -> consumer.accept(row.get(key), row.get(travelCount)));
+    }
+
+    private void countTagFacet(TravelSearchCondition condition, List<Integer> window, Integer limit, BiConsumer<String, Long> consumer) {
+        NumberExpression<Long> travelCount = travel.count();
+        JPAQuery<Tuple> tagQuery = queryFactory
+                .select(tag.name, travelCount)
+                .from(travel)
+                .leftJoin(location).on(travel.location.id.eq(location.id))
+                .join(travel.travelTags, travelTag)
+                .join(travelTag.tag, tag)
+                .where(facetMatched(condition, window, SearchFacet.TAG))
+                .groupBy(tag.name)
+                .orderBy(travelCount.desc(), tag.name.asc());
+        if (limit != null) {
+            tagQuery.limit(limit);
+        }
+        tagQuery.fetch()
+                .forEach(row -> consumer.accept(row.get(tag.name), row.get(travelCount)));
+    }
+
+    // 필터 집계 쿼리 (국내/해외 집계와 LIKE 검색을 위해 location을 항상 join한다, location은 여행당 하나라 개수가 늘지 않는다)
+    private <T> JPAQuery<T> facetQuery(Expression<T> select, TravelSearchCondition condition, List<Integer> window, SearchFacet excluded) {
+        return queryFactory
+                .select(select)
+                .from(travel)
+                .leftJoin(location).on(travel.location.id.eq(location.id))
+                .where(facetMatched(condition, window, excluded));
+    }
+
+    // 검색 조건 중 집계하는 필터(excluded)의 조건만 제외한다 (excluded가 null이면 전체 검색 조건)
+    private BooleanExpression facetMatched(TravelSearchCondition condition, List<Integer> window, SearchFacet excluded) {
+        return Expressions.allOf(
+                keywordMatched(condition),
+                travelNumbersIn(window),
+                statusActivated(),
+                excluded == SearchFacet.GENDER ? null : eqGenderTypes(condition.getGenderFilter()),
+                excluded == SearchFacet.PERIOD ? null : eqPeriodType(condition.getPeriodFilter()),
+                excluded == SearchFacet.PERSON ? null : eqPersonRangeType(condition.getPersonRangeFilter()),
+                excluded == SearchFacet.LOCATION ? null : locationTypeIn(condition.getLocationFilter()),
+                excluded == SearchFacet.TAG ? null : containsAllTags(condition.getTags())
+        );
+    }
 
-        // leftJoin으로 필요한 추가 정보를 가져온다
-        List<TravelSearchDto> content = queryFactory
+    // location을 join한 쿼리에서 사용하는 국내/해외 조건
+    private BooleanExpression locationTypeIn(List<LocationType> locationFilter) {
+        if (locationFilter == null || locationFilter.isEmpty()) {
+            return null;
+        }
+        return location.locationType.in(locationFilter);
+    }
+
+    // 주어진 태그를 모두 가진 여행 (태그 join 없이 서브쿼리로 판단해 집계 개수가 늘지 않는다)
+    private BooleanExpression containsAllTags(List<String> tags) {
+        if (tags.isEmpty()) {
+            return null;
+        }
+        QTravelTag filterTravelTag = new QTravelTag("filterTravelTag");
+        QTag filterTag = new QTag("filterTag");
+        return travel.number.in(
+                JPAExpressions
+                        .select(filterTravelTag.travel.number)
+                        .from(filterTravelTag)
+                        .join(filterTravelTag.tag, filterTag)
+                        .where(filterTag.name.in(tags))
+                        .groupBy(filterTravelTag.travel.number)
+                        .having(filterTag.name.count().goe((long) tags.size()))
+        );
+    }
+
+    @Override
+    public List<TravelKeywordDto> findKeywordDocuments(List<Integer> travelNumbers) {
+        return queryFactory
                 .select(travel)
                 .from(travel)
-                .leftJoin(users).on(travel.userNumber.eq(users.userNumber))
                 .leftJoin(travel.travelTags, travelTag)
                 .leftJoin(travelTag.tag, tag)
                 .where(
-                        travel.number.in(travels)
+                        travel.status.ne(TravelStatus.DELETED),
+                        travelNumbersIn(travelNumbers)
                 )
-                .orderBy(orderCaseBuilder(travels))
                 .transform(groupBy(travel.number).list(
-                        Projections.constructor(TravelSearchDto.class,
-                                travel,
-                                users.userNumber,
-                                users.userName,
-                                travel.companions.size(),
+                        Projections.constructor(TravelKeywordDto.class,
+                                travel.number,
+                                travel.title,
+                                travel.locationName,
                                 list(tag.name)
                         )));
+    }
 
-        // 페이징을 위한 countQuery
-        JPAQuery<Long> countQuery = queryFactory
-                .select(travel.number.countDistinct())
+    @Override
+    public List<TravelFilterDto> findFilterDocuments(List<Integer> travelNumbers) {
+        return queryFactory
+                .select(Projections.constructor(TravelFilterDto.class,
+                        travel.number,
+                        travel.status,
+                        travel.genderType,
+                        travel.periodType,
+                        travel.maxPerson,
+                        location.locationType
+                ))
+                .from(travel)
+                .leftJoin(travel.location, location)
+                .where(
+                        statusActivated(),
+                        travelNumbersIn(travelNumbers)
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<TravelTagAffinityDto> findTagAffinityDocuments(List<Integer> travelNumbers) {
+        return queryFactory
+                .select(travel)
                 .from(travel)
                 .leftJoin(travel.travelTags, travelTag)
                 .leftJoin(travelTag.tag, tag)
-                .leftJoin(bookmark).on(bookmark.travelNumber.eq(travel.number))
-                .leftJoin(location).on(travel.location.id.eq(location.id))
                 .where(
-                        titleAndLocationLike(condition.getKeyword()),
-                        statusActivated(),
-                        eqGenderTypes(condition.getGenderFilter()),
-                        eqPersonRangeType(condition.getPersonRangeFilter()),
-                        eqPeriodType(condition.getPeriodFilter()),
-                        eqTags(condition.getTags()),
-                        eqLocationType(condition.getLocationFilter())
+                        statusInProgress(),
+                        travelNumbersIn(travelNumbers)
+                )
+                .transform(groupBy(travel.number).list(
+                        Projections.constructor(TravelTagAffinityDto.class,
+                                travel.number,
+                                travel.title,
+                                travel.startDate,
+                                list(tag.name)
+                        )));
+    }
+
+    @Override
+    public List<TravelRecommendForMemberDto> findRecommendForMemberByNumbers(Integer loginUserNumber, List<Integer> travelNumbers) {
+        Set<Integer> bookmarkedTravels = findBookmarkedTravelNumbers(loginUserNumber, travelNumbers);
+        return hydrator.hydrate(travelNumbers,
+                row -> toRecommendForMemberDto(row, bookmarkedTravels.contains(row.getTravelNumber())));
+    }
+
+    // 사용자가 만든 여행 목록 (최신 등록순, 삭제된 여행 제외)
+    @Override
+    public Page<TravelListResponseDto> findAllCreatedByUser(Integer userNumber, Pageable pageable) {
+        List<Integer> travelNumbers = queryFactory
+                .select(travel.number)
+                .from(travel)
+                .where(
+                        travel.userNumber.eq(userNumber),
+                        statusNotDeleted()
+                )
+                .orderBy(travel.createdAt.desc(), travel.number.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        List<TravelListResponseDto> content = findListByNumbers(userNumber, travelNumbers);
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(travel.count())
+                .from(travel)
+                .where(
+                        travel.userNumber.eq(userNumber),
+                        statusNotDeleted()
                 );
 
-        return PageableExecutionUtils.getPage(content, condition.getPageRequest(), countQuery::fetchOne);
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    // 사용자가 동행으로 참가한 여행 목록 (참가 확정 순서, 삭제된 여행 제외)
+    @Override
+    public Page<TravelListResponseDto> findAllAppliedByUser(Integer userNumber, Pageable pageable) {
+        List<Integer> travelNumbers = queryFactory
+                .select(travel.number)
+                .from(companion)
+                .join(companion.travel, travel)
+                .where(
+                        companion.userNumber.eq(userNumber),
+                        statusNotDeleted()
+                )
+                .orderBy(companion.number.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        List<TravelListResponseDto> content = findListByNumbers(userNumber, travelNumbers);
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(companion.count())
+                .from(companion)
+                .join(companion.travel, travel)
+                .where(
+                        companion.userNumber.eq(userNumber),
+                        statusNotDeleted()
+                );
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public List<TravelListResponseDto> findListByNumbers(Integer loginUserNumber, List<Integer> travelNumbers) {
+        Set<Integer> bookmarkedTravels = findBookmarkedTravelNumbers(loginUserNumber, travelNumbers);
+        return hydrator.hydrate(travelNumbers,
+                row -> toListResponseDto(row, bookmarkedTravels.contains(row.getTravelNumber())));
+    }
+
+    @Override
+    public List<TravelListResponseDto> findInProgressListByNumbers(Integer loginUserNumber, List<Integer> travelNumbers) {
+        Set<Integer> bookmarkedTravels = findBookmarkedTravelNumbers(loginUserNumber, travelNumbers);
+        return hydrator.hydrate(travelNumbers, travel.status.eq(TravelStatus.IN_PROGRESS),
+                row -> toListResponseDto(row, bookmarkedTravels.contains(row.getTravelNumber())));
+    }
+
+    // 검색어 색인으로 후보가 결정되지 않은 경우에만 LIKE 검색을 위해 location을 join한다
+    private void joinLocationForKeyword(JPAQuery<?> query, TravelSearchCondition condition) {
+        if (!condition.isKeywordResolved() && !StringUtils.isNullOrEmpty(condition.getKeyword())) {
+            query.leftJoin(location).on(travel.location.id.eq(location.id));
+        }
     }
 
 
     /**
      * Where절 BooleanExpression
      */
+    private BooleanExpression keywordMatched(TravelSearchCondition condition) {
+        // 검색어 색인으로 후보 여행 번호가 결정되었다면 LIKE 검색 생략
+        if (condition.isKeywordResolved()) {
+            return null;
+        }
+        return titleAndLocationLike(condition.getKeyword());
+    }
+
+    // 필터 색인으로 후보 여행 번호가 결정되었다면 상태, 성별, 인원, 기간, 국내/해외 조건은 이미 반영되어 있다
+    private BooleanExpression searchFilterMatched(TravelSearchCondition condition) {
+        if (condition.isFilterResolved()) {
+            return null;
+        }
+        return Expressions.allOf(
+                statusActivated(),
+                eqGenderTypes(condition.getGenderFilter()),
+                eqPersonRangeType(condition.getPersonRangeFilter()),
+                eqPeriodType(condition.getPeriodFilter()),
+                eqLocationType(condition.getLocationFilter())
+        );
+    }
+
+    private BooleanExpression travelNumbersIn(List<Integer> travelNumbers) {
+        if (travelNumbers == null) {
+            return null;
+        }
+        return travel.number.in(travelNumbers);
+    }
+
     private BooleanExpression titleAndLocationLike(String keyword) {
         if (StringUtils.isNullOrEmpty(keyword)) {
             return null;
@@ -321,11 +752,24 @@ public class TravelCustomRepositoryImpl implements TravelCustomRepository {
         return travel.title.contains(keyword).or(location.locationName.like("%" + keyword + "%"));
     }
 
+    // travel_stats 집계 값 (집계 row가 없으면 0)
+    private NumberExpression<Integer> companionCount() {
+        return travelStats.companionCount.coalesce(0);
+    }
+
+    private NumberExpression<Integer> bookmarkCount() {
+        return travelStats.bookmarkCount.coalesce(0);
+    }
+
     private BooleanExpression statusActivated() {
         return travel.status.eq(TravelStatus.IN_PROGRESS)
                 .or(travel.status.eq(TravelStatus.CLOSED));
     }
 
+    private BooleanExpression statusNotDeleted() {
+        return travel.status.ne(TravelStatus.DELETED);
+    }
+
     private BooleanExpression statusInProgress() {
         return travel.status.eq(TravelStatus.IN_PROGRESS);
     }
@@ -387,36 +831,139 @@ public class TravelCustomRepositoryImpl implements TravelCustomRepository {
         );
     }
 
-    private List<OrderSpecifier<?>> getOrderSpecifier(TravelSearchSortingType sortingType) {
+    /**
+     * No-Offset 페이징 커서 조건
+     */
+    private BooleanExpression createdAtBefore(TravelCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        LocalDateTime createdAt = cursor.requireCreatedAt();
+        return travel.createdAt.lt(createdAt)
+                .or(travel.createdAt.eq(createdAt).and(travel.number.lt(cursor.getTravelNumber())));
+    }
+
+    private BooleanExpression createdAtAfter(TravelCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        LocalDateTime createdAt = cursor.requireCreatedAt();
+        return travel.createdAt.gt(createdAt)
+                .or(travel.createdAt.eq(createdAt).and(travel.number.gt(cursor.getTravelNumber())));
+    }
+
+    private BooleanExpression preferredTagsAfter(TravelCursor cursor, NumberExpression<Long> matchingTagCount) {
+        if (cursor == null) {
+            return null;
+        }
+        long count = cursor.requireScore();
+        String title = cursor.requireTitle();
+        return matchingTagCount.lt(count)
+                .or(matchingTagCount.eq(count).and(travel.title.gt(title)))
+                .or(matchingTagCount.eq(count).and(travel.title.eq(title)).and(travel.number.gt(cursor.getTravelNumber())));
+    }
+
+    private BooleanExpression searchCreatedAtCursor(TravelSearchSortingType sortingType, TravelCursor cursor) {
+        if (sortingType == TravelSearchSortingType.RECOMMEND) {
+            return null;
+        }
+        if (sortingType == TravelSearchSortingType.CREATED_AT_ASC) {
+            return createdAtAfter(cursor);
+        }
+        return createdAtBefore(cursor);
+    }
+
+    private BooleanExpression recommendAfter(TravelSearchSortingType sortingType, TravelCursor cursor, NumberExpression<Integer> bookmarkCount) {
+        if (cursor == null || sortingType != TravelSearchSortingType.RECOMMEND) {
+            return null;
+        }
+        int count = (int) cursor.requireScore();
+        int viewCount = cursor.requireViewCount();
+        return bookmarkCount.lt(count)
+                .or(bookmarkCount.eq(count).and(travel.viewCount.lt(viewCount)))
+                .or(bookmarkCount.eq(count).and(travel.viewCount.eq(viewCount)).and(travel.number.lt(cursor.getTravelNumber())));
+    }
+
+    // 커서 페이징은 정렬 키가 유일해야 하므로 travelNumber를 마지막 정렬 기준으로 추가한다
+    private List<OrderSpecifier<?>> getCursorOrderSpecifier(TravelSearchSortingType sortingType, NumberExpression<Integer> bookmarkCount) {
         if (sortingType == null) {
-            return List.of(travel.createdAt.desc());
+            return List.of(travel.createdAt.desc(), travel.number.desc());
         }
         switch (sortingType) {
             case RECOMMEND:
-                return List.of(bookmark.bookmarkId.count().desc(), travel.viewCount.desc());
-            case CREATED_AT_DESC:
-                return List.of(travel.createdAt.desc());
+                return List.of(bookmarkCount.desc(), travel.viewCount.desc(), travel.number.desc());
             case CREATED_AT_ASC:
-                return List.of(travel.createdAt.asc());
+                return List.of(travel.createdAt.asc(), travel.number.asc());
+            case CREATED_AT_DESC:
             default:
-                return List.of(travel.createdAt.desc());
-        }
-    }
-
-    private OrderSpecifier orderCaseBuilder(List<Integer> travels) {
-        if (travels.size() > 1) {
-            return new CaseBuilder()
-                    .when(travel.number.eq(travels.get(0))).then(0)
-                    .when(travel.number.eq(travels.get(1))).then(1)
-                    .otherwise(travels.size())
-                    .asc();
-        } else if (travels.size() > 0) {
-            return new CaseBuilder()
-                    .when(travel.number.eq(travels.get(0))).then(0)
-                    .otherwise(travels.size())
-                    .asc();
-        } else {
-            return travel.createdAt.desc();
+                return List.of(travel.createdAt.desc(), travel.number.desc());
+        }
+    }
+
+    // 후보 구간별 결과를 병합할 때 사용하는 정렬 기준 (getCursorOrderSpecifier와 같은 순서)
+    private Comparator<Tuple> getSortKeyComparator(TravelSearchSortingType sortingType, NumberExpression<Integer> bookmarkCount) {
+        Comparator<Tuple> byNumber = Comparator.comparing(t -> t.get(travel.number));
+        if (sortingType == TravelSearchSortingType.RECOMMEND) {
+            return Comparator.<Tuple, Integer>comparing(t -> t.get(bookmarkCount))
+                    .thenComparing(t -> t.get(travel.viewCount))
+                    .thenComparing(byNumber)
+                    .reversed();
         }
+        Comparator<Tuple> byCreatedAt = Comparator.<Tuple, LocalDateTime>comparing(t -> t.get(travel.createdAt))
+                .thenComparing(byNumber);
+        return sortingType == TravelSearchSortingType.CREATED_AT_ASC ? byCreatedAt : byCreatedAt.reversed();
+    }
+
+    private Set<Integer> findBookmarkedTravelNumbers(Integer loginUserNumber, List<Integer> travelNumbers) {
+        if (loginUserNumber == null || travelNumbers.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(queryFactory
+                .select(bookmark.travelNumber)
+                .from(bookmark)
+                .where(
+                        bookmark.userNumber.eq(loginUserNumber),
+                        bookmark.travelNumber.in(travelNumbers)
+                )
+                .fetch());
+    }
+
+    private TravelRecentDto toRecentDto(TravelListRow row) {
+        return new TravelRecentDto(row.getTravel(), row.getHostNumber(), row.getHostName(), row.getCompanionCount(), row.getTags());
+    }
+
+    private TravelSearchDto toSearchDto(TravelListRow row) {
+        return new TravelSearchDto(row.getTravel(), row.getHostNumber(), row.getHostName(), row.getCompanionCount(), row.getTags());
+    }
+
+    private TravelRecommendForNonMemberDto toRecommendForNonMemberDto(TravelListRow row) {
+        return new TravelRecommendForNonMemberDto(
+                row.getTravel(), row.getHostNumber(), row.getHostName(), row.getCompanionCount(), row.getTags(), row.getBookmarkCount());
+    }
+
+    private TravelRecommendForMemberDto toRecommendForMemberDto(TravelListRow row, boolean bookmarked) {
+        return new TravelRecommendForMemberDto(
+                row.getTravel(), row.getHostNumber(), row.getHostName(), row.getCompanionCount(), row.getTags(), bookmarked);
+    }
+
+    private TravelListResponseDto toListResponseDto(TravelListRow row, boolean bookmarked) {
+        Travel found = row.getTravel();
+        return new TravelListResponseDto(
+                found.getNumber(),
+                found.getTitle(),
+                found.getLocationName(),
+                row.getHostNumber(),
+                row.getHostName(),
+                row.getTags(),
+                row.getCompanionCount(),
+                found.getMaxPerson(),
+                found.getCreatedAt(),
+                bookmarked
+        );
+    }
+
+    // 검색 결과 필터 집계 대상
+    private enum SearchFacet {
+        GENDER, PERIOD, PERSON, LOCATION, TAG
     }
 }
@@ -0,0 +1,153 @@
+package swyp.swyp6_team7.travel.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.Getter;
+import swyp.swyp6_team7.location.domain.QLocation;
+import swyp.swyp6_team7.member.entity.QDeletedUsers;
+import swyp.swyp6_team7.member.entity.QUsers;
+import swyp.swyp6_team7.tag.domain.QTag;
+import swyp.swyp6_team7.tag.domain.QTravelTag;
+import swyp.swyp6_team7.travel.domain.QTravel;
+import swyp.swyp6_team7.travel.domain.QTravelStats;
+import swyp.swyp6_team7.travel.domain.Travel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.querydsl.core.group.GroupBy.groupBy;
+
+/**
+ * 여행 목록 DTO 조립 단계<br>
+ * 정렬/페이징으로 결정된 여행 번호 목록을 받아 여행, 태그, 주최자 이름, 집계 값을 각각 IN 쿼리 한 번으로 가져온 뒤
+ * 주어진 여행 번호 순서 그대로 메모리에서 DTO를 조립한다. (여행 목록 수와 무관하게 쿼리 4번)
+ */
+class TravelListHydrator {
+
+    private final JPAQueryFactory queryFactory;
+
+    TravelListHydrator(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    QTravel travel = QTravel.travel;
+    QLocation location = QLocation.location;
+    QDeletedUsers deletedUsers = QDeletedUsers.deletedUsers;
+    QUsers users = QUsers.users;
+    QTag tag = QTag.tag;
+    QTravelTag travelTag = QTravelTag.travelTag;
+    QTravelStats travelStats = QTravelStats.travelStats;
+
+    <T> List<T> hydrate(List<Integer> travelNumbers, Function<TravelListRow, T> mapper) {
+        return hydrate(travelNumbers, null, mapper);
+    }
+
+    // travelCondition을 만족하지 않는 여행은 결과에서 제외한다 (예: 진행 중인 여행만 조회)
+    <T> List<T> hydrate(List<Integer> travelNumbers, Predicate travelCondition, Function<TravelListRow, T> mapper) {
+        if (travelNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        // 즉시 로딩 연관관계(location, deletedUser)는 fetch join으로 함께 가져온다
+        Map<Integer, Travel> travels = queryFactory
+                .selectFrom(travel)
+                .leftJoin(travel.location, location).fetchJoin()
+                .leftJoin(travel.deletedUser, deletedUsers).fetchJoin()
+                .where(travel.number.in(travelNumbers), travelCondition)
+                .transform(groupBy(travel.number).as(travel));
+
+        Map<Integer, List<String>> tags = findTagNames(travelNumbers);
+        Map<Integer, String> hostNames = findHostNames(travels.values());
+
+        Map<Integer, Tuple> stats = new HashMap<>();
+        queryFactory
+                .select(travelStats.travelNumber, travelStats.companionCount, travelStats.bookmarkCount)
+                .from(travelStats)
+                .where(travelStats.travelNumber.in(travelNumbers))
+                .fetch()
+                .forEach(row -> stats.put(row.get(travelStats.travelNumber), row));
+
+        List<T> content = new ArrayList<>(travelNumbers.size());
+        for (Integer travelNumber : travelNumbers) {
+            Travel found = travels.get(travelNumber);
+            if (found == null) {
+                continue;
+            }
+            Tuple stat = stats.get(travelNumber);
+            content.add(mapper.apply(new TravelListRow(
+                    found,
+                    hostNames.get(found.getUserNumber()),
+                    stat == null ? 0 : stat.get(travelStats.companionCount),
+                    stat == null ? 0 : stat.get(travelStats.bookmarkCount),
+                    tags.getOrDefault(travelNumber, List.of())
+            )));
+        }
+        return content;
+    }
+
+    private Map<Integer, List<String>> findTagNames(List<Integer> travelNumbers) {
+        Map<Integer, List<String>> tags = new HashMap<>();
+        queryFactory
+                .select(travelTag.travel.number, tag.name)
+                .from(travelTag)
+                .join(travelTag.tag, tag)
+                .where(travelTag.travel.number.in(travelNumbers))
+                .orderBy(travelTag.number.asc())
+                .fetch()
+                .forEach(row -> tags.computeIfAbsent(row.get(travelTag.travel.number), key -> new ArrayList<>())
+                        .add(row.get(tag.name)));
+        return tags;
+    }
+
+    private Map<Integer, String> findHostNames(Iterable<Travel> travels) {
+        List<Integer> hostNumbers = new ArrayList<>();
+        for (Travel found : travels) {
+            hostNumbers.add(found.getUserNumber());
+        }
+        if (hostNumbers.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Integer, String> hostNames = new HashMap<>();
+        queryFactory
+                .select(users.userNumber, users.userName)
+                .from(users)
+                .where(users.userNumber.in(hostNumbers))
+                .fetch()
+                .forEach(row -> hostNames.put(row.get(users.userNumber), row.get(users.userName)));
+        return hostNames;
+    }
+
+    /**
+     * 목록 DTO 생성에 필요한 여행 한 건의 데이터
+     */
+    @Getter
+    static class TravelListRow {
+
+        private final Travel travel;
+        private final String hostName;
+        private final int companionCount;
+        private final int bookmarkCount;
+        private final List<String> tags;
+
+        TravelListRow(Travel travel, String hostName, int companionCount, int bookmarkCount, List<String> tags) {
+            this.travel = travel;
+            this.hostName = hostName;
+            this.companionCount = companionCount;
+            this.bookmarkCount = bookmarkCount;
+            this.tags = tags;
+        }
+
+        public int getTravelNumber() {
+            return travel.getNumber();
+        }
+
+        public int getHostNumber() {
+            return travel.getUserNumber();
+        }
+    }
+}
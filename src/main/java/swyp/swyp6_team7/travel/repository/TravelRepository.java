@@ -1,20 +1,33 @@
 package swyp.swyp6_team7.travel.repository;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import swyp.swyp6_team7.travel.domain.Travel;
+import swyp.swyp6_team7.travel.domain.TravelStatus;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface TravelRepository extends JpaRepository<Travel, Integer>, TravelCustomRepository {
     Optional<Travel> findByNumber(Integer integer);
 
     List<Travel> findByUserNumber(int userNumber);
 
+    long countByUserNumberAndStatusNot(int userNumber, TravelStatus status);
+
+    // 트랜잭션 안에서 사용하고 반드시 close 해야 한다 (최신 등록순)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+    @Query("SELECT t.number FROM Travel t WHERE t.userNumber = :userNumber AND t.status <> :excludedStatus ORDER BY t.createdAt DESC, t.number DESC")
+    Stream<Integer> streamNumbersByUserNumber(@Param("userNumber") int userNumber, @Param("excludedStatus") TravelStatus excludedStatus);
+
     boolean existsTravelByNumber(Integer integer);
 
     boolean existsTravelByNumberAndUserNumber(Integer number, Integer userNumber);
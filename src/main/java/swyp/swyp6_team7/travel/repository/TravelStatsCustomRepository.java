@@ -0,0 +1,12 @@
+package swyp.swyp6_team7.travel.repository;
+
+import swyp.swyp6_team7.travel.domain.TravelStats;
+
+import java.util.List;
+
+public interface TravelStatsCustomRepository {
+
+    List<TravelStats> aggregateByTravelNumbers(List<Integer> travelNumbers);
+
+    List<Integer> findTravelNumbersAfter(int lastTravelNumber, int size);
+}
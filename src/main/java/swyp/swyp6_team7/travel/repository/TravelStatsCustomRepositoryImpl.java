@@ -0,0 +1,92 @@
+package swyp.swyp6_team7.travel.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.stereotype.Repository;
+import swyp.swyp6_team7.bookmark.entity.QBookmark;
+import swyp.swyp6_team7.companion.domain.QCompanion;
+import swyp.swyp6_team7.enrollment.domain.EnrollmentStatus;
+import swyp.swyp6_team7.enrollment.domain.QEnrollment;
+import swyp.swyp6_team7.travel.domain.QTravel;
+import swyp.swyp6_team7.travel.domain.TravelStats;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.querydsl.core.group.GroupBy.groupBy;
+
+@Repository
+public class TravelStatsCustomRepositoryImpl implements TravelStatsCustomRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public TravelStatsCustomRepositoryImpl(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    QTravel travel = QTravel.travel;
+    QBookmark bookmark = QBookmark.bookmark;
+    QCompanion companion = QCompanion.companion;
+    QEnrollment enrollment = QEnrollment.enrollment;
+
+    // 원본 테이블에서 여행별 집계 값을 다시 계산한다 (존재하는 여행만 결과에 포함)
+    @Override
+    public List<TravelStats> aggregateByTravelNumbers(List<Integer> travelNumbers) {
+        if (travelNumbers == null || travelNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Integer> viewCounts = queryFactory
+                .from(travel)
+                .where(travel.number.in(travelNumbers))
+                .transform(groupBy(travel.number).as(travel.viewCount));
+
+        Map<Integer, Long> bookmarkCounts = queryFactory
+                .from(bookmark)
+                .where(bookmark.travelNumber.in(travelNumbers))
+                .groupBy(bookmark.travelNumber)
+                .transform(groupBy(bookmark.travelNumber).as(bookmark.bookmarkId.count()));
+
+        Map<Integer, Long> companionCounts = queryFactory
+                .from(companion)
+                .where(companion.travel.number.in(travelNumbers))
+                .groupBy(companion.travel.number)
+                .transform(groupBy(companion.travel.number).as(companion.number.count()));
+
+        Map<Integer, Long> enrollmentCounts = queryFactory
+                .from(enrollment)
+                .where(enrollment.travelNumber.in(travelNumbers))
+                .groupBy(enrollment.travelNumber)
+                .transform(groupBy(enrollment.travelNumber).as(enrollment.number.count()));
+
+        Map<Integer, Long> pendingEnrollmentCounts = queryFactory
+                .from(enrollment)
+                .where(
+                        enrollment.travelNumber.in(travelNumbers),
+                        enrollment.status.eq(EnrollmentStatus.PENDING)
+                )
+                .groupBy(enrollment.travelNumber)
+                .transform(groupBy(enrollment.travelNumber).as(enrollment.number.count()));
+
+        return viewCounts.entrySet().stream()
+                .map(entry -> TravelStats.builder()
+                        .travelNumber(entry.getKey())
+                        .viewCount(entry.getValue())
+                        .bookmarkCount(bookmarkCounts.getOrDefault(entry.getKey(), 0L).intValue())
+                        .companionCount(companionCounts.getOrDefault(entry.getKey(), 0L).intValue())
+                        .enrollmentCount(enrollmentCounts.getOrDefault(entry.getKey(), 0L).intValue())
+                        .pendingEnrollmentCount(pendingEnrollmentCounts.getOrDefault(entry.getKey(), 0L).intValue())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public List<Integer> findTravelNumbersAfter(int lastTravelNumber, int size) {
+        return queryFactory
+                .select(travel.number)
+                .from(travel)
+                .where(travel.number.gt(lastTravelNumber))
+                .orderBy(travel.number.asc())
+                .limit(size)
+                .fetch();
+    }
+}
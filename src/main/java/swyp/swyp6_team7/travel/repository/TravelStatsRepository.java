@@ -0,0 +1,72 @@
+package swyp.swyp6_team7.travel.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import swyp.swyp6_team7.travel.domain.TravelStats;
+
+/**
+ * 집계 값 변경은 조회 후 수정하지 않고 단일 UPDATE 문으로 원자적으로 처리한다.<br>
+ * 반환값은 갱신된 row 수이며, 0이면 해당 여행의 집계 row가 아직 없다는 의미이다.
+ */
+public interface TravelStatsRepository extends JpaRepository<TravelStats, Integer>, TravelStatsCustomRepository {
+
+    @Modifying
+    @Query("UPDATE TravelStats s SET s.bookmarkCount = CASE WHEN s.bookmarkCount + :delta < 0 THEN 0 ELSE s.bookmarkCount + :delta END " +
+            "WHERE s.travelNumber = :travelNumber")
+    int addBookmarkCount(@Param("travelNumber") int travelNumber, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE TravelStats s SET s.companionCount = CASE WHEN s.companionCount + :delta < 0 THEN 0 ELSE s.companionCount + :delta END " +
+            "WHERE s.travelNumber = :travelNumber")
+    int addCompanionCount(@Param("travelNumber") int travelNumber, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE TravelStats s SET " +
+            "s.enrollmentCount = CASE WHEN s.enrollmentCount + :enrollmentDelta < 0 THEN 0 ELSE s.enrollmentCount + :enrollmentDelta END, " +
+            "s.pendingEnrollmentCount = CASE WHEN s.pendingEnrollmentCount + :pendingDelta < 0 THEN 0 ELSE s.pendingEnrollmentCount + :pendingDelta END " +
+            "WHERE s.travelNumber = :travelNumber")
+    int addEnrollmentCount(@Param("travelNumber") int travelNumber, @Param("enrollmentDelta") int enrollmentDelta, @Param("pendingDelta") int pendingDelta);
+
+    @Modifying
+    @Query("UPDATE TravelStats s SET s.viewCount = s.viewCount + :delta WHERE s.travelNumber = :travelNumber")
+    int addViewCount(@Param("travelNumber") int travelNumber, @Param("delta") int delta);
+
+    // 집계 row가 이미 있으면(동시에 다른 요청이 생성한 경우) 무시하고 0을 반환한다
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO travel_stats " +
+            "(travel_number, bookmark_count, companion_count, enrollment_count, pending_enrollment_count, view_count) " +
+            "VALUES (:travelNumber, :bookmarkCount, :companionCount, :enrollmentCount, :pendingEnrollmentCount, :viewCount)",
+            nativeQuery = true)
+    int insertIfAbsent(
+            @Param("travelNumber") int travelNumber,
+            @Param("bookmarkCount") int bookmarkCount,
+            @Param("companionCount") int companionCount,
+            @Param("enrollmentCount") int enrollmentCount,
+            @Param("pendingEnrollmentCount") int pendingEnrollmentCount,
+            @Param("viewCount") int viewCount
+    );
+
+    // 재집계 값으로 덮어쓴다 (조회한 값이 그대로일 때만 반영하고, 그 사이 증감이 커밋되었다면 0을 반환한다)
+    @Modifying
+    @Query("UPDATE TravelStats s SET s.bookmarkCount = :bookmarkCount, s.companionCount = :companionCount, " +
+            "s.enrollmentCount = :enrollmentCount, s.pendingEnrollmentCount = :pendingEnrollmentCount, s.viewCount = :viewCount " +
+            "WHERE s.travelNumber = :travelNumber " +
+            "AND s.bookmarkCount = :expectedBookmarkCount AND s.companionCount = :expectedCompanionCount " +
+            "AND s.enrollmentCount = :expectedEnrollmentCount AND s.pendingEnrollmentCount = :expectedPendingEnrollmentCount " +
+            "AND s.viewCount = :expectedViewCount")
+    int overwriteCounts(
+            @Param("travelNumber") int travelNumber,
+            @Param("bookmarkCount") int bookmarkCount,
+            @Param("companionCount") int companionCount,
+            @Param("enrollmentCount") int enrollmentCount,
+            @Param("pendingEnrollmentCount") int pendingEnrollmentCount,
+            @Param("viewCount") int viewCount,
+            @Param("expectedBookmarkCount") int expectedBookmarkCount,
+            @Param("expectedCompanionCount") int expectedCompanionCount,
+            @Param("expectedEnrollmentCount") int expectedEnrollmentCount,
+            @Param("expectedPendingEnrollmentCount") int expectedPendingEnrollmentCount,
+            @Param("expectedViewCount") int expectedViewCount
+    );
+}
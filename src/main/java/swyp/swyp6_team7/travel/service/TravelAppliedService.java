@@ -2,24 +2,17 @@ package swyp.swyp6_team7.travel.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import swyp.swyp6_team7.bookmark.repository.BookmarkRepository;
 import swyp.swyp6_team7.companion.domain.Companion;
 import swyp.swyp6_team7.companion.repository.CompanionRepository;
 import swyp.swyp6_team7.enrollment.repository.EnrollmentRepository;
-import swyp.swyp6_team7.member.entity.Users;
-import swyp.swyp6_team7.member.repository.UserRepository;
 import swyp.swyp6_team7.travel.domain.Travel;
 import swyp.swyp6_team7.travel.domain.TravelStatus;
 import swyp.swyp6_team7.travel.dto.response.TravelListResponseDto;
 import swyp.swyp6_team7.travel.repository.TravelRepository;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.springframework.data.domain.Page;
 @Service
 @RequiredArgsConstructor
@@ -27,51 +20,16 @@ import org.springframework.data.domain.Page;
 public class TravelAppliedService {
 
     private final TravelRepository travelRepository;
-    private final BookmarkRepository bookmarkRepository;
     private final CompanionRepository companionRepository;
     private final EnrollmentRepository enrollmentRepository;
-    private final UserRepository userRepository;
+    private final TravelStatsService travelStatsService;
 
     // 주최자가 수락한 신청 리스트
     @Transactional(readOnly = true)
     public Page<TravelListResponseDto> getAppliedTripsByUser(Integer userNumber, Pageable pageable) {
         try {
-            // 사용자가 승인된 동반자 목록 조회
-            List<Companion> companions = companionRepository.findByUserNumber(userNumber);
-
-            List<TravelListResponseDto> dtos = companions.stream()
-                    .map(Companion::getTravel)
-                    .filter(travel -> travel.getStatus() != TravelStatus.DELETED) // 삭제된 여행 제외
-                    .map(travel -> {
-                        try {
-                            Users host = userRepository.findByUserNumber(travel.getUserNumber())
-                                    .orElseThrow(() -> {
-                                        String msg = String.format("작성자 정보를 찾을 수 없습니다. travelNumber=%d, hostUserNumber=%d",
-                                                travel.getNumber(), travel.getUserNumber());
-                                        log.error("[User Fetch ERROR - AppliedTravel] {}", msg);
-                                        return new IllegalArgumentException(msg);
-                                    });
-
-                            int currentApplicants = travel.getCompanions().size();
-                            boolean isBookmarked = bookmarkRepository.existsByUserNumberAndTravelNumber(userNumber, travel.getNumber());
-
-                            return TravelListResponseDto.fromEntity(travel, host, currentApplicants, isBookmarked);
-                        } catch (Exception e) {
-                            log.error("신청한 여행 dto 변환 ERROR travelNumber={}, userNumber={}, error={}",
-                                    travel.getNumber(), userNumber, e.getMessage(), e);
-                            throw e;
-                        }
-                    })
-                    .collect(Collectors.toList());
-
-            int start = (int) pageable.getOffset();
-            int end = Math.min((start + pageable.getPageSize()), dtos.size());
-
-            if (start > end || start > dtos.size()) {
-                return new PageImpl<>(List.of(), pageable, dtos.size());
-            }
-
-            return new PageImpl<>(dtos.subList(start, end), pageable, dtos.size());
+            // 사용자가 승인된 동반자 목록 중 요청한 페이지만 조회 후 IN 쿼리로 한 번에 조립
+            return travelRepository.findAllAppliedByUser(userNumber, pageable);
         } catch (Exception e) {
             log.error("getAppliedTripsByUser() ERROR : userNumber={}, error={}", userNumber, e.getMessage(), e);
             throw e;
@@ -93,17 +51,12 @@ public class TravelAppliedService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 여행에 대한 사용자의 신청 정보를 찾을 수 없습니다."));
 
         companionRepository.deleteByTravelAndUserNumber(travel, userNumber);
+        travelStatsService.decreaseCompanionCount(travelNumber);
     }
 
     @Transactional(readOnly = true)
     public int countAppliedTrpsByUser(Integer userNumber) {
-        // 사용자가 동반자로 등록된 여행 목록 조회
-        List<Companion> companions = companionRepository.findByUserNumber(userNumber);
         // 삭제된 여행은 제외한 실제 참가한 여행 수 계산
-        int count = (int) companions.stream()
-                .map(Companion::getTravel)
-                .filter(travel -> travel.getStatus() != TravelStatus.DELETED)
-                .count();
-        return count;
+        return (int) companionRepository.countByUserNumberAndTravelStatusNot(userNumber, TravelStatus.DELETED);
     }
 }
@@ -0,0 +1,147 @@
+package swyp.swyp6_team7.travel.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import swyp.swyp6_team7.travel.dto.response.TravelDetailResponse;
+import swyp.swyp6_team7.travel.event.TravelChangedEvent;
+import swyp.swyp6_team7.travel.event.TravelStatsChangedEvent;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 여행 상세 조회 응답 2단계 캐시 (L1: Caffeine, L2: Redis)<br>
+ * key = cache:travel:detail:{travelNumber}, value = TravelDetailResponse JSON<br>
+ * 여행 수정/삭제, 북마크/참가 신청/수락 등 집계 변경 이벤트가 커밋된 이후 무효화한다.
+ */
+@Slf4j
+@Service
+public class TravelDetailCacheService {
+
+    private static final String CACHE_KEY_PREFIX = "cache:travel:detail:";
+    private static final String METRIC_NAME = "travel.detail.cache";
+
+    // 다른 서버의 L1 캐시는 무효화 신호를 받지 못하므로 짧게 유지한다
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+    private static final long LOCAL_MAXIMUM_SIZE = 1_000;
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Integer, TravelDetailResponse> localCache;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
+    public TravelDetailCacheService(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(LOCAL_MAXIMUM_SIZE)
+                .expireAfterWrite(LOCAL_TTL)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "travelDetail");
+        this.redisHitCounter = Counter.builder(METRIC_NAME + ".redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder(METRIC_NAME + ".redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".hit.ratio", this, TravelDetailCacheService::getLocalHitRatio)
+                .tag("level", "local")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".hit.ratio", this, TravelDetailCacheService::getRedisHitRatio)
+                .tag("level", "redis")
+                .register(meterRegistry);
+    }
+
+    /**
+     * L1 -> L2 -> loader 순서로 조회한다.<br>
+     * 같은 key에 대한 동시 요청은 L1에서 한 번만 적재되며, loader 예외(존재하지 않는 여행 등)는 캐시하지 않는다.<br>
+     * 응답 객체는 요청마다 로그인 사용자 정보가 채워지므로 복사본을 반환한다.
+     */
+    public TravelDetailResponse get(int travelNumber, Supplier<TravelDetailResponse> loader) {
+        TravelDetailResponse cached = localCache.get(travelNumber, key -> {
+            TravelDetailResponse stored = getFromRedis(key);
+            if (stored != null) {
+                return stored;
+            }
+            TravelDetailResponse loaded = loader.get();
+            putToRedis(key, loaded);
+            return loaded;
+        });
+        return cached.copyWithoutLoginMemberRelatedInfo();
+    }
+
+    public void evict(int travelNumber) {
+        localCache.invalidate(travelNumber);
+        try {
+            redisTemplate.delete(CACHE_KEY_PREFIX + travelNumber);
+        } catch (Exception e) {
+            log.warn("Redis: 여행 상세 캐시 삭제 실패: travelNumber={}, error={}", travelNumber, e.getMessage());
+        }
+        log.debug("여행 상세 캐시 무효화: travelNumber={}", travelNumber);
+    }
+
+    @TransactionalEventListener
+    public void handleTravelChanged(TravelChangedEvent event) {
+        evict(event.getTravelNumber());
+    }
+
+    @TransactionalEventListener
+    public void handleTravelStatsChanged(TravelStatsChangedEvent event) {
+        evict(event.getTravelNumber());
+    }
+
+    // Redis 장애 시에는 캐시 미스로 처리하고 DB에서 조회한다
+    private TravelDetailResponse getFromRedis(int travelNumber) {
+        try {
+            String value = redisTemplate.opsForValue().get(CACHE_KEY_PREFIX + travelNumber);
+            if (value == null) {
+                redisMissCounter.increment();
+                return null;
+            }
+            redisHitCounter.increment();
+            return objectMapper.readValue(value, TravelDetailResponse.class);
+        } catch (Exception e) {
+            log.warn("Redis: 여행 상세 캐시 조회 실패: travelNumber={}, error={}", travelNumber, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putToRedis(int travelNumber, TravelDetailResponse response) {
+        try {
+            String value = objectMapper.writeValueAsString(response);
+            redisTemplate.opsForValue().set(CACHE_KEY_PREFIX + travelNumber, value, REDIS_TTL);
+        } catch (JsonProcessingException e) {
+            log.warn("여행 상세 캐시 직렬화 실패: travelNumber={}, error={}", travelNumber, e.getMessage());
+        } catch (Exception e) {
+            log.warn("Redis: 여행 상세 캐시 저장 실패: travelNumber={}, error={}", travelNumber, e.getMessage());
+        }
+    }
+
+    private double getLocalHitRatio() {
+        return localCache.stats().hitRate();
+    }
+
+    private double getRedisHitRatio() {
+        double hit = redisHitCounter.count();
+        double total = hit + redisMissCounter.count();
+        return total == 0 ? 1.0 : hit / total;
+    }
+}
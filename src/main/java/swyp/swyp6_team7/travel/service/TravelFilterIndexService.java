@@ -0,0 +1,112 @@
+package swyp.swyp6_team7.travel.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import swyp.swyp6_team7.travel.dto.TravelFilterDto;
+import swyp.swyp6_team7.travel.dto.TravelSearchCondition;
+import swyp.swyp6_team7.travel.event.TravelChangeType;
+import swyp.swyp6_team7.travel.event.TravelChangedEvent;
+import swyp.swyp6_team7.travel.event.TravelStatsChangedEvent;
+import swyp.swyp6_team7.travel.index.TravelFilterIndex;
+import swyp.swyp6_team7.travel.repository.TravelRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TravelFilterIndexService {
+
+    private final TravelRepository travelRepository;
+
+    // 색인 구축 전에는 null (DB 검색 조건으로 대체)
+    private volatile TravelFilterIndex filterIndex;
+
+    // 여행 검색 필터 색인 전체 재구축 (서버 시작 시, 매일 새벽 5시 20분 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 20 5 * * *", zone = "Asia/Seoul")
+    public void rebuild() {
+        try {
+            TravelFilterIndex newIndex = new TravelFilterIndex();
+            for (TravelFilterDto document : travelRepository.findFilterDocuments(null)) {
+                put(newIndex, document);
+            }
+            filterIndex = newIndex;
+            log.info("여행 검색 필터 색인 구축 완료: size={}", newIndex.size());
+        } catch (Exception e) {
+            log.warn("여행 검색 필터 색인 구축 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 검색 조건의 성별, 기간, 인원, 국내/해외 필터를 모두 만족하는 검색 대상 여행 번호를 반환한다.<br>
+     * 색인이 아직 구축되지 않았다면 Optional.empty()를 반환한다.
+     */
+    public Optional<List<Integer>> findCandidates(TravelSearchCondition condition) {
+        TravelFilterIndex index = filterIndex;
+        if (index == null) {
+            return Optional.empty();
+        }
+        return Optional.of(index.filter(
+                condition.getGenderFilter(),
+                condition.getPeriodFilter(),
+                condition.getPersonRangeFilter(),
+                condition.getLocationFilter()
+        ));
+    }
+
+    // 여행 생성, 수정, 삭제 커밋 후 해당 여행의 필터 값 갱신
+    @TransactionalEventListener
+    public void handleTravelChanged(TravelChangedEvent event) {
+        if (event.getChangeType() == TravelChangeType.DELETED) {
+            TravelFilterIndex index = filterIndex;
+            if (index != null) {
+                index.remove(event.getTravelNumber());
+            }
+            return;
+        }
+        refresh(event.getTravelNumber());
+    }
+
+    // 참가 수락으로 모집 마감될 수 있으므로 참가자 수 변경 시에도 갱신
+    @TransactionalEventListener
+    public void handleTravelStatsChanged(TravelStatsChangedEvent event) {
+        refresh(event.getTravelNumber());
+    }
+
+    private void refresh(int travelNumber) {
+        TravelFilterIndex index = filterIndex;
+        if (index == null) {
+            return;
+        }
+
+        try {
+            List<TravelFilterDto> documents = travelRepository.findFilterDocuments(List.of(travelNumber));
+            if (documents.isEmpty()) {
+                index.remove(travelNumber);
+                return;
+            }
+            put(index, documents.get(0));
+            log.debug("여행 검색 필터 색인 갱신: travelNumber={}", travelNumber);
+        } catch (Exception e) {
+            log.warn("여행 검색 필터 색인 갱신 중 오류 발생: travelNumber={}, error={}", travelNumber, e.getMessage());
+        }
+    }
+
+    private void put(TravelFilterIndex index, TravelFilterDto document) {
+        index.put(
+                document.getTravelNumber(),
+                document.getStatus(),
+                document.getGenderType(),
+                document.getPeriodType(),
+                document.getMaxPerson(),
+                document.getLocationType()
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package swyp.swyp6_team7.travel.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import swyp.swyp6_team7.companion.repository.CompanionRepository;
+import swyp.swyp6_team7.travel.domain.TravelStatus;
+import swyp.swyp6_team7.travel.dto.response.TravelHistoryExportResponse;
+import swyp.swyp6_team7.travel.dto.response.TravelHistoryExportResponse.HistoryType;
+import swyp.swyp6_team7.travel.dto.response.TravelListResponseDto;
+import swyp.swyp6_team7.travel.repository.TravelRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 사용자의 여행 이력(만든 여행, 참가한 여행)을 NDJSON으로 내보낸다.<br>
+ * 여행 번호만 커서로 읽어 BATCH_SIZE개씩 IN 쿼리로 조립한 뒤 바로 응답에 쓰므로,
+ * 여행 수와 관계없이 메모리에는 한 묶음만 올라간다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TravelHistoryExportService {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final TravelRepository travelRepository;
+    private final CompanionRepository companionRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(Integer userNumber, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        int exportedCount = 0;
+        try (Stream<Integer> created = travelRepository.streamNumbersByUserNumber(userNumber, TravelStatus.DELETED)) {
+            exportedCount += write(generator, HistoryType.CREATED, userNumber, created.iterator());
+        }
+        try (Stream<Integer> applied = companionRepository.streamTravelNumbersByUserNumber(userNumber, TravelStatus.DELETED)) {
+            exportedCount += write(generator, HistoryType.APPLIED, userNumber, applied.iterator());
+        }
+        generator.close();
+        log.info("여행 이력 내보내기 완료: userNumber={}, count={}", userNumber, exportedCount);
+    }
+
+    private int write(JsonGenerator generator, HistoryType historyType, Integer userNumber, Iterator<Integer> travelNumbers) throws IOException {
+        int count = 0;
+        List<Integer> batch = new ArrayList<>(BATCH_SIZE);
+        while (travelNumbers.hasNext()) {
+            batch.add(travelNumbers.next());
+            if (batch.size() == BATCH_SIZE || !travelNumbers.hasNext()) {
+                for (TravelListResponseDto travel : travelRepository.findListByNumbers(userNumber, batch)) {
+                    generator.writeObject(new TravelHistoryExportResponse(historyType, travel));
+                    generator.writeRaw('\n');
+                    count++;
+                }
+                generator.flush();
+                batch.clear();
+
+                // 이미 내보낸 여행 엔티티가 영속성 컨텍스트에 계속 쌓이지 않도록 비운다
+                entityManager.clear();
+            }
+        }
+        return count;
+    }
+}
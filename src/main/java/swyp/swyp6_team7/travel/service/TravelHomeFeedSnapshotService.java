@@ -0,0 +1,150 @@
+package swyp.swyp6_team7.travel.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import swyp.swyp6_team7.travel.event.TravelChangedEvent;
+import swyp.swyp6_team7.travel.event.TravelStatsChangedEvent;
+import swyp.swyp6_team7.travel.feed.TravelHomeFeedSnapshot;
+import swyp.swyp6_team7.travel.repository.TravelRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 비로그인 사용자 홈 추천 여행 목록 스냅샷 관리<br>
+ * 정렬된 여행 번호 목록을 백그라운드에서 미리 계산해 메모리와 Redis에 저장한다.<br>
+ * key = snapshot:travel:home:non-member, value = TravelHomeFeedSnapshot JSON
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TravelHomeFeedSnapshotService {
+
+    private static final String SNAPSHOT_KEY = "snapshot:travel:home:non-member";
+    private static final Duration REFRESH_INTERVAL = Duration.ofSeconds(60);
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+
+    private final TravelRepository travelRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    // 스냅샷 생성 전에는 null (DB 정렬 조회로 대체)
+    private volatile TravelHomeFeedSnapshot snapshot;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    /**
+     * requestDate 기준으로 만들어진 스냅샷을 반환한다.<br>
+     * 스냅샷이 없거나 날짜가 바뀌어 여행 시작일 조건이 달라졌다면 Optional.empty()를 반환한다.
+     */
+    public Optional<TravelHomeFeedSnapshot> getSnapshot(LocalDate requestDate) {
+        TravelHomeFeedSnapshot current = snapshot;
+        if (current == null || !current.isBasedOn(requestDate)) {
+            return Optional.empty();
+        }
+        return Optional.of(current);
+    }
+
+    // 서버 시작 시 Redis에 저장된 스냅샷이 유효하면 재사용하고, 없으면 새로 계산한다
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        TravelHomeFeedSnapshot stored = loadFromRedis();
+        if (stored != null && isFresh(stored, LocalDateTime.now(clock))) {
+            snapshot = stored;
+            log.info("여행 홈 추천 스냅샷 로드 완료: {}", stored);
+            return;
+        }
+        refresh();
+    }
+
+    // 변경 이벤트가 있었거나 갱신 주기가 지난 경우에만 다시 계산한다 (5초마다 확인)
+    @Scheduled(fixedDelay = 5, initialDelay = 5, timeUnit = TimeUnit.SECONDS)
+    public void refreshIfNeeded() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        TravelHomeFeedSnapshot current = snapshot;
+        if (!dirty.get() && current != null && isFresh(current, now)) {
+            return;
+        }
+
+        // 다른 서버가 이미 갱신한 스냅샷이 있다면 그대로 사용한다
+        if (!dirty.get()) {
+            TravelHomeFeedSnapshot stored = loadFromRedis();
+            if (stored != null && isFresh(stored, now)
+                    && (current == null || stored.getCreatedAt().isAfter(current.getCreatedAt()))) {
+                snapshot = stored;
+                return;
+            }
+        }
+        refresh();
+    }
+
+    public void refresh() {
+        // 계산 도중 발생한 변경 이벤트는 다음 주기에 반영되도록 먼저 초기화한다
+        dirty.set(false);
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<Integer> travelNumbers = travelRepository.findAllNumbersSortedByBookmarkNumberAndTitle(now.toLocalDate());
+            TravelHomeFeedSnapshot newSnapshot = TravelHomeFeedSnapshot.of(now.toLocalDate(), now, travelNumbers);
+
+            snapshot = newSnapshot;
+            saveToRedis(newSnapshot);
+            log.debug("여행 홈 추천 스냅샷 갱신: {}", newSnapshot);
+        } catch (Exception e) {
+            dirty.set(true);
+            log.warn("여행 홈 추천 스냅샷 갱신 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    // 여행 생성, 수정, 삭제 커밋 후 다음 주기에 스냅샷 갱신
+    @TransactionalEventListener
+    public void handleTravelChanged(TravelChangedEvent event) {
+        dirty.set(true);
+    }
+
+    // 북마크, 참가자 수 변경 커밋 후 다음 주기에 스냅샷 갱신
+    @TransactionalEventListener
+    public void handleTravelStatsChanged(TravelStatsChangedEvent event) {
+        dirty.set(true);
+    }
+
+    private boolean isFresh(TravelHomeFeedSnapshot target, LocalDateTime now) {
+        return target.isBasedOn(now.toLocalDate())
+                && target.getCreatedAt().plus(REFRESH_INTERVAL).isAfter(now);
+    }
+
+    // Redis 장애 시에는 스냅샷이 없는 것으로 처리한다
+    private TravelHomeFeedSnapshot loadFromRedis() {
+        try {
+            String value = redisTemplate.opsForValue().get(SNAPSHOT_KEY);
+            if (value == null) {
+                return null;
+            }
+            return objectMapper.readValue(value, TravelHomeFeedSnapshot.class);
+        } catch (Exception e) {
+            log.warn("Redis: 여행 홈 추천 스냅샷 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveToRedis(TravelHomeFeedSnapshot target) {
+        try {
+            String value = objectMapper.writeValueAsString(target);
+            redisTemplate.opsForValue().set(SNAPSHOT_KEY, value, REDIS_TTL);
+        } catch (Exception e) {
+            log.warn("Redis: 여행 홈 추천 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -12,9 +12,17 @@ import swyp.swyp6_team7.global.exception.MoingApplicationException;
 import swyp.swyp6_team7.tag.repository.UserTagPreferenceRepository;
 import swyp.swyp6_team7.travel.dto.TravelRecommendForMemberDto;
 import swyp.swyp6_team7.travel.dto.TravelRecommendForNonMemberDto;
+import swyp.swyp6_team7.travel.dto.response.TravelCursorPageResponse;
+import swyp.swyp6_team7.travel.dto.response.TravelListResponseDto;
 import swyp.swyp6_team7.travel.dto.response.TravelRecentDto;
+import swyp.swyp6_team7.travel.feed.TravelHomeFeedSnapshot;
+import swyp.swyp6_team7.travel.index.TravelTagAffinityIndex;
+import swyp.swyp6_team7.travel.index.TravelTagAffinityIndex.Match;
 import swyp.swyp6_team7.travel.repository.TravelRepository;
+import swyp.swyp6_team7.travel.util.TravelCursor;
 import swyp.swyp6_team7.travel.util.TravelRecommendComparator;
+import swyp.swyp6_team7.trending.service.TrendingService;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
 
 import java.time.Clock;
 import java.time.LocalDate;
@@ -22,6 +30,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -32,6 +42,9 @@ public class TravelHomeService {
     private final TravelRepository travelRepository;
     private final UserTagPreferenceRepository userTagPreferenceRepository;
     private final BookmarkService bookmarkService;
+    private final TravelHomeFeedSnapshotService travelHomeFeedSnapshotService;
+    private final TravelTagAffinityIndexService travelTagAffinityIndexService;
+    private final TrendingService trendingService;
     private final Clock clock;
 
     public Page<TravelRecentDto> getTravelsSortedByCreatedAt(PageRequest pageRequest, Integer loginUserNumber) {
@@ -39,29 +52,56 @@ public class TravelHomeService {
 
         // 로그인 사용자 좋아요(북마크여부) 처리
         if (loginUserNumber != null) {
-            List<Integer> travelsNumber = result.getContent().stream()
-                    .map(travelRecentDto -> travelRecentDto.getTravelNumber())
-                    .toList();
+            setUserBookmarked(loginUserNumber, result.getContent());
+        }
 
-            Map<Integer, Boolean> bookmarkedMap = bookmarkService.getBookmarkExistenceByTravelNumbers(loginUserNumber, travelsNumber);
+        return result;
+    }
 
-            // 각 여행에 대해 북마크 여부 설정
-            for (TravelRecentDto travelRecentDto : result.getContent()) {
-                Boolean bookmarked = bookmarkedMap.get(travelRecentDto.getTravelNumber());
-                travelRecentDto.updateBookmarked(bookmarked);
-            }
+    public TravelCursorPageResponse<TravelRecentDto> getTravelsSortedByCreatedAtWithCursor(String cursor, int size, Integer loginUserNumber) {
+        TravelCursorPageResponse<TravelRecentDto> result = travelRepository
+                .findAllSortedByCreatedAtWithCursor(TravelCursor.decode(cursor), size);
+
+        // 로그인 사용자 좋아요(북마크여부) 처리
+        if (loginUserNumber != null) {
+            setUserBookmarked(loginUserNumber, result.getContent());
         }
 
         return result;
     }
 
+    private void setUserBookmarked(Integer loginUserNumber, List<TravelRecentDto> travels) {
+        List<Integer> travelsNumber = travels.stream()
+                .map(travelRecentDto -> travelRecentDto.getTravelNumber())
+                .toList();
+
+        Map<Integer, Boolean> bookmarkedMap = bookmarkService.getBookmarkExistenceByTravelNumbers(loginUserNumber, travelsNumber);
+
+        // 각 여행에 대해 북마크 여부 설정
+        for (TravelRecentDto travelRecentDto : travels) {
+            Boolean bookmarked = bookmarkedMap.get(travelRecentDto.getTravelNumber());
+            travelRecentDto.updateBookmarked(bookmarked);
+        }
+    }
+
     public Page<TravelRecommendForMemberDto> getRecommendTravelsByMember(PageRequest pageRequest, Integer loginUserNumber) {
         // 사용자 선호 태그
         List<String> preferredTags = userTagPreferenceRepository.findPreferenceTagsByUserNumber(loginUserNumber);
 
         try {
-            // 조회
             LocalDate nowDate = LocalDate.now(clock);
+
+            // 태그 비트셋 색인이 있다면 전체 여행을 대상으로 정렬한 상위 목록에서 해당 페이지를 가져온다
+            Optional<TravelTagAffinityIndex> index = travelTagAffinityIndexService.getIndex();
+            if (index.isPresent()) {
+                int limit = (int) pageRequest.getOffset() + pageRequest.getPageSize();
+                List<Match> matches = index.get().findTop(preferredTags, nowDate, limit, null);
+                List<Match> pageMatches = matches.subList(Math.min((int) pageRequest.getOffset(), matches.size()), matches.size());
+                List<TravelRecommendForMemberDto> travels = getRecommendTravelsByMatches(loginUserNumber, pageMatches);
+                return new PageImpl<>(travels, pageRequest, index.get().count(nowDate));
+            }
+
+            // 조회
             Page<TravelRecommendForMemberDto> result = travelRepository.findAllByPreferredTags(pageRequest, loginUserNumber, preferredTags, nowDate);
 
             // 태그 매칭 개수 기반 정렬
@@ -75,10 +115,63 @@ public class TravelHomeService {
         }
     }
 
+    // 커서 페이징은 색인 또는 DB에서 태그 매칭 개수 기준으로 정렬되므로 별도 정렬이 필요 없다
+    public TravelCursorPageResponse<TravelRecommendForMemberDto> getRecommendTravelsByMemberWithCursor(String cursor, int size, Integer loginUserNumber) {
+        List<String> preferredTags = userTagPreferenceRepository.findPreferenceTagsByUserNumber(loginUserNumber);
+        TravelCursor travelCursor = TravelCursor.decode(cursor);
+
+        try {
+            LocalDate nowDate = LocalDate.now(clock);
+
+            Optional<TravelTagAffinityIndex> index = travelTagAffinityIndexService.getIndex();
+            if (index.isPresent()) {
+                Match after = travelCursor == null ? null
+                        : new Match(travelCursor.getTravelNumber(), travelCursor.requireTitle(), (int) travelCursor.requireScore());
+                List<Match> matches = index.get().findTop(preferredTags, nowDate, size, after);
+                List<TravelRecommendForMemberDto> travels = getRecommendTravelsByMatches(loginUserNumber, matches);
+
+                // 가져온 개수가 size보다 작으면 마지막 페이지
+                String nextCursor = null;
+                if (!matches.isEmpty() && matches.size() == size) {
+                    Match last = matches.get(matches.size() - 1);
+                    nextCursor = TravelCursor.ofPreferredTags(last.getTravelNumber(), last.getScore(), last.getTitle()).encode();
+                }
+                return TravelCursorPageResponse.from(travels, nextCursor);
+            }
+
+            return travelRepository.findAllByPreferredTagsWithCursor(travelCursor, size, loginUserNumber, preferredTags, nowDate);
+        } catch (Exception e) {
+            log.warn("로그인 사용자 추천 여행 목록 커서 조회 실패: {}", e);
+            throw new MoingApplicationException("로그인 사용자 추천 여행 목록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    // 색인에서 정렬된 순서 그대로 목록 DTO를 조립하고 선호 태그 일치 개수를 설정한다
+    private List<TravelRecommendForMemberDto> getRecommendTravelsByMatches(Integer loginUserNumber, List<Match> matches) {
+        List<Integer> travelNumbers = matches.stream()
+                .map(Match::getTravelNumber)
+                .toList();
+        Map<Integer, Integer> scores = matches.stream()
+                .collect(Collectors.toMap(Match::getTravelNumber, Match::getScore));
+
+        List<TravelRecommendForMemberDto> travels = travelRepository.findRecommendForMemberByNumbers(loginUserNumber, travelNumbers);
+        travels.forEach(dto -> dto.updatePreferredNumber(scores.get(dto.getTravelNumber())));
+        return travels;
+    }
+
     public Page<TravelRecommendForNonMemberDto> getRecommendTravelsByNonMember(PageRequest pageRequest) {
         // 조회: 북마크 개수 많은 순서, 제목 사전순 정렬
         try {
             LocalDate nowDate = LocalDate.now(clock);
+
+            // 미리 정렬해 둔 스냅샷이 있다면 해당 페이지만 잘라서 조회한다
+            Optional<TravelHomeFeedSnapshot> snapshot = travelHomeFeedSnapshotService.getSnapshot(nowDate);
+            if (snapshot.isPresent()) {
+                List<Integer> travelNumbers = snapshot.get().slice(pageRequest.getOffset(), pageRequest.getPageSize());
+                List<TravelRecommendForNonMemberDto> travels = travelRepository.findRecommendForNonMemberByNumbers(travelNumbers);
+                return new PageImpl<>(travels, pageRequest, snapshot.get().size());
+            }
+
             return travelRepository.findAllSortedByBookmarkNumberAndTitle(pageRequest, nowDate);
         } catch (Exception e) {
             log.warn("비로그인 사용자 추천 여행 목록 조회 실패: {}", e);
@@ -86,4 +179,11 @@ public class TravelHomeService {
         }
     }
 
+    // 최근 조회, 북마크, 댓글이 많은 순서(인기 점수)로 여행 목록 조회
+    // 마감, 삭제된 여행은 제외 (인기 목록에서의 정리는 여행 마감, 삭제 시 TrendingService에서 처리)
+    public List<TravelListResponseDto> getTrendingTravels(int size, Integer loginUserNumber) {
+        List<Integer> travelNumbers = trendingService.getTrendingNumbers(ViewContentType.TRAVEL, size);
+        return travelRepository.findInProgressListByNumbers(loginUserNumber, travelNumbers);
+    }
+
 }
@@ -0,0 +1,86 @@
+package swyp.swyp6_team7.travel.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import swyp.swyp6_team7.travel.dto.TravelKeywordDto;
+import swyp.swyp6_team7.travel.event.TravelChangeType;
+import swyp.swyp6_team7.travel.event.TravelChangedEvent;
+import swyp.swyp6_team7.travel.index.TravelKeywordIndex;
+import swyp.swyp6_team7.travel.repository.TravelRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TravelKeywordIndexService {
+
+    private final TravelRepository travelRepository;
+
+    // 색인 구축 전에는 null (검색 시 DB LIKE 조회로 대체)
+    private volatile TravelKeywordIndex keywordIndex;
+
+    // 여행 검색어 색인 전체 재구축 (서버 시작 시, 매일 새벽 5시 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 5 * * *", zone = "Asia/Seoul")
+    public void rebuild() {
+        try {
+            TravelKeywordIndex newIndex = new TravelKeywordIndex();
+            List<TravelKeywordDto> documents = travelRepository.findKeywordDocuments(null);
+            for (TravelKeywordDto document : documents) {
+                newIndex.put(document.getTravelNumber(), document.getTitle(), document.getLocationName(), document.getTags());
+            }
+            keywordIndex = newIndex;
+            log.info("여행 검색어 색인 구축 완료: size={}", newIndex.size());
+        } catch (Exception e) {
+            log.warn("여행 검색어 색인 구축 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * keyword를 포함하는 여행 번호 후보를 반환한다.<br>
+     * 색인이 아직 구축되지 않았다면 Optional.empty()를 반환한다.
+     */
+    public Optional<Set<Integer>> findCandidates(String keyword) {
+        TravelKeywordIndex index = keywordIndex;
+        if (index == null) {
+            return Optional.empty();
+        }
+        return Optional.of(index.search(keyword));
+    }
+
+    // 여행 생성, 수정, 삭제 커밋 후 해당 여행의 색인 갱신
+    @TransactionalEventListener
+    public void handleTravelChanged(TravelChangedEvent event) {
+        TravelKeywordIndex index = keywordIndex;
+        if (index == null) {
+            return;
+        }
+
+        int travelNumber = event.getTravelNumber();
+        try {
+            if (event.getChangeType() == TravelChangeType.DELETED) {
+                index.remove(travelNumber);
+                return;
+            }
+
+            List<TravelKeywordDto> documents = travelRepository.findKeywordDocuments(List.of(travelNumber));
+            if (documents.isEmpty()) {
+                index.remove(travelNumber);
+                return;
+            }
+            TravelKeywordDto document = documents.get(0);
+            index.put(travelNumber, document.getTitle(), document.getLocationName(), document.getTags());
+            log.debug("여행 검색어 색인 갱신: event={}", event);
+        } catch (Exception e) {
+            log.warn("여행 검색어 색인 갱신 중 오류 발생: event={}, error={}", event, e.getMessage());
+        }
+    }
+}
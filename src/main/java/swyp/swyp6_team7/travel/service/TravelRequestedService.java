@@ -30,6 +30,7 @@ public class TravelRequestedService {
     private final BookmarkRepository bookmarkRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final UserRepository userRepository;
+    private final TravelStatsService travelStatsService;
 
     @Transactional(readOnly = true)
     public Page<TravelListResponseDto> getRequestedTripsByUser(Integer userNumber, Pageable pageable) {
@@ -85,5 +86,6 @@ public class TravelRequestedService {
         }
 
         enrollmentRepository.delete(enrollment);
+        travelStatsService.enrollmentDeleted(travelNumber, enrollment.getStatus() == EnrollmentStatus.PENDING);
     }
 }
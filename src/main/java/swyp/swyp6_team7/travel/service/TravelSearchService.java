@@ -3,16 +3,26 @@ package swyp.swyp6_team7.travel.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import swyp.swyp6_team7.bookmark.service.BookmarkService;
 import swyp.swyp6_team7.global.exception.MoingApplicationException;
 import swyp.swyp6_team7.travel.dto.TravelSearchCondition;
+import swyp.swyp6_team7.travel.dto.response.TravelCursorPageResponse;
+import swyp.swyp6_team7.travel.dto.response.TravelSearchFacetResponse;
 import swyp.swyp6_team7.travel.dto.response.TravelSearchDto;
 import swyp.swyp6_team7.travel.repository.TravelRepository;
+import swyp.swyp6_team7.travel.util.TravelCursor;
+import swyp.swyp6_team7.travel.util.TravelSearchFacetCounter;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -20,16 +30,26 @@ import java.util.Map;
 @Service
 public class TravelSearchService {
 
+    private static final int FACET_TAG_COUNT = 10;
+    private static final int MAX_FILTER_CANDIDATE_COUNT = 5_000;
+
     private final TravelRepository travelRepository;
     private final BookmarkService bookmarkService;
+    private final TravelKeywordIndexService travelKeywordIndexService;
+    private final TravelFilterIndexService travelFilterIndexService;
 
     public Page<TravelSearchDto> search(TravelSearchCondition condition, Integer loginUserNumber) {
         try {
+            // 검색어 색인, 필터 색인으로 후보 여행 번호 조회 (후보가 없으면 DB 조회 생략)
+            if (!resolveCandidates(condition)) {
+                return new PageImpl<>(List.of(), condition.getPageRequest(), 0);
+            }
+
             Page<TravelSearchDto> result = travelRepository.search(condition);
 
             // 사용자 북마크 설정
             if (loginUserNumber != null) {
-                setUserBookmarkedToSearchResult(loginUserNumber, result);
+                setUserBookmarkedToSearchResult(loginUserNumber, result.getContent());
             }
             return result;
 
@@ -39,16 +59,105 @@ public class TravelSearchService {
         }
     }
 
+    public TravelCursorPageResponse<TravelSearchDto> searchWithCursor(TravelSearchCondition condition, String cursor, Integer loginUserNumber) {
+        TravelCursor travelCursor = TravelCursor.decode(cursor);
+
+        try {
+            if (!resolveCandidates(condition)) {
+                return TravelCursorPageResponse.from(List.of(), null);
+            }
+
+            TravelCursorPageResponse<TravelSearchDto> result = travelRepository.searchWithCursor(condition, travelCursor);
+
+            // 사용자 북마크 설정
+            if (loginUserNumber != null) {
+                setUserBookmarkedToSearchResult(loginUserNumber, result.getContent());
+            }
+            return result;
+
+        } catch (Exception e) {
+            log.warn("여행 커서 검색 중 오류 발생: {}", e.getMessage());
+            throw new MoingApplicationException("여행 검색 도중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 검색 결과의 필터별 개수 (성별, 기간, 인원, 국내/해외, 상위 태그)<br>
+     * 필터별 개수는 해당 필터의 선택 값을 제외하고 세므로 필터 색인 후보 대신 검색어 후보와 DB 조건으로 집계한다.
+     */
+    public TravelSearchFacetResponse getFacets(TravelSearchCondition condition) {
+        try {
+            if (!resolveKeywordCandidates(condition)) {
+                return new TravelSearchFacetCounter().toResponse(FACET_TAG_COUNT);
+            }
+            return travelRepository.countSearchFacets(condition, FACET_TAG_COUNT)
+                    .toResponse(FACET_TAG_COUNT);
+
+        } catch (Exception e) {
+            log.warn("여행 검색 필터 집계 중 오류 발생: {}", e.getMessage());
+            throw new MoingApplicationException("여행 검색 도중 오류가 발생했습니다.");
+        }
+    }
+
+    // 검색어, 필터 조건에 해당하는 후보 여행 번호를 검색 조건에 설정한다. 일치하는 여행이 없으면 false
+    private boolean resolveCandidates(TravelSearchCondition condition) {
+        return resolveKeywordCandidates(condition) && resolveFilterCandidates(condition);
+    }
+
+    /**
+     * 검색어가 있으면 색인에서 후보 여행 번호를 찾아 검색 조건에 설정한다. 일치하는 여행이 없으면 false<br>
+     * 후보가 많아도 LIKE 검색으로 바꾸지 않는다. (색인과 LIKE 검색은 일치 기준이 달라 결과가 달라진다)
+     * 필터 색인과의 교집합으로 후보를 줄이고, 남은 후보는 저장소에서 구간별로 나누어 조회한다.
+     */
+    private boolean resolveKeywordCandidates(TravelSearchCondition condition) {
+        if (!StringUtils.hasText(condition.getKeyword())) {
+            return true;
+        }
+
+        Optional<Set<Integer>> candidates = travelKeywordIndexService.findCandidates(condition.getKeyword());
+        if (candidates.isEmpty()) {
+            return true; // 색인 구축 전: LIKE 검색
+        }
+        if (candidates.get().isEmpty()) {
+            return false;
+        }
+
+        List<Integer> travelNumbers = new ArrayList<>(candidates.get());
+        Collections.sort(travelNumbers);
+        condition.updateKeywordCandidates(travelNumbers);
+        return true;
+    }
+
+    // 필터가 선택되었다면 필터 색인의 비트맵 교집합으로 후보 여행 번호를 찾아 검색 조건에 설정한다. 일치하는 여행이 없으면 false
+    private boolean resolveFilterCandidates(TravelSearchCondition condition) {
+        if (!condition.hasFilter()) {
+            return true;
+        }
+
+        Optional<List<Integer>> candidates = travelFilterIndexService.findCandidates(condition);
+        if (candidates.isEmpty()) {
+            return true; // 색인 구축 전: DB 검색 조건
+        }
+
+        // 검색어 후보가 없는데 필터 후보만 너무 많으면 IN 조건보다 DB 검색 조건이 유리하다 (일치 기준은 같다)
+        List<Integer> filtered = candidates.get();
+        if (!condition.isKeywordResolved() && filtered.size() > MAX_FILTER_CANDIDATE_COUNT) {
+            return true;
+        }
+        condition.updateFilterCandidates(filtered);
+        return !condition.getCandidateTravelNumbers().isEmpty();
+    }
+
     // 로그인 사용자 북마크 정보 추가 메서드
-    private void setUserBookmarkedToSearchResult(Integer userNumber, Page<TravelSearchDto> searchResult) {
-        List<Integer> travelsNumber = searchResult.getContent().stream()
+    private void setUserBookmarkedToSearchResult(Integer userNumber, List<TravelSearchDto> searchResult) {
+        List<Integer> travelsNumber = searchResult.stream()
                 .map(travelRecentDto -> travelRecentDto.getTravelNumber())
                 .toList();
 
         Map<Integer, Boolean> bookmarkedMap = bookmarkService.getBookmarkExistenceByTravelNumbers(userNumber, travelsNumber);
 
         // 각 여행에 대해 북마크 여부 설정
-        for (TravelSearchDto travelSearchDto : searchResult.getContent()) {
+        for (TravelSearchDto travelSearchDto : searchResult) {
             Boolean bookmarked = bookmarkedMap.get(travelSearchDto.getTravelNumber());
             travelSearchDto.updateBookmarked(bookmarked);
         }
@@ -3,10 +3,11 @@ package swyp.swyp6_team7.travel.service;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import swyp.swyp6_team7.bookmark.repository.BookmarkRepository;
-import swyp.swyp6_team7.comment.repository.CommentRepository;
+import swyp.swyp6_team7.comment.service.CommentDeleteService;
 import swyp.swyp6_team7.enrollment.repository.EnrollmentRepository;
 import swyp.swyp6_team7.global.exception.MoingApplicationException;
 import swyp.swyp6_team7.image.repository.ImageRepository;
@@ -30,6 +31,7 @@ import swyp.swyp6_team7.travel.dto.TravelDetailLoginMemberRelatedDto;
 import swyp.swyp6_team7.travel.dto.request.TravelCreateRequest;
 import swyp.swyp6_team7.travel.dto.request.TravelUpdateRequest;
 import swyp.swyp6_team7.travel.dto.response.TravelDetailResponse;
+import swyp.swyp6_team7.travel.event.TravelChangedEvent;
 import swyp.swyp6_team7.travel.repository.TravelRepository;
 
 import java.time.LocalDate;
@@ -55,8 +57,11 @@ public class TravelService {
     private final BookmarkRepository bookmarkRepository;
     private final ImageRepository imageRepository;
     private final LocationRepository locationRepository;
-    private final CommentRepository commentRepository;
+    private final CommentDeleteService commentDeleteService;
     private final CountryService countryService;
+    private final TravelStatsService travelStatsService;
+    private final TravelDetailCacheService travelDetailCacheService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static String defaultProfileImageUrl;
 
@@ -89,6 +94,8 @@ public class TravelService {
             );
 
             planService.createPlans(createdTravel.getNumber(), request.getPlans());    // 여행 일정 생성
+            travelStatsService.initialize(createdTravel.getNumber());                  // 여행 집계 데이터 생성
+            eventPublisher.publishEvent(TravelChangedEvent.created(createdTravel.getNumber()));
 
             log.info("여행 생성 완료: travelNumber={}", createdTravel.getNumber());
             return createdTravel;
@@ -144,6 +151,10 @@ public class TravelService {
     }
 
     public TravelDetailResponse getDetailsByNumber(int travelNumber) {
+        return travelDetailCacheService.get(travelNumber, () -> loadDetailsByNumber(travelNumber));
+    }
+
+    private TravelDetailResponse loadDetailsByNumber(int travelNumber) {
 
         boolean travelExistence = travelRepository.existsTravelByNumber(travelNumber);
         if (!travelExistence) {
@@ -164,13 +175,8 @@ public class TravelService {
         String hostProfileImageUrl = imageRepository.findUrlByRelatedUserNumber(travelDetail.getHostNumber())
                 .orElse(defaultProfileImageUrl);
 
-        // enrollment 개수
-        int enrollmentCount = enrollmentRepository.countByTravelNumber(travelNumber);
-
-        // bookmark 개수
-        int bookmarkCount = bookmarkRepository.countByTravelNumber(travelNumber);
-
-        return new TravelDetailResponse(travelDetail, hostProfileImageUrl, enrollmentCount, bookmarkCount);
+        // enrollment, bookmark 개수는 travel_stats 집계 값을 사용
+        return new TravelDetailResponse(travelDetail, hostProfileImageUrl, travelDetail.getEnrollmentCount(), travelDetail.getBookmarkCount());
     }
 
     public TravelDetailLoginMemberRelatedDto getTravelDetailMemberRelatedInfo(int requestUserNumber, int travelNumber, int hostNumber, String postStatus) {
@@ -242,6 +248,7 @@ public class TravelService {
             throw new MoingApplicationException("여행 일정 수정 과정에서 오류가 발생했습니다.");
         }
 
+        eventPublisher.publishEvent(TravelChangedEvent.updated(updatedTravel.getNumber()));
         log.info("여행 수정 완료: travelNumber={}", updatedTravel.getNumber());
         return updatedTravel;
     }
@@ -261,10 +268,10 @@ public class TravelService {
 
         try {
             // TODO: 북마크 삭제 추가
-            // TODO: 댓글 Service의 삭제 메서드로 변경
-            commentRepository.deleteCommentsByRelatedTypeAndRelatedNumber("travel", travel.getNumber()); // 댓글 전체 삭제
+            commentDeleteService.deleteAllByPost("travel", travel.getNumber()); // 댓글 전체 삭제 (좋아요, 댓글 알림 포함)
             planService.deleteAllPlansAndRelatedSpots(travel.getNumber()); // 일정 전체 삭제
             travel.delete(); // 여행 상태 DELETED 설정
+            eventPublisher.publishEvent(TravelChangedEvent.deleted(travel.getNumber()));
             log.info("여행 삭제 완료: travelNumber={}", travelNumber);
         } catch (Exception e) {
             // TODO: log.error로 변경
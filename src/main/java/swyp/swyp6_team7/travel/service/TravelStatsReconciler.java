@@ -0,0 +1,81 @@
+package swyp.swyp6_team7.travel.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import swyp.swyp6_team7.travel.repository.TravelStatsRepository;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * travel_stats 집계 테이블 정합성 보정<br>
+ * 여행 번호 순으로 청크를 나누어 원본 테이블에서 다시 집계하고, 값이 다른 여행만 덮어쓴다. (집계 row가 없는 여행은 생성)<br>
+ * 청크마다 별도 트랜잭션으로 처리해 오래된 스냅샷으로 덮어쓰지 않으며,
+ * 덮어쓰기는 조회한 값이 그대로일 때만 반영해 그 사이 커밋된 증감을 지우지 않는다. (TravelStatsService.refresh)
+ */
+@Slf4j
+@Service
+public class TravelStatsReconciler {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final TravelStatsRepository travelStatsRepository;
+    private final TravelStatsService travelStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TravelStatsReconciler(
+            TravelStatsRepository travelStatsRepository,
+            TravelStatsService travelStatsService,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.travelStatsRepository = travelStatsRepository;
+        this.travelStatsService = travelStatsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 애플리케이션 시작 시 실행 (기동을 막지 않도록 별도 스레드에서 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        Thread.ofVirtual()
+                .name("travel-stats-reconciler")
+                .start(this::reconcile);
+    }
+
+    // 매일 새벽 4시 30분 실행
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("SCHEDULER::DAILY: 여행 집계 테이블 보정 작업이 이미 실행 중입니다.");
+            return;
+        }
+
+        try {
+            log.info("SCHEDULER::DAILY: 여행 집계 테이블 보정 작업 시작");
+
+            int lastTravelNumber = 0;
+            int checkedCount = 0;
+            int repairedCount = 0;
+            while (true) {
+                List<Integer> travelNumbers = travelStatsRepository.findTravelNumbersAfter(lastTravelNumber, RECONCILE_CHUNK_SIZE);
+                if (travelNumbers.isEmpty()) {
+                    break;
+                }
+                repairedCount += transactionTemplate.execute(status -> travelStatsService.refresh(travelNumbers));
+                checkedCount += travelNumbers.size();
+                lastTravelNumber = travelNumbers.get(travelNumbers.size() - 1);
+            }
+
+            log.info("SCHEDULER::DAILY: 여행 집계 테이블 보정 작업 종료: checked={}, repaired={}", checkedCount, repairedCount);
+        } catch (Exception e) {
+            log.warn("SCHEDULER::DAILY: 여행 집계 테이블 보정 작업 실패: error={}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+}
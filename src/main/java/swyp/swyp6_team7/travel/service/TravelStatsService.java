@@ -0,0 +1,147 @@
+package swyp.swyp6_team7.travel.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import swyp.swyp6_team7.travel.domain.TravelStats;
+import swyp.swyp6_team7.travel.event.TravelStatsChangedEvent;
+import swyp.swyp6_team7.travel.repository.TravelStatsRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * travel_stats 집계 테이블 관리<br>
+ * 북마크, 참가 신청, 참가자, 조회수 변경 시 호출하는 쪽의 트랜잭션 안에서 함께 갱신된다.
+ * 정합성 보정은 TravelStatsReconciler에서 주기적으로 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class TravelStatsService {
+
+    private final TravelStatsRepository travelStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void initialize(int travelNumber) {
+        insertIfAbsent(TravelStats.empty(travelNumber));
+    }
+
+    @Transactional
+    public void increaseBookmarkCount(int travelNumber) {
+        updateOrCreate(travelNumber, () -> travelStatsRepository.addBookmarkCount(travelNumber, 1));
+        eventPublisher.publishEvent(new TravelStatsChangedEvent(travelNumber));
+    }
+
+    @Transactional
+    public void decreaseBookmarkCount(int travelNumber) {
+        updateOrCreate(travelNumber, () -> travelStatsRepository.addBookmarkCount(travelNumber, -1));
+        eventPublisher.publishEvent(new TravelStatsChangedEvent(travelNumber));
+    }
+
+    @Transactional
+    public void increaseCompanionCount(int travelNumber) {
+        updateOrCreate(travelNumber, () -> travelStatsRepository.addCompanionCount(travelNumber, 1));
+        eventPublisher.publishEvent(new TravelStatsChangedEvent(travelNumber));
+    }
+
+    @Transactional
+    public void decreaseCompanionCount(int travelNumber) {
+        updateOrCreate(travelNumber, () -> travelStatsRepository.addCompanionCount(travelNumber, -1));
+        eventPublisher.publishEvent(new TravelStatsChangedEvent(travelNumber));
+    }
+
+    // 참가 신청 생성 (PENDING 상태로 생성된다)
+    @Transactional
+    public void enrollmentCreated(int travelNumber) {
+        updateOrCreate(travelNumber, () -> travelStatsRepository.addEnrollmentCount(travelNumber, 1, 1));
+        eventPublisher.publishEvent(new TravelStatsChangedEvent(travelNumber));
+    }
+
+    // 참가 신청 삭제 (대기 중인 신청이었다면 대기 수도 함께 감소)
+    @Transactional
+    public void enrollmentDeleted(int travelNumber, boolean wasPending) {
+        int pendingDelta = wasPending ? -1 : 0;
+        updateOrCreate(travelNumber, () -> travelStatsRepository.addEnrollmentCount(travelNumber, -1, pendingDelta));
+        eventPublisher.publishEvent(new TravelStatsChangedEvent(travelNumber));
+    }
+
+    // 참가 신청 수락 또는 거절 (대기 상태 해제)
+    @Transactional
+    public void enrollmentProcessed(int travelNumber) {
+        updateOrCreate(travelNumber, () -> travelStatsRepository.addEnrollmentCount(travelNumber, 0, -1));
+        eventPublisher.publishEvent(new TravelStatsChangedEvent(travelNumber));
+    }
+
+    @Transactional
+    public void addViewCount(int travelNumber, int delta) {
+        updateOrCreate(travelNumber, () -> travelStatsRepository.addViewCount(travelNumber, delta));
+    }
+
+    /**
+     * 집계 row가 없는 경우(기존 데이터) 원본 테이블에서 다시 집계해 생성한다.<br>
+     * 재집계 값에는 현재 트랜잭션의 변경이 이미 포함되어 있으므로 생성했다면 증감을 다시 반영하지 않는다.
+     * 동시에 다른 요청이 먼저 생성했다면(INSERT IGNORE로 무시됨) 생성된 row에 증감을 반영한다.
+     */
+    private void updateOrCreate(int travelNumber, IntSupplier update) {
+        if (update.getAsInt() > 0) {
+            return;
+        }
+        log.info("여행 집계 데이터가 없어 재집계합니다: travelNumber={}", travelNumber);
+        List<TravelStats> aggregated = travelStatsRepository.aggregateByTravelNumbers(List.of(travelNumber));
+        if (aggregated.isEmpty()) {
+            return;
+        }
+        if (insertIfAbsent(aggregated.get(0)) == 0) {
+            update.getAsInt();
+        }
+    }
+
+    /**
+     * 원본 테이블에서 다시 집계한 값과 다른 여행만 덮어쓰고, 보정한 여행 수를 반환한다.<br>
+     * 덮어쓰기는 조회한 값이 그대로일 때만 반영해 그 사이 커밋된 증감을 지우지 않는다. (건너뛴 여행은 다음 보정에서 다시 확인)
+     */
+    @Transactional
+    public int refresh(List<Integer> travelNumbers) {
+        List<TravelStats> aggregated = travelStatsRepository.aggregateByTravelNumbers(travelNumbers);
+        if (aggregated.isEmpty()) {
+            return 0;
+        }
+
+        Map<Integer, TravelStats> existing = travelStatsRepository.findAllById(travelNumbers).stream()
+                .collect(Collectors.toMap(TravelStats::getTravelNumber, Function.identity()));
+
+        int repairedCount = 0;
+        for (TravelStats stats : aggregated) {
+            TravelStats saved = existing.get(stats.getTravelNumber());
+            if (saved == null) {
+                repairedCount += insertIfAbsent(stats);
+            } else if (!saved.hasSameCounts(stats)) {
+                log.info("여행 집계 값 보정: before={}, after={}", saved, stats);
+                repairedCount += travelStatsRepository.overwriteCounts(
+                        stats.getTravelNumber(),
+                        stats.getBookmarkCount(), stats.getCompanionCount(), stats.getEnrollmentCount(),
+                        stats.getPendingEnrollmentCount(), stats.getViewCount(),
+                        saved.getBookmarkCount(), saved.getCompanionCount(), saved.getEnrollmentCount(),
+                        saved.getPendingEnrollmentCount(), saved.getViewCount()
+                );
+            }
+        }
+        return repairedCount;
+    }
+
+    private int insertIfAbsent(TravelStats stats) {
+        return travelStatsRepository.insertIfAbsent(
+                stats.getTravelNumber(),
+                stats.getBookmarkCount(), stats.getCompanionCount(), stats.getEnrollmentCount(),
+                stats.getPendingEnrollmentCount(), stats.getViewCount()
+        );
+    }
+}
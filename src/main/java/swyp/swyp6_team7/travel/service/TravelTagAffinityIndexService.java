@@ -0,0 +1,93 @@
+package swyp.swyp6_team7.travel.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import swyp.swyp6_team7.travel.dto.TravelTagAffinityDto;
+import swyp.swyp6_team7.travel.event.TravelChangeType;
+import swyp.swyp6_team7.travel.event.TravelChangedEvent;
+import swyp.swyp6_team7.travel.event.TravelStatsChangedEvent;
+import swyp.swyp6_team7.travel.index.TravelTagAffinityIndex;
+import swyp.swyp6_team7.travel.repository.TravelRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TravelTagAffinityIndexService {
+
+    private final TravelRepository travelRepository;
+
+    // 색인 구축 전에는 null (DB 태그 매칭 조회로 대체)
+    private volatile TravelTagAffinityIndex tagAffinityIndex;
+
+    // 모집 중인 여행의 태그 비트셋 색인 전체 재구축 (서버 시작 시, 매일 새벽 5시 10분 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 10 5 * * *", zone = "Asia/Seoul")
+    public void rebuild() {
+        try {
+            TravelTagAffinityIndex newIndex = new TravelTagAffinityIndex();
+            List<TravelTagAffinityDto> documents = travelRepository.findTagAffinityDocuments(null);
+            for (TravelTagAffinityDto document : documents) {
+                newIndex.put(document.getTravelNumber(), document.getTitle(), document.getStartDate(), document.getTags());
+            }
+            tagAffinityIndex = newIndex;
+            log.info("여행 태그 추천 색인 구축 완료: size={}", newIndex.size());
+        } catch (Exception e) {
+            log.warn("여행 태그 추천 색인 구축 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 구축된 색인을 반환한다.<br>
+     * 색인이 아직 구축되지 않았다면 Optional.empty()를 반환한다.
+     */
+    public Optional<TravelTagAffinityIndex> getIndex() {
+        return Optional.ofNullable(tagAffinityIndex);
+    }
+
+    // 여행 생성, 수정(태그 변경 포함), 삭제 커밋 후 해당 여행의 비트셋 갱신
+    @TransactionalEventListener
+    public void handleTravelChanged(TravelChangedEvent event) {
+        if (event.getChangeType() == TravelChangeType.DELETED) {
+            TravelTagAffinityIndex index = tagAffinityIndex;
+            if (index != null) {
+                index.remove(event.getTravelNumber());
+            }
+            return;
+        }
+        refresh(event.getTravelNumber());
+    }
+
+    // 참가 수락으로 모집 마감될 수 있으므로 참가자 수 변경 시에도 갱신
+    @TransactionalEventListener
+    public void handleTravelStatsChanged(TravelStatsChangedEvent event) {
+        refresh(event.getTravelNumber());
+    }
+
+    private void refresh(int travelNumber) {
+        TravelTagAffinityIndex index = tagAffinityIndex;
+        if (index == null) {
+            return;
+        }
+
+        try {
+            List<TravelTagAffinityDto> documents = travelRepository.findTagAffinityDocuments(List.of(travelNumber));
+            if (documents.isEmpty()) {
+                index.remove(travelNumber); // 모집 마감 또는 삭제
+                return;
+            }
+            TravelTagAffinityDto document = documents.get(0);
+            index.put(travelNumber, document.getTitle(), document.getStartDate(), document.getTags());
+            log.debug("여행 태그 추천 색인 갱신: travelNumber={}", travelNumber);
+        } catch (Exception e) {
+            log.warn("여행 태그 추천 색인 갱신 중 오류 발생: travelNumber={}, error={}", travelNumber, e.getMessage());
+        }
+    }
+}
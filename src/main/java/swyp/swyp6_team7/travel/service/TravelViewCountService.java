@@ -2,31 +2,29 @@ package swyp.swyp6_team7.travel.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import swyp.swyp6_team7.travel.repository.TravelRepository;
+import swyp.swyp6_team7.viewcount.dao.ViewCountDao;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+import swyp.swyp6_team7.viewcount.service.UniqueViewService;
+import swyp.swyp6_team7.viewcount.service.ViewCountEngine;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * 조회수 key = view:travel:{travelNumber}, value = String type 조회수<br>
+ * 조회여부 key = viewed:travel:{travelNumber}(SET) 또는 viewed-hll:travel:{travelNumber}(HyperLogLog), UniqueViewService 참고
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class TravelViewCountService {
 
-    /**
-     * 조회수 key = view:travel:{travelNumber}, value = String type 조회수<br>
-     * 조회여부 key = viewed:travel:{travelNumber}, value = Set of userIdentifier
-     */
-    private static final String VIEW_COUNT_KEY_PREFIX = "view:travel:";
-    private static final String VIEWED_INFO_KEY_PREFIX = "viewed:travel:";
-
-    private final RedisTemplate<String, String> redisTemplate;
-    private final TravelRepository travelRepository;
+    private final UniqueViewService uniqueViewService;
+    private final ViewCountEngine viewCountEngine;
+    private final ViewCountDao viewCountDao;
+    private final TravelStatsService travelStatsService;
 
     // 여행 조회수 update
     public void updateViewCount(Integer travelNumber, String userIdentifier) {
@@ -36,42 +34,13 @@ public class TravelViewCountService {
             throw new IllegalArgumentException("잘못된 user Identifier 입니다.");
         }
 
-        String viewedInfoKey = VIEWED_INFO_KEY_PREFIX + travelNumber.toString();
-        if (!isViewed(viewedInfoKey, userIdentifier)) {
-            addUserIdentifierToViewedSet(viewedInfoKey, userIdentifier); // viewed set에 userIdentifier 추가
-            increaseViewCount(travelNumber); // 조회수 증가
-        }
-    }
-
-    // 조회 여부 확인
-    private boolean isViewed(String viewedInfoKey, String userIdentifier) {
-        return redisTemplate.opsForSet().isMember(viewedInfoKey, userIdentifier);
+        // 조회 기록 추가와 조회수 증가를 한 번에 처리 (처음 조회한 경우에만 조회수 증가)
+        viewCountEngine.recordView(ViewContentType.TRAVEL, travelNumber, userIdentifier);
     }
 
     // 특정 여행 조회수 조회
     public Integer getViewCount(Integer travelNumber) {
-        String key = VIEW_COUNT_KEY_PREFIX + travelNumber.toString();
-        String viewCount = redisTemplate.opsForValue().get(key);
-        return viewCount != null ? Integer.valueOf(viewCount) : 0;
-    }
-
-    // 사용자 조회 정보 추가
-    private void addUserIdentifierToViewedSet(String viewedInfoKey, String userIdentifier) {
-        redisTemplate.opsForSet().add(viewedInfoKey, userIdentifier);
-        redisTemplate.expire(viewedInfoKey, 24, TimeUnit.HOURS); // TTL 1일
-        log.debug("Redis: 사용자 조회 정보 추가: viewedInfoKey={}, userIdentifier={}", viewedInfoKey, userIdentifier);
-    }
-
-    // 특정 여행 조회수 1 증가
-    private void increaseViewCount(Integer travelNumber) {
-        String key = VIEW_COUNT_KEY_PREFIX + travelNumber.toString();
-
-        String viewCount = redisTemplate.opsForValue().get(key);
-        if (viewCount == null) {
-            redisTemplate.opsForValue().set(key, "0");
-            log.info("Redis: Set new viewCount data: key={}", key);
-        }
-        redisTemplate.opsForValue().increment(key);
+        return viewCountEngine.getViewCount(ViewContentType.TRAVEL, travelNumber);
     }
 
     // 조회 사용자 기록 삭제 작업 (매일 새벽 4시 실행)
@@ -79,49 +48,35 @@ public class TravelViewCountService {
     public void deleteViewInfo() {
         log.info("SCHEDULER::DAILY: Redis 사용자 조회 기록 삭제 작업 시작");
 
-        Set<String> keys = redisTemplate.keys(VIEWED_INFO_KEY_PREFIX + "*");
-        if (!keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.info("Redis: Delete viewInfo data");
-        }
+        uniqueViewService.deleteViewInfo(ViewContentType.TRAVEL);
 
         log.info("SCHEDULER::DAILY: Redis 사용자 조회 기록 삭제 작업 종료");
     }
 
     // 조회수 DB 동기화 작업 (10분 주기 실행)
     @Scheduled(cron = "0 0/10 * * * *")
-    @Transactional
     public void combineViewCountToDatabase() {
         log.info("SCHEDULER::10MIN: Redis-DB 조회수 동기화 작업 시작");
 
-        Set<String> keys = redisTemplate.keys(VIEW_COUNT_KEY_PREFIX + "*");
-        if (!keys.isEmpty()) {
-            Map<Integer, Integer> viewCountMap = getViewCountData(keys);
-            log.info("viewCountMap: {}", viewCountMap);
-
-            redisTemplate.delete(keys);
-            log.info("Redis: Delete All viewCount data");
+        Map<Integer, Integer> viewCountMap = viewCountEngine.drainViewCounts(ViewContentType.TRAVEL);
+        if (!viewCountMap.isEmpty()) {
+            List<Integer> missingStats;
+            try {
+                missingStats = viewCountDao.addTravelViewCounts(viewCountMap);
+                log.info("Combine viewCount to database: size={}", viewCountMap.size());
+            } catch (Exception e) {
+                // DB 반영에 실패한 조회수는 Redis에 되돌려 다음 동기화에 포함한다
+                log.error("조회수 DB 동기화 실패: size={}, error={}", viewCountMap.size(), e.getMessage(), e);
+                viewCountEngine.restoreViewCounts(ViewContentType.TRAVEL, viewCountMap);
+                return;
+            }
 
-            for (Integer travelNumber : viewCountMap.keySet()) {
-                travelRepository.combineViewCountByTravelNumber(travelNumber, viewCountMap.get(travelNumber));
-                log.info("Combine viewCount to database: travelNumber={}", travelNumber);
+            // 집계 row가 없는 경우(기존 데이터) 원본 테이블에서 다시 집계해 생성한다
+            if (!missingStats.isEmpty()) {
+                travelStatsService.refresh(missingStats);
             }
         }
 
         log.info("SCHEDULER::10MIN: Redis-DB 조회수 동기화 작업 종료");
     }
-
-    private Map<Integer, Integer> getViewCountData(Set<String> redisKeys) {
-        Map<Integer, Integer> viewCountMap = new HashMap<>(); // key: travelNumber, value: viewCount
-        redisKeys.stream()
-                .forEach(redisKey -> {
-                    viewCountMap.put(
-                            Integer.parseInt(redisKey.split(":")[2]),
-                            Integer.valueOf(redisTemplate.opsForValue().get(redisKey))
-                    );
-                });
-
-        return viewCountMap;
-    }
-
 }
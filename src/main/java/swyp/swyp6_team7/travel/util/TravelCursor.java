@@ -0,0 +1,137 @@
+package swyp.swyp6_team7.travel.util;
+
+import lombok.Getter;
+import swyp.swyp6_team7.global.exception.MoingApplicationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 여행 목록 No-Offset 페이징 커서<br>
+ * 마지막으로 조회한 여행의 정렬 키를 담으며, 클라이언트에는 불투명한 문자열로 전달한다.
+ * <ul>
+ *     <li>생성일 정렬: (createdAt, travelNumber)</li>
+ *     <li>선호 태그 정렬: (score=선호 태그 일치 개수, title, travelNumber)</li>
+ *     <li>추천순 정렬: (score=북마크 개수, viewCount, travelNumber)</li>
+ * </ul>
+ */
+@Getter
+public class TravelCursor {
+
+    private static final String DELIMITER = ".";
+    private static final int PART_COUNT = 5;
+
+    private final int travelNumber;
+    private final LocalDateTime createdAt;
+    private final Long score;
+    private final Integer viewCount;
+    private final String title;
+
+    private TravelCursor(int travelNumber, LocalDateTime createdAt, Long score, Integer viewCount, String title) {
+        this.travelNumber = travelNumber;
+        this.createdAt = createdAt;
+        this.score = score;
+        this.viewCount = viewCount;
+        this.title = title;
+    }
+
+    public static TravelCursor ofCreatedAt(int travelNumber, LocalDateTime createdAt) {
+        return new TravelCursor(travelNumber, createdAt, null, null, null);
+    }
+
+    public static TravelCursor ofPreferredTags(int travelNumber, long matchingTagCount, String title) {
+        return new TravelCursor(travelNumber, null, matchingTagCount, null, title);
+    }
+
+    public static TravelCursor ofRecommend(int travelNumber, long bookmarkCount, int viewCount) {
+        return new TravelCursor(travelNumber, null, bookmarkCount, viewCount, null);
+    }
+
+    public String encode() {
+        return String.join(DELIMITER,
+                encodePart(String.valueOf(travelNumber)),
+                encodePart(createdAt == null ? "" : createdAt.toString()),
+                encodePart(score == null ? "" : score.toString()),
+                encodePart(viewCount == null ? "" : viewCount.toString()),
+                encodePart(title == null ? "" : title)
+        );
+    }
+
+    // 커서가 주어지지 않으면 null (첫 페이지)
+    public static TravelCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = cursor.split("\\" + DELIMITER, -1);
+            if (parts.length != PART_COUNT) {
+                throw new IllegalArgumentException("cursor part count mismatch");
+            }
+
+            String createdAt = decodePart(parts[1]);
+            String score = decodePart(parts[2]);
+            String viewCount = decodePart(parts[3]);
+            String title = decodePart(parts[4]);
+            return new TravelCursor(
+                    Integer.parseInt(decodePart(parts[0])),
+                    createdAt.isEmpty() ? null : LocalDateTime.parse(createdAt),
+                    score.isEmpty() ? null : Long.valueOf(score),
+                    viewCount.isEmpty() ? null : Integer.valueOf(viewCount),
+                    title.isEmpty() ? null : title
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new MoingApplicationException("잘못된 커서입니다.");
+        }
+    }
+
+    public LocalDateTime requireCreatedAt() {
+        if (createdAt == null) {
+            throw new MoingApplicationException("잘못된 커서입니다.");
+        }
+        return createdAt;
+    }
+
+    public long requireScore() {
+        if (score == null) {
+            throw new MoingApplicationException("잘못된 커서입니다.");
+        }
+        return score;
+    }
+
+    public int requireViewCount() {
+        if (viewCount == null) {
+            throw new MoingApplicationException("잘못된 커서입니다.");
+        }
+        return viewCount;
+    }
+
+    public String requireTitle() {
+        if (title == null) {
+            throw new MoingApplicationException("잘못된 커서입니다.");
+        }
+        return title;
+    }
+
+    private static String encodePart(String value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(String value) {
+        return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "TravelCursor{" +
+                "travelNumber=" + travelNumber +
+                ", createdAt=" + createdAt +
+                ", score=" + score +
+                ", viewCount=" + viewCount +
+                ", title='" + title + '\'' +
+                '}';
+    }
+}
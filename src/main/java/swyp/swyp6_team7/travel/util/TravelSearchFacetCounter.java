@@ -0,0 +1,112 @@
+package swyp.swyp6_team7.travel.util;
+
+import swyp.swyp6_team7.location.domain.LocationType;
+import swyp.swyp6_team7.travel.domain.GenderType;
+import swyp.swyp6_team7.travel.domain.PeriodType;
+import swyp.swyp6_team7.travel.dto.response.TravelSearchFacetResponse;
+
+import java.util.*;
+
+/**
+ * 검색 필터 값별 여행 수를 모아 응답으로 변환한다.<br>
+ * 저장소에서 필터 값별로 GROUP BY 집계한 개수를 더하며, 같은 값이 여러 번 들어오면 합산한다. (후보 구간별 집계)<br>
+ * 검색 필터로 선택할 수 없는 값(NONE, UNKNOWN)과 값이 없는 경우(null)는 결과에 포함하지 않는다.
+ */
+public class TravelSearchFacetCounter {
+
+    private static final List<String> PERSON_TYPES = List.of(
+            TravelSearchConstant.PERSON_TYPE_SMALL,
+            TravelSearchConstant.PERSON_TYPE_MIDDLE,
+            TravelSearchConstant.PERSON_TYPE_LARGE
+    );
+
+    private final long[] genderCounts = new long[GenderType.values().length];
+    private final long[] periodCounts = new long[PeriodType.values().length];
+    private final long[] personCounts = new long[PERSON_TYPES.size()];
+    private final long[] locationCounts = new long[LocationType.values().length];
+    private final Map<String, Long> tagCounts = new HashMap<>();
+    private long totalCount;
+
+    public void addTotal(long count) {
+        totalCount += count;
+    }
+
+    public void addGender(GenderType genderType, Long count) {
+        if (genderType != null) {
+            genderCounts[genderType.ordinal()] += count;
+        }
+    }
+
+    public void addPeriod(PeriodType periodType, Long count) {
+        if (periodType != null) {
+            periodCounts[periodType.ordinal()] += count;
+        }
+    }
+
+    // 최대 인원별 개수를 인원 필터 구간별 개수로 더한다
+    public void addPerson(Integer maxPerson, Long count) {
+        if (maxPerson != null) {
+            personCounts[toPersonTypeIndex(maxPerson)] += count;
+        }
+    }
+
+    public void addLocation(LocationType locationType, Long count) {
+        if (locationType != null) {
+            locationCounts[locationType.ordinal()] += count;
+        }
+    }
+
+    public void addTag(String tag, Long count) {
+        if (tag != null) {
+            tagCounts.merge(tag, count, Long::sum);
+        }
+    }
+
+    // 검색 조건의 인원 필터와 같은 기준 (2명 이하, 3~4명, 5명 이상)
+    private int toPersonTypeIndex(int maxPerson) {
+        if (maxPerson <= 2) {
+            return 0;
+        } else if (maxPerson <= 4) {
+            return 1;
+        }
+        return 2;
+    }
+
+    public TravelSearchFacetResponse toResponse(int topTagCount) {
+        Map<String, Long> gender = new LinkedHashMap<>();
+        for (GenderType genderType : GenderType.values()) {
+            if (genderType != GenderType.NONE) {
+                gender.put(genderType.getDescription(), genderCounts[genderType.ordinal()]);
+            }
+        }
+
+        Map<String, Long> period = new LinkedHashMap<>();
+        for (PeriodType periodType : PeriodType.values()) {
+            if (periodType != PeriodType.NONE) {
+                period.put(periodType.getDescription(), periodCounts[periodType.ordinal()]);
+            }
+        }
+
+        Map<String, Long> person = new LinkedHashMap<>();
+        for (int i = 0; i < PERSON_TYPES.size(); i++) {
+            person.put(PERSON_TYPES.get(i), personCounts[i]);
+        }
+
+        Map<String, Long> location = new LinkedHashMap<>();
+        for (LocationType locationType : LocationType.values()) {
+            if (locationType != LocationType.UNKNOWN) {
+                location.put(locationType.getDescription(), locationCounts[locationType.ordinal()]);
+            }
+        }
+
+        // 개수가 많은 순서, 같으면 태그 이름 사전순
+        Map<String, Long> tags = new LinkedHashMap<>();
+        tagCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(topTagCount)
+                .forEach(entry -> tags.put(entry.getKey(), entry.getValue()));
+
+        return new TravelSearchFacetResponse(totalCount, gender, period, person, location, tags);
+    }
+}
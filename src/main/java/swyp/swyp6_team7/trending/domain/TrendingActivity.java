@@ -0,0 +1,19 @@
+package swyp.swyp6_team7.trending.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 점수에 반영되는 사용자 활동<br>
+ * weight = 활동 1회가 발생한 시점의 점수 (이후 반감기마다 절반으로 줄어든다)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendingActivity {
+    VIEW(1.0),
+    LIKE(3.0),
+    COMMENT(4.0),
+    BOOKMARK(5.0);
+
+    private final double weight;
+}
@@ -0,0 +1,32 @@
+package swyp.swyp6_team7.trending.event;
+
+import lombok.Getter;
+import swyp.swyp6_team7.trending.domain.TrendingActivity;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+
+/**
+ * 인기 점수에 반영할 사용자 활동(좋아요, 댓글, 북마크) 이벤트<br>
+ * 트랜잭션 커밋 이후(AFTER_COMMIT) 반영하므로 롤백된 활동은 점수에 포함되지 않는다. (조회는 ViewCountedEvent로 반영)
+ */
+@Getter
+public class TrendingActivityEvent {
+
+    private final ViewContentType contentType;
+    private final int contentNumber;
+    private final TrendingActivity activity;
+
+    public TrendingActivityEvent(ViewContentType contentType, int contentNumber, TrendingActivity activity) {
+        this.contentType = contentType;
+        this.contentNumber = contentNumber;
+        this.activity = activity;
+    }
+
+    @Override
+    public String toString() {
+        return "TrendingActivityEvent{" +
+                "contentType=" + contentType +
+                ", contentNumber=" + contentNumber +
+                ", activity=" + activity +
+                '}';
+    }
+}
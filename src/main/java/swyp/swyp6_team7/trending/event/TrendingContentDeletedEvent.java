@@ -0,0 +1,29 @@
+package swyp.swyp6_team7.trending.event;
+
+import lombok.Getter;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+
+/**
+ * 인기 목록에서 제외할 콘텐츠 삭제 이벤트<br>
+ * 트랜잭션 커밋 이후(AFTER_COMMIT) 인기 목록에서 삭제하므로 조회 시점에 삭제된 콘텐츠를 정리하지 않아도 된다.
+ * (여행은 TravelChangedEvent로 처리)
+ */
+@Getter
+public class TrendingContentDeletedEvent {
+
+    private final ViewContentType contentType;
+    private final int contentNumber;
+
+    public TrendingContentDeletedEvent(ViewContentType contentType, int contentNumber) {
+        this.contentType = contentType;
+        this.contentNumber = contentNumber;
+    }
+
+    @Override
+    public String toString() {
+        return "TrendingContentDeletedEvent{" +
+                "contentType=" + contentType +
+                ", contentNumber=" + contentNumber +
+                '}';
+    }
+}
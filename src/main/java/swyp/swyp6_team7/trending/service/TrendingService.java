@@ -0,0 +1,236 @@
+package swyp.swyp6_team7.trending.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import swyp.swyp6_team7.travel.event.TravelChangeType;
+import swyp.swyp6_team7.travel.event.TravelChangedEvent;
+import swyp.swyp6_team7.trending.domain.TrendingActivity;
+import swyp.swyp6_team7.trending.event.TrendingActivityEvent;
+import swyp.swyp6_team7.trending.event.TrendingContentDeletedEvent;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+import swyp.swyp6_team7.viewcount.event.ViewCountedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인기 점수 key = trending:{contentType} (Sorted Set, member = 콘텐츠 번호)<br>
+ * 기준 시각 key = trending:{contentType}:epoch (점수 환산 기준 시각, epoch millis)<br>
+ * 활동 점수는 반감기(half-life)마다 절반으로 줄어드는 지수 감쇠를 따른다.
+ * 저장된 모든 점수를 매번 줄이는 대신, 새 활동을 weight * 2^((now - epoch) / halfLife)로 키워서 더하므로
+ * 점수 순서는 감쇠된 점수 순서와 같고 갱신은 ZINCRBY 한 번(O(log n)), 상위 k개 조회는 O(log n + k)이다.<br>
+ * 키운 점수가 너무 커지지 않도록 주기적으로 전체 점수를 현재 기준으로 다시 환산(rebase)하고 작은 점수는 정리한다.<br>
+ * 조회는 중복 판별을 통과한 조회(ViewCountedEvent)만 반영하며, 요청 스레드를 막지 않도록 비동기로 게시글별 조회수를 모아 pipeline으로 반영한다.
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+    private static final String TRENDING_KEY_PREFIX = "trending:";
+    private static final String EPOCH_KEY_SUFFIX = ":epoch";
+    private static final int MAX_TRENDING_SIZE = 10_000;
+    private static final double MIN_SCORE = 0.01; // 조회 1회가 약 7번의 반감기를 지난 점수
+
+    /**
+     * KEYS[1] = 인기 점수 key, KEYS[2] = 기준 시각 key<br>
+     * ARGV[1] = 콘텐츠 번호, ARGV[2] = 활동 weight, ARGV[3] = 현재 시각(millis), ARGV[4] = 반감기(millis)
+     */
+    private static final RedisScript<String> INCREASE_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = redis.call('GET', KEYS[2])
+            if not epoch then
+                epoch = ARGV[3]
+                redis.call('SET', KEYS[2], epoch)
+            end
+            local elapsed = (tonumber(ARGV[3]) - tonumber(epoch)) / tonumber(ARGV[4])
+            return redis.call('ZINCRBY', KEYS[1], tonumber(ARGV[2]) * math.pow(2, elapsed), ARGV[1])
+            """, String.class);
+
+    /**
+     * KEYS[1] = 인기 점수 key, KEYS[2] = 기준 시각 key<br>
+     * ARGV[1] = 현재 시각(millis), ARGV[2] = 반감기(millis), ARGV[3] = 최소 점수, ARGV[4] = 최대 보관 개수<br>
+     * return = 정리 후 남은 콘텐츠 수
+     */
+    private static final RedisScript<Long> REBASE_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = redis.call('GET', KEYS[2])
+            if not epoch then
+                return 0
+            end
+            local factor = math.pow(2, -(tonumber(ARGV[1]) - tonumber(epoch)) / tonumber(ARGV[2]))
+            redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', factor)
+            redis.call('SET', KEYS[2], ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3])
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[4]) + 1))
+            return redis.call('ZCARD', KEYS[1])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Clock clock;
+    private final long halfLifeMillis;
+
+    public TrendingService(
+            RedisTemplate<String, String> redisTemplate,
+            Clock clock,
+            @Value("${trending.half-life-hours:6}") long halfLifeHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.halfLifeMillis = halfLifeHours * 60 * 60 * 1000;
+    }
+
+    public void increase(ViewContentType contentType, int contentNumber, TrendingActivity activity) {
+        redisTemplate.execute(
+                INCREASE_SCRIPT,
+                List.of(getTrendingKey(contentType), getEpochKey(contentType)),
+                String.valueOf(contentNumber),
+                String.valueOf(activity.getWeight()),
+                String.valueOf(clock.millis()),
+                String.valueOf(halfLifeMillis)
+        );
+    }
+
+    // 여러 콘텐츠의 같은 활동을 pipeline으로 한 번에 반영 (key = 콘텐츠 번호, value = 활동 횟수)
+    public void increaseAll(ViewContentType contentType, TrendingActivity activity, Map<Integer, Integer> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        byte[] script = toBytes(INCREASE_SCRIPT.getScriptAsString());
+        byte[] trendingKey = toBytes(getTrendingKey(contentType));
+        byte[] epochKey = toBytes(getEpochKey(contentType));
+        byte[] now = toBytes(String.valueOf(clock.millis()));
+        byte[] halfLife = toBytes(String.valueOf(halfLifeMillis));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            counts.forEach((contentNumber, count) -> connection.scriptingCommands().eval(
+                    script, ReturnType.VALUE, 2,
+                    trendingKey, epochKey,
+                    toBytes(String.valueOf(contentNumber)),
+                    toBytes(String.valueOf(activity.getWeight() * count)),
+                    now, halfLife
+            ));
+            return null;
+        });
+    }
+
+    // 인기 점수가 높은 순서로 콘텐츠 번호 최대 size개 조회
+    public List<Integer> getTrendingNumbers(ViewContentType contentType, int size) {
+        if (size <= 0) {
+            return List.of();
+        }
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(getTrendingKey(contentType), 0, size - 1);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<Integer> contentNumbers = new ArrayList<>(members.size());
+        for (String member : members) {
+            contentNumbers.add(Integer.valueOf(member));
+        }
+        return contentNumbers;
+    }
+
+    // 삭제된 콘텐츠를 인기 목록에서 제외
+    public void remove(ViewContentType contentType, Collection<Integer> contentNumbers) {
+        if (contentNumbers.isEmpty()) {
+            return;
+        }
+        Object[] members = contentNumbers.stream()
+                .map(String::valueOf)
+                .toArray();
+        redisTemplate.opsForZSet().remove(getTrendingKey(contentType), members);
+    }
+
+    // Redis 오류로 요청이 실패하지 않도록 점수 반영 실패는 로그만 남긴다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleActivity(TrendingActivityEvent event) {
+        try {
+            increase(event.getContentType(), event.getContentNumber(), event.getActivity());
+        } catch (Exception e) {
+            log.warn("인기 점수 반영 중 오류 발생: event={}, error={}", event, e.getMessage());
+        }
+    }
+
+    // 중복 판별을 통과한 조회만 반영 (조회 요청, 쓰기 지연 버퍼 반영 스레드를 막지 않도록 비동기 실행)
+    @Async
+    @EventListener
+    public void handleViewCounted(ViewCountedEvent event) {
+        try {
+            increaseAll(event.getContentType(), TrendingActivity.VIEW, event.getViewCounts());
+        } catch (Exception e) {
+            log.warn("조회 인기 점수 반영 중 오류 발생: event={}, error={}", event, e.getMessage());
+        }
+    }
+
+    // 마감, 삭제된 여행은 인기 목록에서 제외
+    @TransactionalEventListener
+    public void handleTravelChanged(TravelChangedEvent event) {
+        if (event.getChangeType() != TravelChangeType.CLOSED && event.getChangeType() != TravelChangeType.DELETED) {
+            return;
+        }
+        try {
+            remove(ViewContentType.TRAVEL, List.of(event.getTravelNumber()));
+        } catch (Exception e) {
+            log.warn("인기 여행 목록에서 삭제 중 오류 발생: travelNumber={}, error={}", event.getTravelNumber(), e.getMessage());
+        }
+    }
+
+    // 삭제된 콘텐츠는 인기 목록에서 제외
+    @TransactionalEventListener
+    public void handleContentDeleted(TrendingContentDeletedEvent event) {
+        try {
+            remove(event.getContentType(), List.of(event.getContentNumber()));
+        } catch (Exception e) {
+            log.warn("인기 목록에서 삭제 중 오류 발생: event={}, error={}", event, e.getMessage());
+        }
+    }
+
+    // 인기 점수 기준 시각 재설정 및 낮은 점수 정리 (1시간 주기 실행)
+    @Scheduled(cron = "0 30 * * * *")
+    public void rebase() {
+        log.info("SCHEDULER::HOURLY: 인기 점수 재환산 작업 시작");
+
+        for (ViewContentType contentType : ViewContentType.values()) {
+            try {
+                Long size = redisTemplate.execute(
+                        REBASE_SCRIPT,
+                        List.of(getTrendingKey(contentType), getEpochKey(contentType)),
+                        String.valueOf(clock.millis()),
+                        String.valueOf(halfLifeMillis),
+                        String.valueOf(MIN_SCORE),
+                        String.valueOf(MAX_TRENDING_SIZE)
+                );
+                log.info("인기 점수 재환산: contentType={}, size={}", contentType, size);
+            } catch (Exception e) {
+                log.warn("인기 점수 재환산 중 오류 발생: contentType={}, error={}", contentType, e.getMessage());
+            }
+        }
+
+        log.info("SCHEDULER::HOURLY: 인기 점수 재환산 작업 종료");
+    }
+
+    private String getTrendingKey(ViewContentType contentType) {
+        return TRENDING_KEY_PREFIX + contentType.getKey();
+    }
+
+    private String getEpochKey(ViewContentType contentType) {
+        return TRENDING_KEY_PREFIX + contentType.getKey() + EPOCH_KEY_SUFFIX;
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,61 @@
+package swyp.swyp6_team7.viewcount.dao;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis에 모인 조회수를 DB에 합산한다.<br>
+ * 게시글마다 UPDATE를 따로 실행하지 않고 JDBC batch update 한 번으로 처리한다.
+ */
+@Repository
+public class ViewCountDao {
+
+    private static final String ADD_TRAVEL_VIEW_COUNT_SQL =
+            "UPDATE travels SET view_count = view_count + ? WHERE travel_number = ?";
+    private static final String ADD_TRAVEL_STATS_VIEW_COUNT_SQL =
+            "UPDATE travel_stats SET view_count = view_count + ? WHERE travel_number = ?";
+    private static final String ADD_COMMUNITY_VIEW_COUNT_SQL =
+            "UPDATE community_posts SET community_post_view_count = community_post_view_count + ? WHERE community_post_number = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ViewCountDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 여행 조회수와 여행 집계(travel_stats) 조회수를 함께 합산한다.<br>
+     * 집계 row가 없어 갱신되지 않은 여행 번호 목록을 반환한다.
+     */
+    @Transactional
+    public List<Integer> addTravelViewCounts(Map<Integer, Integer> viewCounts) {
+        List<Object[]> params = toBatchParams(viewCounts);
+        jdbcTemplate.batchUpdate(ADD_TRAVEL_VIEW_COUNT_SQL, params);
+        int[] updatedRows = jdbcTemplate.batchUpdate(ADD_TRAVEL_STATS_VIEW_COUNT_SQL, params);
+
+        List<Integer> missingStats = new ArrayList<>();
+        for (int i = 0; i < updatedRows.length; i++) {
+            if (updatedRows[i] == 0) {
+                missingStats.add((Integer) params.get(i)[1]);
+            }
+        }
+        return missingStats;
+    }
+
+    @Transactional
+    public void addCommunityViewCounts(Map<Integer, Integer> viewCounts) {
+        jdbcTemplate.batchUpdate(ADD_COMMUNITY_VIEW_COUNT_SQL, toBatchParams(viewCounts));
+    }
+
+    // (증가한 조회수, 게시글 번호)
+    private List<Object[]> toBatchParams(Map<Integer, Integer> viewCounts) {
+        List<Object[]> params = new ArrayList<>(viewCounts.size());
+        viewCounts.forEach((number, viewCount) -> params.add(new Object[]{viewCount, number}));
+        return params;
+    }
+}
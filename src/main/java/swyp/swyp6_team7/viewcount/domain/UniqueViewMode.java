@@ -0,0 +1,11 @@
+package swyp.swyp6_team7.viewcount.domain;
+
+/**
+ * 24시간 내 중복 조회 판별 방식<br>
+ * EXACT: Redis SET에 조회한 사용자를 모두 저장 (정확, 게시글별 메모리가 조회자 수에 비례)<br>
+ * APPROXIMATE: Redis HyperLogLog에 조회한 사용자를 추가 (게시글별 최대 12KB, 표준 오차 0.81%)
+ */
+public enum UniqueViewMode {
+    EXACT,
+    APPROXIMATE
+}
@@ -0,0 +1,27 @@
+package swyp.swyp6_team7.viewcount.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회수를 집계하는 콘텐츠 종류<br>
+ * key = Redis key에 들어가는 콘텐츠 이름 (예: view:travel:{travelNumber})
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ViewContentType {
+    TRAVEL("travel"),
+    COMMUNITY("community");
+
+    private final String key;
+
+    // 댓글, 좋아요의 relatedType("travel", "community")으로 콘텐츠 종류를 찾는다
+    public static ViewContentType of(String key) {
+        for (ViewContentType contentType : values()) {
+            if (contentType.key.equals(key)) {
+                return contentType;
+            }
+        }
+        throw new IllegalArgumentException("유효하지 않은 콘텐츠 종류입니다: " + key);
+    }
+}
@@ -0,0 +1,13 @@
+package swyp.swyp6_team7.viewcount.domain;
+
+/**
+ * 조회 기록 결과<br>
+ * COUNTED: 24시간 내 처음 조회한 사용자로 판별되어 조회수가 증가함<br>
+ * DUPLICATE: 이미 조회한 사용자로 판별되어 아무것도 변경하지 않음<br>
+ * PENDING: 쓰기 지연 버퍼에 추가되어 중복 여부를 아직 알 수 없음 (반영 시점에 판별)
+ */
+public enum ViewRecordResult {
+    COUNTED,
+    DUPLICATE,
+    PENDING
+}
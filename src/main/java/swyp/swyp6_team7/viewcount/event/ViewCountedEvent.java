@@ -0,0 +1,31 @@
+package swyp.swyp6_team7.viewcount.event;
+
+import lombok.Getter;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+
+import java.util.Map;
+
+/**
+ * 중복 판별을 통과해 실제로 조회수가 증가한 조회 이벤트<br>
+ * 요청마다 바로 반영한 경우 게시글 하나, 쓰기 지연 버퍼를 반영한 경우 반영한 게시글 전체를 담는다.<br>
+ * key = 게시글 번호, value = 증가한 조회수
+ */
+@Getter
+public class ViewCountedEvent {
+
+    private final ViewContentType contentType;
+    private final Map<Integer, Integer> viewCounts;
+
+    public ViewCountedEvent(ViewContentType contentType, Map<Integer, Integer> viewCounts) {
+        this.contentType = contentType;
+        this.viewCounts = viewCounts;
+    }
+
+    @Override
+    public String toString() {
+        return "ViewCountedEvent{" +
+                "contentType=" + contentType +
+                ", size=" + viewCounts.size() +
+                '}';
+    }
+}
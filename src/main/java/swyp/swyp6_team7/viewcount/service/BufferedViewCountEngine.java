@@ -0,0 +1,134 @@
+package swyp.swyp6_team7.viewcount.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+import swyp.swyp6_team7.viewcount.domain.ViewRecordResult;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회 요청마다 Redis를 호출하지 않고 서버 메모리에 모아 두었다가 주기적으로 Redis에 반영하는 쓰기 지연 계층<br>
+ * 게시글별로 아직 반영되지 않은 조회 사용자를 모아두며, 같은 사용자의 반복 조회는 메모리에서 걸러진다.<br>
+ * 중복 조회 판별과 조회수 증가는 반영 시점에 RedisViewCountEngine의 스크립트를 pipeline으로 실행한다.<br>
+ * 서버가 비정상 종료되면 최대 FLUSH_INTERVAL_SECONDS 동안의 조회가 유실될 수 있다. (정상 종료 시에는 반영 후 종료)
+ */
+@Slf4j
+@Primary
+@ConditionalOnProperty(name = "view-count.write-behind.enabled", havingValue = "true")
+@Component
+public class BufferedViewCountEngine implements ViewCountEngine {
+
+    private static final int FLUSH_INTERVAL_SECONDS = 3;
+    private static final int MAX_PENDING_VIEWS = 100_000;
+
+    private final RedisViewCountEngine redisViewCountEngine;
+
+    // key = 게시글 번호, value = 아직 Redis에 반영되지 않은 조회 사용자
+    private final Map<ViewContentType, ConcurrentHashMap<Integer, Set<String>>> pendingViewers = new EnumMap<>(ViewContentType.class);
+    // 요청 스레드마다 증가하므로 경합이 적은 LongAdder 사용 (버퍼 크기 제한은 근사값으로 충분)
+    private final LongAdder pendingCount = new LongAdder();
+
+    public BufferedViewCountEngine(RedisViewCountEngine redisViewCountEngine) {
+        this.redisViewCountEngine = redisViewCountEngine;
+        for (ViewContentType contentType : ViewContentType.values()) {
+            pendingViewers.put(contentType, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 조회를 버퍼에 추가하고 PENDING을 반환한다. (실제 조회수 증가 여부는 반영 시점에 결정된다)<br>
+     * 버퍼가 가득 찬 경우에는 Redis에 바로 반영하고 그 결과를 반환한다.
+     */
+    @Override
+    public ViewRecordResult recordView(ViewContentType contentType, int contentNumber, String userIdentifier) {
+        if (pendingCount.sum() >= MAX_PENDING_VIEWS) {
+            return redisViewCountEngine.recordView(contentType, contentNumber, userIdentifier);
+        }
+        addPending(contentType, contentNumber, userIdentifier);
+        return ViewRecordResult.PENDING;
+    }
+
+    private void addPending(ViewContentType contentType, int contentNumber, String userIdentifier) {
+        // 반영 작업이 게시글 단위로 remove하므로, 사용자 추가도 compute 안에서만 수행해 누락을 막는다
+        pendingViewers.get(contentType).compute(contentNumber, (key, viewers) -> {
+            Set<String> result = viewers == null ? new HashSet<>() : viewers;
+            if (result.add(userIdentifier)) {
+                pendingCount.increment();
+            }
+            return result;
+        });
+    }
+
+    // 아직 반영되지 않은 조회는 중복 여부가 확인되지 않았으므로 포함하지 않는다
+    @Override
+    public int getViewCount(ViewContentType contentType, int contentNumber) {
+        return redisViewCountEngine.getViewCount(contentType, contentNumber);
+    }
+
+    // DB 동기화 전에 버퍼에 남은 조회를 먼저 Redis에 반영한다
+    @Override
+    public Map<Integer, Integer> drainViewCounts(ViewContentType contentType) {
+        flush(contentType);
+        return redisViewCountEngine.drainViewCounts(contentType);
+    }
+
+    @Override
+    public void restoreViewCounts(ViewContentType contentType, Map<Integer, Integer> viewCounts) {
+        redisViewCountEngine.restoreViewCounts(contentType, viewCounts);
+    }
+
+    // 버퍼에 모인 조회를 Redis에 반영 (3초 주기 실행)
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_SECONDS, initialDelay = FLUSH_INTERVAL_SECONDS, timeUnit = TimeUnit.SECONDS)
+    public void flush() {
+        for (ViewContentType contentType : ViewContentType.values()) {
+            flush(contentType);
+        }
+    }
+
+    // 서버 종료 시 남은 조회 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("조회수 버퍼 종료 전 반영: pendingCount={}", pendingCount.sum());
+        flush();
+    }
+
+    private void flush(ViewContentType contentType) {
+        ConcurrentHashMap<Integer, Set<String>> pending = pendingViewers.get(contentType);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Set<String>> drained = new HashMap<>();
+        int drainedCount = 0;
+        for (Integer contentNumber : pending.keySet()) {
+            Set<String> viewers = pending.remove(contentNumber);
+            if (viewers != null) {
+                drained.put(contentNumber, viewers);
+                drainedCount += viewers.size();
+            }
+        }
+        pendingCount.add(-drainedCount);
+
+        try {
+            Map<Integer, Integer> recordedCounts = redisViewCountEngine.recordViews(contentType, drained);
+            log.debug("조회수 버퍼 반영: contentType={}, views={}, recordedContents={}", contentType, drainedCount, recordedCounts.size());
+        } catch (Exception e) {
+            // Redis 반영에 실패한 조회는 버퍼에 되돌려 다음 주기에 다시 반영한다
+            log.warn("조회수 버퍼 반영 실패: contentType={}, views={}, error={}", contentType, drainedCount, e.getMessage());
+            drained.forEach((contentNumber, viewers) -> viewers.forEach(
+                    userIdentifier -> addPending(contentType, contentNumber, userIdentifier)));
+        }
+    }
+}
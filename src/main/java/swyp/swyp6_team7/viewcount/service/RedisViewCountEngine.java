@@ -0,0 +1,207 @@
+package swyp.swyp6_team7.viewcount.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+import swyp.swyp6_team7.viewcount.domain.ViewRecordResult;
+import swyp.swyp6_team7.viewcount.event.ViewCountedEvent;
+import swyp.swyp6_team7.viewcount.strategy.UniqueViewStrategy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회수 key = view:{contentType}:{contentNumber}, value = String type 조회수<br>
+ * 조회 기록 추가(SADD/PFADD), TTL 설정, 조회수 증가를 Lua 스크립트 하나로 실행해
+ * 요청당 Redis 왕복 1번으로 처리하고, 동시 조회에서도 중복 집계나 누락이 없다.<br>
+ * DB 합산 시에는 KEYS 대신 SCAN으로 key를 찾고, GETDEL을 pipeline으로 묶어 읽는다.
+ * GETDEL은 읽기와 삭제가 원자적이므로 합산 도중 들어온 조회는 새 key에 쌓여 다음 합산에 포함된다.
+ * 합산 도중 오류가 나면 이미 가져온 조회수를 다시 더해 두고 예외를 던진다.<br>
+ * 실제로 조회수가 증가한 조회만 ViewCountedEvent로 알린다. (인기 점수 반영 등)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RedisViewCountEngine implements ViewCountEngine {
+
+    private static final String VIEW_COUNT_KEY_PREFIX = "view:";
+    private static final long VIEWED_INFO_TTL_SECONDS = 24 * 60 * 60; // TTL 1일
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    /**
+     * KEYS[1] = 조회여부 key, KEYS[2] = 조회수 key<br>
+     * ARGV[1] = 조회 기록 추가 명령, ARGV[2] = userIdentifier, ARGV[3] = 조회여부 TTL(초)<br>
+     * return = 증가한 조회수, 이미 조회한 사용자라면 -1
+     */
+    private static final RedisScript<Long> RECORD_VIEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call(ARGV[1], KEYS[1], ARGV[2]) == 0 then
+                return -1
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return redis.call('INCR', KEYS[2])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UniqueViewService uniqueViewService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public ViewRecordResult recordView(ViewContentType contentType, int contentNumber, String userIdentifier) {
+        UniqueViewStrategy strategy = uniqueViewService.getStrategy(contentType);
+        String viewedInfoKey = strategy.getViewedInfoKey(contentType, contentNumber);
+
+        Long viewCount = redisTemplate.execute(
+                RECORD_VIEW_SCRIPT,
+                List.of(viewedInfoKey, getViewCountKey(contentType, contentNumber)),
+                strategy.getAddCommand(), userIdentifier, String.valueOf(VIEWED_INFO_TTL_SECONDS)
+        );
+        if (viewCount == null || viewCount < 0) {
+            return ViewRecordResult.DUPLICATE;
+        }
+        log.debug("Redis: 조회수 증가: viewedInfoKey={}, viewCount={}", viewedInfoKey, viewCount);
+        eventPublisher.publishEvent(new ViewCountedEvent(contentType, Map.of(contentNumber, 1)));
+        return ViewRecordResult.COUNTED;
+    }
+
+    /**
+     * 여러 사용자의 조회를 pipeline으로 묶어 한 번에 반영한다. (쓰기 지연 버퍼 반영용)<br>
+     * 조회마다 recordView와 같은 스크립트를 실행하며, 게시글별로 실제로 증가한 조회수를 반환한다.
+     */
+    public Map<Integer, Integer> recordViews(ViewContentType contentType, Map<Integer, ? extends Collection<String>> viewersByContent) {
+        if (viewersByContent.isEmpty()) {
+            return Map.of();
+        }
+        UniqueViewStrategy strategy = uniqueViewService.getStrategy(contentType);
+        byte[] script = toBytes(RECORD_VIEW_SCRIPT.getScriptAsString());
+        byte[] addCommand = toBytes(strategy.getAddCommand());
+        byte[] ttl = toBytes(String.valueOf(VIEWED_INFO_TTL_SECONDS));
+
+        // pipeline 결과는 명령 순서대로 반환되므로 같은 순서로 게시글 번호를 기록해 둔다
+        List<Integer> contentNumbers = new ArrayList<>();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            viewersByContent.forEach((contentNumber, viewers) -> {
+                byte[] viewedInfoKey = toBytes(strategy.getViewedInfoKey(contentType, contentNumber));
+                byte[] viewCountKey = toBytes(getViewCountKey(contentType, contentNumber));
+                for (String userIdentifier : viewers) {
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2,
+                            viewedInfoKey, viewCountKey, addCommand, toBytes(userIdentifier), ttl);
+                    contentNumbers.add(contentNumber);
+                }
+            });
+            return null;
+        });
+
+        Map<Integer, Integer> recordedCounts = new HashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) instanceof Long viewCount && viewCount >= 0) {
+                recordedCounts.merge(contentNumbers.get(i), 1, Integer::sum);
+            }
+        }
+        if (!recordedCounts.isEmpty()) {
+            eventPublisher.publishEvent(new ViewCountedEvent(contentType, recordedCounts));
+        }
+        return recordedCounts;
+    }
+
+    @Override
+    public int getViewCount(ViewContentType contentType, int contentNumber) {
+        String viewCount = redisTemplate.opsForValue().get(getViewCountKey(contentType, contentNumber));
+        return viewCount != null ? Integer.parseInt(viewCount) : 0;
+    }
+
+    private String getViewCountKey(ViewContentType contentType, int contentNumber) {
+        return getViewCountKeyPrefix(contentType) + contentNumber;
+    }
+
+    @Override
+    public Map<Integer, Integer> drainViewCounts(ViewContentType contentType) {
+        String keyPrefix = getViewCountKeyPrefix(contentType);
+        Map<Integer, Integer> viewCounts = new HashMap<>();
+
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(keyPrefix + "*")
+                .count(SCAN_BATCH_SIZE)
+                .build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>(SCAN_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_BATCH_SIZE) {
+                    getAndDelete(keys, keyPrefix, viewCounts);
+                    keys.clear();
+                }
+            }
+            getAndDelete(keys, keyPrefix, viewCounts);
+        } catch (RuntimeException e) {
+            // 호출한 쪽은 완료된 결과만 되돌릴 수 있으므로, 이미 Redis에서 삭제한 조회수는 여기서 되돌린다
+            restorePartialDrain(contentType, viewCounts);
+            throw e;
+        }
+        return viewCounts;
+    }
+
+    private void restorePartialDrain(ViewContentType contentType, Map<Integer, Integer> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+        try {
+            restoreViewCounts(contentType, viewCounts);
+        } catch (RuntimeException e) {
+            log.error("Redis: 조회수 복구 실패: contentType={}, viewCounts={}", contentType, viewCounts, e);
+        }
+    }
+
+    // SCAN은 같은 key를 여러 번 반환할 수 있지만, 이미 GETDEL된 key는 null이므로 중복 합산되지 않는다
+    private void getAndDelete(List<String> keys, String keyPrefix, Map<Integer, Integer> viewCounts) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.stringCommands().getDel(toBytes(key));
+            }
+            return null;
+        });
+
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            int contentNumber = Integer.parseInt(keys.get(i).substring(keyPrefix.length()));
+            viewCounts.merge(contentNumber, Integer.parseInt(value.toString()), Integer::sum);
+        }
+    }
+
+    @Override
+    public void restoreViewCounts(ViewContentType contentType, Map<Integer, Integer> viewCounts) {
+        String keyPrefix = getViewCountKeyPrefix(contentType);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            viewCounts.forEach((contentNumber, viewCount) -> connection.stringCommands()
+                    .incrBy(toBytes(keyPrefix + contentNumber), viewCount));
+            return null;
+        });
+        log.warn("Redis: 조회수 복구: contentType={}, size={}", contentType, viewCounts.size());
+    }
+
+    private String getViewCountKeyPrefix(ViewContentType contentType) {
+        return VIEW_COUNT_KEY_PREFIX + contentType.getKey() + ":";
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,91 @@
+package swyp.swyp6_team7.viewcount.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Service;
+import swyp.swyp6_team7.viewcount.domain.UniqueViewMode;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+import swyp.swyp6_team7.viewcount.strategy.UniqueViewStrategy;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 콘텐츠 종류별로 설정된 중복 조회 판별 방식(view-count.unique-mode.{travel|community})을 선택해 사용한다.<br>
+ * 설정이 없으면 EXACT(Redis SET)를 사용한다.
+ */
+@Slf4j
+@Service
+public class UniqueViewService {
+
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final List<UniqueViewStrategy> strategies;
+    private final Map<ViewContentType, UniqueViewStrategy> strategyByContentType = new EnumMap<>(ViewContentType.class);
+
+    public UniqueViewService(
+            RedisTemplate<String, String> redisTemplate,
+            List<UniqueViewStrategy> strategies,
+            @Value("${view-count.unique-mode.travel:EXACT}") UniqueViewMode travelMode,
+            @Value("${view-count.unique-mode.community:EXACT}") UniqueViewMode communityMode
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.strategies = strategies;
+        strategyByContentType.put(ViewContentType.TRAVEL, findStrategy(travelMode));
+        strategyByContentType.put(ViewContentType.COMMUNITY, findStrategy(communityMode));
+        log.info("중복 조회 판별 방식: travel={}, community={}", travelMode, communityMode);
+    }
+
+    private UniqueViewStrategy findStrategy(UniqueViewMode mode) {
+        return strategies.stream()
+                .filter(strategy -> strategy.getMode() == mode)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 중복 조회 판별 방식입니다: " + mode));
+    }
+
+    public UniqueViewStrategy getStrategy(ViewContentType contentType) {
+        return strategyByContentType.get(contentType);
+    }
+
+    /**
+     * 콘텐츠 종류의 조회 기록을 모두 삭제한다.<br>
+     * 설정 변경 전 방식으로 남아있는 기록도 함께 삭제하기 위해 모든 방식의 key를 확인한다.<br>
+     * KEYS 대신 SCAN으로 나누어 찾고, UNLINK로 삭제해 Redis를 오래 막지 않는다.
+     */
+    public void deleteViewInfo(ViewContentType contentType) {
+        for (UniqueViewStrategy strategy : strategies) {
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(strategy.getKeyPattern(contentType))
+                    .count(SCAN_BATCH_SIZE)
+                    .build();
+
+            long deletedCount = 0;
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                List<String> keys = new ArrayList<>(SCAN_BATCH_SIZE);
+                while (cursor.hasNext()) {
+                    keys.add(cursor.next());
+                    if (keys.size() == SCAN_BATCH_SIZE) {
+                        deletedCount += unlink(keys);
+                    }
+                }
+                deletedCount += unlink(keys);
+            }
+            log.info("Redis: Delete viewInfo data: contentType={}, mode={}, count={}", contentType, strategy.getMode(), deletedCount);
+        }
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long deleted = redisTemplate.unlink(keys);
+        keys.clear();
+        return deleted == null ? 0 : deleted;
+    }
+}
@@ -0,0 +1,35 @@
+package swyp.swyp6_team7.viewcount.service;
+
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+import swyp.swyp6_team7.viewcount.domain.ViewRecordResult;
+
+import java.util.Map;
+
+/**
+ * 여행, 커뮤니티 게시글 공통 조회수 집계
+ */
+public interface ViewCountEngine {
+
+    /**
+     * 24시간 내 처음 조회한 사용자라면 조회 기록을 남기고 조회수를 1 증가시킨 뒤 COUNTED를 반환한다.<br>
+     * 이미 조회한 사용자라면 아무것도 변경하지 않고 DUPLICATE를 반환한다.<br>
+     * 중복 판별을 나중으로 미루는 구현은 PENDING을 반환한다.
+     */
+    ViewRecordResult recordView(ViewContentType contentType, int contentNumber, String userIdentifier);
+
+    /**
+     * 아직 DB에 합산되지 않은 조회수를 반환한다.
+     */
+    int getViewCount(ViewContentType contentType, int contentNumber);
+
+    /**
+     * 아직 DB에 합산되지 않은 조회수를 모두 가져오면서 0으로 초기화한다.<br>
+     * key = 게시글 번호, value = 마지막 합산 이후 증가한 조회수
+     */
+    Map<Integer, Integer> drainViewCounts(ViewContentType contentType);
+
+    /**
+     * DB 합산에 실패한 조회수를 다시 더해 다음 합산에 포함되도록 한다.
+     */
+    void restoreViewCounts(ViewContentType contentType, Map<Integer, Integer> viewCounts);
+}
@@ -0,0 +1,36 @@
+package swyp.swyp6_team7.viewcount.strategy;
+
+import org.springframework.stereotype.Component;
+import swyp.swyp6_team7.viewcount.domain.UniqueViewMode;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+
+/**
+ * 조회여부 key = viewed-hll:{contentType}:{contentNumber}, value = HyperLogLog of userIdentifier<br>
+ * PFADD는 추정 고유 조회자 수가 바뀐 경우에만 1을 반환하므로 이를 처음 조회한 것으로 본다.<br>
+ * 같은 사용자는 다시 집계되지 않고, 새로운 사용자 일부가 누락될 수 있다. (표준 오차 0.81%)
+ */
+@Component
+public class HyperLogLogUniqueViewStrategy implements UniqueViewStrategy {
+
+    private static final String VIEWED_INFO_KEY_PREFIX = "viewed-hll:";
+
+    @Override
+    public UniqueViewMode getMode() {
+        return UniqueViewMode.APPROXIMATE;
+    }
+
+    @Override
+    public String getAddCommand() {
+        return "PFADD";
+    }
+
+    @Override
+    public String getViewedInfoKey(ViewContentType contentType, int contentNumber) {
+        return VIEWED_INFO_KEY_PREFIX + contentType.getKey() + ":" + contentNumber;
+    }
+
+    @Override
+    public String getKeyPattern(ViewContentType contentType) {
+        return VIEWED_INFO_KEY_PREFIX + contentType.getKey() + ":*";
+    }
+}
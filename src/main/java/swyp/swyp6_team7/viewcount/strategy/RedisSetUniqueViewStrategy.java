@@ -0,0 +1,35 @@
+package swyp.swyp6_team7.viewcount.strategy;
+
+import org.springframework.stereotype.Component;
+import swyp.swyp6_team7.viewcount.domain.UniqueViewMode;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+
+/**
+ * 조회여부 key = viewed:{contentType}:{contentNumber}, value = Set of userIdentifier<br>
+ * SADD 결과(새로 추가된 원소 수)로 중복 조회를 판별하므로 SISMEMBER 없이 한 번에 처리한다.
+ */
+@Component
+public class RedisSetUniqueViewStrategy implements UniqueViewStrategy {
+
+    private static final String VIEWED_INFO_KEY_PREFIX = "viewed:";
+
+    @Override
+    public UniqueViewMode getMode() {
+        return UniqueViewMode.EXACT;
+    }
+
+    @Override
+    public String getAddCommand() {
+        return "SADD";
+    }
+
+    @Override
+    public String getViewedInfoKey(ViewContentType contentType, int contentNumber) {
+        return VIEWED_INFO_KEY_PREFIX + contentType.getKey() + ":" + contentNumber;
+    }
+
+    @Override
+    public String getKeyPattern(ViewContentType contentType) {
+        return VIEWED_INFO_KEY_PREFIX + contentType.getKey() + ":*";
+    }
+}
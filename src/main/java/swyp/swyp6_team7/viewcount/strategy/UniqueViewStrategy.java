@@ -0,0 +1,24 @@
+package swyp.swyp6_team7.viewcount.strategy;
+
+import swyp.swyp6_team7.viewcount.domain.UniqueViewMode;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+
+/**
+ * 24시간 내 중복 조회 판별 방식<br>
+ * 조회 기록 추가 명령은 조회수 증가와 함께 Lua 스크립트 안에서 실행되며,
+ * 새로운 사용자가 추가되면 1, 이미 기록된 사용자라면 0을 반환해야 한다.
+ */
+public interface UniqueViewStrategy {
+
+    UniqueViewMode getMode();
+
+    // 조회 기록 추가 Redis 명령 (예: SADD, PFADD)
+    String getAddCommand();
+
+    String getViewedInfoKey(ViewContentType contentType, int contentNumber);
+
+    /**
+     * 콘텐츠 종류별 조회 기록 key 패턴 (조회 기록 일괄 삭제에 사용)
+     */
+    String getKeyPattern(ViewContentType contentType);
+}
@@ -1,5 +1,7 @@
 package swyp.swyp6_team7.auth.jwt;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,7 +18,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+import swyp.swyp6_team7.auth.details.CustomUserDetails;
 import swyp.swyp6_team7.auth.service.JwtBlacklistService;
+import swyp.swyp6_team7.auth.service.UserStatusCacheService;
+import swyp.swyp6_team7.member.entity.UserRole;
+import swyp.swyp6_team7.member.entity.UserStatus;
 import swyp.swyp6_team7.member.entity.Users;
 import swyp.swyp6_team7.member.service.UserLoginHistoryService;
 
@@ -42,6 +49,9 @@ public class JwtFilterTest {
     @Mock
     private UserLoginHistoryService userLoginHistoryService;
 
+    @Mock
+    private UserStatusCacheService userStatusCacheService;
+
     @Mock
     private FilterChain filterChain;
 
@@ -60,8 +70,7 @@ public class JwtFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
 
         // Mocking 설정
-        when(jwtProvider.getUserNumber("validToken")).thenReturn(1);
-        when(jwtProvider.validateToken("validToken")).thenReturn(true);
+        when(jwtProvider.verify("validToken")).thenReturn(new VerifiedToken(1, System.currentTimeMillis() + 60_000));
         when(jwtBlacklistService.isTokenBlacklisted("validToken")).thenReturn(false);
 
         UserDetails userDetails = mock(UserDetails.class);
@@ -72,6 +81,7 @@ public class JwtFilterTest {
 
         // Then: 필터 체인이 계속 진행되고 SecurityContext에 인증 정보가 설정되어야 함
         verify(filterChain, times(1)).doFilter(request, response);
+        verify(jwtBlacklistService, times(1)).isTokenBlacklisted("validToken");
         UsernamePasswordAuthenticationToken authentication =
                 (UsernamePasswordAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
         assert authentication != null;
@@ -87,16 +97,58 @@ public class JwtFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
 
         // Mock JwtProvider behavior
-        when(jwtProvider.validateToken("invalidToken")).thenReturn(false);
+        when(jwtProvider.verify("invalidToken")).thenThrow(new JwtException("invalid"));
 
         // When: Executing the filter
         jwtFilter.doFilterInternal(request, response, filterChain);
 
-        // Then: Verify filter chain continues but no authentication is set
-        verify(filterChain, times(1)).doFilter(request, response);
+        // Then: 응답 상태가 UNAUTHORIZED(401)로 설정되고 필터 체인은 진행되지 않아야 함
+        assert response.getStatus() == HttpServletResponse.SC_UNAUTHORIZED;
+        verify(filterChain, never()).doFilter(request, response);
+        assert SecurityContextHolder.getContext().getAuthentication() == null;
+    }
+
+    @Test
+    public void testExpiredToken() throws ServletException, IOException {
+        // Given: 만료된 토큰이 담긴 요청
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer expiredToken");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(jwtProvider.verify("expiredToken")).thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+        // When: 필터 실행
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // Then: 응답 상태가 UNAUTHORIZED(401)로 설정되고 필터 체인은 진행되지 않아야 함
+        assert response.getStatus() == HttpServletResponse.SC_UNAUTHORIZED;
+        assert response.getContentAsString().equals("JWT token has expired");
+        verify(filterChain, never()).doFilter(request, response);
+        verify(jwtBlacklistService, never()).isTokenBlacklisted(anyString());
         assert SecurityContextHolder.getContext().getAuthentication() == null;
     }
 
+    @Test
+    public void testBlacklistedToken() throws ServletException, IOException {
+        // Given: 서명은 유효하지만 로그아웃으로 블랙리스트에 등록된 토큰
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer blacklistedToken");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(jwtProvider.verify("blacklistedToken")).thenReturn(new VerifiedToken(1, System.currentTimeMillis() + 60_000));
+        when(jwtBlacklistService.isTokenBlacklisted("blacklistedToken")).thenReturn(true);
+
+        // When: 필터 실행
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // Then: 응답 상태가 UNAUTHORIZED(401)로 설정되고 사용자 정보는 조회하지 않아야 함
+        assert response.getStatus() == HttpServletResponse.SC_UNAUTHORIZED;
+        verify(filterChain, never()).doFilter(request, response);
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
     @Test
     public void testNoAuthorizationHeader() throws ServletException, IOException {
         // Given: Mock HTTP request without authorization header
@@ -119,8 +171,7 @@ public class JwtFilterTest {
 
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        when(jwtProvider.getUserNumber("validToken")).thenReturn(1);
-        when(jwtProvider.validateToken("validToken")).thenReturn(true);
+        when(jwtProvider.verify("validToken")).thenReturn(new VerifiedToken(1, System.currentTimeMillis() + 60_000));
         when(jwtBlacklistService.isTokenBlacklisted("validToken")).thenReturn(false);
         when(userDetailsService.loadUserByUsername("1")).thenThrow(new UsernameNotFoundException("User not found"));
 
@@ -131,4 +182,52 @@ public class JwtFilterTest {
         assert response.getStatus() == HttpServletResponse.SC_UNAUTHORIZED;
         verify(filterChain, never()).doFilter(request, response);
     }
+
+    @Test
+    public void testStatelessPrincipal() throws ServletException, IOException {
+        // Given: stateless 모드에서 권한, 회원 상태 클레임이 있는 토큰
+        ReflectionTestUtils.setField(jwtFilter, "statelessPrincipal", true);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer validToken");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(jwtProvider.verify("validToken"))
+                .thenReturn(new VerifiedToken(1, System.currentTimeMillis() + 60_000, UserRole.USER, UserStatus.ABLE));
+        when(userStatusCacheService.getUserStatus(1)).thenReturn(UserStatus.ABLE);
+
+        // When: 필터 실행
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // Then: DB에서 사용자를 조회하지 않고 클레임으로 인증 정보가 설정되어야 함
+        verify(filterChain, times(1)).doFilter(request, response);
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        CustomUserDetails principal =
+                (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assert principal.getUserNumber() == 1;
+        assert principal.getUser() == null;
+        assert principal.getAuthorities().iterator().next().getAuthority().equals("USER");
+    }
+
+    @Test
+    public void testStatelessPrincipalWithBlockedUser() throws ServletException, IOException {
+        // Given: 토큰 발급 이후 정지된 사용자
+        ReflectionTestUtils.setField(jwtFilter, "statelessPrincipal", true);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer validToken");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(jwtProvider.verify("validToken"))
+                .thenReturn(new VerifiedToken(1, System.currentTimeMillis() + 60_000, UserRole.USER, UserStatus.ABLE));
+        when(userStatusCacheService.getUserStatus(1)).thenReturn(UserStatus.BLOCK);
+
+        // When: 필터 실행
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // Then: 응답 상태가 UNAUTHORIZED(401)로 설정되고 필터 체인은 진행되지 않아야 함
+        assert response.getStatus() == HttpServletResponse.SC_UNAUTHORIZED;
+        verify(filterChain, never()).doFilter(request, response);
+        assert SecurityContextHolder.getContext().getAuthentication() == null;
+    }
 }
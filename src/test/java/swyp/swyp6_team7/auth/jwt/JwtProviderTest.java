@@ -1,5 +1,6 @@
 package swyp.swyp6_team7.auth.jwt;
 
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -9,6 +10,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Value;
 import swyp.swyp6_team7.auth.service.JwtBlacklistService;
+import swyp.swyp6_team7.member.entity.AgeGroup;
+import swyp.swyp6_team7.member.entity.Gender;
+import swyp.swyp6_team7.member.entity.UserRole;
+import swyp.swyp6_team7.member.entity.UserStatus;
+import swyp.swyp6_team7.member.entity.Users;
 
 import javax.crypto.SecretKey;
 import java.util.Base64;
@@ -82,6 +88,49 @@ class JwtProviderTest {
         assertEquals(userNumber, extractedUserNumber);  // 추출된 사용자 ID가 원래 ID와 같아야 함
     }
 
+    @Test
+    void testVerifyCachesVerifiedToken() {
+        // Given
+        Integer userNumber = 1;
+        String token = jwtProvider.createAccessToken(userNumber, List.of("ROLE_USER"));
+
+        // When
+        VerifiedToken first = jwtProvider.verify(token);
+        VerifiedToken second = jwtProvider.verify(token);
+
+        // Then
+        assertEquals(userNumber, first.getUserNumber());
+        assertTrue(first.getExpiration() > System.currentTimeMillis());
+        assertSame(first, second);  // 두 번째 검증은 캐시된 결과를 사용해야 함
+        Mockito.verifyNoInteractions(jwtBlacklistService);  // 서명 검증은 블랙리스트를 확인하지 않음
+    }
+
+    @Test
+    void testCreateAccessTokenWithPrincipalClaims() {
+        // Given
+        Users user = new Users(1, "test@example.com", "pw", "Tester", Gender.F, AgeGroup.TWENTY, null);
+        user.setRole(UserRole.USER);
+        user.setUserStatus(UserStatus.ABLE);
+
+        // When
+        VerifiedToken verifiedToken = jwtProvider.verify(jwtProvider.createAccessToken(user));
+
+        // Then
+        assertEquals(1, verifiedToken.getUserNumber());
+        assertEquals(UserRole.USER, verifiedToken.getRole());
+        assertEquals(UserStatus.ABLE, verifiedToken.getUserStatus());
+        assertTrue(verifiedToken.hasPrincipalClaims());
+    }
+
+    @Test
+    void testVerifyExpiredToken() {
+        // Given: 이미 만료된 토큰
+        String expiredToken = jwtProvider.createToken(1, null, -1000);
+
+        // When & Then
+        assertThrows(ExpiredJwtException.class, () -> jwtProvider.verify(expiredToken));
+    }
+
     @Test
     void testValidateInvalidToken() {
         // Given
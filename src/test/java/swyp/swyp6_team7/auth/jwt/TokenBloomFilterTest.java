@@ -0,0 +1,58 @@
+package swyp.swyp6_team7.auth.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBloomFilterTest {
+
+    @DisplayName("put: 추가한 토큰 해시는 항상 포함된 것으로 확인된다.")
+    @Test
+    void put() {
+        // given
+        TokenBloomFilter filter = new TokenBloomFilter(1_000, 0.001);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            filter.put(TokenHashUtil.sha256("token-" + i));
+        }
+
+        // then
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain(TokenHashUtil.sha256("token-" + i))).isTrue();
+        }
+    }
+
+    @DisplayName("mightContain: 추가하지 않은 토큰 해시의 오탐률은 목표 오탐률 근처로 유지된다.")
+    @Test
+    void mightContainFalsePositiveRate() {
+        // given
+        TokenBloomFilter filter = new TokenBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(TokenHashUtil.sha256("blacklisted-" + i));
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(TokenHashUtil.sha256("valid-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @DisplayName("TokenBloomFilter: 예상 개수나 오탐률이 올바르지 않으면 예외가 발생한다.")
+    @Test
+    void invalidConfiguration() {
+        assertThatThrownBy(() -> new TokenBloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBloomFilter(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -7,12 +7,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
 import swyp.swyp6_team7.auth.jwt.JwtProvider;
 import swyp.swyp6_team7.global.IntegrationTest;
 
 import javax.crypto.SecretKey;
 import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,6 +23,12 @@ import static org.junit.jupiter.api.Assertions.*;
 public class JwtBlacklistServiceTest extends IntegrationTest {
 
 
+    @Autowired
+    private JwtBlacklistService blacklistService;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
     private JwtProvider jwtProvider;
     private JwtBlacklistService jwtBlacklistService;
 
@@ -77,4 +86,38 @@ public class JwtBlacklistServiceTest extends IntegrationTest {
 
         assertEquals("블랙리스트에 등록된 토큰입니다.", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("rebuild: 토큰 원문을 key로 쓰던 이전 블랙리스트 항목이 있어도 filter를 구축하고, 해시 key로 옮긴다.")
+    public void rebuildWithLegacyKey() {
+        // given
+        String legacyToken = jwtProvider.createAccessToken(4, List.of("ROLE_USER"));
+        String hashedToken = jwtProvider.createAccessToken(5, List.of("ROLE_USER"));
+        redisTemplate.opsForValue().set("blacklist:" + legacyToken, "blacklisted", 1, TimeUnit.MINUTES);
+        blacklistService.addToBlacklist(hashedToken, 60_000);
+
+        // when
+        blacklistService.rebuild();
+
+        // then
+        assertTrue(blacklistService.isTokenBlacklisted(legacyToken));
+        assertTrue(blacklistService.isTokenBlacklisted(hashedToken));
+        assertFalse(redisTemplate.hasKey("blacklist:" + legacyToken));
+        assertFalse(blacklistService.isTokenBlacklisted(jwtProvider.createAccessToken(6, List.of("ROLE_USER"))));
+    }
+
+    @Test
+    @DisplayName("initialize: 토큰 원문 자체를 key로 저장한 이전 블랙리스트 항목을 남은 유효 시간과 함께 해시 key로 옮긴다.")
+    public void initializeWithUnprefixedLegacyKey() {
+        // given
+        String legacyToken = jwtProvider.createAccessToken(7, List.of("ROLE_USER"));
+        redisTemplate.opsForValue().set(legacyToken, "blacklisted", 1, TimeUnit.MINUTES);
+
+        // when
+        blacklistService.initialize();
+
+        // then
+        assertTrue(blacklistService.isTokenBlacklisted(legacyToken));
+        assertFalse(redisTemplate.hasKey(legacyToken));
+    }
 }
@@ -8,14 +8,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import swyp.swyp6_team7.auth.dto.LoginTokenResponse;
 import swyp.swyp6_team7.auth.jwt.JwtProvider;
+import swyp.swyp6_team7.auth.jwt.TokenHashUtil;
 import swyp.swyp6_team7.member.entity.Users;
 import swyp.swyp6_team7.member.repository.UserRepository;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -45,145 +51,143 @@ class TokenServiceTest {
 
     @Test
     @DisplayName("유효한 RefreshToken으로 새로운 AccessToken 생성")
-    void refreshWithLock_success() {
+    void rotateRefreshToken_success() {
         String refreshToken = "validRefreshToken";
         Integer userNumber = 12345;
-        String lockKey = "refreshTokenLock:" + refreshToken;
-        String accessCacheKey = "refreshTokenCache:" + refreshToken;
         String newAccessToken = "newAccessToken";
         String newRefreshToken = "newRefreshToken";
-        long ttl = 900;
 
-        when(valueOperations.setIfAbsent(eq(lockKey), eq("LOCKED"), eq(Duration.ofSeconds(5)))).thenReturn(true);
         when(jwtProvider.validateToken(refreshToken)).thenReturn(true);
         when(jwtProvider.getUserNumber(refreshToken)).thenReturn(userNumber);
-        when(valueOperations.get("refreshToken:" + userNumber)).thenReturn(refreshToken);
         Users user = new Users();
         when(userRepository.findByUserNumber(userNumber)).thenReturn(Optional.of(user));
-        when(jwtProvider.createAccessToken(eq(userNumber), anyList())).thenReturn("newAccessToken");
+        when(jwtProvider.createAccessToken(user)).thenReturn(newAccessToken);
         when(jwtProvider.createRefreshToken(eq(userNumber))).thenReturn(newRefreshToken);
-        when(jwtProvider.getRemainingValidity(newAccessToken)).thenReturn(ttl);
+        givenRotateScriptResult(refreshToken, userNumber, newAccessToken, newRefreshToken, List.of("ROTATED"));
 
-        // 캐시된 Access Token이 없는 상태를 시뮬레이션
-        when(valueOperations.get(eq(accessCacheKey))).thenReturn(null);
+        LoginTokenResponse result = tokenService.rotateRefreshToken(refreshToken);
 
-        LoginTokenResponse result = tokenService.refreshWithLock(refreshToken);
-
-        // 새로운 Access Token이 Redis에 캐시되었는지 검증
-        verify(valueOperations).set(eq(accessCacheKey), eq(newAccessToken), eq(Duration.ofSeconds(ttl)));
+        // 저장된 토큰 비교, 교체, 결과 캐싱이 스크립트 한 번으로 처리되는지 검증
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any());
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
         assertThat(result.getAccessToken()).isEqualTo(newAccessToken);
         assertThat(result.getRefreshToken()).isEqualTo(newRefreshToken);
-        verify(redisTemplate).delete(lockKey);
     }
 
     @Test
     @DisplayName("유효하지 않은 RefreshToken 처리 - JwtException")
-    void refreshWithLock_invalidToken() {
+    void rotateRefreshToken_invalidToken() {
         String refreshToken = "InvalidRefreshToken";
-        String lockKey = "refreshTokenLock:" + refreshToken;
 
-        when(valueOperations.setIfAbsent(eq(lockKey), eq("LOCKED"), eq(Duration.ofSeconds(5)))).thenReturn(true);
         when(jwtProvider.validateToken(refreshToken)).thenReturn(false);
 
-        JwtException exception = assertThrows(JwtException.class, () -> tokenService.refreshWithLock(refreshToken));
+        JwtException exception = assertThrows(JwtException.class, () -> tokenService.rotateRefreshToken(refreshToken));
         assertEquals("유효하지 않은 RefreshToken입니다.", exception.getMessage());
     }
 
     @Test
-    @DisplayName("동시 요청 시 Lock 획득 실패")
-    void refreshWithLock_concurrentRequest() {
+    @DisplayName("이미 회전된 RefreshToken으로 재요청 시 캐시된 회전 결과 반환")
+    void rotateRefreshToken_cached() {
         String refreshToken = "validRefreshToken";
-        String lockKey = "refreshTokenLock:" + refreshToken;
-
-        when(valueOperations.setIfAbsent(eq(lockKey), eq("LOCKED"), eq(Duration.ofSeconds(5)))).thenReturn(false);
-
-        JwtException exception = assertThrows(JwtException.class, () -> tokenService.refreshWithLock(refreshToken));
-        assertEquals("유효하지 않은 RefreshToken입니다.", exception.getMessage());
-    }
+        Integer userNumber = 12345;
+        String newAccessToken = "newAccessToken";
+        String newRefreshToken = "newRefreshToken";
 
-    @Test
-    @DisplayName("예상치 못한 오류 - 일반 예외")
-    void refreshWithLock_unexpectedException() {
-        String refreshToken = "validRefreshToken";
-        String lockKey = "refreshTokenLock:" + refreshToken;
+        when(jwtProvider.validateToken(refreshToken)).thenReturn(true);
+        when(jwtProvider.getUserNumber(refreshToken)).thenReturn(userNumber);
+        Users user = new Users();
+        when(userRepository.findByUserNumber(userNumber)).thenReturn(Optional.of(user));
+        when(jwtProvider.createAccessToken(user)).thenReturn(newAccessToken);
+        when(jwtProvider.createRefreshToken(eq(userNumber))).thenReturn(newRefreshToken);
+        givenRotateScriptResult(refreshToken, userNumber, newAccessToken, newRefreshToken,
+                List.of("CACHED", "rotatedAccessToken", "rotatedRefreshToken"));
 
-        when(valueOperations.setIfAbsent(eq(lockKey), eq("LOCKED"), eq(Duration.ofSeconds(5)))).thenReturn(true);
-        when(jwtProvider.validateToken(refreshToken)).thenThrow(new RuntimeException("Unexpected Error"));
+        LoginTokenResponse result = tokenService.rotateRefreshToken(refreshToken);
 
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> tokenService.refreshWithLock(refreshToken));
-        assertEquals("Unexpected Error", exception.getMessage());
+        assertThat(result.getAccessToken()).isEqualTo("rotatedAccessToken");
+        assertThat(result.getRefreshToken()).isEqualTo("rotatedRefreshToken");
     }
 
     @Test
-    @DisplayName("유효한 RefreshToken으로 Redis 캐싱과 TTL 설정 확인")
-    void testRefreshTokenCachingAndTTL() {
-        String refreshToken = "valid-refresh-token";
-        String newAccessToken = "new-access-token";
-        String newRefreshToken = "new-refresh-token";
+    @DisplayName("저장된 RefreshToken과 일치하지 않고 캐시된 회전 결과도 없으면 JwtException")
+    void rotateRefreshToken_mismatch() {
+        String refreshToken = "validRefreshToken";
         Integer userNumber = 12345;
-        long ttl = 900; // 15분
-        String lockKey = "refreshTokenLock:" + refreshToken;
-        String accessCacheKey = "refreshTokenCache:" + refreshToken;
-
-        when(valueOperations.setIfAbsent(eq(lockKey), eq("LOCKED"), eq(Duration.ofSeconds(5))))
-                .thenReturn(true);
+        String newAccessToken = "newAccessToken";
+        String newRefreshToken = "newRefreshToken";
 
         when(jwtProvider.validateToken(refreshToken)).thenReturn(true);
         when(jwtProvider.getUserNumber(refreshToken)).thenReturn(userNumber);
-        when(valueOperations.get("refreshToken:" + userNumber)).thenReturn(refreshToken);
         Users user = new Users();
         when(userRepository.findByUserNumber(userNumber)).thenReturn(Optional.of(user));
-        when(jwtProvider.createAccessToken(userNumber, List.of("ROLE_USER"))).thenReturn(newAccessToken);
-        when(jwtProvider.createRefreshToken(userNumber)).thenReturn(newRefreshToken);
-        when(jwtProvider.getRemainingValidity(newAccessToken)).thenReturn(ttl);
+        when(jwtProvider.createAccessToken(user)).thenReturn(newAccessToken);
+        when(jwtProvider.createRefreshToken(eq(userNumber))).thenReturn(newRefreshToken);
+        givenRotateScriptResult(refreshToken, userNumber, newAccessToken, newRefreshToken, List.of("MISMATCH"));
 
-        when(valueOperations.get(eq(accessCacheKey))).thenReturn(null);
-        LoginTokenResponse result = tokenService.refreshWithLock(refreshToken);
+        JwtException exception = assertThrows(JwtException.class, () -> tokenService.rotateRefreshToken(refreshToken));
+        assertEquals("저장된 Refresh Token과 일치하지 않습니다.", exception.getMessage());
+    }
 
-        verify(valueOperations).set(
-                eq("refreshTokenCache:" + refreshToken),
-                eq(newAccessToken),
-                eq(Duration.ofSeconds(ttl))
-        );
-        assertThat(result.getAccessToken()).isEqualTo(newAccessToken);
-        assertThat(result.getRefreshToken()).isEqualTo(newRefreshToken);
-        verify(redisTemplate).delete(lockKey);
+    @Test
+    @DisplayName("예상치 못한 오류 - 일반 예외")
+    void rotateRefreshToken_unexpectedException() {
+        String refreshToken = "validRefreshToken";
+
+        when(jwtProvider.validateToken(refreshToken)).thenThrow(new RuntimeException("Unexpected Error"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> tokenService.rotateRefreshToken(refreshToken));
+        assertEquals("Unexpected Error", exception.getMessage());
     }
 
     @Test
-    @DisplayName("Redis TTL 만료 후 캐시 삭제 여부 확인")
-    void testRedisTTLExpiration() throws InterruptedException {
-        String refreshToken = "valid-refresh-token";
-        String newAccessToken = "new-access-token";
-        String newRefreshToken = "new-refresh-token";
+    @DisplayName("같은 RefreshToken으로 동시에 요청하면 한 번만 회전하고 결과를 공유")
+    void rotateRefreshToken_concurrentRequest() throws Exception {
+        String refreshToken = "validRefreshToken";
         Integer userNumber = 12345;
-        long ttl = 2; // 2초 (테스트를 위해 짧게 설정)
-        String lockKey = "refreshTokenLock:" + refreshToken;
-        String accessCacheKey = "refreshTokenCache:" + refreshToken;
+        String newAccessToken = "newAccessToken";
+        String newRefreshToken = "newRefreshToken";
+        CountDownLatch rotating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
 
-        when(valueOperations.setIfAbsent(eq(lockKey), eq("LOCKED"), eq(Duration.ofSeconds(5))))
-                .thenReturn(true);
         when(jwtProvider.validateToken(refreshToken)).thenReturn(true);
         when(jwtProvider.getUserNumber(refreshToken)).thenReturn(userNumber);
-        when(valueOperations.get("refreshToken:" + userNumber)).thenReturn(refreshToken);
         Users user = new Users();
-        when(userRepository.findByUserNumber(userNumber)).thenReturn(Optional.of(user));
-        when(jwtProvider.createAccessToken(userNumber, List.of("ROLE_USER"))).thenReturn(newAccessToken);
-        when(jwtProvider.createRefreshToken(userNumber)).thenReturn(newRefreshToken);
-        when(jwtProvider.getRemainingValidity(newAccessToken)).thenReturn(ttl);
-
-        // 처음 캐시에는 값이 존재함
-        when(valueOperations.get(eq(accessCacheKey))).thenReturn(newAccessToken);
-
-        LoginTokenResponse result = tokenService.refreshWithLock(refreshToken);
-        assertThat(result.getAccessToken()).isEqualTo(newAccessToken);
-
-        // stubbing 충돌을 방지하기 위해 valueOperations 모의를 재설정하고 다시 stubbing
-        reset(valueOperations);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(eq(accessCacheKey))).thenReturn(null);
+        when(userRepository.findByUserNumber(userNumber)).thenAnswer(invocation -> {
+            rotating.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(user);
+        });
+        when(jwtProvider.createAccessToken(user)).thenReturn(newAccessToken);
+        when(jwtProvider.createRefreshToken(eq(userNumber))).thenReturn(newRefreshToken);
+        givenRotateScriptResult(refreshToken, userNumber, newAccessToken, newRefreshToken, List.of("ROTATED"));
+
+        // 첫 번째 요청이 회전 중인 동안 두 번째 요청이 들어온다
+        CompletableFuture<LoginTokenResponse> first = CompletableFuture.supplyAsync(() -> tokenService.rotateRefreshToken(refreshToken));
+        assertThat(rotating.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicReference<LoginTokenResponse> second = new AtomicReference<>();
+        Thread secondRequest = new Thread(() -> second.set(tokenService.rotateRefreshToken(refreshToken)));
+        secondRequest.start();
+        while (secondRequest.getState() != Thread.State.WAITING) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        secondRequest.join(5_000);
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(second.get());
+        verify(jwtProvider, times(1)).createRefreshToken(userNumber);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any());
+    }
 
-        // 이후 캐시 만료 후 null 반환
-        assertThat(valueOperations.get("refreshTokenCache:" + refreshToken)).isNull();
+    private void givenRotateScriptResult(String refreshToken, Integer userNumber, String newAccessToken, String newRefreshToken, List<String> result) {
+        when(redisTemplate.execute(
+                any(RedisScript.class),
+                eq(List.of("refreshToken:" + userNumber, "refreshTokenCache:" + TokenHashUtil.encode(TokenHashUtil.sha256(refreshToken)))),
+                eq(refreshToken),
+                eq(newRefreshToken),
+                eq(newAccessToken),
+                eq(String.valueOf(7 * 24 * 60 * 60)),
+                anyString()
+        )).thenReturn(result);
     }
 }
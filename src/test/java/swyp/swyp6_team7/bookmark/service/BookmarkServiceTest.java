@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import swyp.swyp6_team7.bookmark.dto.BookmarkRequest;
 import swyp.swyp6_team7.bookmark.dto.BookmarkResponse;
@@ -18,6 +19,8 @@ import swyp.swyp6_team7.member.repository.UserRepository;
 import swyp.swyp6_team7.travel.domain.Travel;
 import swyp.swyp6_team7.travel.domain.TravelStatus;
 import swyp.swyp6_team7.travel.repository.TravelRepository;
+import swyp.swyp6_team7.travel.service.TravelStatsService;
+import swyp.swyp6_team7.trending.event.TrendingActivityEvent;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -41,6 +44,12 @@ public class BookmarkServiceTest {
     @Mock
     private TravelRepository travelRepository;
 
+    @Mock
+    private TravelStatsService travelStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
@@ -74,6 +83,8 @@ public class BookmarkServiceTest {
         // then
         verify(bookmarkRepository, times(1)).delete(oldestBookmark);
         verify(bookmarkRepository, times(1)).save(any(Bookmark.class));
+        verify(travelStatsService, times(1)).decreaseBookmarkCount(1);
+        verify(travelStatsService, times(1)).increaseBookmarkCount(101);
     }
 
     @Test
@@ -102,6 +113,8 @@ public class BookmarkServiceTest {
 
         // then
         verify(bookmarkRepository, times(1)).save(any(Bookmark.class));
+        verify(travelStatsService, times(1)).increaseBookmarkCount(101);
+        verify(eventPublisher, times(1)).publishEvent(any(TrendingActivityEvent.class));
     }
 
     @Test
@@ -127,6 +140,7 @@ public class BookmarkServiceTest {
 
         // then
         verify(bookmarkRepository, times(1)).delete(bookmark);
+        verify(travelStatsService, times(1)).decreaseBookmarkCount(travelNumber);
     }
 
     @Test
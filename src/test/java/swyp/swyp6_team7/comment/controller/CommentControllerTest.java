@@ -14,9 +14,11 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.ResultActions;
 import swyp.swyp6_team7.auth.jwt.JwtProvider;
+import swyp.swyp6_team7.auth.jwt.VerifiedToken;
 import swyp.swyp6_team7.comment.domain.Comment;
 import swyp.swyp6_team7.comment.dto.request.CommentCreateRequestDto;
 import swyp.swyp6_team7.comment.dto.request.CommentUpdateRequestDto;
+import swyp.swyp6_team7.comment.dto.response.CommentCursorPageResponse;
 import swyp.swyp6_team7.comment.dto.response.CommentDetailResponseDto;
 import swyp.swyp6_team7.comment.dto.response.CommentListReponseDto;
 import swyp.swyp6_team7.comment.service.CommentService;
@@ -50,7 +52,7 @@ class CommentControllerTest extends IntegrationTest {
     @BeforeEach
     void setUp() {
         // JWT 토큰 검증 로직 모킹
-        when(jwtProvider.validateToken(Mockito.anyString())).thenReturn(true);
+        when(jwtProvider.verify(Mockito.anyString())).thenReturn(new VerifiedToken(null, Long.MAX_VALUE)); // 인증 정보는 @WithMockUser 사용
     }
 
     @Test
@@ -194,4 +196,36 @@ class CommentControllerTest extends IntegrationTest {
                     .andDo(print());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("댓글 목록 커서 조회 시 size가 1보다 작으면 400 응답")
+    @WithMockUser
+    void getCommentsWithCursor_InvalidSize() throws Exception {
+        // When
+        ResultActions result = mockMvc.perform(get("/api/travel/1/comments/cursor")
+                .param("size", "0")
+                .header(AUTHORIZATION_HEADER, BEARER_TOKEN));
+
+        // Then
+        result.andExpect(status().isBadRequest());
+        Mockito.verify(commentService, Mockito.never()).getListWithCursor(any(), anyInt(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("댓글 목록 커서 조회 시 size가 최대 개수(50)보다 크면 50개까지만 조회")
+    @WithMockUser
+    void getCommentsWithCursor_LargeSize() throws Exception {
+        // Given
+        when(commentService.getListWithCursor(any(), anyInt(), any(), anyInt(), any()))
+                .thenReturn(CommentCursorPageResponse.from(List.of(), null));
+
+        // When
+        ResultActions result = mockMvc.perform(get("/api/travel/1/comments/cursor")
+                .param("size", "1000")
+                .header(AUTHORIZATION_HEADER, BEARER_TOKEN));
+
+        // Then
+        result.andExpect(status().isOk());
+        Mockito.verify(commentService).getListWithCursor(isNull(), eq(50), eq("travel"), eq(1), any());
+    }
+}
@@ -0,0 +1,115 @@
+package swyp.swyp6_team7.comment.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import swyp.swyp6_team7.comment.domain.Comment;
+import swyp.swyp6_team7.config.DataConfig;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(DataConfig.class)
+@DataJpaTest
+class CommentRepositoryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+
+    @DisplayName("findRootComments: 게시글의 부모 댓글만 작성 순서대로 페이지 크기만큼 조회한다.")
+    @Test
+    void findRootComments() {
+        // given
+        Comment root1 = commentRepository.save(createComment(0, 1));
+        commentRepository.save(createComment(root1.getCommentNumber(), 1));
+        Comment root2 = commentRepository.save(createComment(0, 1));
+        commentRepository.save(createComment(0, 1));
+        commentRepository.save(createComment(0, 2));
+
+        // when
+        List<Comment> result = commentRepository.findRootComments("travel", 1, PageRequest.of(0, 2));
+
+        // then
+        assertThat(result).extracting(Comment::getCommentNumber)
+                .containsExactly(root1.getCommentNumber(), root2.getCommentNumber());
+    }
+
+    @DisplayName("findRootCommentsAfter: 커서로 주어진 부모 댓글 이후의 부모 댓글을 조회한다.")
+    @Test
+    void findRootCommentsAfter() {
+        // given
+        commentRepository.save(createComment(0, 1));
+        Comment root2 = commentRepository.save(createComment(0, 1));
+        Comment root3 = commentRepository.save(createComment(0, 1));
+        commentRepository.save(createComment(root2.getCommentNumber(), 1));
+
+        // when
+        List<Comment> result = commentRepository.findRootCommentsAfter(
+                "travel", 1, root2.getRegDate(), root2.getCommentNumber(), PageRequest.of(0, 5));
+
+        // then
+        assertThat(result).extracting(Comment::getCommentNumber)
+                .containsExactly(root3.getCommentNumber());
+    }
+
+    @DisplayName("findRepliesByParentNumberIn: 주어진 부모 댓글들의 답글을 한 번에 조회한다.")
+    @Test
+    void findRepliesByParentNumberIn() {
+        // given
+        Comment root1 = commentRepository.save(createComment(0, 1));
+        Comment root2 = commentRepository.save(createComment(0, 1));
+        Comment root3 = commentRepository.save(createComment(0, 1));
+        Comment reply1 = commentRepository.save(createComment(root1.getCommentNumber(), 1));
+        Comment reply2 = commentRepository.save(createComment(root2.getCommentNumber(), 1));
+        commentRepository.save(createComment(root3.getCommentNumber(), 1));
+
+        // when
+        List<Comment> result = commentRepository.findRepliesByParentNumberIn(
+                List.of(root1.getCommentNumber(), root2.getCommentNumber()));
+
+        // then
+        assertThat(result).extracting(Comment::getCommentNumber)
+                .containsExactly(reply1.getCommentNumber(), reply2.getCommentNumber());
+    }
+
+    @DisplayName("addLikeCount: 좋아요 수를 증감하며 0보다 작아지지 않는다.")
+    @Test
+    void addLikeCount() {
+        // given
+        Comment comment = commentRepository.save(createComment(0, 1));
+        commentRepository.addLikeCount(comment.getCommentNumber(), 1);
+        commentRepository.addLikeCount(comment.getCommentNumber(), 1);
+        commentRepository.addLikeCount(comment.getCommentNumber(), -1);
+
+        // when
+        int updatedRows = commentRepository.addLikeCount(comment.getCommentNumber(), -5);
+
+        // then
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(commentRepository.findByCommentNumber(comment.getCommentNumber()).get().getLikeCount()).isZero();
+    }
+
+    @DisplayName("addReplyCount: 답글 수를 원자적으로 증감한다.")
+    @Test
+    void addReplyCount() {
+        // given
+        Comment comment = commentRepository.save(createComment(0, 1));
+
+        // when
+        commentRepository.addReplyCount(comment.getCommentNumber(), 1);
+        commentRepository.addReplyCount(comment.getCommentNumber(), 1);
+
+        // then
+        assertThat(commentRepository.findByCommentNumber(comment.getCommentNumber()).get().getReplyCount()).isEqualTo(2);
+    }
+
+    private Comment createComment(int parentNumber, int relatedNumber) {
+        return new Comment(1, "댓글", parentNumber, LocalDateTime.now(), "travel", relatedNumber);
+    }
+}
@@ -0,0 +1,96 @@
+package swyp.swyp6_team7.comment.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import swyp.swyp6_team7.comment.domain.Comment;
+import swyp.swyp6_team7.comment.repository.CommentRepository;
+import swyp.swyp6_team7.likes.repository.LikeRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentCountReconcilerTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private LikeRepository likeRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CommentCountReconciler commentCountReconciler;
+
+    @BeforeEach
+    void setUp() {
+        commentCountReconciler = new CommentCountReconciler(commentRepository, likeRepository, transactionManager);
+    }
+
+    @DisplayName("reconcile: 저장된 답글 수, 좋아요 수가 실제 집계와 다른 댓글만 보정한다.")
+    @Test
+    void reconcile() {
+        // given
+        Comment matched = createComment(1, 0, 1, 2);
+        Comment drifted = createComment(2, 0, 5, 0);
+        Comment reply = createComment(3, 1, 0, 0);
+
+        given(commentRepository.findCommentsAfter(eq(0), any(Pageable.class)))
+                .willReturn(List.of(matched, drifted, reply));
+        given(commentRepository.findCommentsAfter(eq(3), any(Pageable.class)))
+                .willReturn(List.of());
+        given(commentRepository.countRepliesGroupByParentNumberIn(anyCollection()))
+                .willReturn(List.<Object[]>of(new Object[]{1, 1L}));
+        given(likeRepository.countGroupByRelatedNumberIn(eq("comment"), anyCollection()))
+                .willReturn(List.<Object[]>of(new Object[]{1, 2L}, new Object[]{2, 1L}));
+
+        // when
+        commentCountReconciler.reconcile();
+
+        // then
+        verify(commentRepository, times(1)).overwriteCounts(2, 0, 1, 5, 0);
+        verify(commentRepository, never()).overwriteCounts(eq(1), anyInt(), anyInt(), anyInt(), anyInt());
+        verify(commentRepository, never()).overwriteCounts(eq(3), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @DisplayName("reconcile: 청크마다 별도 트랜잭션으로 집계, 보정한다.")
+    @Test
+    void reconcileInTransactionPerChunk() {
+        // given
+        given(commentRepository.findCommentsAfter(eq(0), any(Pageable.class)))
+                .willReturn(List.of(createComment(1, 0, 0, 0)));
+        given(commentRepository.findCommentsAfter(eq(1), any(Pageable.class)))
+                .willReturn(List.of(createComment(2, 0, 0, 0)));
+        given(commentRepository.findCommentsAfter(eq(2), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        commentCountReconciler.reconcile();
+
+        // then
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    private Comment createComment(int commentNumber, int parentNumber, int replyCount, int likeCount) {
+        Comment comment = new Comment(commentNumber, 1, "댓글", parentNumber, LocalDateTime.of(2024, 11, 1, 10, 0), "travel", 1);
+        ReflectionTestUtils.setField(comment, "replyCount", replyCount);
+        ReflectionTestUtils.setField(comment, "likeCount", likeCount);
+        return comment;
+    }
+}
@@ -0,0 +1,153 @@
+package swyp.swyp6_team7.comment.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import swyp.swyp6_team7.comment.domain.Comment;
+import swyp.swyp6_team7.comment.repository.CommentRepository;
+import swyp.swyp6_team7.likes.repository.LikeRepository;
+import swyp.swyp6_team7.notification.repository.NotificationRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentDeleteServiceTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private LikeRepository likeRepository;
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CommentDeleteService commentDeleteService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        commentDeleteService = new CommentDeleteService(commentRepository, likeRepository, notificationRepository, meterRegistry);
+    }
+
+    @DisplayName("deleteThread: 부모 댓글과 답글, 좋아요를 답글 수와 관계없이 한 번씩 삭제한다.")
+    @Test
+    void deleteThread() {
+        // given
+        Comment comment = createComment(1, 0);
+        List<Integer> threadNumbers = List.of(1, 2, 3, 4);
+        given(commentRepository.findThreadCommentNumbers(1)).willReturn(threadNumbers);
+        given(likeRepository.deleteAllCommentLikesByRelatedNumberIn(threadNumbers)).willReturn(5);
+        given(commentRepository.deleteAllByCommentNumberIn(threadNumbers)).willReturn(4);
+
+        // when
+        CommentDeleteService.DeletedRows result = commentDeleteService.deleteThread(comment);
+
+        // then
+        assertThat(result.getComments()).isEqualTo(4);
+        assertThat(result.getLikes()).isEqualTo(5);
+        verify(likeRepository, times(1)).deleteAllCommentLikesByRelatedNumberIn(anyCollection());
+        verify(commentRepository, times(1)).deleteAllByCommentNumberIn(anyCollection());
+        verify(commentRepository, never()).addReplyCount(anyInt(), anyInt());
+        assertThat(meterRegistry.get("comment.delete.rows").tags("scope", "thread", "table", "comment").counter().count())
+                .isEqualTo(4);
+        assertThat(meterRegistry.get("comment.delete").tag("scope", "thread").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("deleteThread: 답글을 삭제하면 부모 댓글의 답글 수를 줄인다.")
+    @Test
+    void deleteThreadWhenReply() {
+        // given
+        Comment reply = createComment(2, 1);
+        given(commentRepository.findThreadCommentNumbers(2)).willReturn(List.of(2));
+        given(commentRepository.deleteAllByCommentNumberIn(List.of(2))).willReturn(1);
+
+        // when
+        commentDeleteService.deleteThread(reply);
+
+        // then
+        verify(commentRepository).addReplyCount(1, -1);
+    }
+
+    @DisplayName("deleteAllByPost: 게시글 종류에 맞는 댓글 알림과 게시글의 모든 댓글, 좋아요를 삭제한다.")
+    @Test
+    void deleteAllByPost() {
+        // given
+        List<Integer> commentNumbers = List.of(1, 2);
+        given(commentRepository.findCommentNumbersByRelatedTypeAndRelatedNumber("travel", 10)).willReturn(commentNumbers);
+        given(notificationRepository.deleteTravelCommentNotifications(10)).willReturn(1);
+        given(likeRepository.deleteAllCommentLikesByRelatedNumberIn(commentNumbers)).willReturn(3);
+        given(commentRepository.deleteAllByCommentNumberIn(commentNumbers)).willReturn(2);
+
+        // when
+        CommentDeleteService.DeletedRows result = commentDeleteService.deleteAllByPost("travel", 10);
+
+        // then
+        assertThat(result.getComments()).isEqualTo(2);
+        assertThat(result.getLikes()).isEqualTo(3);
+        assertThat(result.getNotifications()).isEqualTo(1);
+        verify(notificationRepository, never()).deleteCommunityCommentNotifications(anyInt());
+    }
+
+    @DisplayName("deleteAllByPost: 댓글이 없으면 댓글, 좋아요 삭제 쿼리를 실행하지 않는다.")
+    @Test
+    void deleteAllByPostWhenEmpty() {
+        // given
+        given(commentRepository.findCommentNumbersByRelatedTypeAndRelatedNumber("community", 10)).willReturn(List.of());
+
+        // when
+        CommentDeleteService.DeletedRows result = commentDeleteService.deleteAllByPost("community", 10);
+
+        // then
+        assertThat(result.getComments()).isZero();
+        verify(notificationRepository).deleteCommunityCommentNotifications(10);
+        verify(likeRepository, never()).deleteAllCommentLikesByRelatedNumberIn(anyCollection());
+        verify(commentRepository, never()).deleteAllByCommentNumberIn(anyCollection());
+    }
+
+    @DisplayName("deleteAllByPost: 유효하지 않은 게시글 종류이면 예외가 발생한다.")
+    @Test
+    void deleteAllByPostWhenInvalidType() {
+        assertThatThrownBy(() -> commentDeleteService.deleteAllByPost("notice", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("deleteAllByUser: 회원의 댓글을 삭제하고, 남아 있는 다른 회원 댓글의 답글 수만 줄인다.")
+    @Test
+    void deleteAllByUser() {
+        // given
+        // 회원의 부모 댓글 1과 그 답글 2, 다른 회원 댓글 5에 단 답글 6, 7
+        List<Integer> commentNumbers = List.of(1, 2, 6, 7);
+        given(commentRepository.findCommentNumbersByWriter(100)).willReturn(commentNumbers);
+        given(commentRepository.countRepliesByWriterGroupByParentNumber(100))
+                .willReturn(List.<Object[]>of(new Object[]{1, 1L}, new Object[]{5, 2L}));
+        given(commentRepository.deleteAllByCommentNumberIn(commentNumbers)).willReturn(4);
+
+        // when
+        CommentDeleteService.DeletedRows result = commentDeleteService.deleteAllByUser(100);
+
+        // then
+        assertThat(result.getComments()).isEqualTo(4);
+        verify(notificationRepository).deleteAllByReceiverNumber(100);
+        verify(commentRepository).addReplyCount(5, -2);
+        verify(commentRepository, never()).addReplyCount(eq(1), anyInt());
+    }
+
+    private Comment createComment(int commentNumber, int parentNumber) {
+        return new Comment(commentNumber, 1, "댓글", parentNumber, LocalDateTime.of(2024, 11, 1, 10, 0), "travel", 10);
+    }
+}
@@ -0,0 +1,166 @@
+package swyp.swyp6_team7.comment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import swyp.swyp6_team7.comment.domain.Comment;
+import swyp.swyp6_team7.comment.dto.response.CommentListReponseDto;
+import swyp.swyp6_team7.comment.event.CommentChangedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentStreamServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock
+    private CommentService commentService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private CommentStreamService commentStreamService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        commentStreamService = new CommentStreamService(redisTemplate, redisMessageListenerContainer, objectMapper, commentService, meterRegistry);
+    }
+
+    @DisplayName("onMessage: 수신한 댓글 변경을 해당 게시글의 구독자에게만 전달한다.")
+    @Test
+    void onMessage() throws Exception {
+        // given
+        commentStreamService.subscribe("travel", 1);
+        commentStreamService.subscribe("travel", 1);
+        commentStreamService.subscribe("travel", 2);
+        String payload = objectMapper.writeValueAsString(CommentChangedEvent.deleted(createComment(10, 0, "travel", 1)));
+
+        // when
+        commentStreamService.onMessage(createMessage(payload), null);
+
+        // then
+        assertThat(commentStreamService.getConnectionCount()).isEqualTo(3);
+        assertThat(getEventCount("delivered")).isEqualTo(2);
+    }
+
+    @DisplayName("onMessage: 이 서버에 게시글 구독자가 없으면 댓글 응답을 만들지 않는다.")
+    @Test
+    void onMessageWithoutSubscribers() throws Exception {
+        // given
+        commentStreamService.subscribe("travel", 2);
+        String payload = objectMapper.writeValueAsString(CommentChangedEvent.created(createComment(10, 0, "travel", 1)));
+
+        // when
+        commentStreamService.onMessage(createMessage(payload), null);
+
+        // then
+        verify(commentService, never()).getStreamComment(anyInt());
+        assertThat(getEventCount("delivered")).isZero();
+    }
+
+    @DisplayName("onMessage: 답글이 생성되면 커밋된 답글과 답글 수가 바뀐 부모 댓글을 함께 전달한다.")
+    @Test
+    void onMessageWhenReplyCreated() throws Exception {
+        // given
+        commentStreamService.subscribe("travel", 1);
+        given(commentService.getStreamComment(11)).willReturn(Optional.of(createResponse(11, 10, 0)));
+        given(commentService.getStreamComment(10)).willReturn(Optional.of(createResponse(10, 0, 1)));
+        String payload = objectMapper.writeValueAsString(CommentChangedEvent.created(createComment(11, 10, "travel", 1)));
+
+        // when
+        commentStreamService.onMessage(createMessage(payload), null);
+
+        // then
+        verify(commentService).getStreamComment(11);
+        verify(commentService).getStreamComment(10);
+        assertThat(getEventCount("delivered")).isEqualTo(2);
+    }
+
+    @DisplayName("handleCommentChanged: 댓글 변경을 Redis 채널로 전파한다.")
+    @Test
+    void handleCommentChanged() {
+        // given
+        CommentChangedEvent event = CommentChangedEvent.deleted(createComment(10, 0, "community", 3));
+
+        // when
+        commentStreamService.handleCommentChanged(event);
+
+        // then
+        verify(redisTemplate).convertAndSend(eq("comment-stream"), anyString());
+        assertThat(getEventCount("published")).isEqualTo(1);
+    }
+
+    @DisplayName("handleCommentChanged: Redis 전파에 실패하면 이 서버의 구독자에게 직접 전달한다.")
+    @Test
+    void handleCommentChangedWhenRedisFails() {
+        // given
+        commentStreamService.subscribe("community", 3);
+        given(redisTemplate.convertAndSend(eq("comment-stream"), anyString()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        commentStreamService.handleCommentChanged(CommentChangedEvent.deleted(createComment(10, 0, "community", 3)));
+
+        // then
+        assertThat(getEventCount("published")).isZero();
+        assertThat(getEventCount("delivered")).isEqualTo(1);
+    }
+
+    @DisplayName("closeAll: 모든 연결을 종료하고 구독자 목록에서 제거한다.")
+    @Test
+    void closeAll() {
+        // given
+        commentStreamService.subscribe("travel", 1);
+        commentStreamService.subscribe("travel", 2);
+
+        // when
+        commentStreamService.closeAll();
+
+        // then
+        assertThat(commentStreamService.getConnectionCount()).isZero();
+        assertThat(meterRegistry.get("comment.stream.connections").gauge().value()).isZero();
+    }
+
+    private Comment createComment(int commentNumber, int parentNumber, String relatedType, int relatedNumber) {
+        return new Comment(commentNumber, 1, "댓글", parentNumber, LocalDateTime.of(2024, 11, 1, 10, 0), relatedType, relatedNumber);
+    }
+
+    private CommentListReponseDto createResponse(int commentNumber, int parentNumber, long repliesCount) {
+        return CommentListReponseDto.fromEntity(
+                createComment(commentNumber, parentNumber, "travel", 1), "작성자", repliesCount, 0, false, 1, null, null
+        );
+    }
+
+    private DefaultMessage createMessage(String payload) {
+        return new DefaultMessage(
+                "comment-stream".getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private double getEventCount(String result) {
+        return meterRegistry.get("comment.stream.events").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,122 @@
+package swyp.swyp6_team7.comment.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import swyp.swyp6_team7.comment.domain.Comment;
+import swyp.swyp6_team7.comment.dto.response.CommentListReponseDto;
+import swyp.swyp6_team7.image.domain.Image;
+import swyp.swyp6_team7.image.repository.ImageRepository;
+import swyp.swyp6_team7.likes.repository.LikeRepository;
+import swyp.swyp6_team7.member.entity.Users;
+import swyp.swyp6_team7.member.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentThreadAssemblerTest {
+
+    @InjectMocks
+    private CommentThreadAssembler commentThreadAssembler;
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ImageRepository imageRepository;
+    @Mock
+    private LikeRepository likeRepository;
+
+
+    @DisplayName("assemble: 댓글 수와 관계없이 작성자, 프로필 이미지, 좋아요 여부를 한 번씩 조회하고 저장된 답글 수, 좋아요 수로 조립한다.")
+    @Test
+    void assemble() {
+        // given
+        Comment parent1 = createComment(1, 10, 0);
+        ReflectionTestUtils.setField(parent1, "replyCount", 2);
+        ReflectionTestUtils.setField(parent1, "likeCount", 3);
+        Comment reply1 = createComment(2, 20, 1);
+        Comment reply2 = createComment(3, 30, 1);
+        ReflectionTestUtils.setField(reply2, "likeCount", 1);
+        Comment parent2 = createComment(4, 20, 0);
+        List<Comment> comments = List.of(parent1, reply1, reply2, parent2);
+
+        given(userRepository.findAllById(anyCollection()))
+                .willReturn(List.of(createUser(10, "작성자1"), createUser(20, "작성자2")));
+        given(imageRepository.findAllByRelatedTypeAndRelatedNumberIn(eq("profile"), anyCollection()))
+                .willReturn(List.of(createProfileImage(20)));
+        given(likeRepository.findLikedRelatedNumbers(eq("comment"), eq(20), anyCollection()))
+                .willReturn(List.of(1));
+
+        // when
+        List<CommentListReponseDto> result = commentThreadAssembler.assemble(comments, 99, 20);
+
+        // then
+        assertThat(result).hasSize(4)
+                .extracting("commentNumber", "writer", "repliesCount", "likes", "liked", "travelWriterNumber", "commented")
+                .containsExactly(
+                        tuple(1, "작성자1", 2L, 3L, true, 99, true),
+                        tuple(2, "작성자2", 0L, 0L, false, 99, false),
+                        tuple(3, "unknown", 0L, 1L, false, 99, false),
+                        tuple(4, "작성자2", 0L, 0L, false, 99, false)
+                );
+        assertThat(result.get(1).getImageUrl()).isEqualTo("https://image.com/profile/20");
+        assertThat(result.get(0).getImageUrl()).isNull();
+
+        verify(userRepository, times(1)).findAllById(anyCollection());
+        verify(imageRepository, times(1)).findAllByRelatedTypeAndRelatedNumberIn(anyString(), anyCollection());
+        verify(likeRepository, never()).countGroupByRelatedNumberIn(anyString(), anyCollection());
+        verify(likeRepository, times(1)).findLikedRelatedNumbers(anyString(), anyInt(), anyCollection());
+    }
+
+    @DisplayName("assemble: 비로그인 사용자는 좋아요 여부를 조회하지 않는다.")
+    @Test
+    void assembleWithoutLogin() {
+        // given
+        List<Comment> comments = List.of(createComment(1, 10, 0), createComment(2, 10, 1));
+
+        // when
+        List<CommentListReponseDto> result = commentThreadAssembler.assemble(comments, 99, null);
+
+        // then
+        assertThat(result).extracting("liked", "commented")
+                .containsExactly(tuple(false, false), tuple(false, false));
+        verify(likeRepository, never()).findLikedRelatedNumbers(anyString(), anyInt(), anyCollection());
+    }
+
+    private Comment createComment(int commentNumber, int userNumber, int parentNumber) {
+        return new Comment(commentNumber, userNumber, "댓글 " + commentNumber, parentNumber,
+                LocalDateTime.of(2024, 11, 1, 10, 0), "travel", 1);
+    }
+
+    private Users createUser(int userNumber, String userName) {
+        return Users.builder()
+                .userNumber(userNumber)
+                .userName(userName)
+                .build();
+    }
+
+    private Image createProfileImage(int userNumber) {
+        return Image.builder()
+                .relatedType("profile")
+                .relatedNumber(userNumber)
+                .order(0)
+                .url("https://image.com/profile/" + userNumber)
+                .build();
+    }
+}
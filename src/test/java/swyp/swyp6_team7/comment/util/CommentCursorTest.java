@@ -0,0 +1,45 @@
+package swyp.swyp6_team7.comment.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import swyp.swyp6_team7.comment.domain.Comment;
+import swyp.swyp6_team7.global.exception.MoingApplicationException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentCursorTest {
+
+    @DisplayName("encode, decode: 인코딩한 커서를 디코딩하면 같은 정렬 키를 얻는다.")
+    @Test
+    void encodeAndDecode() {
+        // given
+        LocalDateTime regDate = LocalDateTime.of(2024, 11, 22, 10, 30, 15, 123456000);
+        Comment comment = new Comment(10, 1, "댓글", 0, regDate, "travel", 1);
+        String cursor = CommentCursor.of(comment).encode();
+
+        // when
+        CommentCursor result = CommentCursor.decode(cursor);
+
+        // then
+        assertThat(result.getCommentNumber()).isEqualTo(10);
+        assertThat(result.getRegDate()).isEqualTo(regDate);
+    }
+
+    @DisplayName("decode: 커서가 주어지지 않으면 null을 반환한다.")
+    @Test
+    void decodeWhenEmpty() {
+        assertThat(CommentCursor.decode(null)).isNull();
+        assertThat(CommentCursor.decode("")).isNull();
+    }
+
+    @DisplayName("decode: 잘못된 형식의 커서가 주어지면 예외가 발생한다.")
+    @Test
+    void decodeWhenInvalid() {
+        assertThatThrownBy(() -> CommentCursor.decode("invalid-cursor"))
+                .isInstanceOf(MoingApplicationException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+}
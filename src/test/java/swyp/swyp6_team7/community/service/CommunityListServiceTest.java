@@ -0,0 +1,83 @@
+package swyp.swyp6_team7.community.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import swyp.swyp6_team7.category.repository.CategoryRepository;
+import swyp.swyp6_team7.comment.repository.CommentRepository;
+import swyp.swyp6_team7.community.domain.Community;
+import swyp.swyp6_team7.community.dto.response.CommunityListResponseDto;
+import swyp.swyp6_team7.community.dto.response.CommunitySearchDto;
+import swyp.swyp6_team7.community.repository.CommunityCustomRepository;
+import swyp.swyp6_team7.image.domain.Image;
+import swyp.swyp6_team7.image.repository.ImageRepository;
+import swyp.swyp6_team7.likes.repository.LikeRepository;
+import swyp.swyp6_team7.member.entity.AgeGroup;
+import swyp.swyp6_team7.member.entity.Gender;
+import swyp.swyp6_team7.member.entity.Users;
+import swyp.swyp6_team7.member.repository.UserRepository;
+import swyp.swyp6_team7.trending.service.TrendingService;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommunityListServiceTest {
+
+    @InjectMocks
+    private CommunityListService communityListService;
+
+    @Mock private CommunityCustomRepository communityCustomRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private CategoryRepository categoryRepository;
+    @Mock private CommentRepository commentRepository;
+    @Mock private LikeRepository likeRepository;
+    @Mock private ImageRepository imageRepository;
+    @Mock private TrendingService trendingService;
+
+    @DisplayName("getTrendingCommunityList: 작성자, 댓글 수, 좋아요 여부, 썸네일을 게시글 번호 목록으로 한 번에 조회해 인기 순서대로 반환한다.")
+    @Test
+    void getTrendingCommunityList() {
+        // given: 3번 게시글은 삭제되어 조회되지 않는다
+        Community first = new Community(2, 10, 1, "제목2", "내용", LocalDateTime.now(), 0);
+        Community second = new Community(1, 20, 1, "제목1", "내용", LocalDateTime.now(), 0);
+        given(trendingService.getTrendingNumbers(ViewContentType.COMMUNITY, 3)).willReturn(List.of(2, 3, 1));
+        given(communityCustomRepository.findAllByPostNumbers(List.of(2, 3, 1))).willReturn(List.of(
+                new CommunitySearchDto(first, "잡담", 5L),
+                new CommunitySearchDto(second, "잡담", 0L)
+        ));
+        given(userRepository.findAllById(anySet())).willReturn(List.of(
+                new Users(10, "writer1@example.com", "pw", "작성자1", Gender.F, AgeGroup.TWENTY, null)
+        ));
+        given(commentRepository.countGroupByRelatedNumberIn("community", List.of(2, 1)))
+                .willReturn(List.<Object[]>of(new Object[]{2, 3L}));
+        given(likeRepository.findLikedRelatedNumbers("community", 10, List.of(2, 1))).willReturn(List.of(2));
+        given(imageRepository.findAllByRelatedTypeAndOrderAndRelatedNumberIn("community", 1, List.of(2, 1)))
+                .willReturn(List.of(new Image("community", 2, "key", "https://example.com/2.png")));
+
+        // when
+        List<CommunityListResponseDto> result = communityListService.getTrendingCommunityList(3, 10);
+
+        // then
+        assertThat(result)
+                .extracting("postNumber", "postWriter", "commentCount", "likeCount", "liked", "thumbnailUrl")
+                .containsExactly(
+                        tuple(2, "작성자1", 3L, 5L, true, "https://example.com/2.png"),
+                        tuple(1, "알 수 없는 사용자", 0L, 0L, false, null)
+                );
+        verify(userRepository, never()).findByUserNumber(anyInt());
+        verify(commentRepository, never()).countByRelatedTypeAndRelatedNumber(anyString(), anyInt());
+        verify(trendingService, never()).remove(any(), anyList());
+    }
+}
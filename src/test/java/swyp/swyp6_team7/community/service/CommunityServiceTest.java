@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import swyp.swyp6_team7.category.domain.Category;
 import swyp.swyp6_team7.category.repository.CategoryRepository;
 import swyp.swyp6_team7.comment.repository.CommentRepository;
@@ -23,6 +24,7 @@ import swyp.swyp6_team7.member.entity.AgeGroup;
 import swyp.swyp6_team7.member.entity.Gender;
 import swyp.swyp6_team7.member.entity.Users;
 import swyp.swyp6_team7.member.repository.UserRepository;
+import swyp.swyp6_team7.trending.event.TrendingContentDeletedEvent;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -44,6 +46,7 @@ public class CommunityServiceTest {
     @Mock private ImageService imageService;
     @Mock private CommentService commentService;
     @Mock private CommunityCustomRepository communityCustomRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private Users user;
     private Community community;
@@ -130,6 +133,7 @@ public class CommunityServiceTest {
         communityService.delete(1, 1);
 
         verify(communityRepository).delete(community);
+        verify(eventPublisher).publishEvent(any(TrendingContentDeletedEvent.class));
     }
 
 
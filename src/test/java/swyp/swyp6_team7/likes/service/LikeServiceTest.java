@@ -0,0 +1,93 @@
+package swyp.swyp6_team7.likes.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import swyp.swyp6_team7.comment.domain.Comment;
+import swyp.swyp6_team7.comment.repository.CommentRepository;
+import swyp.swyp6_team7.global.IntegrationTest;
+import swyp.swyp6_team7.likes.repository.LikeRepository;
+import swyp.swyp6_team7.member.entity.Users;
+import swyp.swyp6_team7.member.repository.UserRepository;
+import swyp.swyp6_team7.travel.domain.Travel;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikeServiceTest extends IntegrationTest {
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Users user;
+    private Travel travel;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser("likeService", "password");
+        travel = createTravel(user.getUserNumber(), "도쿄");
+        comment = commentRepository.save(
+                new Comment(user.getUserNumber(), "댓글", 0, LocalDateTime.now(), "travel", travel.getNumber())
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeRepository.deleteAllInBatch();
+        commentRepository.deleteAllInBatch();
+        deleteTravel(travel.getNumber());
+        userRepository.delete(user);
+    }
+
+    @DisplayName("toggleLike: 댓글 좋아요 후 취소하면 좋아요가 삭제되고 댓글의 좋아요 수도 원래대로 돌아온다.")
+    @Test
+    void toggleCommentLike() {
+        // given
+        int commentNumber = comment.getCommentNumber();
+        int userNumber = user.getUserNumber();
+
+        // when
+        likeService.toggleLike("comment", commentNumber, userNumber);
+
+        // then
+        assertThat(likeRepository.existsByRelatedTypeAndRelatedNumberAndUserNumber("comment", commentNumber, userNumber)).isTrue();
+        assertThat(commentRepository.findByCommentNumber(commentNumber).get().getLikeCount()).isEqualTo(1);
+
+        // when
+        likeService.toggleLike("comment", commentNumber, userNumber);
+
+        // then
+        assertThat(likeRepository.existsByRelatedTypeAndRelatedNumberAndUserNumber("comment", commentNumber, userNumber)).isFalse();
+        assertThat(commentRepository.findByCommentNumber(commentNumber).get().getLikeCount()).isZero();
+    }
+
+    @DisplayName("toggleLike: 좋아요 취소 후 다시 누르면 좋아요가 다시 저장되고 좋아요 수가 한 번만 늘어난다.")
+    @Test
+    void toggleCommentLikeAgain() {
+        // given
+        int commentNumber = comment.getCommentNumber();
+        int userNumber = user.getUserNumber();
+        likeService.toggleLike("comment", commentNumber, userNumber);
+        likeService.toggleLike("comment", commentNumber, userNumber);
+
+        // when
+        likeService.toggleLike("comment", commentNumber, userNumber);
+
+        // then
+        assertThat(likeRepository.countByRelatedTypeAndRelatedNumber("comment", commentNumber)).isEqualTo(1);
+        assertThat(commentRepository.findByCommentNumber(commentNumber).get().getLikeCount()).isEqualTo(1);
+    }
+}
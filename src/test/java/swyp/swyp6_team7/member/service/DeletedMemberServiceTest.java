@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import swyp.swyp6_team7.comment.service.CommentDeleteService;
 import swyp.swyp6_team7.member.entity.*;
 import swyp.swyp6_team7.member.repository.DeletedUsersRepository;
 import swyp.swyp6_team7.member.repository.SocialUserRepository;
@@ -39,6 +40,9 @@ class DeletedMemberServiceTest {
     @Mock
     private TravelRepository travelRepository;
 
+    @Mock
+    private CommentDeleteService commentDeleteService;
+
     private Users testUser;
 
     @BeforeEach
@@ -131,6 +135,7 @@ class DeletedMemberServiceTest {
         // 실행
         memberDeletedService.deleteExpiredUsers();
 
+        verify(commentDeleteService).deleteAllByUser(1);
         // 객체가 같은지 확인하기 어려우므로, ID 기준으로 match
         verify(deletedUsersRepository).delete(argThat(deleted ->
                 deleted.getUserNumber() == 1 &&
@@ -0,0 +1,102 @@
+package swyp.swyp6_team7.member.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import swyp.swyp6_team7.member.dao.UserLoginHistoryDao;
+import swyp.swyp6_team7.member.dto.UserLoginRecord;
+import swyp.swyp6_team7.member.entity.Users;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+class UserLoginHistoryWriterTest {
+
+    @Mock
+    private UserLoginHistoryDao userLoginHistoryDao;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserLoginHistoryWriter userLoginHistoryWriter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userLoginHistoryWriter = new UserLoginHistoryWriter(userLoginHistoryDao, meterRegistry);
+    }
+
+    @DisplayName("record: 로그인 이력을 큐에 넣고, 작업자가 모아서 저장한다.")
+    @Test
+    void record() throws Exception {
+        // given
+        List<UserLoginRecord> saved = new ArrayList<>();
+        willAnswer(invocation -> {
+            List<UserLoginRecord> records = invocation.getArgument(0);
+            synchronized (saved) {
+                saved.addAll(records);
+            }
+            return null;
+        }).given(userLoginHistoryDao).saveLoginHistories(anyList());
+        userLoginHistoryWriter.start();
+
+        // when
+        for (int i = 1; i <= 100; i++) {
+            userLoginHistoryWriter.record(createUser(i));
+        }
+        userLoginHistoryWriter.shutdown();
+
+        // then
+        assertThat(saved).hasSize(100)
+                .extracting(UserLoginRecord::getUserNumber)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 100).boxed().toList());
+        assertThat(meterRegistry.get("login.history.records").tag("result", "enqueued").counter().count()).isEqualTo(100);
+        assertThat(meterRegistry.get("login.history.records").tag("result", "saved").counter().count()).isEqualTo(100);
+    }
+
+    @DisplayName("record: 작업자가 멈춘 뒤에는 요청 스레드에서 직접 저장한다.")
+    @Test
+    void recordAfterShutdown() throws Exception {
+        // given
+        userLoginHistoryWriter.start();
+        userLoginHistoryWriter.shutdown();
+
+        // when
+        userLoginHistoryWriter.record(createUser(1));
+
+        // then
+        assertThat(meterRegistry.get("login.history.records").tag("result", "overflow").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("login.history.records").tag("result", "saved").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("record: 저장에 실패한 이력은 실패 지표로 남기고 로그인 요청에는 영향을 주지 않는다.")
+    @Test
+    void recordWhenSaveFails() throws Exception {
+        // given
+        willThrow(new RuntimeException("DB 오류")).given(userLoginHistoryDao).saveLoginHistories(anyList());
+        userLoginHistoryWriter.start();
+
+        // when
+        userLoginHistoryWriter.record(createUser(1));
+        userLoginHistoryWriter.shutdown();
+
+        // then
+        assertThat(meterRegistry.get("login.history.records").tag("result", "failed").counter().count()).isEqualTo(1);
+    }
+
+    private Users createUser(int userNumber) {
+        return Users.builder()
+                .userNumber(userNumber)
+                .userEmail("user" + userNumber + "@test.com")
+                .build();
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithMockUser;
 import swyp.swyp6_team7.auth.dto.LoginTokenResponse;
 import swyp.swyp6_team7.auth.jwt.JwtProvider;
+import swyp.swyp6_team7.auth.jwt.VerifiedToken;
 import swyp.swyp6_team7.global.IntegrationTest;
 import swyp.swyp6_team7.global.utils.auth.MemberAuthorizeUtil;
 import swyp.swyp6_team7.member.entity.Users;
@@ -47,7 +48,7 @@ public class TravelAppliedControllerTest extends IntegrationTest {
         String token = "Bearer test-token";
         Integer userNumber = 1;
 
-        when(jwtProvider.validateToken(Mockito.anyString())).thenReturn(true);
+        when(jwtProvider.verify(Mockito.anyString())).thenReturn(new VerifiedToken(null, Long.MAX_VALUE)); // 인증 정보는 @WithMockUser 사용
 
         Pageable pageable = PageRequest.of(0, 5);
         DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
@@ -96,7 +97,7 @@ public class TravelAppliedControllerTest extends IntegrationTest {
         // given
         int userNumber = 1;
         int travelNumber = 2;
-        when(jwtProvider.validateToken(Mockito.anyString())).thenReturn(true);
+        when(jwtProvider.verify(Mockito.anyString())).thenReturn(new VerifiedToken(null, Long.MAX_VALUE)); // 인증 정보는 @WithMockUser 사용
 
         try (MockedStatic<MemberAuthorizeUtil> mockedStatic = mockStatic(MemberAuthorizeUtil.class)) {
             mockedStatic.when(MemberAuthorizeUtil::getLoginUserNumber).thenReturn(userNumber);
@@ -13,6 +13,7 @@ import swyp.swyp6_team7.global.IntegrationTest;
 import swyp.swyp6_team7.mock.WithMockCustomUser;
 import swyp.swyp6_team7.travel.dto.TravelRecommendForMemberDto;
 import swyp.swyp6_team7.travel.dto.TravelRecommendForNonMemberDto;
+import swyp.swyp6_team7.travel.dto.response.TravelCursorPageResponse;
 import swyp.swyp6_team7.travel.dto.response.TravelRecentDto;
 import swyp.swyp6_team7.travel.service.TravelHomeService;
 
@@ -25,6 +26,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -211,6 +213,36 @@ class TravelHomeControllerTest extends IntegrationTest {
                 .andExpect(jsonPath("$.success.content[1].bookmarked").value(false));
     }
 
+    @DisplayName("getRecentlyCreatedTravelsWithCursor: size가 1보다 작으면 400 응답을 받는다.")
+    @WithMockCustomUser(userNumber = 2)
+    @Test
+    void getRecentlyCreatedTravelsWithCursorWithInvalidSize() throws Exception {
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/travels/recent/cursor")
+                .param("size", "0"));
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+        then(travelHomeService).should(never()).getTravelsSortedByCreatedAtWithCursor(any(), anyInt(), any());
+    }
+
+    @DisplayName("getRecentlyCreatedTravelsWithCursor: size가 최대 개수(50)보다 크면 50개까지만 조회한다.")
+    @WithMockCustomUser(userNumber = 2)
+    @Test
+    void getRecentlyCreatedTravelsWithCursorWithLargeSize() throws Exception {
+        // given
+        given(travelHomeService.getTravelsSortedByCreatedAtWithCursor(any(), anyInt(), any()))
+                .willReturn(TravelCursorPageResponse.from(List.of(), null));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/travels/recent/cursor")
+                .param("size", "100000"));
+
+        // then
+        resultActions.andExpect(status().isOk());
+        then(travelHomeService).should(times(1)).getTravelsSortedByCreatedAtWithCursor(null, 50, 2);
+    }
+
     private TravelRecentDto createRecentDto(int travelNumber, int userNumber, LocalDateTime createdAt, boolean bookmarked) {
         return TravelRecentDto.builder()
                 .travelNumber(travelNumber)
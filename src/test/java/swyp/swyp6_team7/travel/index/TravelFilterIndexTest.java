@@ -0,0 +1,69 @@
+package swyp.swyp6_team7.travel.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import swyp.swyp6_team7.location.domain.LocationType;
+import swyp.swyp6_team7.travel.domain.GenderType;
+import swyp.swyp6_team7.travel.domain.PeriodType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static swyp.swyp6_team7.travel.domain.TravelStatus.*;
+
+class TravelFilterIndexTest {
+
+    @DisplayName("filter: 같은 필터 안에서는 하나라도 일치하고, 서로 다른 필터는 모두 일치하는 여행 번호를 가져온다.")
+    @Test
+    void filter() {
+        // given
+        TravelFilterIndex index = new TravelFilterIndex();
+        index.put(1, IN_PROGRESS, GenderType.MIXED, PeriodType.ONE_WEEK, 2, LocationType.DOMESTIC);
+        index.put(2, IN_PROGRESS, GenderType.WOMAN_ONLY, PeriodType.ONE_WEEK, 4, LocationType.DOMESTIC);
+        index.put(3, CLOSED, GenderType.MAN_ONLY, PeriodType.TWO_WEEKS, 6, LocationType.INTERNATIONAL);
+        index.put(4, IN_PROGRESS, GenderType.MIXED, PeriodType.TWO_WEEKS, 3, LocationType.INTERNATIONAL);
+
+        // when, then
+        assertThat(index.filter(List.of(GenderType.MIXED, GenderType.WOMAN_ONLY), List.of(), List.of(), List.of()))
+                .containsExactly(1, 2, 4);
+        assertThat(index.filter(List.of(GenderType.MIXED), List.of(PeriodType.TWO_WEEKS), List.of(), List.of()))
+                .containsExactly(4);
+        assertThat(index.filter(List.of(), List.of(), List.of("3~4명", "5명 이상"), List.of(LocationType.INTERNATIONAL)))
+                .containsExactly(3, 4);
+    }
+
+    @DisplayName("filter: 필터가 비어 있거나 모든 값을 선택하면 해당 필터는 조건에서 제외한다.")
+    @Test
+    void filterWithoutCondition() {
+        // given
+        TravelFilterIndex index = new TravelFilterIndex();
+        index.put(1, IN_PROGRESS, GenderType.MIXED, PeriodType.ONE_WEEK, 2, LocationType.DOMESTIC);
+        index.put(2, IN_PROGRESS, GenderType.WOMAN_ONLY, PeriodType.MORE_THAN_MONTH, 5, LocationType.INTERNATIONAL);
+
+        // when, then
+        assertThat(index.filter(List.of(), List.of(), List.of(), List.of()))
+                .containsExactly(1, 2);
+        assertThat(index.filter(
+                List.of(GenderType.MIXED, GenderType.WOMAN_ONLY, GenderType.MAN_ONLY), List.of(),
+                List.of("2명", "3~4명", "5명 이상"), List.of()))
+                .containsExactly(1, 2);
+    }
+
+    @DisplayName("put: 검색 대상 상태가 아니게 된 여행은 색인에서 제거되고, 수정된 필터 값은 다시 반영된다.")
+    @Test
+    void putWithChangedTravel() {
+        // given
+        TravelFilterIndex index = new TravelFilterIndex();
+        index.put(1, IN_PROGRESS, GenderType.MIXED, PeriodType.ONE_WEEK, 2, LocationType.DOMESTIC);
+        index.put(2, IN_PROGRESS, GenderType.MIXED, PeriodType.ONE_WEEK, 2, LocationType.DOMESTIC);
+
+        // when
+        index.put(1, DELETED, GenderType.MIXED, PeriodType.ONE_WEEK, 2, LocationType.DOMESTIC);
+        index.put(2, IN_PROGRESS, GenderType.WOMAN_ONLY, PeriodType.ONE_WEEK, 2, LocationType.DOMESTIC);
+
+        // then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.filter(List.of(GenderType.MIXED), List.of(), List.of(), List.of())).isEmpty();
+        assertThat(index.filter(List.of(GenderType.WOMAN_ONLY), List.of(), List.of(), List.of())).containsExactly(2);
+    }
+}
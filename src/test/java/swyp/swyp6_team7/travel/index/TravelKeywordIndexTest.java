@@ -0,0 +1,73 @@
+package swyp.swyp6_team7.travel.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TravelKeywordIndexTest {
+
+    @DisplayName("search: 제목, 여행지 이름, 태그 이름에 keyword가 포함된 여행 번호를 가져올 수 있다.")
+    @Test
+    void search() {
+        // given
+        TravelKeywordIndex index = new TravelKeywordIndex();
+        index.put(1, "서울 맛집 여행", "Seoul", List.of("쇼핑"));
+        index.put(2, "부산 바다 여행", "Busan", List.of("자연"));
+        index.put(3, "제주도 한 달 살기", "Jeju", List.of("쇼핑", "자연"));
+
+        // when, then
+        assertThat(index.search("여행")).containsExactlyInAnyOrder(1, 2);
+        assertThat(index.search("seoul")).containsExactly(1);
+        assertThat(index.search("쇼핑")).containsExactlyInAnyOrder(1, 3);
+        assertThat(index.search("도쿄")).isEmpty();
+    }
+
+    @DisplayName("search: 공백은 무시하고, 마지막 글자는 받침 없이 입력해도 일치한다.")
+    @Test
+    void searchWithSpaceAndIncompleteSyllable() {
+        // given
+        TravelKeywordIndex index = new TravelKeywordIndex();
+        index.put(1, "서울맛집 여행", "Seoul", List.of());
+
+        // when, then
+        assertThat(index.search("서울 맛집")).containsExactly(1);
+        assertThat(index.search("서우")).containsExactly(1);
+        assertThat(index.search("울맛")).containsExactly(1);
+    }
+
+    @DisplayName("search: 서로 다른 필드에 걸쳐 있는 keyword는 일치하지 않는다.")
+    @Test
+    void searchAcrossFields() {
+        // given
+        TravelKeywordIndex index = new TravelKeywordIndex();
+        index.put(1, "서울", "부산", List.of());
+
+        // when, then
+        assertThat(index.search("울부")).isEmpty();
+    }
+
+    @DisplayName("put, remove: 여행 정보가 수정되거나 삭제되면 색인에 반영된다.")
+    @Test
+    void putAndRemove() {
+        // given
+        TravelKeywordIndex index = new TravelKeywordIndex();
+        index.put(1, "서울 여행", "Seoul", List.of());
+
+        // when
+        index.put(1, "부산 여행", "Busan", List.of());
+
+        // then
+        assertThat(index.search("서울")).isEmpty();
+        assertThat(index.search("부산")).containsExactly(1);
+
+        // when
+        index.remove(1);
+
+        // then
+        assertThat(index.search("부산")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
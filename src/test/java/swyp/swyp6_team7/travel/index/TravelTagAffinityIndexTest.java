@@ -0,0 +1,100 @@
+package swyp.swyp6_team7.travel.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import swyp.swyp6_team7.travel.index.TravelTagAffinityIndex.Match;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class TravelTagAffinityIndexTest {
+
+    private static final LocalDate REQUEST_DATE = LocalDate.of(2024, 11, 6);
+    private static final LocalDate START_DATE = LocalDate.of(2024, 11, 20);
+
+    @DisplayName("findTop: 선호 태그 일치 개수가 많은 순서, 제목 사전순으로 상위 limit개의 여행을 가져온다.")
+    @Test
+    void findTop() {
+        // given
+        TravelTagAffinityIndex index = new TravelTagAffinityIndex();
+        index.put(1, "다", START_DATE, List.of("쇼핑"));
+        index.put(2, "나", START_DATE, List.of("쇼핑", "자연", "먹방"));
+        index.put(3, "가", START_DATE, List.of());
+        index.put(4, "라", START_DATE, List.of("자연", "먹방"));
+        index.put(5, "가", START_DATE, List.of("즉흥", "자연"));
+
+        // when
+        List<Match> result = index.findTop(List.of("자연", "먹방", "쇼핑"), REQUEST_DATE, 4, null);
+
+        // then
+        assertThat(result)
+                .extracting("travelNumber", "score")
+                .containsExactly(
+                        tuple(2, 3),
+                        tuple(4, 2),
+                        tuple(5, 1),
+                        tuple(1, 1)
+                );
+    }
+
+    @DisplayName("findTop: after가 주어지면 해당 여행 다음 순서부터 가져온다.")
+    @Test
+    void findTopWithAfter() {
+        // given
+        TravelTagAffinityIndex index = new TravelTagAffinityIndex();
+        index.put(1, "가", START_DATE, List.of("쇼핑"));
+        index.put(2, "가", START_DATE, List.of("쇼핑"));
+        index.put(3, "나", START_DATE, List.of("쇼핑"));
+        index.put(4, "가", START_DATE, List.of());
+
+        // when
+        List<Match> result = index.findTop(List.of("쇼핑"), REQUEST_DATE, 5, new Match(1, "가", 1));
+
+        // then
+        assertThat(result)
+                .extracting("travelNumber")
+                .containsExactly(2, 3, 4);
+    }
+
+    @DisplayName("findTop: 요청 날짜 이후에 시작하지 않는 여행과 색인에서 제거된 여행은 제외한다.")
+    @Test
+    void findTopExcludesStartedAndRemovedTravels() {
+        // given
+        TravelTagAffinityIndex index = new TravelTagAffinityIndex();
+        index.put(1, "가", START_DATE, List.of("쇼핑"));
+        index.put(2, "나", REQUEST_DATE, List.of("쇼핑"));
+        index.put(3, "다", START_DATE, List.of("쇼핑"));
+        index.remove(3);
+
+        // when
+        List<Match> result = index.findTop(List.of("쇼핑"), REQUEST_DATE, 5, null);
+
+        // then
+        assertThat(result)
+                .extracting("travelNumber")
+                .containsExactly(1);
+        assertThat(index.count(REQUEST_DATE)).isEqualTo(1);
+    }
+
+    @DisplayName("put: 같은 여행을 다시 추가하면 태그 비트셋을 새로운 태그 목록으로 교체한다.")
+    @Test
+    void putWithUpdatedTags() {
+        // given
+        TravelTagAffinityIndex index = new TravelTagAffinityIndex();
+        index.put(1, "가", START_DATE, List.of("쇼핑"));
+
+        // when
+        index.put(1, "가", START_DATE, List.of("자연", "먹방"));
+
+        // then
+        assertThat(index.findTop(List.of("쇼핑"), REQUEST_DATE, 5, null))
+                .extracting("travelNumber", "score")
+                .containsExactly(tuple(1, 0));
+        assertThat(index.findTop(List.of("자연", "먹방"), REQUEST_DATE, 5, null))
+                .extracting("travelNumber", "score")
+                .containsExactly(tuple(1, 2));
+    }
+}
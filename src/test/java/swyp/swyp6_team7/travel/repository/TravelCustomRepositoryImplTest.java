@@ -27,13 +27,18 @@ import swyp.swyp6_team7.tag.repository.TravelTagRepository;
 import swyp.swyp6_team7.travel.domain.GenderType;
 import swyp.swyp6_team7.travel.domain.PeriodType;
 import swyp.swyp6_team7.travel.domain.Travel;
+import swyp.swyp6_team7.travel.domain.TravelStats;
 import swyp.swyp6_team7.travel.domain.TravelStatus;
 import swyp.swyp6_team7.travel.dto.TravelDetailDto;
 import swyp.swyp6_team7.travel.dto.TravelRecommendForMemberDto;
 import swyp.swyp6_team7.travel.dto.TravelRecommendForNonMemberDto;
 import swyp.swyp6_team7.travel.dto.TravelSearchCondition;
+import swyp.swyp6_team7.travel.dto.response.TravelCursorPageResponse;
+import swyp.swyp6_team7.travel.dto.response.TravelListResponseDto;
 import swyp.swyp6_team7.travel.dto.response.TravelRecentDto;
 import swyp.swyp6_team7.travel.dto.response.TravelSearchDto;
+import swyp.swyp6_team7.travel.dto.response.TravelSearchFacetResponse;
+import swyp.swyp6_team7.travel.util.TravelCursor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -42,6 +47,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 import static swyp.swyp6_team7.travel.domain.TravelStatus.*;
 
@@ -63,6 +69,8 @@ class TravelCustomRepositoryImplTest {
     private CountryRepository countryRepository;
     @Autowired
     private BookmarkRepository bookmarkRepository;
+    @Autowired
+    private TravelStatsRepository travelStatsRepository;
 
 
     @DisplayName("getDetailsByNumber: 여행 번호가 주어지면 여행의 상세 정보를 가져올 수 있다.")
@@ -233,6 +241,10 @@ class TravelCustomRepositoryImplTest {
         Bookmark bookmark2 = createBookmark(travel2.getNumber(), createdAt);
         Bookmark bookmark3 = createBookmark(travel2.getNumber(), createdAt);
         bookmarkRepository.saveAll(List.of(bookmark1, bookmark2, bookmark3));
+        travelStatsRepository.saveAll(List.of(
+                createTravelStats(travel1.getNumber(), 1),
+                createTravelStats(travel2.getNumber(), 2)
+        ));
 
         LocalDate requestDate = LocalDate.of(2024, 11, 8);
 
@@ -270,6 +282,10 @@ class TravelCustomRepositoryImplTest {
         Bookmark bookmark1 = createBookmark(travel1.getNumber(), createdAt);
         Bookmark bookmark2 = createBookmark(travel2.getNumber(), createdAt);
         bookmarkRepository.saveAll(List.of(bookmark1, bookmark2));
+        travelStatsRepository.saveAll(List.of(
+                createTravelStats(travel1.getNumber(), 1),
+                createTravelStats(travel2.getNumber(), 1)
+        ));
 
         LocalDate requestDate = LocalDate.of(2024, 11, 8);
 
@@ -313,6 +329,10 @@ class TravelCustomRepositoryImplTest {
         Bookmark bookmark2 = createBookmark(travel2.getNumber(), createdAt);
         Bookmark bookmark3 = createBookmark(travel2.getNumber(), createdAt);
         bookmarkRepository.saveAll(List.of(bookmark1, bookmark2, bookmark3));
+        travelStatsRepository.saveAll(List.of(
+                createTravelStats(travel1.getNumber(), 1),
+                createTravelStats(travel2.getNumber(), 2)
+        ));
 
         LocalDate requestDate = LocalDate.of(2024, 11, 24);
 
@@ -697,6 +717,10 @@ class TravelCustomRepositoryImplTest {
         Bookmark bookmark2 = createBookmark(travel3.getNumber(), createdAt);
         Bookmark bookmark3 = createBookmark(travel3.getNumber(), createdAt);
         bookmarkRepository.saveAll(List.of(bookmark1, bookmark2, bookmark3));
+        travelStatsRepository.saveAll(List.of(
+                createTravelStats(travel2.getNumber(), 1),
+                createTravelStats(travel3.getNumber(), 2)
+        ));
 
         TravelSearchCondition condition = TravelSearchCondition.builder()
                 .pageRequest(PageRequest.of(0, 5))
@@ -734,6 +758,11 @@ class TravelCustomRepositoryImplTest {
         Bookmark bookmark2 = createBookmark(travel2.getNumber(), createdAt);
         Bookmark bookmark3 = createBookmark(travel3.getNumber(), createdAt);
         bookmarkRepository.saveAll(List.of(bookmark1, bookmark2, bookmark3));
+        travelStatsRepository.saveAll(List.of(
+                createTravelStats(travel1.getNumber(), 1),
+                createTravelStats(travel2.getNumber(), 1),
+                createTravelStats(travel3.getNumber(), 1)
+        ));
 
         TravelSearchCondition condition = TravelSearchCondition.builder()
                 .pageRequest(PageRequest.of(0, 5))
@@ -750,6 +779,253 @@ class TravelCustomRepositoryImplTest {
     }
 
 
+    @DisplayName("search: 검색 결과가 세 개 이상이어도 정렬 순서대로 태그와 주최자 정보를 함께 가져온다.")
+    @Test
+    void searchKeepsSortedOrderWhenHydrating() {
+        // given
+        Users host = userRepository.save(createHostUser());
+        List<Tag> tags = tagRepository.saveAll(Arrays.asList(Tag.of("쇼핑"), Tag.of("자연")));
+        Country country = createCountry("대한민국", Continent.ASIA);
+        Location location = locationRepository.save(createLocation("Seoul", LocationType.DOMESTIC, country));
+        Travel travel1 = createTravel(
+                host.getUserNumber(), location, "여행", 1, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>());
+        Travel travel2 = createTravel(
+                host.getUserNumber(), location, "여행", 4, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>(tags));
+        Travel travel3 = createTravel(
+                host.getUserNumber(), location, "여행", 2, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>());
+        Travel travel4 = createTravel(
+                host.getUserNumber(), location, "여행", 3, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>(tags.subList(1, 2)));
+        travelRepository.saveAll(List.of(travel1, travel2, travel3, travel4));
+
+        TravelSearchCondition condition = TravelSearchCondition.builder()
+                .pageRequest(PageRequest.of(0, 5))
+                .sortingType("추천순")
+                .build();
+
+        // when
+        Page<TravelSearchDto> results = travelRepository.search(condition);
+
+        // then
+        assertThat(results.getContent()).hasSize(4)
+                .extracting("travelNumber", "userName", "tags")
+                .containsExactly(
+                        tuple(travel2.getNumber(), "주최자 이름", List.of("쇼핑", "자연")),
+                        tuple(travel4.getNumber(), "주최자 이름", List.of("자연")),
+                        tuple(travel3.getNumber(), "주최자 이름", List.of()),
+                        tuple(travel1.getNumber(), "주최자 이름", List.of())
+                );
+    }
+
+    @DisplayName("search: 검색어 후보가 많아 여러 구간으로 나누어 조회해도 전체 정렬 순서대로 페이지와 전체 개수를 가져온다.")
+    @Test
+    void searchWithManyCandidates() {
+        // given: 후보 5,001개 중 travel1은 첫 번째 구간, travel2와 travel3은 두 번째 구간에 속한다
+        Country country = createCountry("대한민국", Continent.ASIA);
+        Location location = locationRepository.save(createLocation("Seoul", LocationType.DOMESTIC, country));
+        Travel travel1 = createTravel(
+                1, location, "여행", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>());
+        Travel travel2 = createTravel(
+                1, location, "여행", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>());
+        Travel travel3 = createTravel(
+                1, location, "여행", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>());
+        travelRepository.saveAll(List.of(travel1, travel2, travel3));
+
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 1; i <= 4_999; i++) {
+            candidates.add(-i);
+        }
+        candidates.addAll(List.of(travel1.getNumber(), travel2.getNumber(), travel3.getNumber()));
+
+        TravelSearchCondition firstPage = TravelSearchCondition.builder()
+                .pageRequest(PageRequest.of(0, 2))
+                .keyword("여행")
+                .build();
+        firstPage.updateKeywordCandidates(candidates);
+        TravelSearchCondition secondPage = TravelSearchCondition.builder()
+                .pageRequest(PageRequest.of(1, 2))
+                .keyword("여행")
+                .build();
+        secondPage.updateKeywordCandidates(candidates);
+
+        // when
+        Page<TravelSearchDto> firstResults = travelRepository.search(firstPage);
+        Page<TravelSearchDto> secondResults = travelRepository.search(secondPage);
+
+        // then
+        assertThat(firstResults.getTotalElements()).isEqualTo(3);
+        assertThat(firstResults.getContent())
+                .extracting("travelNumber")
+                .containsExactly(travel3.getNumber(), travel2.getNumber());
+        assertThat(secondResults.getContent())
+                .extracting("travelNumber")
+                .containsExactly(travel1.getNumber());
+    }
+
+    @DisplayName("searchWithCursor: 검색어 후보가 많아 여러 구간으로 나누어 조회해도 커서 이후의 여행을 전체 정렬 순서대로 가져온다.")
+    @Test
+    void searchWithCursorWithManyCandidates() {
+        // given
+        Country country = createCountry("대한민국", Continent.ASIA);
+        Location location = locationRepository.save(createLocation("Seoul", LocationType.DOMESTIC, country));
+        Travel travel1 = createTravel(
+                1, location, "여행", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>());
+        Travel travel2 = createTravel(
+                1, location, "여행", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>());
+        Travel travel3 = createTravel(
+                1, location, "여행", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>());
+        travelRepository.saveAll(List.of(travel1, travel2, travel3));
+
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 1; i <= 4_999; i++) {
+            candidates.add(-i);
+        }
+        candidates.addAll(List.of(travel1.getNumber(), travel2.getNumber(), travel3.getNumber()));
+
+        TravelSearchCondition condition = TravelSearchCondition.builder()
+                .pageRequest(PageRequest.of(0, 2))
+                .keyword("여행")
+                .build();
+        condition.updateKeywordCandidates(candidates);
+
+        // when
+        TravelCursorPageResponse<TravelSearchDto> firstPage = travelRepository.searchWithCursor(condition, null);
+        TravelCursorPageResponse<TravelSearchDto> secondPage = travelRepository.searchWithCursor(
+                condition, TravelCursor.decode(firstPage.getNextCursor()));
+
+        // then
+        assertThat(firstPage.getContent())
+                .extracting("travelNumber")
+                .containsExactly(travel3.getNumber(), travel2.getNumber());
+        assertThat(secondPage.getContent())
+                .extracting("travelNumber")
+                .containsExactly(travel1.getNumber());
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @DisplayName("countSearchFacets: 필터별 개수는 해당 필터의 선택 값만 제외한 검색 조건으로 집계한다.")
+    @Test
+    void countSearchFacets() {
+        // given
+        List<Tag> tags = tagRepository.saveAll(Arrays.asList(Tag.of("쇼핑"), Tag.of("자연")));
+        Country country = createCountry("대한민국", Continent.ASIA);
+        Location location = locationRepository.save(createLocation("Seoul", LocationType.DOMESTIC, country));
+        travelRepository.saveAll(List.of(
+                createTravel(1, location, "여행", 0, 2, GenderType.MIXED,
+                        PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>(tags)),
+                createTravel(1, location, "여행", 0, 4, GenderType.WOMAN_ONLY,
+                        PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>(tags.subList(1, 2))),
+                createTravel(1, location, "여행", 0, 6, GenderType.MIXED,
+                        PeriodType.TWO_WEEKS, CLOSED, new ArrayList<>(tags.subList(1, 2))),
+                createTravel(1, location, "여행", 0, 2, GenderType.MIXED,
+                        PeriodType.ONE_WEEK, DELETED, new ArrayList<>(tags.subList(1, 2))),
+                createTravel(1, location, "여행", 0, 2, GenderType.MIXED,
+                        PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>(tags.subList(0, 1)))
+        ));
+
+        TravelSearchCondition condition = TravelSearchCondition.builder()
+                .genderTypes(List.of("모두"))
+                .tags(List.of("자연"))
+                .build();
+
+        // when
+        TravelSearchFacetResponse result = travelRepository.countSearchFacets(condition, 10).toResponse(10);
+
+        // then: 성별은 태그 조건만, 태그는 성별 조건만 적용한 개수이다
+        assertThat(result.getTotalCount()).isEqualTo(2);
+        assertThat(result.getGender())
+                .containsExactly(entry("모두", 2L), entry("여자만", 1L), entry("남자만", 0L));
+        assertThat(result.getPeriod())
+                .containsEntry("일주일 이하", 1L)
+                .containsEntry("1~2주", 1L);
+        assertThat(result.getPerson())
+                .containsExactly(entry("2명", 1L), entry("3~4명", 0L), entry("5명 이상", 1L));
+        assertThat(result.getLocation())
+                .containsExactly(entry("국내", 2L), entry("해외", 0L));
+        assertThat(result.getTags())
+                .containsExactly(entry("쇼핑", 2L), entry("자연", 2L));
+    }
+
+    @DisplayName("findAllCreatedByUser: 사용자가 만든 여행 중 삭제되지 않은 여행을 최신 등록순으로 페이징해 가져온다.")
+    @Test
+    void findAllCreatedByUser() {
+        // given
+        Users host = userRepository.save(createHostUser());
+        List<Tag> tags = tagRepository.saveAll(Arrays.asList(Tag.of("쇼핑"), Tag.of("자연")));
+        Country country = createCountry("대한민국", Continent.ASIA);
+        Location location = locationRepository.save(createLocation("Seoul", LocationType.DOMESTIC, country));
+        Travel travel1 = travelRepository.save(createTravel(
+                host.getUserNumber(), location, "여행1", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>(tags)));
+        Travel travel2 = travelRepository.save(createTravel(
+                host.getUserNumber(), location, "여행2", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, DELETED, new ArrayList<>()));
+        Travel travel3 = travelRepository.save(createTravel(
+                host.getUserNumber(), location, "여행3", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, CLOSED, new ArrayList<>()));
+        Travel travel4 = travelRepository.save(createTravel(
+                host.getUserNumber(), location, "여행4", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>()));
+        bookmarkRepository.save(createBookmark(travel1.getNumber(), LocalDateTime.now()));
+
+        // when
+        Page<TravelListResponseDto> firstPage = travelRepository.findAllCreatedByUser(host.getUserNumber(), PageRequest.of(0, 2));
+        Page<TravelListResponseDto> secondPage = travelRepository.findAllCreatedByUser(host.getUserNumber(), PageRequest.of(1, 2));
+
+        // then
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getContent())
+                .extracting("travelNumber", "userName", "bookmarked")
+                .containsExactly(
+                        tuple(travel4.getNumber(), "주최자 이름", false),
+                        tuple(travel3.getNumber(), "주최자 이름", false)
+                );
+        assertThat(secondPage.getContent())
+                .extracting("travelNumber", "tags", "bookmarked")
+                .containsExactly(
+                        tuple(travel1.getNumber(), List.of("쇼핑", "자연"), true)
+                );
+    }
+
+    @DisplayName("findInProgressListByNumbers: 주어진 순서대로 여행 목록을 가져오며, 진행 중인 여행만 포함한다.")
+    @Test
+    void findInProgressListByNumbers() {
+        // given
+        Users host = userRepository.save(createHostUser());
+        Country country = createCountry("대한민국", Continent.ASIA);
+        Location location = locationRepository.save(createLocation("Seoul", LocationType.DOMESTIC, country));
+        Travel travel1 = travelRepository.save(createTravel(
+                host.getUserNumber(), location, "여행1", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>()));
+        Travel travel2 = travelRepository.save(createTravel(
+                host.getUserNumber(), location, "여행2", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, DELETED, new ArrayList<>()));
+        Travel travel3 = travelRepository.save(createTravel(
+                host.getUserNumber(), location, "여행3", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, CLOSED, new ArrayList<>()));
+        Travel travel4 = travelRepository.save(createTravel(
+                host.getUserNumber(), location, "여행4", 0, 0, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, new ArrayList<>()));
+
+        // when
+        List<TravelListResponseDto> result = travelRepository.findInProgressListByNumbers(null, List.of(
+                travel4.getNumber(), travel2.getNumber(), travel3.getNumber(), travel1.getNumber(), 9999));
+
+        // then
+        assertThat(result)
+                .extracting("travelNumber")
+                .containsExactly(travel4.getNumber(), travel1.getNumber());
+    }
+
     private Users createHostUser() {
         return Users.builder()
                 .userNumber(1)
@@ -827,5 +1103,11 @@ class TravelCustomRepositoryImplTest {
                 .build();
     }
 
-}
+    private TravelStats createTravelStats(int travelNumber, int bookmarkCount) {
+        return TravelStats.builder()
+                .travelNumber(travelNumber)
+                .bookmarkCount(bookmarkCount)
+                .build();
+    }
 
+}
@@ -0,0 +1,185 @@
+package swyp.swyp6_team7.travel.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import swyp.swyp6_team7.bookmark.entity.Bookmark;
+import swyp.swyp6_team7.bookmark.repository.BookmarkRepository;
+import swyp.swyp6_team7.config.DataConfig;
+import swyp.swyp6_team7.enrollment.domain.Enrollment;
+import swyp.swyp6_team7.enrollment.domain.EnrollmentStatus;
+import swyp.swyp6_team7.enrollment.repository.EnrollmentRepository;
+import swyp.swyp6_team7.location.domain.Continent;
+import swyp.swyp6_team7.location.domain.Country;
+import swyp.swyp6_team7.location.domain.Location;
+import swyp.swyp6_team7.location.domain.LocationType;
+import swyp.swyp6_team7.location.repository.CountryRepository;
+import swyp.swyp6_team7.location.repository.LocationRepository;
+import swyp.swyp6_team7.travel.domain.GenderType;
+import swyp.swyp6_team7.travel.domain.PeriodType;
+import swyp.swyp6_team7.travel.domain.Travel;
+import swyp.swyp6_team7.travel.domain.TravelStats;
+import swyp.swyp6_team7.travel.domain.TravelStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Import(DataConfig.class)
+@DataJpaTest
+class TravelStatsRepositoryTest {
+
+    @Autowired
+    private TravelStatsRepository travelStatsRepository;
+    @Autowired
+    private TravelRepository travelRepository;
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    @Autowired
+    private LocationRepository locationRepository;
+    @Autowired
+    private CountryRepository countryRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+
+    @DisplayName("addBookmarkCount: 북마크 수를 증감하며, 0보다 작아지지 않는다.")
+    @Test
+    void addBookmarkCount() {
+        // given
+        travelStatsRepository.save(TravelStats.empty(1));
+
+        // when
+        int increased = travelStatsRepository.addBookmarkCount(1, 1);
+        travelStatsRepository.addBookmarkCount(1, -1);
+        travelStatsRepository.addBookmarkCount(1, -1);
+        entityManager.clear();
+
+        // then
+        assertThat(increased).isEqualTo(1);
+        assertThat(travelStatsRepository.findById(1))
+                .get()
+                .extracting("bookmarkCount")
+                .isEqualTo(0);
+    }
+
+    @DisplayName("addBookmarkCount: 집계 row가 없으면 갱신된 row 수로 0을 반환한다.")
+    @Test
+    void addBookmarkCountWhenStatsNotExist() {
+        // when
+        int result = travelStatsRepository.addBookmarkCount(1, 1);
+
+        // then
+        assertThat(result).isZero();
+    }
+
+    @DisplayName("insertIfAbsent: 집계 row가 없으면 생성하고, 이미 있으면 기존 값을 유지한 채 0을 반환한다.")
+    @Test
+    void insertIfAbsent() {
+        // when
+        int inserted = travelStatsRepository.insertIfAbsent(1, 2, 1, 3, 1, 10);
+        int ignored = travelStatsRepository.insertIfAbsent(1, 0, 0, 0, 0, 0);
+        entityManager.clear();
+
+        // then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(ignored).isZero();
+        assertThat(travelStatsRepository.findById(1))
+                .get()
+                .extracting("bookmarkCount", "companionCount", "enrollmentCount", "pendingEnrollmentCount", "viewCount")
+                .containsExactly(2, 1, 3, 1, 10);
+    }
+
+    @DisplayName("overwriteCounts: 저장된 값이 조회한 값과 같을 때만 재집계 값으로 덮어쓴다.")
+    @Test
+    void overwriteCounts() {
+        // given
+        travelStatsRepository.insertIfAbsent(1, 2, 0, 0, 0, 10);
+        travelStatsRepository.addBookmarkCount(1, 1);
+
+        // when
+        int staleResult = travelStatsRepository.overwriteCounts(1, 5, 0, 0, 0, 10, 2, 0, 0, 0, 10);
+        int result = travelStatsRepository.overwriteCounts(1, 5, 0, 0, 0, 10, 3, 0, 0, 0, 10);
+        entityManager.clear();
+
+        // then
+        assertThat(staleResult).isZero();
+        assertThat(result).isEqualTo(1);
+        assertThat(travelStatsRepository.findById(1))
+                .get()
+                .extracting("bookmarkCount")
+                .isEqualTo(5);
+    }
+
+    @DisplayName("aggregateByTravelNumbers: 원본 테이블에서 여행별 북마크, 신청, 조회수를 다시 집계한다.")
+    @Test
+    void aggregateByTravelNumbers() {
+        // given
+        Location location = locationRepository.save(createLocation());
+        Travel travel1 = travelRepository.save(createTravel(location, 5));
+        Travel travel2 = travelRepository.save(createTravel(location, 0));
+
+        LocalDateTime bookmarkedAt = LocalDateTime.of(2024, 11, 6, 12, 0);
+        bookmarkRepository.saveAll(List.of(
+                new Bookmark(1, travel1.getNumber(), bookmarkedAt),
+                new Bookmark(2, travel1.getNumber(), bookmarkedAt)
+        ));
+        enrollmentRepository.saveAll(List.of(
+                createEnrollment(2, travel1.getNumber(), EnrollmentStatus.PENDING),
+                createEnrollment(3, travel1.getNumber(), EnrollmentStatus.REJECTED)
+        ));
+
+        // when
+        List<TravelStats> result = travelStatsRepository.aggregateByTravelNumbers(
+                List.of(travel1.getNumber(), travel2.getNumber(), 9999));
+
+        // then
+        assertThat(result).hasSize(2)
+                .extracting("travelNumber", "bookmarkCount", "companionCount", "enrollmentCount", "pendingEnrollmentCount", "viewCount")
+                .containsExactlyInAnyOrder(
+                        tuple(travel1.getNumber(), 2, 0, 2, 1, 5),
+                        tuple(travel2.getNumber(), 0, 0, 0, 0, 0)
+                );
+    }
+
+    private Location createLocation() {
+        Country country = countryRepository.save(Country.builder()
+                .countryName("대한민국")
+                .continent(Continent.ASIA)
+                .build());
+        return Location.builder()
+                .locationName("Seoul")
+                .locationType(LocationType.DOMESTIC)
+                .country(country)
+                .build();
+    }
+
+    private Travel createTravel(Location location, int viewCount) {
+        return Travel.builder()
+                .userNumber(1)
+                .location(location)
+                .startDate(LocalDate.of(2024, 11, 22))
+                .endDate(LocalDate.of(2024, 11, 28))
+                .viewCount(viewCount)
+                .genderType(GenderType.MIXED)
+                .periodType(PeriodType.ONE_WEEK)
+                .status(TravelStatus.IN_PROGRESS)
+                .build();
+    }
+
+    private Enrollment createEnrollment(int userNumber, int travelNumber, EnrollmentStatus status) {
+        return Enrollment.builder()
+                .userNumber(userNumber)
+                .travelNumber(travelNumber)
+                .status(status)
+                .build();
+    }
+}
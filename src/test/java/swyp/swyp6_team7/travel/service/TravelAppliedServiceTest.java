@@ -7,6 +7,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import swyp.swyp6_team7.bookmark.repository.BookmarkRepository;
@@ -42,6 +43,8 @@ public class TravelAppliedServiceTest {
     private CompanionRepository companionRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private TravelStatsService travelStatsService;
     @InjectMocks
     private TravelAppliedService travelAppliedService;
     @BeforeEach
@@ -84,24 +87,14 @@ public class TravelAppliedServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Users host = new Users(); // 사용자 객체 초기화
-        host.setUserNumber(2);
-
-
-        Companion companion1 = Companion.builder()
-                .travel(travel1)
-                .build();
-
-        Companion companion2 = Companion.builder()
-                .travel(travel2)
-                .build();
-
-        List<Companion> companions = Arrays.asList(companion1, companion2);
+        List<TravelListResponseDto> dtos = Arrays.asList(
+                TravelListResponseDto.fromEntity(travel1, Users.builder().userNumber(2).userName("host").build(), 1, false),
+                TravelListResponseDto.fromEntity(travel2, Users.builder().userNumber(2).userName("host").build(), 1, false)
+        );
 
         // 목 객체 행동 정의
-        when(companionRepository.findByUserNumber(userNumber)).thenReturn(companions);
-        when(userRepository.findByUserNumber(anyInt())).thenReturn(Optional.of(host));
-        when(bookmarkRepository.existsByUserNumberAndTravelNumber(anyInt(), anyInt())).thenReturn(false);
+        when(travelRepository.findAllAppliedByUser(userNumber, pageable))
+                .thenReturn(new PageImpl<>(dtos, pageable, dtos.size()));
 
         // When
         Page<TravelListResponseDto> result = travelAppliedService.getAppliedTripsByUser(userNumber, pageable);
@@ -109,9 +102,12 @@ public class TravelAppliedServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(2, result.getTotalElements()); // 총 2개의 여행이 반환되는지 확인
-        verify(companionRepository, times(1)).findByUserNumber(userNumber);
-        verify(userRepository, times(2)).findByUserNumber(anyInt());
-        verify(bookmarkRepository, times(2)).existsByUserNumberAndTravelNumber(anyInt(), anyInt());
+        assertEquals("Title 1", result.getContent().get(0).getTitle());
+        assertEquals("host", result.getContent().get(0).getUserName());
+        verify(travelRepository, times(1)).findAllAppliedByUser(userNumber, pageable);
+        verify(companionRepository, never()).findByUserNumber(anyInt());
+        verify(userRepository, never()).findByUserNumber(anyInt());
+        verify(bookmarkRepository, never()).existsByUserNumberAndTravelNumber(anyInt(), anyInt());
     }
 
 
@@ -143,5 +139,6 @@ public class TravelAppliedServiceTest {
 
         // then
         verify(companionRepository, times(1)).deleteByTravelAndUserNumber(travel, userNumber);
+        verify(travelStatsService, times(1)).decreaseCompanionCount(travelNumber);
     }
 }
\ No newline at end of file
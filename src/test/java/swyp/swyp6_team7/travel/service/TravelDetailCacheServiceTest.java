@@ -0,0 +1,165 @@
+package swyp.swyp6_team7.travel.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import swyp.swyp6_team7.global.exception.MoingApplicationException;
+import swyp.swyp6_team7.travel.dto.TravelDetailLoginMemberRelatedDto;
+import swyp.swyp6_team7.travel.dto.response.TravelDetailResponse;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TravelDetailCacheServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ObjectMapper objectMapper;
+    private TravelDetailCacheService travelDetailCacheService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        travelDetailCacheService = new TravelDetailCacheService(redisTemplate, objectMapper, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("get: 캐시에 없으면 loader로 조회해 Redis에 저장하고, 이후 요청은 로컬 캐시에서 가져온다.")
+    @Test
+    void getWithLocalCache() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        TravelDetailResponse first = travelDetailCacheService.get(10, () -> {
+            loadCount.incrementAndGet();
+            return createResponse(10);
+        });
+        TravelDetailResponse second = travelDetailCacheService.get(10, () -> {
+            loadCount.incrementAndGet();
+            return createResponse(10);
+        });
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second.getTitle()).isEqualTo("여행 제목");
+        assertThat(second).isNotSameAs(first);
+        verify(valueOperations, times(1)).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @DisplayName("get: 로컬 캐시에 없고 Redis에 있으면 loader를 호출하지 않는다.")
+    @Test
+    void getWithRedisCache() throws Exception {
+        // given
+        String json = objectMapper.writeValueAsString(createResponse(10));
+        given(valueOperations.get("cache:travel:detail:10")).willReturn(json);
+
+        // when
+        TravelDetailResponse result = travelDetailCacheService.get(10, () -> {
+            throw new IllegalStateException("loader가 호출되면 안 됩니다.");
+        });
+
+        // then
+        assertThat(result)
+                .extracting("travelNumber", "title", "bookmarkCount", "tags")
+                .containsExactly(10, "여행 제목", 3, List.of("자연"));
+    }
+
+    @DisplayName("get: 반환된 응답에 로그인 사용자 정보를 채워도 캐시된 값에는 영향을 주지 않는다.")
+    @Test
+    void getReturnsCopy() {
+        // given
+        TravelDetailResponse first = travelDetailCacheService.get(10, () -> createResponse(10));
+
+        // when
+        first.updateLoginMemberRelatedInfo(new TravelDetailLoginMemberRelatedDto());
+        TravelDetailResponse second = travelDetailCacheService.get(10, () -> createResponse(10));
+
+        // then
+        assertThat(second.getLoginMemberRelatedInfo()).isNull();
+    }
+
+    @DisplayName("get: loader에서 예외가 발생하면 캐시하지 않는다.")
+    @Test
+    void getWhenLoaderThrows() {
+        // when
+        assertThatThrownBy(() -> travelDetailCacheService.get(10, () -> {
+            throw new MoingApplicationException("해당하는 여행을 찾을 수 없습니다.");
+        })).isInstanceOf(MoingApplicationException.class);
+
+        // then
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @DisplayName("evict: 캐시를 무효화하면 다음 요청에서 다시 조회한다.")
+    @Test
+    void evict() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        travelDetailCacheService.get(10, () -> {
+            loadCount.incrementAndGet();
+            return createResponse(10);
+        });
+
+        // when
+        travelDetailCacheService.evict(10);
+        travelDetailCacheService.get(10, () -> {
+            loadCount.incrementAndGet();
+            return createResponse(10);
+        });
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        verify(redisTemplate).delete("cache:travel:detail:10");
+    }
+
+    private TravelDetailResponse createResponse(int travelNumber) {
+        return TravelDetailResponse.builder()
+                .travelNumber(travelNumber)
+                .userNumber(1)
+                .userName("주최자 이름")
+                .userAgeGroup("20대")
+                .profileUrl("https://profile.url")
+                .createdAt(LocalDateTime.of(2024, 11, 6, 12, 0))
+                .startDate(LocalDate.of(2024, 11, 22))
+                .endDate(LocalDate.of(2024, 11, 28))
+                .location("Seoul")
+                .title("여행 제목")
+                .details("여행 내용")
+                .viewCount(5)
+                .enrollCount(2)
+                .bookmarkCount(3)
+                .nowPerson(1)
+                .maxPerson(4)
+                .genderType("MIXED")
+                .periodType("ONE_WEEK")
+                .tags(List.of("자연"))
+                .postStatus("IN_PROGRESS")
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package swyp.swyp6_team7.travel.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import swyp.swyp6_team7.companion.repository.CompanionRepository;
+import swyp.swyp6_team7.travel.domain.TravelStatus;
+import swyp.swyp6_team7.travel.dto.response.TravelListResponseDto;
+import swyp.swyp6_team7.travel.repository.TravelRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TravelHistoryExportServiceTest {
+
+    @InjectMocks
+    private TravelHistoryExportService travelHistoryExportService;
+
+    @Mock
+    private TravelRepository travelRepository;
+    @Mock
+    private CompanionRepository companionRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+
+    @DisplayName("export: 만든 여행, 참가한 여행을 한 줄에 하나씩 NDJSON으로 쓰고 여행 번호는 묶음 단위로 조립한다.")
+    @Test
+    void export() throws Exception {
+        // given
+        Integer userNumber = 1;
+        List<Integer> createdNumbers = IntStream.rangeClosed(1, 150).boxed().toList();
+        given(travelRepository.streamNumbersByUserNumber(userNumber, TravelStatus.DELETED))
+                .willReturn(createdNumbers.stream());
+        given(companionRepository.streamTravelNumbersByUserNumber(userNumber, TravelStatus.DELETED))
+                .willReturn(Stream.of(500));
+        given(travelRepository.findListByNumbers(eq(userNumber), anyList()))
+                .willAnswer(invocation -> {
+                    List<Integer> numbers = invocation.getArgument(1);
+                    List<TravelListResponseDto> travels = new ArrayList<>();
+                    for (Integer number : numbers) {
+                        travels.add(createTravelListResponse(number));
+                    }
+                    return travels;
+                });
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        travelHistoryExportService.export(userNumber, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(151);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("historyType").asText()).isEqualTo("CREATED");
+        assertThat(first.get("travelNumber").asInt()).isEqualTo(1);
+        assertThat(first.get("title").asText()).isEqualTo("여행 1");
+
+        JsonNode last = objectMapper.readTree(lines[150]);
+        assertThat(last.get("historyType").asText()).isEqualTo("APPLIED");
+        assertThat(last.get("travelNumber").asInt()).isEqualTo(500);
+
+        // 만든 여행 150개 = 100개 + 50개, 참가한 여행 1개
+        verify(travelRepository, times(3)).findListByNumbers(eq(userNumber), anyList());
+        verify(entityManager, times(3)).clear();
+    }
+
+    private TravelListResponseDto createTravelListResponse(int travelNumber) {
+        return TravelListResponseDto.builder()
+                .travelNumber(travelNumber)
+                .title("여행 " + travelNumber)
+                .location("Seoul")
+                .userNumber(2)
+                .userName("주최자")
+                .tags(List.of())
+                .nowPerson(1)
+                .maxPerson(4)
+                .createdAt(LocalDateTime.of(2024, 11, 1, 10, 0))
+                .isBookmarked(false)
+                .build();
+    }
+}
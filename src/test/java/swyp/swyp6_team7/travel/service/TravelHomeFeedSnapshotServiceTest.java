@@ -0,0 +1,125 @@
+package swyp.swyp6_team7.travel.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import swyp.swyp6_team7.travel.event.TravelStatsChangedEvent;
+import swyp.swyp6_team7.travel.feed.TravelHomeFeedSnapshot;
+import swyp.swyp6_team7.travel.repository.TravelRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TravelHomeFeedSnapshotServiceTest {
+
+    private static final String SNAPSHOT_KEY = "snapshot:travel:home:non-member";
+    private static final LocalDate TODAY = LocalDate.of(2024, 11, 6);
+
+    @Mock
+    private TravelRepository travelRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ObjectMapper objectMapper;
+    private TravelHomeFeedSnapshotService travelHomeFeedSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        Clock clock = Clock.fixed(Instant.parse("2024-11-06T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+        travelHomeFeedSnapshotService = new TravelHomeFeedSnapshotService(travelRepository, redisTemplate, objectMapper, clock);
+    }
+
+    @DisplayName("refresh: 정렬된 여행 번호 목록으로 스냅샷을 만들어 메모리와 Redis에 저장한다.")
+    @Test
+    void refresh() {
+        // given
+        given(travelRepository.findAllNumbersSortedByBookmarkNumberAndTitle(TODAY))
+                .willReturn(List.of(3, 1, 2));
+
+        // when
+        travelHomeFeedSnapshotService.refresh();
+
+        // then
+        assertThat(travelHomeFeedSnapshotService.getSnapshot(TODAY))
+                .hasValueSatisfying(snapshot -> {
+                    assertThat(snapshot.size()).isEqualTo(3);
+                    assertThat(snapshot.slice(1, 5)).containsExactly(1, 2);
+                });
+        verify(valueOperations).set(eq(SNAPSHOT_KEY), anyString(), any(Duration.class));
+    }
+
+    @DisplayName("getSnapshot: 스냅샷 기준 날짜와 요청 날짜가 다르면 스냅샷을 사용하지 않는다.")
+    @Test
+    void getSnapshotWithOtherDate() {
+        // given
+        given(travelRepository.findAllNumbersSortedByBookmarkNumberAndTitle(TODAY))
+                .willReturn(List.of(3, 1, 2));
+        travelHomeFeedSnapshotService.refresh();
+
+        // when, then
+        assertThat(travelHomeFeedSnapshotService.getSnapshot(TODAY.plusDays(1))).isEmpty();
+    }
+
+    @DisplayName("initialize: Redis에 유효한 스냅샷이 있다면 DB 조회 없이 사용한다.")
+    @Test
+    void initializeWithRedisSnapshot() throws Exception {
+        // given
+        TravelHomeFeedSnapshot stored = TravelHomeFeedSnapshot.of(TODAY, LocalDateTime.of(2024, 11, 6, 11, 59, 30), List.of(5, 4));
+        given(valueOperations.get(SNAPSHOT_KEY)).willReturn(objectMapper.writeValueAsString(stored));
+
+        // when
+        travelHomeFeedSnapshotService.initialize();
+
+        // then
+        verify(travelRepository, never()).findAllNumbersSortedByBookmarkNumberAndTitle(any());
+        assertThat(travelHomeFeedSnapshotService.getSnapshot(TODAY))
+                .hasValueSatisfying(snapshot -> assertThat(snapshot.slice(0, 5)).containsExactly(5, 4));
+    }
+
+    @DisplayName("refreshIfNeeded: 갱신 주기가 지나지 않았다면 변경 이벤트가 있을 때만 다시 계산한다.")
+    @Test
+    void refreshIfNeeded() {
+        // given
+        given(travelRepository.findAllNumbersSortedByBookmarkNumberAndTitle(TODAY))
+                .willReturn(List.of(1, 2), List.of(2, 1));
+        travelHomeFeedSnapshotService.refresh();
+
+        // when
+        travelHomeFeedSnapshotService.refreshIfNeeded();
+        travelHomeFeedSnapshotService.handleTravelStatsChanged(new TravelStatsChangedEvent(2));
+        travelHomeFeedSnapshotService.refreshIfNeeded();
+
+        // then
+        verify(travelRepository, times(2)).findAllNumbersSortedByBookmarkNumberAndTitle(TODAY);
+        assertThat(travelHomeFeedSnapshotService.getSnapshot(TODAY))
+                .hasValueSatisfying(snapshot -> assertThat(snapshot.slice(0, 5)).containsExactly(2, 1));
+    }
+}
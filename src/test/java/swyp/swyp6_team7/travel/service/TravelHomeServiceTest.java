@@ -71,6 +71,9 @@ class TravelHomeServiceTest {
     @MockBean
     private BookmarkService bookmarkService;
 
+    @MockBean
+    private TravelTagAffinityIndexService travelTagAffinityIndexService;
+
     @SpyBean
     private Clock clockMock;
 
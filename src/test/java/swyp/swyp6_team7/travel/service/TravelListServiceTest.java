@@ -13,19 +13,17 @@ import org.springframework.data.domain.Pageable;
 import swyp.swyp6_team7.location.domain.Location;
 import swyp.swyp6_team7.location.domain.LocationType;
 import swyp.swyp6_team7.member.entity.Users;
-import swyp.swyp6_team7.member.repository.UserRepository;
 import swyp.swyp6_team7.travel.domain.Travel;
+import swyp.swyp6_team7.travel.domain.TravelStatus;
 import swyp.swyp6_team7.travel.dto.response.TravelListResponseDto;
 import swyp.swyp6_team7.travel.repository.TravelRepository;
 import swyp.swyp6_team7.tag.domain.Tag;
 import swyp.swyp6_team7.tag.domain.TravelTag;
-import swyp.swyp6_team7.bookmark.repository.BookmarkRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -36,12 +34,6 @@ class TravelListServiceTest {
     @Mock
     private TravelRepository travelRepository;
 
-    @Mock
-    private UserRepository userRepository;
-
-    @Mock
-    private BookmarkRepository bookmarkRepository;  // 추가된 부분
-
     @InjectMocks
     private TravelListService travelListService;
 
@@ -118,9 +110,7 @@ class TravelListServiceTest {
 
 
         // When
-        when(travelRepository.findByUserNumber(userNumber)).thenReturn(travels);
-        when(userRepository.findByUserNumber(userNumber)).thenReturn(Optional.of(user));
-        when(bookmarkRepository.existsByUserNumberAndTravelNumber(eq(userNumber), anyInt())).thenReturn(true);
+        when(travelRepository.findAllCreatedByUser(userNumber, pageable)).thenReturn(dtoPage);
 
         // Then
         Page<TravelListResponseDto> result = travelListService.getTravelListByUser(userNumber, pageable);
@@ -142,7 +132,22 @@ class TravelListServiceTest {
         assertEquals(10, travel2Dto.getMaxPerson());
         assertEquals(true, travel2Dto.isBookmarked());
 
-        verify(travelRepository, times(1)).findByUserNumber(userNumber);
-        verify(bookmarkRepository, times(2)).existsByUserNumberAndTravelNumber(eq(userNumber), anyInt());
+        verify(travelRepository, times(1)).findAllCreatedByUser(userNumber, pageable);
+        verify(travelRepository, never()).findByUserNumber(anyInt());
+    }
+
+    @Test
+    @DisplayName("사용자가 만든 여행 개수는 삭제된 여행을 제외하고 DB에서 센다")
+    void testCountCreatedTravelsByUser() {
+        // Given
+        Integer userNumber = 1;
+        when(travelRepository.countByUserNumberAndStatusNot(userNumber, TravelStatus.DELETED)).thenReturn(3L);
+
+        // When
+        int count = travelListService.countCreatedTravelsByUser(userNumber);
+
+        // Then
+        assertEquals(3, count);
+        verify(travelRepository, never()).findByUserNumber(anyInt());
     }
 }
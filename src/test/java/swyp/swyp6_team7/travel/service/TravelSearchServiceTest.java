@@ -27,6 +27,7 @@ import swyp.swyp6_team7.travel.domain.Travel;
 import swyp.swyp6_team7.travel.domain.TravelStatus;
 import swyp.swyp6_team7.travel.dto.TravelSearchCondition;
 import swyp.swyp6_team7.travel.dto.response.TravelSearchDto;
+import swyp.swyp6_team7.travel.dto.response.TravelSearchFacetResponse;
 import swyp.swyp6_team7.travel.repository.TravelRepository;
 
 import java.time.LocalDate;
@@ -36,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.AssertionsForClassTypes.tuple;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -152,6 +154,44 @@ class TravelSearchServiceTest {
                 );
     }
 
+    @DisplayName("getFacets: 검색 결과 여행의 성별, 기간, 인원, 국내/해외, 태그별 개수를 가져온다.")
+    @Test
+    void getFacets() {
+        // given
+        Integer hostUserNumber = userRepository.save(createHostUser()).getUserNumber();
+        Location location = locationRepository.save(createLocation("Seoul", LocationType.DOMESTIC));
+        List<Tag> tags = tagRepository.saveAll(List.of(Tag.of("쇼핑"), Tag.of("자연")));
+        travelRepository.save(createTravel(
+                hostUserNumber, location, "여행", 0, 2, GenderType.MIXED,
+                PeriodType.ONE_WEEK, IN_PROGRESS, Arrays.asList(tags.get(0), tags.get(1))));
+        travelRepository.save(createTravel(
+                hostUserNumber, location, "여행", 0, 4, GenderType.WOMAN_ONLY,
+                PeriodType.ONE_WEEK, IN_PROGRESS, Arrays.asList(tags.get(1))));
+        travelRepository.save(createTravel(
+                hostUserNumber, location, "여행", 0, 6, GenderType.MIXED,
+                PeriodType.TWO_WEEKS, IN_PROGRESS, Arrays.asList()));
+
+        TravelSearchCondition condition = TravelSearchCondition.builder()
+                .build();
+
+        // when
+        TravelSearchFacetResponse result = travelSearchService.getFacets(condition);
+
+        // then
+        assertThat(result.getTotalCount()).isEqualTo(3);
+        assertThat(result.getGender())
+                .containsExactly(entry("모두", 2L), entry("여자만", 1L), entry("남자만", 0L));
+        assertThat(result.getPeriod())
+                .containsEntry("일주일 이하", 2L)
+                .containsEntry("1~2주", 1L);
+        assertThat(result.getPerson())
+                .containsExactly(entry("2명", 1L), entry("3~4명", 1L), entry("5명 이상", 1L));
+        assertThat(result.getLocation())
+                .containsExactly(entry("국내", 3L), entry("해외", 0L));
+        assertThat(result.getTags())
+                .containsExactly(entry("자연", 2L), entry("쇼핑", 1L));
+    }
+
     private Users createHostUser() {
         return Users.builder()
                 .userPw("1234")
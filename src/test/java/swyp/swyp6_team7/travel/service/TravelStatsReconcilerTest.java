@@ -0,0 +1,70 @@
+package swyp.swyp6_team7.travel.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import swyp.swyp6_team7.travel.repository.TravelStatsRepository;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TravelStatsReconcilerTest {
+
+    @Mock
+    private TravelStatsRepository travelStatsRepository;
+    @Mock
+    private TravelStatsService travelStatsService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TravelStatsReconciler travelStatsReconciler;
+
+    @BeforeEach
+    void setUp() {
+        travelStatsReconciler = new TravelStatsReconciler(travelStatsRepository, travelStatsService, transactionManager);
+    }
+
+    @DisplayName("reconcile: 여행 번호 순으로 청크를 나누어, 청크마다 별도 트랜잭션으로 보정한다.")
+    @Test
+    void reconcileInTransactionPerChunk() {
+        // given
+        given(travelStatsRepository.findTravelNumbersAfter(0, 500)).willReturn(List.of(1, 2));
+        given(travelStatsRepository.findTravelNumbersAfter(2, 500)).willReturn(List.of(3));
+        given(travelStatsRepository.findTravelNumbersAfter(3, 500)).willReturn(List.of());
+
+        // when
+        travelStatsReconciler.reconcile();
+
+        // then
+        verify(travelStatsService, times(1)).refresh(List.of(1, 2));
+        verify(travelStatsService, times(1)).refresh(List.of(3));
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @DisplayName("reconcile: 보정 중 오류가 나면 작업을 중단하고, 다음 실행은 다시 처음부터 보정한다.")
+    @Test
+    void reconcileAfterFailure() {
+        // given
+        given(travelStatsRepository.findTravelNumbersAfter(anyInt(), anyInt()))
+                .willThrow(new RuntimeException("DB 오류"))
+                .willReturn(List.of());
+
+        // when
+        travelStatsReconciler.reconcile();
+        travelStatsReconciler.reconcile();
+
+        // then
+        verify(travelStatsRepository, times(2)).findTravelNumbersAfter(0, 500);
+    }
+}
@@ -0,0 +1,93 @@
+package swyp.swyp6_team7.travel.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import swyp.swyp6_team7.travel.domain.TravelStats;
+import swyp.swyp6_team7.travel.repository.TravelStatsRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TravelStatsServiceTest {
+
+    @InjectMocks
+    private TravelStatsService travelStatsService;
+
+    @Mock
+    private TravelStatsRepository travelStatsRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @DisplayName("increaseBookmarkCount: 집계 row가 없으면 재집계 값으로 생성하고, 증감은 다시 반영하지 않는다.")
+    @Test
+    void increaseBookmarkCountWhenStatsNotExist() {
+        // given
+        given(travelStatsRepository.addBookmarkCount(1, 1)).willReturn(0);
+        given(travelStatsRepository.aggregateByTravelNumbers(List.of(1)))
+                .willReturn(List.of(createStats(1, 3, 10)));
+        given(travelStatsRepository.insertIfAbsent(1, 3, 0, 0, 0, 10)).willReturn(1);
+
+        // when
+        travelStatsService.increaseBookmarkCount(1);
+
+        // then
+        verify(travelStatsRepository, times(1)).addBookmarkCount(1, 1);
+    }
+
+    @DisplayName("increaseBookmarkCount: 동시에 다른 요청이 집계 row를 먼저 생성했다면, 생성된 row에 증감을 반영한다.")
+    @Test
+    void increaseBookmarkCountWhenStatsCreatedConcurrently() {
+        // given
+        given(travelStatsRepository.addBookmarkCount(1, 1)).willReturn(0, 1);
+        given(travelStatsRepository.aggregateByTravelNumbers(List.of(1)))
+                .willReturn(List.of(createStats(1, 3, 10)));
+        given(travelStatsRepository.insertIfAbsent(1, 3, 0, 0, 0, 10)).willReturn(0);
+
+        // when
+        travelStatsService.increaseBookmarkCount(1);
+
+        // then
+        verify(travelStatsRepository, times(2)).addBookmarkCount(1, 1);
+    }
+
+    @DisplayName("refresh: 재집계 값과 다른 여행만, 조회한 값을 기대값으로 덮어쓴다.")
+    @Test
+    void refresh() {
+        // given
+        given(travelStatsRepository.aggregateByTravelNumbers(List.of(1, 2, 3)))
+                .willReturn(List.of(createStats(1, 2, 10), createStats(2, 5, 0), createStats(3, 1, 0)));
+        given(travelStatsRepository.findAllById(List.of(1, 2, 3)))
+                .willReturn(List.of(createStats(1, 2, 10), createStats(2, 4, 0)));
+        given(travelStatsRepository.overwriteCounts(2, 5, 0, 0, 0, 0, 4, 0, 0, 0, 0)).willReturn(1);
+        given(travelStatsRepository.insertIfAbsent(3, 1, 0, 0, 0, 0)).willReturn(1);
+
+        // when
+        int repairedCount = travelStatsService.refresh(List.of(1, 2, 3));
+
+        // then
+        assertThat(repairedCount).isEqualTo(2);
+        verify(travelStatsRepository, never()).overwriteCounts(eq(1), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(),
+                anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    private TravelStats createStats(int travelNumber, int bookmarkCount, int viewCount) {
+        return TravelStats.builder()
+                .travelNumber(travelNumber)
+                .bookmarkCount(bookmarkCount)
+                .viewCount(viewCount)
+                .build();
+    }
+}
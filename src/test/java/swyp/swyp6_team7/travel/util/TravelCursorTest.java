@@ -0,0 +1,57 @@
+package swyp.swyp6_team7.travel.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import swyp.swyp6_team7.global.exception.MoingApplicationException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TravelCursorTest {
+
+    @DisplayName("encode, decode: 인코딩한 커서를 디코딩하면 같은 정렬 키를 얻는다.")
+    @Test
+    void encodeAndDecode() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 11, 22, 10, 30, 15, 123456000);
+        String createdAtCursor = TravelCursor.ofCreatedAt(10, createdAt).encode();
+        String preferredCursor = TravelCursor.ofPreferredTags(11, 3L, "제목.여행").encode();
+
+        // when
+        TravelCursor result1 = TravelCursor.decode(createdAtCursor);
+        TravelCursor result2 = TravelCursor.decode(preferredCursor);
+
+        // then
+        assertThat(result1.getTravelNumber()).isEqualTo(10);
+        assertThat(result1.requireCreatedAt()).isEqualTo(createdAt);
+        assertThat(result2.getTravelNumber()).isEqualTo(11);
+        assertThat(result2.requireScore()).isEqualTo(3L);
+        assertThat(result2.requireTitle()).isEqualTo("제목.여행");
+    }
+
+    @DisplayName("decode: 커서가 주어지지 않으면 null을 반환한다.")
+    @Test
+    void decodeWhenEmpty() {
+        assertThat(TravelCursor.decode(null)).isNull();
+        assertThat(TravelCursor.decode("")).isNull();
+    }
+
+    @DisplayName("decode: 잘못된 형식의 커서가 주어지면 예외가 발생한다.")
+    @Test
+    void decodeWhenInvalid() {
+        assertThatThrownBy(() -> TravelCursor.decode("invalid-cursor"))
+                .isInstanceOf(MoingApplicationException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @DisplayName("requireCreatedAt: 정렬 키가 다른 커서를 사용하면 예외가 발생한다.")
+    @Test
+    void requireCreatedAtWhenOtherCursor() {
+        TravelCursor cursor = TravelCursor.ofRecommend(10, 5L, 100);
+
+        assertThatThrownBy(cursor::requireCreatedAt)
+                .isInstanceOf(MoingApplicationException.class);
+    }
+}
@@ -0,0 +1,158 @@
+package swyp.swyp6_team7.trending.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import swyp.swyp6_team7.config.RedisContainerConfig;
+import swyp.swyp6_team7.travel.event.TravelChangedEvent;
+import swyp.swyp6_team7.trending.domain.TrendingActivity;
+import swyp.swyp6_team7.trending.event.TrendingContentDeletedEvent;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@Import(RedisContainerConfig.class)
+@SpringBootTest
+class TrendingServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-11-01T00:00:00Z");
+    private static final long HALF_LIFE_HOURS = 6;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(redisTemplate.keys("trending:*"));
+    }
+
+    @DisplayName("getTrendingNumbers: 같은 시점의 활동은 weight가 큰 활동을 받은 콘텐츠가 먼저 조회된다.")
+    @Test
+    void getTrendingNumbers() {
+        // given
+        TrendingService trendingService = createService(NOW);
+        trendingService.increase(ViewContentType.TRAVEL, 1, TrendingActivity.VIEW);
+        trendingService.increase(ViewContentType.TRAVEL, 2, TrendingActivity.BOOKMARK);
+        trendingService.increase(ViewContentType.TRAVEL, 3, TrendingActivity.VIEW);
+        trendingService.increase(ViewContentType.TRAVEL, 3, TrendingActivity.LIKE);
+        trendingService.increase(ViewContentType.COMMUNITY, 1, TrendingActivity.COMMENT);
+
+        // when
+        List<Integer> result = trendingService.getTrendingNumbers(ViewContentType.TRAVEL, 2);
+
+        // then
+        assertThat(result).containsExactly(2, 3);
+    }
+
+    @DisplayName("getTrendingNumbers: 오래된 활동 점수는 반감기마다 절반으로 줄어 최근 활동보다 뒤에 조회된다.")
+    @Test
+    void getTrendingNumbersWithDecay() {
+        // given: 댓글(4점)이 3번의 반감기를 지나면 0.5점으로 조회(1점)보다 낮다
+        createService(NOW).increase(ViewContentType.COMMUNITY, 1, TrendingActivity.COMMENT);
+        TrendingService later = createService(NOW.plus(Duration.ofHours(HALF_LIFE_HOURS * 3)));
+        later.increase(ViewContentType.COMMUNITY, 2, TrendingActivity.VIEW);
+
+        // when
+        List<Integer> result = later.getTrendingNumbers(ViewContentType.COMMUNITY, 10);
+
+        // then
+        assertThat(result).containsExactly(2, 1);
+    }
+
+    @DisplayName("increaseAll: 여러 콘텐츠의 활동을 활동 횟수만큼 한 번에 반영한다.")
+    @Test
+    void increaseAll() {
+        // given
+        TrendingService trendingService = createService(NOW);
+
+        // when
+        trendingService.increaseAll(ViewContentType.TRAVEL, TrendingActivity.VIEW, Map.of(1, 2, 2, 5));
+
+        // then
+        assertThat(redisTemplate.opsForZSet().score("trending:travel", "1")).isCloseTo(2.0, within(0.0001));
+        assertThat(redisTemplate.opsForZSet().score("trending:travel", "2")).isCloseTo(5.0, within(0.0001));
+        assertThat(trendingService.getTrendingNumbers(ViewContentType.TRAVEL, 10)).containsExactly(2, 1);
+    }
+
+    @DisplayName("rebase: 전체 점수를 현재 시각 기준으로 다시 환산하고, 최소 점수보다 작은 콘텐츠는 정리한다.")
+    @Test
+    void rebase() {
+        // given
+        createService(NOW).increase(ViewContentType.TRAVEL, 1, TrendingActivity.COMMENT);
+        createService(NOW.minus(Duration.ofHours(HALF_LIFE_HOURS * 10))).increase(ViewContentType.TRAVEL, 2, TrendingActivity.VIEW);
+        TrendingService later = createService(NOW.plus(Duration.ofHours(HALF_LIFE_HOURS)));
+
+        // when
+        later.rebase();
+
+        // then
+        assertThat(redisTemplate.opsForZSet().score("trending:travel", "1")).isCloseTo(2.0, within(0.0001));
+        assertThat(redisTemplate.opsForZSet().score("trending:travel", "2")).isNull();
+        assertThat(redisTemplate.opsForValue().get("trending:travel:epoch"))
+                .isEqualTo(String.valueOf(NOW.plus(Duration.ofHours(HALF_LIFE_HOURS)).toEpochMilli()));
+    }
+
+    @DisplayName("remove: 삭제된 콘텐츠는 인기 목록에서 제외된다.")
+    @Test
+    void remove() {
+        // given
+        TrendingService trendingService = createService(NOW);
+        trendingService.increase(ViewContentType.TRAVEL, 1, TrendingActivity.VIEW);
+        trendingService.increase(ViewContentType.TRAVEL, 2, TrendingActivity.VIEW);
+
+        // when
+        trendingService.remove(ViewContentType.TRAVEL, List.of(1));
+
+        // then
+        assertThat(trendingService.getTrendingNumbers(ViewContentType.TRAVEL, 10)).containsExactly(2);
+    }
+
+    @DisplayName("handleTravelChanged: 마감, 삭제된 여행은 인기 목록에서 제외하고, 수정된 여행은 유지한다.")
+    @Test
+    void handleTravelChanged() {
+        // given
+        TrendingService trendingService = createService(NOW);
+        trendingService.increase(ViewContentType.TRAVEL, 1, TrendingActivity.VIEW);
+        trendingService.increase(ViewContentType.TRAVEL, 2, TrendingActivity.VIEW);
+        trendingService.increase(ViewContentType.TRAVEL, 3, TrendingActivity.VIEW);
+
+        // when
+        trendingService.handleTravelChanged(TravelChangedEvent.closed(1));
+        trendingService.handleTravelChanged(TravelChangedEvent.deleted(2));
+        trendingService.handleTravelChanged(TravelChangedEvent.updated(3));
+
+        // then
+        assertThat(trendingService.getTrendingNumbers(ViewContentType.TRAVEL, 10)).containsExactly(3);
+    }
+
+    @DisplayName("handleContentDeleted: 삭제된 게시글은 인기 목록에서 제외된다.")
+    @Test
+    void handleContentDeleted() {
+        // given
+        TrendingService trendingService = createService(NOW);
+        trendingService.increase(ViewContentType.COMMUNITY, 1, TrendingActivity.VIEW);
+        trendingService.increase(ViewContentType.COMMUNITY, 2, TrendingActivity.VIEW);
+
+        // when
+        trendingService.handleContentDeleted(new TrendingContentDeletedEvent(ViewContentType.COMMUNITY, 1));
+
+        // then
+        assertThat(trendingService.getTrendingNumbers(ViewContentType.COMMUNITY, 10)).containsExactly(2);
+    }
+
+    private TrendingService createService(Instant now) {
+        return new TrendingService(redisTemplate, Clock.fixed(now, ZoneId.of("Asia/Seoul")), HALF_LIFE_HOURS);
+    }
+}
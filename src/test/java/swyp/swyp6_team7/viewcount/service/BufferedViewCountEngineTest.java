@@ -0,0 +1,93 @@
+package swyp.swyp6_team7.viewcount.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+import swyp.swyp6_team7.viewcount.domain.ViewRecordResult;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BufferedViewCountEngineTest {
+
+    @Mock
+    private RedisViewCountEngine redisViewCountEngine;
+
+    private BufferedViewCountEngine bufferedViewCountEngine;
+
+    @BeforeEach
+    void setUp() {
+        bufferedViewCountEngine = new BufferedViewCountEngine(redisViewCountEngine);
+    }
+
+    @DisplayName("recordView: 조회는 Redis를 호출하지 않고 버퍼에 쌓이며, flush 시 게시글별로 모아 한 번에 반영한다.")
+    @Test
+    void recordViewAndFlush() {
+        // given
+        ViewRecordResult result = bufferedViewCountEngine.recordView(ViewContentType.TRAVEL, 10, "1");
+        bufferedViewCountEngine.recordView(ViewContentType.TRAVEL, 10, "1");
+        bufferedViewCountEngine.recordView(ViewContentType.TRAVEL, 10, "2");
+        bufferedViewCountEngine.recordView(ViewContentType.TRAVEL, 11, "1");
+        assertThat(result).isEqualTo(ViewRecordResult.PENDING);
+        verify(redisViewCountEngine, never()).recordView(any(), anyInt(), any());
+
+        // when
+        bufferedViewCountEngine.flush();
+
+        // then
+        ArgumentCaptor<Map<Integer, Set<String>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(redisViewCountEngine).recordViews(eq(ViewContentType.TRAVEL), captor.capture());
+        assertThat(captor.getValue())
+                .containsEntry(10, Set.of("1", "2"))
+                .containsEntry(11, Set.of("1"));
+        verify(redisViewCountEngine, never()).recordViews(eq(ViewContentType.COMMUNITY), anyMap());
+    }
+
+    @DisplayName("flush: Redis 반영에 실패한 조회는 버퍼에 남아 다음 flush에서 다시 반영한다.")
+    @Test
+    void flushRetriesWhenRedisFails() {
+        // given
+        bufferedViewCountEngine.recordView(ViewContentType.COMMUNITY, 3, "1");
+        given(redisViewCountEngine.recordViews(eq(ViewContentType.COMMUNITY), anyMap()))
+                .willThrow(new IllegalStateException("redis down"))
+                .willReturn(Map.of(3, 1));
+
+        // when
+        bufferedViewCountEngine.flush();
+        bufferedViewCountEngine.flush();
+
+        // then
+        verify(redisViewCountEngine, times(2)).recordViews(eq(ViewContentType.COMMUNITY), anyMap());
+    }
+
+    @DisplayName("drainViewCounts: DB 동기화 전에 버퍼에 남은 조회를 먼저 Redis에 반영한다.")
+    @Test
+    void drainViewCountsFlushesFirst() {
+        // given
+        bufferedViewCountEngine.recordView(ViewContentType.TRAVEL, 10, "1");
+        given(redisViewCountEngine.drainViewCounts(ViewContentType.TRAVEL)).willReturn(Map.of(10, 1));
+
+        // when
+        Map<Integer, Integer> viewCounts = bufferedViewCountEngine.drainViewCounts(ViewContentType.TRAVEL);
+
+        // then
+        assertThat(viewCounts).containsEntry(10, 1);
+        verify(redisViewCountEngine).recordViews(eq(ViewContentType.TRAVEL), anyMap());
+    }
+}
@@ -0,0 +1,218 @@
+package swyp.swyp6_team7.viewcount.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import swyp.swyp6_team7.config.RedisContainerConfig;
+import swyp.swyp6_team7.viewcount.domain.UniqueViewMode;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+import swyp.swyp6_team7.viewcount.domain.ViewRecordResult;
+import swyp.swyp6_team7.viewcount.event.ViewCountedEvent;
+import swyp.swyp6_team7.viewcount.strategy.HyperLogLogUniqueViewStrategy;
+import swyp.swyp6_team7.viewcount.strategy.RedisSetUniqueViewStrategy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.spy;
+
+@Import(RedisContainerConfig.class)
+@SpringBootTest
+class RedisViewCountEngineTest {
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final List<Object> publishedEvents = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(redisTemplate.keys("view:*"));
+        redisTemplate.delete(redisTemplate.keys("viewed:*"));
+        redisTemplate.delete(redisTemplate.keys("viewed-hll:*"));
+    }
+
+    @DisplayName("recordView: EXACT 방식은 Redis SET으로 같은 사용자의 두 번째 조회를 중복으로 판별한다.")
+    @Test
+    void recordViewWithExactMode() {
+        // given
+        RedisViewCountEngine engine = createEngine(UniqueViewMode.EXACT, UniqueViewMode.EXACT);
+
+        // when
+        ViewRecordResult first = engine.recordView(ViewContentType.TRAVEL, 10, "5");
+        ViewRecordResult second = engine.recordView(ViewContentType.TRAVEL, 10, "5");
+
+        // then
+        assertThat(first).isEqualTo(ViewRecordResult.COUNTED);
+        assertThat(second).isEqualTo(ViewRecordResult.DUPLICATE);
+        assertThat(engine.getViewCount(ViewContentType.TRAVEL, 10)).isEqualTo(1);
+        assertThat(redisTemplate.opsForSet().isMember("viewed:travel:10", "5")).isTrue();
+        assertThat(redisTemplate.getExpire("viewed:travel:10")).isPositive();
+        assertThat(publishedEvents).hasSize(1);
+    }
+
+    @DisplayName("recordView: APPROXIMATE 방식은 HyperLogLog로 중복 조회를 판별하고, 고유 조회자 수를 오차 범위 안에서 센다.")
+    @Test
+    void recordViewWithApproximateMode() {
+        // given
+        RedisViewCountEngine engine = createEngine(UniqueViewMode.EXACT, UniqueViewMode.APPROXIMATE);
+        int userCount = 1000;
+
+        // when
+        for (int i = 0; i < userCount; i++) {
+            engine.recordView(ViewContentType.COMMUNITY, 3, "user" + i);
+        }
+        ViewRecordResult again = engine.recordView(ViewContentType.COMMUNITY, 3, "user0");
+
+        // then
+        assertThat(again).isEqualTo(ViewRecordResult.DUPLICATE);
+        assertThat(engine.getViewCount(ViewContentType.COMMUNITY, 3)).isBetween(950, 1000);
+        assertThat(redisTemplate.opsForHyperLogLog().size("viewed-hll:community:3")).isBetween(970L, 1030L);
+        assertThat(redisTemplate.hasKey("viewed:community:3")).isFalse();
+    }
+
+    @DisplayName("recordView: 같은 사용자가 동시에 여러 번 조회해도 조회수는 한 번만 증가한다.")
+    @Test
+    void recordViewConcurrentlyBySameUser() throws InterruptedException {
+        // given
+        RedisViewCountEngine engine = createEngine(UniqueViewMode.EXACT, UniqueViewMode.EXACT);
+        int requestCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger recordedCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (engine.recordView(ViewContentType.TRAVEL, 7, "5") == ViewRecordResult.COUNTED) {
+                        recordedCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // then
+        assertThat(recordedCount.get()).isEqualTo(1);
+        assertThat(engine.getViewCount(ViewContentType.TRAVEL, 7)).isEqualTo(1);
+    }
+
+    @DisplayName("recordViews: 게시글별로 실제로 증가한 조회수를 반환하고, 증가한 조회만 한 번의 이벤트로 알린다.")
+    @Test
+    void recordViews() {
+        // given
+        RedisViewCountEngine engine = createEngine(UniqueViewMode.EXACT, UniqueViewMode.EXACT);
+        engine.recordView(ViewContentType.TRAVEL, 10, "1");
+        publishedEvents.clear();
+
+        // when
+        Map<Integer, Integer> recordedCounts = engine.recordViews(ViewContentType.TRAVEL, Map.of(
+                10, Set.of("1", "2"),
+                11, Set.of("1")
+        ));
+
+        // then
+        assertThat(recordedCounts)
+                .containsEntry(10, 1)
+                .containsEntry(11, 1);
+        assertThat(engine.getViewCount(ViewContentType.TRAVEL, 10)).isEqualTo(2);
+        assertThat(publishedEvents).singleElement()
+                .isInstanceOfSatisfying(ViewCountedEvent.class, event -> assertThat(event.getViewCounts()).isEqualTo(recordedCounts));
+    }
+
+    @DisplayName("drainViewCounts: SCAN으로 찾은 조회수를 모두 가져오면서 삭제하고, 이후 조회는 새로 집계한다.")
+    @Test
+    void drainViewCounts() {
+        // given
+        RedisViewCountEngine engine = createEngine(UniqueViewMode.EXACT, UniqueViewMode.EXACT);
+        for (int travelNumber = 1; travelNumber <= 1200; travelNumber++) {
+            redisTemplate.opsForValue().set("view:travel:" + travelNumber, "2");
+        }
+        redisTemplate.opsForValue().set("view:community:1", "7");
+
+        // when
+        Map<Integer, Integer> viewCounts = engine.drainViewCounts(ViewContentType.TRAVEL);
+        engine.recordView(ViewContentType.TRAVEL, 1, "5");
+
+        // then
+        assertThat(viewCounts).hasSize(1200)
+                .containsEntry(1, 2)
+                .containsEntry(1200, 2);
+        assertThat(redisTemplate.keys("view:travel:*")).containsExactly("view:travel:1");
+        assertThat(engine.getViewCount(ViewContentType.TRAVEL, 1)).isEqualTo(1);
+        assertThat(engine.getViewCount(ViewContentType.COMMUNITY, 1)).isEqualTo(7);
+    }
+
+    @DisplayName("restoreViewCounts: DB 합산에 실패한 조회수를 그 사이 증가한 조회수에 더해 되돌린다.")
+    @Test
+    void restoreViewCounts() {
+        // given
+        RedisViewCountEngine engine = createEngine(UniqueViewMode.EXACT, UniqueViewMode.EXACT);
+        redisTemplate.opsForValue().set("view:travel:1", "3");
+        Map<Integer, Integer> drained = engine.drainViewCounts(ViewContentType.TRAVEL);
+        engine.recordView(ViewContentType.TRAVEL, 1, "5");
+
+        // when
+        engine.restoreViewCounts(ViewContentType.TRAVEL, drained);
+
+        // then
+        assertThat(engine.getViewCount(ViewContentType.TRAVEL, 1)).isEqualTo(4);
+    }
+
+    @DisplayName("drainViewCounts: 합산 도중 Redis 오류가 나면 이미 가져온 조회수를 되돌리고 예외를 던진다.")
+    @Test
+    void drainViewCountsRestoresPartialDrainOnFailure() {
+        // given
+        RedisTemplate<String, String> failingRedisTemplate = spy(redisTemplate);
+        doCallRealMethod()
+                .doThrow(new RedisSystemException("pipeline 실패", new RuntimeException()))
+                .doCallRealMethod()
+                .when(failingRedisTemplate).executePipelined(any(RedisCallback.class));
+        RedisViewCountEngine engine = new RedisViewCountEngine(
+                failingRedisTemplate, createUniqueViewService(UniqueViewMode.EXACT, UniqueViewMode.EXACT), publishedEvents::add);
+        for (int travelNumber = 1; travelNumber <= 600; travelNumber++) {
+            redisTemplate.opsForValue().set("view:travel:" + travelNumber, "2");
+        }
+
+        // when
+        assertThatThrownBy(() -> engine.drainViewCounts(ViewContentType.TRAVEL))
+                .isInstanceOf(RedisSystemException.class);
+
+        // then
+        assertThat(redisTemplate.keys("view:travel:*")).hasSize(600);
+        assertThat(engine.getViewCount(ViewContentType.TRAVEL, 1)).isEqualTo(2);
+        assertThat(engine.getViewCount(ViewContentType.TRAVEL, 600)).isEqualTo(2);
+    }
+
+    private RedisViewCountEngine createEngine(UniqueViewMode travelMode, UniqueViewMode communityMode) {
+        return new RedisViewCountEngine(redisTemplate, createUniqueViewService(travelMode, communityMode), publishedEvents::add);
+    }
+
+    private UniqueViewService createUniqueViewService(UniqueViewMode travelMode, UniqueViewMode communityMode) {
+        return new UniqueViewService(
+                redisTemplate,
+                List.of(new RedisSetUniqueViewStrategy(), new HyperLogLogUniqueViewStrategy()),
+                travelMode,
+                communityMode
+        );
+    }
+}
@@ -0,0 +1,89 @@
+package swyp.swyp6_team7.viewcount.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import swyp.swyp6_team7.config.RedisContainerConfig;
+import swyp.swyp6_team7.viewcount.domain.UniqueViewMode;
+import swyp.swyp6_team7.viewcount.domain.ViewContentType;
+import swyp.swyp6_team7.viewcount.strategy.HyperLogLogUniqueViewStrategy;
+import swyp.swyp6_team7.viewcount.strategy.RedisSetUniqueViewStrategy;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(RedisContainerConfig.class)
+@SpringBootTest
+class UniqueViewServiceTest {
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(redisTemplate.keys("viewed:*"));
+        redisTemplate.delete(redisTemplate.keys("viewed-hll:*"));
+    }
+
+    @DisplayName("getStrategy: 콘텐츠 종류별로 설정된 중복 조회 판별 방식을 반환한다.")
+    @Test
+    void getStrategy() {
+        // given
+        UniqueViewService uniqueViewService = createService(UniqueViewMode.EXACT, UniqueViewMode.APPROXIMATE);
+
+        // when
+        UniqueViewMode travelMode = uniqueViewService.getStrategy(ViewContentType.TRAVEL).getMode();
+        UniqueViewMode communityMode = uniqueViewService.getStrategy(ViewContentType.COMMUNITY).getMode();
+
+        // then
+        assertThat(travelMode).isEqualTo(UniqueViewMode.EXACT);
+        assertThat(communityMode).isEqualTo(UniqueViewMode.APPROXIMATE);
+    }
+
+    @DisplayName("deleteViewInfo: 판별 방식과 관계없이 해당 콘텐츠 종류의 조회 기록을 모두 삭제한다.")
+    @Test
+    void deleteViewInfo() {
+        // given
+        UniqueViewService uniqueViewService = createService(UniqueViewMode.APPROXIMATE, UniqueViewMode.EXACT);
+        redisTemplate.opsForSet().add("viewed:travel:1", "5");
+        redisTemplate.opsForHyperLogLog().add("viewed-hll:travel:2", "5");
+        redisTemplate.opsForSet().add("viewed:community:1", "5");
+
+        // when
+        uniqueViewService.deleteViewInfo(ViewContentType.TRAVEL);
+
+        // then
+        assertThat(redisTemplate.keys("viewed*:travel:*")).isEmpty();
+        assertThat(redisTemplate.hasKey("viewed:community:1")).isTrue();
+    }
+
+    @DisplayName("deleteViewInfo: SCAN 한 번의 묶음(500개)보다 많은 조회 기록도 나누어 모두 삭제한다.")
+    @Test
+    void deleteViewInfoOverScanBatch() {
+        // given
+        UniqueViewService uniqueViewService = createService(UniqueViewMode.EXACT, UniqueViewMode.EXACT);
+        for (int travelNumber = 1; travelNumber <= 1200; travelNumber++) {
+            redisTemplate.opsForSet().add("viewed:travel:" + travelNumber, "5");
+        }
+
+        // when
+        uniqueViewService.deleteViewInfo(ViewContentType.TRAVEL);
+
+        // then
+        assertThat(redisTemplate.keys("viewed:travel:*")).isEmpty();
+    }
+
+    private UniqueViewService createService(UniqueViewMode travelMode, UniqueViewMode communityMode) {
+        return new UniqueViewService(
+                redisTemplate,
+                List.of(new RedisSetUniqueViewStrategy(), new HyperLogLogUniqueViewStrategy()),
+                travelMode,
+                communityMode
+        );
+    }
+}